@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -86,6 +86,19 @@ public interface BufferData {
         return new GrowingBufferData(initialLength);
     }
 
+    /**
+     * Growing buffer data backed by a direct {@link java.nio.ByteBuffer}, allocated outside the Java heap.
+     * The buffer will grow when necessary to accommodate more bytes.
+     * <p>
+     * Direct buffers are expensive to allocate, consider using {@link BufferPool#createDirect(int)} instead.
+     *
+     * @param initialLength initial buffer length
+     * @return direct buffer data
+     */
+    static BufferData direct(int initialLength) {
+        return new DirectBufferData(initialLength);
+    }
+
     /**
      * Buffer data mapping multiple buffers.
      * @param data data to wrap
@@ -568,6 +581,28 @@ public interface BufferData {
         return BufferData.create(copy);
     }
 
+    /**
+     * Add a reference to this buffer, so it is not returned to its pool until {@link #release()} is called once more.
+     * Buffers that are not pooled ignore references.
+     *
+     * @return this buffer
+     * @throws java.lang.IllegalStateException in case a pooled buffer was already released
+     * @see io.helidon.common.buffers.BufferPool
+     */
+    default BufferData retain() {
+        return this;
+    }
+
+    /**
+     * Release a reference to this buffer. Once all references are released, a pooled buffer is returned to its pool
+     * and must not be used anymore. Buffers that are not pooled ignore this method.
+     *
+     * @throws java.lang.IllegalStateException in case a pooled buffer was already released
+     * @see io.helidon.common.buffers.BufferPool
+     */
+    default void release() {
+    }
+
     /**
      * Number of bytes available for reading.
      *
@@ -651,4 +686,15 @@ public interface BufferData {
         read(bytes);
         return bytes;
     }
+
+    /**
+     * Read the content of this data as a byte buffer, consuming all available bytes.
+     * Array based implementations wrap the underlying array without copying it, so the returned buffer
+     * must not be used after this data is written to again.
+     *
+     * @return byte buffer with {@link #available()} remaining bytes, may be empty
+     */
+    default ByteBuffer readByteBuffer() {
+        return ByteBuffer.wrap(readBytes());
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+/**
+ * Source of buffers that can be reused once released.
+ * <p>
+ * Buffers obtained from a pool must be released exactly once using {@link BufferData#release()}, or handed over
+ * to a component that releases them (such as a socket writer, that releases buffers once they are written).
+ * A buffer must not be used after it was released. To share a buffer, each additional user must call
+ * {@link BufferData#retain()} and then release it as well.
+ * <p>
+ * Leak detection reports buffers that were garbage collected without being released. It is enabled
+ * by system property {@value #LEAK_DETECTION_PROPERTY}, and by default when assertions are enabled (such as when running
+ * tests), as it records the stack trace of each acquired buffer.
+ */
+public interface BufferPool {
+    /**
+     * System property to enable or disable leak detection of pooled buffers.
+     */
+    String LEAK_DETECTION_PROPERTY = "helidon.buffers.leak-detection";
+
+    /**
+     * Create a new pool.
+     *
+     * @param buffersPerSize maximal number of released buffers of each size kept in the pool
+     * @return a new buffer pool
+     */
+    static BufferPool create(int buffersPerSize) {
+        return new SizeClassBufferPool(buffersPerSize, SizeClassBufferPool.LEAK_DETECTION, false);
+    }
+
+    /**
+     * Create a new pool.
+     *
+     * @param buffersPerSize maximal number of released buffers of each size kept in the pool
+     * @param leakDetection  whether to report buffers that were not released
+     * @return a new buffer pool
+     */
+    static BufferPool create(int buffersPerSize, boolean leakDetection) {
+        return new SizeClassBufferPool(buffersPerSize, leakDetection, false);
+    }
+
+    /**
+     * Create a new pool of buffers backed by direct {@link java.nio.ByteBuffer ByteBuffers}, allocated outside
+     * the Java heap. Such buffers can be written to a socket channel without an additional copy.
+     *
+     * @param buffersPerSize maximal number of released buffers of each size kept in the pool
+     * @return a new direct buffer pool
+     * @see io.helidon.common.buffers.BufferData#direct(int)
+     */
+    static BufferPool createDirect(int buffersPerSize) {
+        return new SizeClassBufferPool(buffersPerSize, SizeClassBufferPool.LEAK_DETECTION, true);
+    }
+
+    /**
+     * A pool that does not pool, each acquired buffer is a new {@link BufferData#growing(int)} buffer,
+     * and releasing it does nothing.
+     *
+     * @return buffer pool that does not pool buffers
+     */
+    static BufferPool unpooled() {
+        return UnpooledBufferPool.INSTANCE;
+    }
+
+    /**
+     * Get a buffer from the pool (or a new one, if there is none available). The buffer grows as needed when written to.
+     *
+     * @param initialCapacity capacity needed by the caller
+     * @return an empty buffer with at least the requested capacity, that must be released once not needed
+     */
+    BufferData acquire(int initialCapacity);
+
+    /**
+     * Number of buffers acquired from this pool.
+     *
+     * @return number of acquired buffers
+     */
+    default long acquired() {
+        return 0;
+    }
+
+    /**
+     * Number of buffers that could not be taken from the pool and had to be allocated.
+     *
+     * @return number of allocated buffers
+     */
+    default long allocated() {
+        return 0;
+    }
+
+    /**
+     * Number of buffers that were garbage collected without being released, only counted with leak detection enabled.
+     *
+     * @return number of leaked buffers
+     */
+    default long leaked() {
+        return 0;
+    }
+
+    /**
+     * Number of buffers currently available in the pool.
+     *
+     * @return number of pooled buffers
+     */
+    default int pooledBuffers() {
+        return 0;
+    }
+
+    /**
+     * Capacity in bytes of buffers currently available in the pool.
+     *
+     * @return number of pooled bytes
+     */
+    default long pooledBytes() {
+        return 0;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.common.buffers;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteOrder;
 
 /*
@@ -80,6 +82,9 @@ public final class Bytes {
     public static final byte TAB_BYTE = (byte) '\t';
 
     private static final boolean BYTE_ORDER_LE = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+    // reads 8 bytes of an array as a single (possibly unaligned) long, compiled to a single load by the JIT
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final long HIGH_BITS_MASK = 0x7F7F7F7F7F7F7F7FL;
 
     private Bytes() {
     }
@@ -129,11 +134,70 @@ public final class Bytes {
         return -1;
     }
 
+    /**
+     * Find the first index of any of the two bytes, using the same SWAR technique as
+     * {@link #firstIndexOf(byte[], int, int, byte)}.
+     * <p>
+     * This method does NOT do a bound check on the buffer length and the fromIndex and toIndex, neither does it check
+     * if the {@code toIndex} is bigger than the {@code fromIndex}.
+     *
+     * @param buffer    the byte buffer to search
+     * @param fromIndex first index in the array
+     * @param toIndex   last index in the array
+     * @param first     first byte to search for
+     * @param second    second byte to search for
+     * @return first index of any of the bytes, or {@code -1} if none was found
+     */
+    public static int firstIndexOfAny(byte[] buffer, int fromIndex, int toIndex, byte first, byte second) {
+        return firstIndexOfAny(buffer, fromIndex, toIndex, first, second, second);
+    }
+
+    /**
+     * Find the first index of any of the three bytes, using the same SWAR technique as
+     * {@link #firstIndexOf(byte[], int, int, byte)}.
+     * This is used to search for a separator and a new line (CR or LF) in a single pass.
+     * <p>
+     * This method does NOT do a bound check on the buffer length and the fromIndex and toIndex, neither does it check
+     * if the {@code toIndex} is bigger than the {@code fromIndex}.
+     *
+     * @param buffer    the byte buffer to search
+     * @param fromIndex first index in the array
+     * @param toIndex   last index in the array
+     * @param first     first byte to search for
+     * @param second    second byte to search for
+     * @param third     third byte to search for
+     * @return first index of any of the bytes, or {@code -1} if none was found
+     */
+    public static int firstIndexOfAny(byte[] buffer, int fromIndex, int toIndex, byte first, byte second, byte third) {
+        int offset = fromIndex;
+        int longCount = (toIndex - fromIndex) >>> 3;
+        if (longCount > 0) {
+            long firstPattern = compilePattern(first);
+            long secondPattern = compilePattern(second);
+            long thirdPattern = compilePattern(third);
+            for (int i = 0; i < longCount; i++) {
+                long word = toWord(buffer, offset);
+                long matches = matches(word, firstPattern) | matches(word, secondPattern) | matches(word, thirdPattern);
+                if (matches != 0) {
+                    return offset + firstMatch(matches);
+                }
+                offset += Long.BYTES;
+            }
+        }
+        for (; offset < toIndex; offset++) {
+            byte value = buffer[offset];
+            if (value == first || value == second || value == third) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Converts the first 8 bytes from {@code offset} to a long, using appropriate byte order for this machine.
      * <ul>
-     *     <li>This method DOES NOT do a bound check</li>
-     *     <li>This method DOES NOT validate there are 8 bytes available</li>
+     *     <li>This method DOES NOT validate there are 8 bytes available, an
+     *     {@link java.lang.IndexOutOfBoundsException} is thrown if not</li>
      * </ul>
      *
      * @param buffer bytes to convert
@@ -141,7 +205,7 @@ public final class Bytes {
      * @return long word from the first 8 bytes from offset
      */
     public static long toWord(byte[] buffer, int offset) {
-        return BYTE_ORDER_LE ? toWordLe(buffer, offset) : toWordBe(buffer, offset);
+        return (long) LONG_VIEW.get(buffer, offset);
     }
 
     // create a pattern for a byte, so we can search for it in a whole word
@@ -151,34 +215,20 @@ public final class Bytes {
 
     // first instance of a pattern within a word (see above compilePattern)
     private static int firstInstance(long word, long pattern) {
-        long input = word ^ pattern;
-        long tmp = (input & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL;
-        tmp = ~(tmp | input | 0x7F7F7F7F7F7F7F7FL);
-        int binaryPosition = Long.numberOfTrailingZeros(tmp);
-        return binaryPosition >>> 3;
+        return firstMatch(matches(word, pattern));
     }
 
-    // to a little endian word
-    private static long toWordLe(byte[] buffer, int index) {
-        return (long) buffer[index] & 0xff
-                | ((long) buffer[index + 1] & 0xff) << 8
-                | ((long) buffer[index + 2] & 0xff) << 16
-                | ((long) buffer[index + 3] & 0xff) << 24
-                | ((long) buffer[index + 4] & 0xff) << 32
-                | ((long) buffer[index + 5] & 0xff) << 40
-                | ((long) buffer[index + 6] & 0xff) << 48
-                | ((long) buffer[index + 7] & 0xff) << 56;
+    // the highest bit of each byte of the result is set if the byte of the word matches the pattern, other bits are zero
+    private static long matches(long word, long pattern) {
+        long input = word ^ pattern;
+        long tmp = (input & HIGH_BITS_MASK) + HIGH_BITS_MASK;
+        return ~(tmp | input | HIGH_BITS_MASK);
     }
 
-    private static long toWordBe(byte[] buffer, int index) {
-        return ((long) buffer[index] & 0xff) << 56
-                | ((long) buffer[index + 1] & 0xff) << 48
-                | ((long) buffer[index + 2] & 0xff) << 40
-                | ((long) buffer[index + 3] & 0xff) << 32
-                | ((long) buffer[index + 4] & 0xff) << 24
-                | ((long) buffer[index + 5] & 0xff) << 16
-                | ((long) buffer[index + 6] & 0xff) << 8
-                | (long) buffer[index + 7] & 0xff;
+    // index of the first matching byte (in array order) of the result of matches, Long.BYTES if there is no match
+    private static int firstMatch(long matches) {
+        int binaryPosition = BYTE_ORDER_LE ? Long.numberOfTrailingZeros(matches) : Long.numberOfLeadingZeros(matches);
+        return binaryPosition >>> 3;
     }
 
     // this method is copied from Netty, and validated by them that it is the optimal
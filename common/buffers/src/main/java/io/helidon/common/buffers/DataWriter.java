@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,9 @@ package io.helidon.common.buffers;
  * Write data to the underlying transport (most likely a socket).
  * Do not combine {@link #write(io.helidon.common.buffers.BufferData)} and {@link #writeNow(io.helidon.common.buffers.BufferData)}
  * to a single underlying transport, unless you can guarantee there will not be a race between these two methods.
+ * <p>
+ * Written buffers are owned by the writer, which releases them (see {@link BufferData#release()}) once they are written,
+ * so pooled buffers return to their pool.
  */
 public interface DataWriter extends AutoCloseable {
     /**
@@ -53,10 +56,30 @@ public interface DataWriter extends AutoCloseable {
     /**
      * Flushes to the underlying transport any pending data that has been written using
      * either {@link #write(BufferData)} or {@link #write(BufferData...)}.
+     * Blocks until the pending data is written.
      */
     default void flush() {
     }
 
+    /**
+     * Hint that more data will follow shortly, so data written using {@link #write(BufferData)} or
+     * {@link #write(BufferData...)} may be held back and combined with the following writes.
+     * Each call must be followed by a call to {@link #uncork()}; calls may be nested.
+     * <p>
+     * Data is still written when the writer cannot hold more of it, or on {@link #flush()}.
+     * Writers that cannot delay writing ignore this hint.
+     */
+    default void cork() {
+    }
+
+    /**
+     * Ends the hint started by {@link #cork()}. When the last nested hint ends, held data is written.
+     * Defaults to a call to {@link #flush()}.
+     */
+    default void uncork() {
+        flush();
+    }
+
     /**
      * Closes this writer and frees any associated resources. Defaults to just a call
      * to {@link #flush()}.
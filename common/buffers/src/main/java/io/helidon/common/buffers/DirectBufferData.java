@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Growing buffer backed by a direct {@link java.nio.ByteBuffer}, allocated outside the Java heap.
+ * <p>
+ * Writing such a buffer to a socket channel does not need the temporary direct buffer the JDK uses
+ * to write heap arrays, so the bytes are copied only once (into this buffer) before being handed over
+ * to the operating system. Writing to (and reading from) streams copies the bytes through a heap array.
+ */
+class DirectBufferData implements BufferData {
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+    private static final int COPY_CHUNK_SIZE = 8 * 1024;
+
+    private ByteBuffer buffer;
+    private int length;
+    private int writePosition;
+    private int readPosition;
+
+    DirectBufferData(int initialLength) {
+        this(ByteBuffer.allocateDirect(Math.max(initialLength, 256)));
+    }
+
+    DirectBufferData(ByteBuffer initial) {
+        this.buffer = initial;
+        this.length = 0;
+    }
+
+    @Override
+    public DirectBufferData reset() {
+        this.writePosition = 0;
+        this.readPosition = 0;
+        return this;
+    }
+
+    @Override
+    public BufferData rewind() {
+        this.readPosition = 0;
+        return this;
+    }
+
+    @Override
+    public BufferData clear() {
+        reset();
+        length = 0;
+        return this;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) {
+        byte[] chunk = new byte[Math.min(available(), COPY_CHUNK_SIZE)];
+        try {
+            while (readPosition < writePosition) {
+                int toWrite = Math.min(chunk.length, writePosition - readPosition);
+                buffer.get(readPosition, chunk, 0, toWrite);
+                out.write(chunk, 0, toWrite);
+                readPosition += toWrite;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int readFrom(InputStream in) {
+        byte[] chunk = new byte[Math.min(buffer.capacity() - writePosition, COPY_CHUNK_SIZE)];
+        try {
+            int read = in.read(chunk);
+            if (read > 0) {
+                buffer.put(writePosition, chunk, 0, read);
+                writePosition += read;
+                length = Math.max(length, writePosition);
+            }
+            return read;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int read() {
+        if (readPosition >= writePosition) {
+            throw new ArrayIndexOutOfBoundsException("This buffer has " + length
+                                                             + " bytes, requested to read at " + readPosition);
+        }
+        return buffer.get(readPosition++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int position, int length) {
+        int toRead = Math.min(length, writePosition - readPosition);
+
+        buffer.get(readPosition, bytes, position, toRead);
+
+        readPosition += toRead;
+        return toRead;
+    }
+
+    @Override
+    public String readString(int length, Charset charset) {
+        byte[] bytes = new byte[length];
+        buffer.get(readPosition, bytes);
+        readPosition += length;
+        return new String(bytes, charset);
+    }
+
+    @Override
+    public boolean consumed() {
+        return readPosition == writePosition;
+    }
+
+    @Override
+    public DirectBufferData write(int value) {
+        ensureSize(1);
+        buffer.put(writePosition++, (byte) value);
+        this.length = Math.max(length, writePosition);
+        return this;
+    }
+
+    @Override
+    public int writeTo(ByteBuffer writeBuffer, int limit) {
+        int toWrite = Math.min(writeBuffer.remaining(), writePosition - readPosition);
+        toWrite = Math.min(toWrite, limit);
+        if (toWrite == 0) {
+            return 0;
+        }
+        writeBuffer.put(buffer.slice(readPosition, toWrite));
+        readPosition += toWrite;
+        return toWrite;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureSize(length);
+        buffer.put(writePosition, bytes, offset, length);
+        writePosition += length;
+        this.length = Math.max(this.length, writePosition);
+    }
+
+    @Override
+    public void write(BufferData toWrite) {
+        write(toWrite, toWrite.available());
+    }
+
+    @Override
+    public void write(BufferData toWrite, int length) {
+        ensureSize(length);
+        // let the other buffer write into a view of our buffer, no need for an intermediate copy
+        ByteBuffer target = buffer.slice(writePosition, length);
+        int written = 0;
+        while (written < length) {
+            int wrote = toWrite.writeTo(target, length - written);
+            if (wrote == 0) {
+                break;
+            }
+            written += wrote;
+        }
+        writePosition += written;
+        this.length = Math.max(this.length, writePosition);
+    }
+
+    @Override
+    public String debugDataBinary() {
+        return BufferUtil.debugDataBinary(bytes(writePosition), 0, writePosition);
+    }
+
+    @Override
+    public String debugDataHex(boolean fullBuffer) {
+        return BufferUtil.debugDataHex(bytes(writePosition), fullBuffer ? 0 : readPosition, writePosition);
+    }
+
+    @Override
+    public int available() {
+        return writePosition - readPosition;
+    }
+
+    @Override
+    public void skip(int length) {
+        readPosition += length;
+    }
+
+    @Override
+    public int indexOf(byte aByte) {
+        for (int i = readPosition; i < writePosition; i++) {
+            if (buffer.get(i) == aByte) {
+                return i - readPosition;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(byte aByte, int length) {
+        for (int i = length - 1; i >= readPosition; i--) {
+            if (buffer.get(i) == aByte) {
+                return i - readPosition;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public BufferData trim(int x) {
+        if (available() < x) {
+            throw new IllegalArgumentException("Trimming more bytes than available");
+        }
+        writePosition -= x;
+        length -= x;
+        return this;
+    }
+
+    @Override
+    public int capacity() {
+        return length - writePosition;
+    }
+
+    @Override
+    public int get(int index) {
+        return buffer.get(readPosition + index);
+    }
+
+    @Override
+    public ByteBuffer readByteBuffer() {
+        ByteBuffer result = buffer.slice(readPosition, writePosition - readPosition);
+        readPosition = writePosition;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "direct: l=" + length + ", r=" + readPosition + ", w=" + writePosition + ", c=" + buffer.capacity();
+    }
+
+    /**
+     * Create a new buffer when this buffer needs to grow.
+     *
+     * @param capacity required capacity
+     * @return a new direct buffer of at least the required capacity
+     */
+    ByteBuffer newBuffer(int capacity) {
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Called with the previous buffer once this buffer has grown.
+     *
+     * @param buffer buffer no longer used by this buffer data
+     */
+    void discardBuffer(ByteBuffer buffer) {
+    }
+
+    /**
+     * Remove the underlying buffer from this buffer data, leaving it empty.
+     *
+     * @return the buffer used until now
+     */
+    ByteBuffer detach() {
+        ByteBuffer current = this.buffer;
+        this.buffer = EMPTY_BUFFER;
+        this.length = 0;
+        this.writePosition = 0;
+        this.readPosition = 0;
+        return current;
+    }
+
+    private byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    private void ensureSize(int i) {
+        if (buffer.capacity() > writePosition + i) {
+            return;
+        }
+
+        ByteBuffer current = this.buffer;
+        int currentCapacity = current.capacity();
+        int newCapacity = currentCapacity * 2;
+        newCapacity = Math.max(newCapacity, writePosition + i);
+        if (newCapacity < currentCapacity) {
+            // int overflow
+            throw new IllegalStateException("Direct buffer too big, cannot increase size");
+        }
+        this.buffer = newBuffer(newCapacity);
+        this.buffer.put(0, current, 0, length);
+        discardBuffer(current);
+    }
+}
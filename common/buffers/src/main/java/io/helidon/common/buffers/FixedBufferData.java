@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -224,6 +224,13 @@ class FixedBufferData implements BufferData {
         return bytes[readPosition + index];
     }
 
+    @Override
+    public ByteBuffer readByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, readPosition, writePosition - readPosition);
+        readPosition = writePosition;
+        return buffer;
+    }
+
     @Override
     public String toString() {
         return "fixed: l=" + length + ", r=" + readPosition + ", w=" + writePosition;
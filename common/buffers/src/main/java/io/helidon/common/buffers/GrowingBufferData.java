@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,11 @@ class GrowingBufferData implements BufferData {
         this.length = 0;
     }
 
+    GrowingBufferData(byte[] initial) {
+        this.bytes = initial;
+        this.length = 0;
+    }
+
     public boolean ready() {
         return writePosition > readPosition;
     }
@@ -141,20 +146,16 @@ class GrowingBufferData implements BufferData {
 
     @Override
     public void write(BufferData toWrite) {
-        ensureSize(toWrite.available());
-        byte[] buffer = new byte[toWrite.available()];
-        int read = toWrite.read(buffer);
-        System.arraycopy(buffer, 0, this.bytes, writePosition, read);
-        writePosition += read;
+        write(toWrite, toWrite.available());
     }
 
     @Override
     public void write(BufferData toWrite, int length) {
         ensureSize(length);
-        byte[] buffer = new byte[length];
-        int read = toWrite.read(buffer);
-        System.arraycopy(buffer, 0, this.bytes, writePosition, read);
+        // read directly into our array, no need for an intermediate copy
+        int read = toWrite.read(this.bytes, writePosition, length);
         writePosition += read;
+        this.length = Math.max(this.length, writePosition);
     }
 
     @Override
@@ -227,6 +228,13 @@ class GrowingBufferData implements BufferData {
         return Arrays.copyOfRange(bytes, 0, length);
     }
 
+    @Override
+    public ByteBuffer readByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, readPosition, writePosition - readPosition);
+        readPosition = writePosition;
+        return buffer;
+    }
+
     private void ensureSize(int i) {
         if (this.bytes.length > writePosition + i) {
             return;
@@ -240,7 +248,40 @@ class GrowingBufferData implements BufferData {
             // int overflow
             throw new IllegalStateException("Growing buffer too big, cannot increase size");
         }
-        this.bytes = new byte[newLength];
+        this.bytes = newArray(newLength);
         System.arraycopy(current, 0, this.bytes, 0, length);
+        discardArray(current);
+    }
+
+    /**
+     * Create a new array when this buffer needs to grow.
+     *
+     * @param length required length
+     * @return a new array of at least the required length
+     */
+    byte[] newArray(int length) {
+        return new byte[length];
+    }
+
+    /**
+     * Called with the previous array once this buffer has grown.
+     *
+     * @param array array no longer used by this buffer
+     */
+    void discardArray(byte[] array) {
+    }
+
+    /**
+     * Remove the underlying array from this buffer, leaving it empty.
+     *
+     * @return the array used by this buffer until now
+     */
+    byte[] detach() {
+        byte[] current = this.bytes;
+        this.bytes = EMPTY_BYTES;
+        this.length = 0;
+        this.writePosition = 0;
+        this.readPosition = 0;
+        return current;
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Direct buffer taken from a pool, the buffer is returned to the pool once all references are released.
+ */
+final class PooledDirectBufferData extends DirectBufferData {
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final SizeClassBufferPool pool;
+    private final SizeClassBufferPool.LeakTracker leakTracker;
+
+    PooledDirectBufferData(SizeClassBufferPool pool, ByteBuffer initial, SizeClassBufferPool.LeakTracker leakTracker) {
+        super(initial);
+        this.pool = pool;
+        this.leakTracker = leakTracker;
+        if (leakTracker != null) {
+            leakTracker.track(this);
+        }
+    }
+
+    @Override
+    public BufferData retain() {
+        if (references.getAndIncrement() <= 0) {
+            references.decrementAndGet();
+            throw new IllegalStateException("Buffer was already released");
+        }
+        return this;
+    }
+
+    @Override
+    public void release() {
+        int remaining = references.decrementAndGet();
+        if (remaining == 0) {
+            pool.release(detach());
+            if (leakTracker != null) {
+                leakTracker.released();
+            }
+        } else if (remaining < 0) {
+            references.incrementAndGet();
+            throw new IllegalStateException("Buffer was already released");
+        }
+    }
+
+    @Override
+    ByteBuffer newBuffer(int capacity) {
+        return pool.directBuffer(capacity);
+    }
+
+    @Override
+    void discardBuffer(ByteBuffer buffer) {
+        pool.release(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return "pooled " + super.toString() + ", refs=" + references.get();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -154,6 +154,13 @@ class ReadOnlyArrayData extends ReadOnlyBufferData {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public ByteBuffer readByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset + position, length - position).asReadOnlyBuffer();
+        position = length;
+        return buffer;
+    }
+
     @Override
     public int get(int index) {
         return bytes[offset + position + index] & 0xFF;
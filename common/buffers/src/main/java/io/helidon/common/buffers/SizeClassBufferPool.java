@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffer pool with arrays in power of two size classes from 256 bytes to 64 KiB.
+ * <p>
+ * Each size class keeps released arrays in a fixed number of slots. Threads start looking for an array (or an empty slot)
+ * at a position derived from the thread id, so concurrent threads mostly touch different slots, and no locks are used.
+ * Larger arrays are not pooled.
+ * <p>
+ * A direct pool keeps direct {@link java.nio.ByteBuffer ByteBuffers} instead of arrays, as these are expensive
+ * to allocate and are only freed once garbage collected. For the same reason, direct buffers up to 1 MiB are pooled.
+ */
+final class SizeClassBufferPool implements BufferPool {
+    static final boolean LEAK_DETECTION = Boolean.parseBoolean(
+            System.getProperty(LEAK_DETECTION_PROPERTY,
+                               String.valueOf(SizeClassBufferPool.class.desiredAssertionStatus())));
+
+    private static final System.Logger LOGGER = System.getLogger(BufferPool.class.getName());
+    // 256 bytes, the minimal size of a growing buffer
+    private static final int MIN_SIZE_SHIFT = 8;
+    // 64 KiB
+    private static final int MAX_SIZE_SHIFT = 16;
+    // 1 MiB, allocation of large direct buffers is much more expensive than of heap arrays
+    private static final int MAX_DIRECT_SIZE_SHIFT = 20;
+
+    private final SizeClass[] sizeClasses;
+    private final int maxSize;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+    private final LongAdder leaked = new LongAdder();
+    private final boolean leakDetection;
+    private final boolean direct;
+
+    SizeClassBufferPool(int buffersPerSize, boolean leakDetection, boolean direct) {
+        if (buffersPerSize < 1) {
+            throw new IllegalArgumentException("Number of pooled buffers per size must be positive, but is: "
+                                                       + buffersPerSize);
+        }
+        this.leakDetection = leakDetection;
+        this.direct = direct;
+        int maxSizeShift = direct ? MAX_DIRECT_SIZE_SHIFT : MAX_SIZE_SHIFT;
+        this.maxSize = 1 << maxSizeShift;
+        this.sizeClasses = new SizeClass[maxSizeShift - MIN_SIZE_SHIFT + 1];
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new SizeClass(1 << (MIN_SIZE_SHIFT + i), buffersPerSize);
+        }
+    }
+
+    @Override
+    public BufferData acquire(int initialCapacity) {
+        acquired.increment();
+        LeakTracker leakTracker = leakDetection ? new LeakTracker(leaked) : null;
+        if (direct) {
+            return new PooledDirectBufferData(this, directBuffer(initialCapacity), leakTracker);
+        }
+        return new PooledBufferData(this, array(initialCapacity), leakTracker);
+    }
+
+    @Override
+    public long acquired() {
+        return acquired.sum();
+    }
+
+    @Override
+    public long allocated() {
+        return allocated.sum();
+    }
+
+    @Override
+    public long leaked() {
+        return leaked.sum();
+    }
+
+    @Override
+    public int pooledBuffers() {
+        int result = 0;
+        for (SizeClass sizeClass : sizeClasses) {
+            result += sizeClass.count.get();
+        }
+        return result;
+    }
+
+    @Override
+    public long pooledBytes() {
+        long result = 0;
+        for (SizeClass sizeClass : sizeClasses) {
+            result += (long) sizeClass.count.get() * sizeClass.size;
+        }
+        return result;
+    }
+
+    /**
+     * Get an array with at least the requested capacity.
+     *
+     * @param capacity requested capacity
+     * @return pooled or new array
+     */
+    byte[] array(int capacity) {
+        SizeClass sizeClass = sizeClass(capacity);
+        if (sizeClass == null) {
+            allocated.increment();
+            return new byte[capacity];
+        }
+        byte[] array = (byte[]) sizeClass.poll();
+        if (array == null) {
+            allocated.increment();
+            return new byte[sizeClass.size];
+        }
+        return array;
+    }
+
+    /**
+     * Get a direct buffer with at least the requested capacity.
+     *
+     * @param capacity requested capacity
+     * @return pooled or new direct buffer, with position set to zero and limit to its capacity
+     */
+    ByteBuffer directBuffer(int capacity) {
+        SizeClass sizeClass = sizeClass(capacity);
+        if (sizeClass == null) {
+            allocated.increment();
+            return ByteBuffer.allocateDirect(capacity);
+        }
+        ByteBuffer buffer = (ByteBuffer) sizeClass.poll();
+        if (buffer == null) {
+            allocated.increment();
+            return ByteBuffer.allocateDirect(sizeClass.size);
+        }
+        return buffer.clear();
+    }
+
+    /**
+     * Return an array to the pool, it is dropped if it does not match a size class, or the size class is full.
+     *
+     * @param array array that is no longer used
+     */
+    void release(byte[] array) {
+        SizeClass sizeClass = sizeClass(array.length);
+        if (sizeClass != null && sizeClass.size == array.length) {
+            sizeClass.offer(array);
+        }
+    }
+
+    /**
+     * Return a direct buffer to the pool, it is dropped if it does not match a size class, or the size class is full.
+     *
+     * @param buffer direct buffer that is no longer used
+     */
+    void release(ByteBuffer buffer) {
+        SizeClass sizeClass = sizeClass(buffer.capacity());
+        if (buffer.isDirect() && sizeClass != null && sizeClass.size == buffer.capacity()) {
+            sizeClass.offer(buffer);
+        }
+    }
+
+    private SizeClass sizeClass(int capacity) {
+        if (capacity > maxSize) {
+            return null;
+        }
+        int shift = capacity <= (1 << MIN_SIZE_SHIFT)
+                ? MIN_SIZE_SHIFT
+                : 32 - Integer.numberOfLeadingZeros(capacity - 1);
+        return sizeClasses[shift - MIN_SIZE_SHIFT];
+    }
+
+    private static int start(int length) {
+        long hash = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) length);
+    }
+
+    /**
+     * Reports buffers garbage collected without being released.
+     */
+    static final class LeakTracker implements Runnable {
+        private final Throwable acquiredAt = new Throwable("Buffer acquired");
+        private final LongAdder leaked;
+        private volatile boolean released;
+        private Cleaner.Cleanable cleanable;
+
+        private LeakTracker(LongAdder leaked) {
+            this.leaked = leaked;
+        }
+
+        @Override
+        public void run() {
+            if (!released) {
+                leaked.increment();
+                LOGGER.log(System.Logger.Level.WARNING,
+                           "Pooled buffer was garbage collected without being released, it was acquired here",
+                           acquiredAt);
+            }
+        }
+
+        void track(BufferData buffer) {
+            cleanable = CleanerHolder.CLEANER.register(buffer, this);
+        }
+
+        void released() {
+            released = true;
+            cleanable.clean();
+        }
+    }
+
+    private static final class SizeClass {
+        // byte arrays, or direct byte buffers for a direct pool
+        private final AtomicReferenceArray<Object> slots;
+        private final AtomicInteger count = new AtomicInteger();
+        private final int size;
+
+        private SizeClass(int size, int buffers) {
+            this.size = size;
+            this.slots = new AtomicReferenceArray<>(buffers);
+        }
+
+        private Object poll() {
+            int length = slots.length();
+            int start = start(length);
+            for (int i = 0; i < length && count.get() > 0; i++) {
+                int index = (start + i) % length;
+                Object pooled = slots.get(index);
+                if (pooled != null && slots.compareAndSet(index, pooled, null)) {
+                    count.decrementAndGet();
+                    return pooled;
+                }
+            }
+            return null;
+        }
+
+        private void offer(Object pooled) {
+            int length = slots.length();
+            int start = start(length);
+            for (int i = 0; i < length && count.get() < length; i++) {
+                int index = (start + i) % length;
+                if (slots.get(index) == null && slots.compareAndSet(index, null, pooled)) {
+                    count.incrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class CleanerHolder {
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+}
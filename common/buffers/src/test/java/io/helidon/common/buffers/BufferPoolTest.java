@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BufferPoolTest {
+    private final BufferPool pool = BufferPool.create(4, false);
+
+    @Test
+    void testReleasedBufferIsReused() {
+        BufferData buffer = pool.acquire(100);
+        buffer.write("Hello".getBytes(StandardCharsets.UTF_8));
+        assertThat(buffer.readString(5), is("Hello"));
+        buffer.release();
+
+        assertThat(pool.pooledBuffers(), is(1));
+        assertThat(pool.pooledBytes(), is(256L));
+
+        BufferData second = pool.acquire(200);
+        assertThat(second.available(), is(0));
+        assertThat(pool.pooledBuffers(), is(0));
+        assertThat(pool.acquired(), is(2L));
+        assertThat(pool.allocated(), is(1L));
+        second.release();
+    }
+
+    @Test
+    void testGrowingReturnsSmallerArray() {
+        BufferData buffer = pool.acquire(256);
+        buffer.write(new byte[300]);
+
+        assertThat(buffer.available(), is(300));
+        assertThat(pool.pooledBytes(), is(256L));
+        buffer.release();
+        assertThat(pool.pooledBytes(), is(256L + 512L));
+    }
+
+    @Test
+    void testRetainedBufferNeedsAllReleases() {
+        BufferData buffer = pool.acquire(10);
+        buffer.retain();
+        buffer.release();
+        assertThat(pool.pooledBuffers(), is(0));
+
+        buffer.release();
+        assertThat(pool.pooledBuffers(), is(1));
+        assertThrows(IllegalStateException.class, buffer::release);
+        assertThrows(IllegalStateException.class, buffer::retain);
+    }
+
+    @Test
+    void testCompositeReleasesComponents() {
+        BufferData first = pool.acquire(10);
+        BufferData second = pool.acquire(10);
+        BufferData.create(first, second).release();
+
+        assertThat(pool.pooledBuffers(), is(2));
+    }
+
+    @Test
+    void testLargeBuffersNotPooled() {
+        BufferData buffer = pool.acquire(100_000);
+        buffer.release();
+
+        assertThat(pool.pooledBuffers(), is(0));
+    }
+
+    @Test
+    void testUnpooled() {
+        BufferData buffer = BufferPool.unpooled().acquire(10);
+        buffer.release();
+        buffer.release();
+
+        buffer.write(1);
+        assertThat(buffer.read(), is(1));
+    }
+}
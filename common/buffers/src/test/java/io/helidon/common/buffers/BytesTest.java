@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class BytesTest {
+    private static final byte[] LINE = "GET /some/quite/long/path/to/a/resource HTTP/1.1\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void testFirstIndexOf() {
+        assertThat(Bytes.firstIndexOf(LINE, 0, LINE.length, Bytes.SPACE_BYTE), is(3));
+        assertThat(Bytes.firstIndexOf(LINE, 4, LINE.length, Bytes.SPACE_BYTE), is(39));
+        assertThat(Bytes.firstIndexOf(LINE, 4, 39, Bytes.SPACE_BYTE), is(-1));
+        assertThat(Bytes.firstIndexOf(LINE, 0, LINE.length, Bytes.CR_BYTE), is(48));
+    }
+
+    @Test
+    void testFirstIndexOfAny() {
+        assertThat(Bytes.firstIndexOfAny(LINE, 0, LINE.length, Bytes.CR_BYTE, Bytes.LF_BYTE), is(48));
+        assertThat(Bytes.firstIndexOfAny(LINE, 0, LINE.length, Bytes.LF_BYTE, Bytes.SPACE_BYTE), is(3));
+        assertThat(Bytes.firstIndexOfAny(LINE, 0, LINE.length, Bytes.COLON_BYTE, Bytes.CR_BYTE, Bytes.LF_BYTE), is(48));
+        assertThat(Bytes.firstIndexOfAny(LINE, 49, LINE.length, Bytes.COLON_BYTE, Bytes.CR_BYTE, Bytes.LF_BYTE), is(49));
+        assertThat(Bytes.firstIndexOfAny(LINE, 0, 48, Bytes.COLON_BYTE, Bytes.CR_BYTE, Bytes.LF_BYTE), is(-1));
+        assertThat(Bytes.firstIndexOfAny(LINE, 5, 5, Bytes.COLON_BYTE, Bytes.CR_BYTE, Bytes.LF_BYTE), is(-1));
+    }
+
+    @Test
+    void testFirstIndexOfAnyEachPosition() {
+        // match at each position, both within a word and in the bytes after the last word
+        for (int length = 1; length < 20; length++) {
+            for (int position = 0; position < length; position++) {
+                byte[] bytes = new byte[length + 2];
+                bytes[position + 1] = ':';
+                assertThat(Bytes.firstIndexOfAny(bytes, 1, length + 1, Bytes.COLON_BYTE, Bytes.CR_BYTE, Bytes.LF_BYTE),
+                           is(position + 1));
+                bytes[position + 1] = (byte) 0x80;
+                assertThat(Bytes.firstIndexOfAny(bytes, 1, length + 1, Bytes.COLON_BYTE, Bytes.CR_BYTE, Bytes.LF_BYTE),
+                           is(-1));
+            }
+        }
+    }
+
+    @Test
+    void testToWord() {
+        long expected = ByteBuffer.wrap(LINE, 4, 8).order(ByteOrder.nativeOrder()).getLong();
+        assertThat(Bytes.toWord(LINE, 4), is(expected));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,15 @@
 package io.helidon.common.buffers;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DataReaderTest {
 
@@ -70,4 +73,39 @@ class DataReaderTest {
         dataReader.skip(n);
         assertThat(dataReader.findNewLine(n), is(1));
     }
+
+    @Test
+    void testFindOrNewLineAcrossNodes() {
+        Iterator<byte[]> data = List.of("Content-Type".getBytes(StandardCharsets.US_ASCII),
+                                        "-Extended-Name: value\r\n".getBytes(StandardCharsets.US_ASCII))
+                .iterator();
+        DataReader dataReader = new DataReader(() -> data.hasNext() ? data.next() : null);
+
+        assertThat(dataReader.findOrNewLine(Bytes.COLON_BYTE, 1024), is(26));
+        assertThat(dataReader.findOrNewLine(Bytes.COLON_BYTE, 20), is(20));
+        dataReader.skip(27);
+        assertThat(dataReader.findOrNewLine(Bytes.COLON_BYTE, 1024), is(-7));
+    }
+
+    @Test
+    void testFindOrNewLineWithCrAtNodeEnd() {
+        Iterator<byte[]> data = List.of("no-colon-in-this-line\r".getBytes(StandardCharsets.US_ASCII),
+                                        "\n".getBytes(StandardCharsets.US_ASCII))
+                .iterator();
+        DataReader dataReader = new DataReader(() -> data.hasNext() ? data.next() : null);
+
+        assertThat(dataReader.findOrNewLine(Bytes.COLON_BYTE, 1024), is(-22));
+    }
+
+    @Test
+    void testFindOrNewLineLoneEol() {
+        byte[] data = "long-header-\nname: value".getBytes(StandardCharsets.US_ASCII);
+        DataReader strictReader = new DataReader(() -> data);
+        assertThrows(DataReader.IncorrectNewLineException.class,
+                     () -> strictReader.findOrNewLine(Bytes.COLON_BYTE, 1024));
+
+        byte[] loneCr = "long-header-\rname: value".getBytes(StandardCharsets.US_ASCII);
+        DataReader lenientReader = new DataReader(() -> loneCr, true);
+        assertThat(lenientReader.findOrNewLine(Bytes.COLON_BYTE, 1024), is(17));
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DirectBufferDataTest {
+    @Test
+    void testWriteAndRead() {
+        BufferData buffer = BufferData.direct(16);
+        buffer.writeAscii("Hello World");
+
+        assertThat(buffer.available(), is(11));
+        assertThat(buffer.indexOf((byte) ' '), is(5));
+        assertThat(buffer.get(6), is((int) 'W'));
+        assertThat(buffer.readString(5), is("Hello"));
+        assertThat(buffer.read(), is((int) ' '));
+        assertThat(buffer.readString(5, StandardCharsets.US_ASCII), is("World"));
+        assertThat(buffer.consumed(), is(true));
+    }
+
+    @Test
+    void testGrow() {
+        BufferData buffer = BufferData.direct(256);
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        buffer.write(1);
+        buffer.write(bytes);
+
+        assertThat(buffer.available(), is(1001));
+        assertThat(buffer.read(), is(1));
+        byte[] read = new byte[1000];
+        assertThat(buffer.read(read), is(1000));
+        assertThat(read, is(bytes));
+    }
+
+    @Test
+    void testCopyFromAndToHeapBuffers() {
+        BufferData direct = BufferData.direct(16);
+        direct.write(BufferData.create("first"));
+        direct.write(BufferData.create(BufferData.create("-"), BufferData.create("second")));
+        assertThat(direct.available(), is(12));
+
+        BufferData heap = BufferData.growing(16);
+        heap.write(direct);
+        assertThat(direct.consumed(), is(true));
+        assertThat(heap.readString(12), is("first-second"));
+    }
+
+    @Test
+    void testReadByteBuffer() {
+        BufferData buffer = BufferData.direct(16);
+        buffer.writeAscii("Hello");
+        buffer.skip(1);
+
+        ByteBuffer byteBuffer = buffer.readByteBuffer();
+        assertThat(byteBuffer.isDirect(), is(true));
+        assertThat(byteBuffer.remaining(), is(4));
+        assertThat(StandardCharsets.US_ASCII.decode(byteBuffer).toString(), is("ello"));
+        assertThat(buffer.consumed(), is(true));
+    }
+
+    @Test
+    void testDirectPool() {
+        BufferPool pool = BufferPool.createDirect(4);
+        BufferData buffer = pool.acquire(100);
+        buffer.writeAscii("Hello");
+        assertThat(buffer.readByteBuffer().isDirect(), is(true));
+        buffer.release();
+        assertThat(pool.pooledBuffers(), is(1));
+
+        BufferData second = pool.acquire(100);
+        assertThat(second.available(), is(0));
+        assertThat(pool.allocated(), is(1L));
+        second.release();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,11 @@
 
 package io.helidon.common.socket;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 
@@ -58,6 +63,55 @@ public interface HelidonSocket extends SocketContext, Supplier<byte[]> {
      */
     void write(BufferData buffer);
 
+    /**
+     * Write buffers to the socket, returns when all bytes were written.
+     * Default implementation combines the buffers and writes them using {@link #write(BufferData)},
+     * sockets backed by a channel may write the buffers with a single gathering write without copying them.
+     *
+     * @param buffers buffers to write
+     */
+    default void write(BufferData... buffers) {
+        if (buffers.length == 1) {
+            write(buffers[0]);
+        } else {
+            write(BufferData.create(buffers));
+        }
+    }
+
+    /**
+     * Write a region of a file to the underlying socket. This method blocks until all bytes are written.
+     * Implementations may transfer the bytes without copying them through the Java heap, the default implementation
+     * reads the file in chunks and writes them using {@link #write(BufferData)}.
+     * <p>
+     * Any data written to this socket through a writer that may delay writes must be written before calling this method.
+     *
+     * @param file     file to read from, the channel is not closed by this method
+     * @param position position in the file to start reading from
+     * @param length   number of bytes to write
+     */
+    default void write(FileChannel file, long position, long length) {
+        byte[] chunk = new byte[(int) Math.min(length, 16 * 1024)];
+        ByteBuffer byteBuffer = ByteBuffer.wrap(chunk);
+        long remaining = length;
+        long filePosition = position;
+        try {
+            while (remaining > 0) {
+                byteBuffer.clear();
+                byteBuffer.limit((int) Math.min(remaining, chunk.length));
+                int read = file.read(byteBuffer, filePosition);
+                if (read == -1) {
+                    throw new EOFException("File ended before all requested bytes were written, missing: " + remaining);
+                }
+                // write blocks until the buffer is written, so we can reuse the chunk
+                write(BufferData.create(chunk, 0, read));
+                filePosition += read;
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Whether a protocol was negotiated by the socket (such as ALPN when using TLS).
      * @return whether a protocol was negotiated
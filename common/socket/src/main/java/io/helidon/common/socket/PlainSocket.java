@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,15 +16,20 @@
 
 package io.helidon.common.socket;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Arrays;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.CompositeBufferData;
 
 /**
  * Helidon socket that is based on plaintext.
@@ -133,7 +138,69 @@ public sealed class PlainSocket implements HelidonSocket permits TlsSocket {
 
     @Override
     public void write(BufferData buffer) {
-        buffer.writeTo(outputStream);
+        SocketChannel channel = delegate.getChannel();
+        if (channel == null || isSecure() || buffer instanceof CompositeBufferData) {
+            // composite buffers write each part to the stream, rather than copying them into a single byte buffer
+            buffer.writeTo(outputStream);
+            return;
+        }
+        // buffers backed by a direct byte buffer are written without copying them into a temporary direct buffer
+        ByteBuffer byteBuffer = buffer.readByteBuffer();
+        try {
+            while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(BufferData... buffers) {
+        SocketChannel channel = delegate.getChannel();
+        if (channel == null || isSecure()) {
+            HelidonSocket.super.write(buffers);
+            return;
+        }
+        ByteBuffer[] byteBuffers = new ByteBuffer[buffers.length];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            byteBuffers[i] = buffers[i].readByteBuffer();
+            remaining += byteBuffers[i].remaining();
+        }
+        try {
+            // gathering write, the buffers are not copied into a single array
+            while (remaining > 0) {
+                remaining -= channel.write(byteBuffers);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(FileChannel file, long position, long length) {
+        SocketChannel channel = delegate.getChannel();
+        if (channel == null || isSecure()) {
+            // socket not created from a channel (or encrypted), we must write the bytes ourselves
+            HelidonSocket.super.write(file, position, length);
+            return;
+        }
+        long remaining = length;
+        long filePosition = position;
+        try {
+            // uses sendfile (or similar) where supported by the operating system
+            while (remaining > 0) {
+                long written = file.transferTo(filePosition, remaining, channel);
+                if (written == 0 && filePosition >= file.size()) {
+                    throw new EOFException("File ended before all requested bytes were written, missing: " + remaining);
+                }
+                filePosition += written;
+                remaining -= written;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
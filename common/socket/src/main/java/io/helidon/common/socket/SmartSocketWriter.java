@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,20 +22,23 @@ import io.helidon.common.buffers.BufferData;
 
 /**
  * A special socket write that starts async but may switch to sync mode if it
- * detects that the async queue size is below {@link #QUEUE_SIZE_THRESHOLD}.
+ * detects that the average number of buffers written in a batch is below {@link #BATCH_SIZE_THRESHOLD},
+ * as batching does not pay off for the cost of passing the buffers to another thread.
  * If it switches to sync mode, it shall never return back to async mode.
  */
 public class SmartSocketWriter extends SocketWriter {
     private static final long WINDOW_SIZE = 1000;
-    private static final double QUEUE_SIZE_THRESHOLD = 2.0;
+    private static final double BATCH_SIZE_THRESHOLD = 2.0;
 
-    private final SocketWriterAsync asyncWriter;
+    private final SocketWriterBatching asyncWriter;
     private volatile long windowIndex;
     private volatile boolean asyncMode;
+    private long windowBatches;
+    private long windowBuffers;
 
     SmartSocketWriter(ExecutorService executor, HelidonSocket socket, int writeQueueLength) {
         super(socket);
-        this.asyncWriter = new SocketWriterAsync(executor, socket, writeQueueLength);
+        this.asyncWriter = new SocketWriterBatching(executor, socket, writeQueueLength);
         this.asyncMode = true;
         this.windowIndex = 0L;
     }
@@ -51,12 +54,62 @@ public class SmartSocketWriter extends SocketWriter {
     public void write(BufferData buffer) {
         if (asyncMode) {
             asyncWriter.write(buffer);
-            if (++windowIndex % WINDOW_SIZE == 0 && asyncWriter.avgQueueSize() < QUEUE_SIZE_THRESHOLD) {
+            if (++windowIndex % WINDOW_SIZE == 0 && batchSize() < BATCH_SIZE_THRESHOLD) {
                 asyncMode = false;
             }
         } else {
-            asyncWriter.drainQueue();
+            asyncWriter.flush();
             writeNow(buffer);       // blocking write
         }
     }
+
+    @Override
+    public void flush() {
+        asyncWriter.flush();
+    }
+
+    @Override
+    public void cork() {
+        asyncWriter.cork();
+    }
+
+    @Override
+    public void uncork() {
+        asyncWriter.uncork();
+    }
+
+    @Override
+    public int queueDepth() {
+        return asyncWriter.queueDepth();
+    }
+
+    @Override
+    public int maxQueueDepth() {
+        return asyncWriter.maxQueueDepth();
+    }
+
+    @Override
+    public long batches() {
+        return asyncWriter.batches();
+    }
+
+    @Override
+    public long batchBytes() {
+        return asyncWriter.batchBytes();
+    }
+
+    @Override
+    public void close() {
+        asyncWriter.close();
+    }
+
+    // average number of buffers per batch since the last window
+    private double batchSize() {
+        long batches = asyncWriter.batches();
+        long buffers = asyncWriter.writtenBuffers();
+        double batchSize = (double) (buffers - windowBuffers) / Math.max(1, batches - windowBatches);
+        windowBatches = batches;
+        windowBuffers = buffers;
+        return batchSize;
+    }
 }
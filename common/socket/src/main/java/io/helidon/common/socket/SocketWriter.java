@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,7 +56,7 @@ public abstract class SocketWriter implements DataWriter {
         } else {
             return smartAsyncWrites
                     ? new SmartSocketWriter(executor, socket, writeQueueLength)
-                    : new SocketWriterAsync(executor, socket, writeQueueLength);
+                    : new SocketWriterBatching(executor, socket, writeQueueLength);
         }
     }
 
@@ -72,13 +72,60 @@ public abstract class SocketWriter implements DataWriter {
 
     @Override
     public void writeNow(BufferData... buffers) {
-        BufferData composite = BufferData.create(buffers);
-        writeNow(composite);
+        try {
+            socket.write(buffers);
+        } finally {
+            for (BufferData buffer : buffers) {
+                buffer.release();
+            }
+        }
     }
 
     @Override
     public void writeNow(BufferData buffer) {
-        socket.write(buffer);
+        try {
+            socket.write(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Number of buffers waiting to be written to the socket.
+     *
+     * @return queue depth, always {@code 0} for writers that write directly to the socket
+     */
+    public int queueDepth() {
+        return 0;
+    }
+
+    /**
+     * Maximal number of buffers that were waiting to be written to the socket.
+     *
+     * @return maximal queue depth, always {@code 0} for writers that write directly to the socket
+     */
+    public int maxQueueDepth() {
+        return 0;
+    }
+
+    /**
+     * Number of batches written to the socket by the writer thread, each batch combines all buffers queued
+     * since the previous batch into a single write.
+     *
+     * @return number of batches, always {@code 0} for writers that write directly to the socket
+     */
+    public long batches() {
+        return 0;
+    }
+
+    /**
+     * Number of bytes written to the socket in batches, divided by {@link #batches()} this gives
+     * the average number of bytes per batch.
+     *
+     * @return number of bytes, always {@code 0} for writers that write directly to the socket
+     */
+    public long batchBytes() {
+        return 0;
     }
 
     /**
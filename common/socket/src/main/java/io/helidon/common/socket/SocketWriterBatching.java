@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.socket;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataWriter;
+
+/**
+ * Socket writer that writes queued buffers on a separate thread.
+ * <p>
+ * Writing threads add buffers to a lock-free queue and only wake up the writer thread if it waits for data.
+ * The writer thread takes all buffers queued while it was writing the previous batch (up to a limit) and writes them
+ * with a single (gathering) write, so the batch size adapts to the load - one buffer per write when idle,
+ * many buffers per write when there are many concurrent writers.
+ */
+class SocketWriterBatching extends SocketWriter implements DataWriter {
+    private static final System.Logger LOGGER = System.getLogger(SocketWriterBatching.class.getName());
+    // we only want to write a certain amount of buffers at once, if somebody writes huge amounts
+    // we could spin here forever and run out of memory
+    private static final int MAX_BATCH = 1024;
+
+    private final ExecutorService executor;
+    private final int writeQueueLength;
+    private final ConcurrentLinkedQueue<BufferData> writeQueue = new ConcurrentLinkedQueue<>();
+    // permits for buffers that can be queued, writers block when there are none
+    private final Semaphore capacity;
+    private final AtomicInteger corks = new AtomicInteger();
+    private final AtomicInteger flushWaiters = new AtomicInteger();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private final CountDownLatch cdl = new CountDownLatch(1);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile Throwable caught;
+    private volatile boolean run = true;
+    private volatile boolean waiting;
+    private volatile Thread thread;
+    // only modified by the writer thread
+    private volatile long written;
+    private volatile long batches;
+    private volatile long batchBytes;
+    private volatile int maxQueueDepth;
+
+    /**
+     * A new socket writer.
+     *
+     * @param executor         executor used to create a thread for asynchronous writes
+     * @param socket           socket to write to
+     * @param writeQueueLength maximal number of queued writes, write operation will block if the queue is full
+     */
+    SocketWriterBatching(ExecutorService executor, HelidonSocket socket, int writeQueueLength) {
+        super(socket);
+        this.executor = executor;
+        this.writeQueueLength = writeQueueLength;
+        this.capacity = new Semaphore(writeQueueLength);
+    }
+
+    @Override
+    public void write(BufferData... buffers) {
+        int i = 0;
+        try {
+            for (; i < buffers.length; i++) {
+                write(buffers[i]);
+            }
+        } finally {
+            // the buffer that failed was already released, release the ones that were not queued
+            for (int j = i + 1; j < buffers.length; j++) {
+                buffers[j].release();
+            }
+        }
+    }
+
+    @Override
+    public void write(BufferData buffer) {
+        boolean queued = false;
+        try {
+            checkRunning();
+            if (!capacity.tryAcquire() && !capacity.tryAcquire(10, TimeUnit.SECONDS)) {
+                checkRunning();
+                throw new IllegalStateException("Failed to write data to queue, timed out");
+            }
+            if (!run) {
+                // writer failed while we were waiting for capacity
+                throw new SocketWriterException(caught);
+            }
+            writeQueue.offer(buffer);
+            queued = true;
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("Interrupted while trying to write to a queue", e);
+        } finally {
+            if (!queued) {
+                // queued buffers are released once written, or when the writer is closed
+                buffer.release();
+            }
+        }
+        enqueued.incrementAndGet();
+        if (waiting && (corks.get() == 0 || capacity.availablePermits() == 0)) {
+            wakeUpWriter();
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (!started.get() || written >= enqueued.get()) {
+            return;
+        }
+        flushWaiters.incrementAndGet();
+        try {
+            long target = enqueued.get();
+            wakeUpWriter();
+            flushLock.lock();
+            try {
+                while (written < target && run) {
+                    flushed.await(100, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                flushLock.unlock();
+            }
+            if (written < target) {
+                throw new SocketWriterException(caught);
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("Interrupted while waiting for queued data to be written", e);
+        } finally {
+            flushWaiters.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void cork() {
+        corks.incrementAndGet();
+    }
+
+    @Override
+    public void uncork() {
+        if (corks.decrementAndGet() == 0) {
+            wakeUpWriter();
+        }
+    }
+
+    @Override
+    public int queueDepth() {
+        return Math.max(0, writeQueueLength - capacity.availablePermits());
+    }
+
+    @Override
+    public int maxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    @Override
+    public long batches() {
+        return batches;
+    }
+
+    @Override
+    public long batchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * Close this writer. Will attempt to write all enqueued buffers and will stop the thread if created.
+     */
+    @Override
+    public void close() {
+        run = false;
+        if (!started.get()) {
+            // thread never started
+            return;
+        }
+        try {
+            wakeUpWriter();
+            // writes finished because we set run to false, otherwise the writer failed (or is stuck)
+            boolean finished = cdl.await(1000, TimeUnit.MILLISECONDS);
+            BufferData available;
+            while ((available = writeQueue.poll()) != null) {
+                if (!finished) {
+                    available.release();
+                    continue;
+                }
+                try {
+                    writeNow(available);
+                } catch (Exception e) {
+                    LOGGER.log(System.Logger.Level.TRACE, "Failed to write last buffers during writer shutdown", e);
+                    // in case we fail to write to socket when closing, it is probably because it is already closed
+                    // we still need to release all buffers
+                }
+            }
+            Thread writerThread = thread;
+            if (writerThread != null) {
+                // fail blocked writers
+                writerThread.interrupt();
+            }
+        } catch (InterruptedException e) {
+            // failed to get
+        }
+        if (LOGGER.isLoggable(System.Logger.Level.TRACE)) {
+            LOGGER.log(System.Logger.Level.TRACE, "Writer of " + socket().socketId() + " " + socket().childSocketId()
+                    + " wrote " + written + " buffers in " + batches + " batches, " + batchBytes + " bytes,"
+                    + " max queue depth " + maxQueueDepth);
+        }
+    }
+
+    /**
+     * Number of buffers written to the socket.
+     *
+     * @return number of buffers
+     */
+    long writtenBuffers() {
+        return written;
+    }
+
+    private void run() {
+        this.thread = Thread.currentThread();
+        this.thread.setName("[" + socket().socketId() + " " + socket().childSocketId() + "]");
+        try {
+            BufferData[] batch = new BufferData[MAX_BATCH];
+            while (run) {
+                if (mustWait()) {
+                    waiting = true;
+                    // check again, a writer may have added data before it could see we are waiting
+                    if (mustWait() && run) {
+                        LockSupport.park(this);
+                    }
+                    waiting = false;
+                    continue;
+                }
+                int depth = queueDepth();
+                if (depth > maxQueueDepth) {
+                    maxQueueDepth = depth;
+                }
+                int count = 0;
+                long bytes = 0;
+                BufferData next;
+                while (count < MAX_BATCH && (next = writeQueue.poll()) != null) {
+                    bytes += next.available();
+                    batch[count++] = next;
+                }
+                writeNow(count == MAX_BATCH ? batch : Arrays.copyOf(batch, count));
+                Arrays.fill(batch, 0, count, null);
+                capacity.release(count);
+                batches++;
+                batchBytes += bytes;
+                written += count;
+                signalFlushed();
+            }
+            cdl.countDown();
+        } catch (Throwable e) {
+            this.caught = e;
+            this.run = false;
+        }
+        // release writers waiting for capacity or flush, they fail as the writer is not running
+        capacity.release(writeQueueLength);
+        signalFlushed();
+    }
+
+    // nothing to write, or corked and the queue is not full and nobody waits for a flush
+    private boolean mustWait() {
+        return writeQueue.isEmpty()
+                || (corks.get() > 0 && capacity.availablePermits() > 0 && flushWaiters.get() == 0);
+    }
+
+    private void wakeUpWriter() {
+        Thread writerThread = thread;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void signalFlushed() {
+        if (flushWaiters.get() > 0) {
+            flushLock.lock();
+            try {
+                flushed.signalAll();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    private void checkRunning() {
+        if (started.compareAndSet(false, true)) {
+            // start writer on first asynchronous write
+            executor.submit(this::run);
+        }
+        if (!run) {
+            throw new SocketWriterException(caught);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.socket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SocketWriterBatchingTest {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TestSocket socket = new TestSocket();
+    private final SocketWriterBatching writer = new SocketWriterBatching(executor, socket, 32);
+
+    @AfterEach
+    void close() {
+        writer.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testBuffersQueuedDuringWriteAreBatched() throws InterruptedException {
+        socket.block();
+        writer.write(data("a"));
+        // the writer thread is now blocked writing the first buffer
+        socket.awaitBlocked();
+        writer.write(data("b"));
+        writer.write(data("c"));
+        writer.write(data("d"));
+        assertThat(writer.queueDepth(), is(4));
+
+        socket.release();
+        writer.flush();
+
+        assertThat(socket.content(), is("abcd"));
+        assertThat(socket.writes(), is(2));
+        assertThat(writer.batches(), is(2L));
+        assertThat(writer.batchBytes(), is(4L));
+        assertThat(writer.queueDepth(), is(0));
+    }
+
+    @Test
+    void testCorkedWritesAreCombined() {
+        writer.cork();
+        writer.write(data("a"));
+        writer.write(data("b"));
+        writer.write(data("c"));
+        writer.uncork();
+        writer.flush();
+
+        assertThat(socket.content(), is("abc"));
+        assertThat(writer.batches(), is(1L));
+    }
+
+    @Test
+    void testFlushWritesCorkedData() {
+        writer.cork();
+        writer.write(data("a"));
+        writer.flush();
+
+        assertThat(socket.content(), is("a"));
+        writer.uncork();
+    }
+
+    @Test
+    void testBuffersReleasedWhenWriteFails() {
+        BufferPool pool = BufferPool.create(4);
+        BufferData first = pool.acquire(16);
+        BufferData second = pool.acquire(16);
+        writer.close();
+
+        assertThrows(SocketWriterException.class, () -> writer.write(first, second));
+        // both buffers were returned to the pool
+        assertThrows(IllegalStateException.class, first::retain);
+        assertThrows(IllegalStateException.class, second::retain);
+    }
+
+    private static BufferData data(String data) {
+        return BufferData.create(data);
+    }
+
+    private static class TestSocket implements HelidonSocket {
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final AtomicInteger writes = new AtomicInteger();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+
+        @Override
+        public void write(BufferData buffer) {
+            write(new BufferData[] {buffer});
+        }
+
+        @Override
+        public void write(BufferData... buffers) {
+            CountDownLatch currentGate = gate;
+            if (currentGate != null) {
+                blocked.countDown();
+                try {
+                    currentGate.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            writes.incrementAndGet();
+            synchronized (content) {
+                for (BufferData buffer : buffers) {
+                    content.writeBytes(buffer.readBytes());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void idle() {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public int read(BufferData buffer) {
+            return 0;
+        }
+
+        @Override
+        public byte[] get() {
+            return null;
+        }
+
+        @Override
+        public PeerInfo remotePeer() {
+            return null;
+        }
+
+        @Override
+        public PeerInfo localPeer() {
+            return null;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String socketId() {
+            return "test";
+        }
+
+        @Override
+        public String childSocketId() {
+            return "child";
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            blocked.await(10, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            CountDownLatch currentGate = gate;
+            gate = null;
+            currentGate.countDown();
+        }
+
+        int writes() {
+            return writes.get();
+        }
+
+        String content() {
+            synchronized (content) {
+                return content.toString(StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.core;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import io.grpc.Codec;
+import io.grpc.Compressor;
+import io.grpc.CompressorRegistry;
+import io.grpc.Decompressor;
+import io.grpc.DecompressorRegistry;
+
+/**
+ * Message compressors and decompressors for gRPC server and client.
+ * <p>
+ * The {@code gzip} and {@code deflate} encodings reuse pooled {@link java.util.zip.Deflater} and
+ * {@link java.util.zip.Inflater} instances. Other encodings are looked up in the default gRPC registries, so custom
+ * codecs registered there can still be used.
+ */
+public final class GrpcCompression {
+    /**
+     * Encoding of uncompressed messages.
+     */
+    public static final String IDENTITY = "identity";
+
+    private static final PooledCodec GZIP = PooledCodec.gzip();
+    private static final PooledCodec DEFLATE = PooledCodec.deflate();
+
+    private GrpcCompression() {
+    }
+
+    /**
+     * Compressor for an encoding.
+     *
+     * @param encoding message encoding, such as {@code gzip}
+     * @return compressor, or {@code null} if the encoding is not supported
+     */
+    public static Compressor compressor(String encoding) {
+        return switch (encoding) {
+            case "gzip" -> GZIP;
+            case "deflate" -> DEFLATE;
+            case IDENTITY -> Codec.Identity.NONE;
+            default -> CompressorRegistry.getDefaultInstance().lookupCompressor(encoding);
+        };
+    }
+
+    /**
+     * Decompressor for an encoding.
+     *
+     * @param encoding message encoding, such as {@code gzip}
+     * @return decompressor, or {@code null} if the encoding is not supported
+     */
+    public static Decompressor decompressor(String encoding) {
+        return switch (encoding) {
+            case "gzip" -> GZIP;
+            case "deflate" -> DEFLATE;
+            case IDENTITY -> Codec.Identity.NONE;
+            default -> DecompressorRegistry.getDefaultInstance().lookupDecompressor(encoding);
+        };
+    }
+
+    /**
+     * Encodings of messages that can be decompressed, to be advertised using {@code grpc-accept-encoding}.
+     *
+     * @return supported message encodings
+     */
+    public static Set<String> decompressorEncodings() {
+        Set<String> encodings = new LinkedHashSet<>();
+        encodings.add(GZIP.getMessageEncoding());
+        encodings.add(DEFLATE.getMessageEncoding());
+        encodings.addAll(DecompressorRegistry.getDefaultInstance().getAdvertisedMessageEncodings());
+        return encodings;
+    }
+}
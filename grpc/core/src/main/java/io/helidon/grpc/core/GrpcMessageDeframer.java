@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.core;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+
+import io.helidon.common.buffers.BufferData;
+
+import io.grpc.KnownLength;
+
+/**
+ * Reads length prefixed gRPC messages from the data of HTTP/2 DATA frames.
+ * <p>
+ * The received buffers are kept as they are, and each message is read directly from them without first copying it
+ * into a single array, so a message may span more than one frame, and a frame may contain more than one message.
+ * Message streams implement {@link io.grpc.KnownLength}, so marshallers (such as the protobuf marshaller) can size
+ * their buffers exactly.
+ * <p>
+ * A message returned by {@link #next()} is only valid until the next call to {@link #next()}, any unread bytes of it
+ * are skipped. This class is not thread safe.
+ */
+public final class GrpcMessageDeframer {
+    private final ArrayDeque<BufferData> buffers = new ArrayDeque<>();
+    private long available;
+    private long messageLength = -1;
+    private boolean compressed;
+    private MessageInputStream current;
+
+    /**
+     * Create a new deframer for a single gRPC stream.
+     */
+    public GrpcMessageDeframer() {
+    }
+
+    /**
+     * Add data of a received DATA frame. The buffer must not be modified by the caller afterward.
+     *
+     * @param data frame data
+     */
+    public void add(BufferData data) {
+        int length = data.available();
+        if (length > 0) {
+            buffers.add(data);
+            available += length;
+        }
+    }
+
+    /**
+     * Next complete message, if all of its bytes were received.
+     *
+     * @return stream of the message bytes (decompression is up to the caller, see {@link #compressed()}),
+     *         or {@code null} if more data is needed
+     * @throws java.lang.IllegalStateException in case the data is not a valid gRPC message prefix
+     */
+    public MessageInputStream next() {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        if (messageLength < 0) {
+            if (available < GrpcMessageFramer.PREFIX_LENGTH) {
+                return null;
+            }
+            int flag = readByte();
+            if (flag > 1) {
+                throw new IllegalStateException("Invalid gRPC message compression flag: " + flag);
+            }
+            compressed = flag == 1;
+            long length = ((long) readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalStateException("gRPC message is too large: " + length);
+            }
+            messageLength = length;
+        }
+        if (available < messageLength) {
+            return null;
+        }
+        current = new MessageInputStream((int) messageLength);
+        messageLength = -1;
+        return current;
+    }
+
+    /**
+     * Whether the message last returned from {@link #next()} is compressed.
+     *
+     * @return whether the message is compressed
+     */
+    public boolean compressed() {
+        return compressed;
+    }
+
+    /**
+     * Number of received bytes not yet read, including bytes of incomplete messages.
+     *
+     * @return number of buffered bytes
+     */
+    public long buffered() {
+        return available;
+    }
+
+    private int readByte() {
+        BufferData head = buffers.getFirst();
+        int result = head.read();
+        consumed(head, 1);
+        return result;
+    }
+
+    private void consumed(BufferData head, int length) {
+        available -= length;
+        if (head.available() == 0) {
+            buffers.removeFirst();
+        }
+    }
+
+    /**
+     * Stream of a single received message. Its {@link #available()} is the number of unread bytes of the message,
+     * and never throws.
+     */
+    public final class MessageInputStream extends InputStream implements KnownLength {
+        private int remaining;
+
+        private MessageInputStream(int length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return readByte();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            int toRead = Math.min(len, remaining);
+            int position = off;
+            while (toRead > 0) {
+                BufferData head = buffers.getFirst();
+                int read = head.read(b, position, Math.min(toRead, head.available()));
+                consumed(head, read);
+                position += read;
+                toRead -= read;
+            }
+            int read = position - off;
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            long toSkip = Math.min(n, remaining);
+            long skipped = 0;
+            while (skipped < toSkip) {
+                BufferData head = buffers.getFirst();
+                int length = (int) Math.min(toSkip - skipped, head.available());
+                head.skip(length);
+                consumed(head, length);
+                skipped += length;
+            }
+            remaining -= (int) skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return remaining;
+        }
+
+        @Override
+        public void close() {
+            skip(remaining);
+        }
+    }
+}
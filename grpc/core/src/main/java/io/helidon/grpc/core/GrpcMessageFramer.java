@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import io.helidon.common.buffers.BufferData;
+
+import io.grpc.Codec;
+import io.grpc.Compressor;
+import io.grpc.KnownLength;
+
+/**
+ * Writes length prefixed gRPC messages, to be sent as data of HTTP/2 DATA frames.
+ * <p>
+ * Messages provided as a stream with a known length (such as protobuf messages) are written directly into the frame
+ * buffer, without an intermediate array.
+ */
+public final class GrpcMessageFramer {
+    /**
+     * Length of the prefix of each message, a compression flag and a 4 byte length.
+     */
+    public static final int PREFIX_LENGTH = 5;
+
+    private static final int DEFAULT_BUFFER_SIZE = 512;
+
+    private GrpcMessageFramer() {
+    }
+
+    /**
+     * Frame a message.
+     *
+     * @param message    message bytes, as provided by a {@link io.grpc.MethodDescriptor.Marshaller}; the stream is
+     *                   not closed by this method
+     * @param compressor compressor to use, {@code null} or identity for uncompressed messages
+     * @return framed message
+     */
+    public static BufferData frame(InputStream message, Compressor compressor) {
+        return frame(message, compressor, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Frame a message.
+     *
+     * @param message           message bytes, as provided by a {@link io.grpc.MethodDescriptor.Marshaller}; the stream
+     *                          is not closed by this method
+     * @param compressor        compressor to use, {@code null} or identity for uncompressed messages
+     * @param initialBufferSize initial size of the buffer for messages of unknown length, or compressed messages
+     * @return framed message
+     */
+    public static BufferData frame(InputStream message, Compressor compressor, int initialBufferSize) {
+        try {
+            if (compressor == null || compressor instanceof Codec.Identity) {
+                if (message instanceof KnownLength) {
+                    return frameKnownLength(message, message.available());
+                }
+                ExposedOutputStream out = new ExposedOutputStream(initialBufferSize);
+                message.transferTo(out);
+                return out.frame(false);
+            }
+            ExposedOutputStream out = new ExposedOutputStream(initialBufferSize);
+            try (OutputStream compressed = compressor.compress(out)) {
+                message.transferTo(compressed);
+            }
+            return out.frame(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferData frameKnownLength(InputStream message, int length) {
+        BufferData frame = BufferData.create(PREFIX_LENGTH + length);
+        frame.write(0);
+        frame.writeUnsignedInt32(length);
+        // reads directly into the frame buffer, protobuf streams serialize the message directly into it
+        while (frame.capacity() > 0) {
+            if (frame.readFrom(message) == -1) {
+                throw new IllegalStateException("Message stream ended before its declared length of " + length);
+            }
+        }
+        return frame;
+    }
+
+    private static BufferData prefix(boolean compressed, int length) {
+        BufferData prefix = BufferData.create(PREFIX_LENGTH);
+        prefix.write(compressed ? 1 : 0);
+        prefix.writeUnsignedInt32(length);
+        return prefix;
+    }
+
+    // provides access to the written bytes without copying them
+    private static final class ExposedOutputStream extends ByteArrayOutputStream {
+        private ExposedOutputStream(int size) {
+            super(size);
+        }
+
+        private BufferData frame(boolean compressed) {
+            return BufferData.create(prefix(compressed, count), BufferData.createReadOnly(buf, 0, count));
+        }
+    }
+}
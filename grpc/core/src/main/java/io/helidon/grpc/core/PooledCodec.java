@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import io.grpc.Codec;
+
+/**
+ * {@code gzip} or {@code deflate} codec that reuses {@link java.util.zip.Deflater} and {@link java.util.zip.Inflater}
+ * instances, as these allocate native memory that is expensive to create for each message.
+ * <p>
+ * The {@code gzip} format is written and read around raw deflate data, as {@link java.util.zip.GZIPOutputStream} and
+ * {@link java.util.zip.GZIPInputStream} do not accept a provided deflater or inflater.
+ */
+final class PooledCodec implements Codec {
+    private static final int POOL_SIZE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    private static final int BUFFER_SIZE = 512;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    // magic, deflate method, no flags, no modification time, no extra flags, unknown OS
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final ArrayBlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final ArrayBlockingQueue<Inflater> inflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final String encoding;
+    private final boolean gzip;
+
+    private PooledCodec(String encoding, boolean gzip) {
+        this.encoding = encoding;
+        this.gzip = gzip;
+    }
+
+    static PooledCodec gzip() {
+        return new PooledCodec("gzip", true);
+    }
+
+    static PooledCodec deflate() {
+        return new PooledCodec("deflate", false);
+    }
+
+    @Override
+    public String getMessageEncoding() {
+        return encoding;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream os) throws IOException {
+        if (gzip) {
+            os.write(GZIP_HEADER);
+        }
+        return new PooledDeflaterOutputStream(os, deflater());
+    }
+
+    @Override
+    public InputStream decompress(InputStream is) throws IOException {
+        if (gzip) {
+            readHeader(is);
+        }
+        return new PooledInflaterInputStream(is, inflater());
+    }
+
+    /**
+     * Number of deflaters and inflaters available for reuse.
+     *
+     * @return number of pooled instances
+     */
+    int pooled() {
+        return deflaters.size() + inflaters.size();
+    }
+
+    private Deflater deflater() {
+        Deflater deflater = deflaters.poll();
+        // gzip uses raw deflate data, deflate uses the zlib format
+        return deflater == null ? new Deflater(Deflater.DEFAULT_COMPRESSION, gzip) : deflater;
+    }
+
+    private Inflater inflater() {
+        Inflater inflater = inflaters.poll();
+        return inflater == null ? new Inflater(gzip) : inflater;
+    }
+
+    private void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private void release(Inflater inflater) {
+        inflater.reset();
+        if (!inflaters.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    private static void readHeader(InputStream is) throws IOException {
+        if (readUnsignedShort(is) != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (readUnsignedByte(is) != Deflater.DEFLATED) {
+            throw new ZipException("Unsupported GZIP compression method");
+        }
+        int flags = readUnsignedByte(is);
+        // modification time, extra flags and operating system
+        is.skipNBytes(6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            is.skipNBytes(readUnsignedShort(is));
+        }
+        if ((flags & FNAME) == FNAME) {
+            skipString(is);
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            skipString(is);
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            is.skipNBytes(2);
+        }
+    }
+
+    private static void skipString(InputStream is) throws IOException {
+        while (readUnsignedByte(is) != 0) {
+            // skip zero terminated string
+        }
+    }
+
+    private static long readUnsignedInt(InputStream is) throws IOException {
+        return ((long) readUnsignedShort(is)) | ((long) readUnsignedShort(is) << 16);
+    }
+
+    private static int readUnsignedShort(InputStream is) throws IOException {
+        return readUnsignedByte(is) | (readUnsignedByte(is) << 8);
+    }
+
+    private static int readUnsignedByte(InputStream is) throws IOException {
+        int b = is.read();
+        if (b == -1) {
+            throw new ZipException("Unexpected end of GZIP data");
+        }
+        return b;
+    }
+
+    private final class PooledDeflaterOutputStream extends DeflaterOutputStream {
+        private final CRC32 crc = gzip ? new CRC32() : null;
+        private boolean closed;
+
+        private PooledDeflaterOutputStream(OutputStream out, Deflater deflater) {
+            super(out, deflater, BUFFER_SIZE);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            if (crc != null) {
+                crc.update(b, off, len);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                finish();
+                if (crc != null) {
+                    writeInt((int) crc.getValue());
+                    writeInt((int) def.getBytesRead());
+                }
+                out.close();
+            } finally {
+                release(def);
+            }
+        }
+
+        private void writeInt(int value) throws IOException {
+            out.write(value & 0xff);
+            out.write((value >> 8) & 0xff);
+            out.write((value >> 16) & 0xff);
+            out.write((value >> 24) & 0xff);
+        }
+    }
+
+    private final class PooledInflaterInputStream extends InflaterInputStream {
+        private final CRC32 crc = gzip ? new CRC32() : null;
+        private boolean released;
+        private boolean eof;
+
+        private PooledInflaterInputStream(InputStream in, Inflater inflater) {
+            super(in, inflater, BUFFER_SIZE);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (eof) {
+                return -1;
+            }
+            int read = super.read(b, off, len);
+            if (read == -1) {
+                eof = true;
+                try {
+                    if (crc != null) {
+                        readTrailer();
+                    }
+                } finally {
+                    releaseInflater();
+                }
+            } else if (crc != null) {
+                crc.update(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return eof ? 0 : super.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            releaseInflater();
+            super.close();
+        }
+
+        private void readTrailer() throws IOException {
+            int remaining = inf.getRemaining();
+            // the trailer may have already been read into the input buffer
+            InputStream trailer = remaining > 0
+                    ? new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), in)
+                    : in;
+            if (readUnsignedInt(trailer) != crc.getValue()
+                    || readUnsignedInt(trailer) != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+        }
+
+        private void releaseInflater() {
+            if (!released) {
+                released = true;
+                release(inf);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ module io.helidon.grpc.core {
     requires io.helidon.common.context;
     requires io.helidon.tracing;
 
+    requires transitive io.helidon.common.buffers;
     requires transitive io.grpc;
     requires transitive io.grpc.stub;
     requires transitive com.google.protobuf;
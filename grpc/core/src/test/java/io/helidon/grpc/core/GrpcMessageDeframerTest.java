@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.common.buffers.BufferData;
+
+import io.grpc.KnownLength;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * {@link GrpcMessageDeframer} unit tests
+ */
+class GrpcMessageDeframerTest {
+    @Test
+    void testMessagesInSingleFrame() throws IOException {
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer();
+        deframer.add(BufferData.create(frame("first"), frame("second")));
+
+        InputStream first = deframer.next();
+        assertThat(first, instanceOf(KnownLength.class));
+        assertThat(first.available(), is(5));
+        assertThat(new String(first.readAllBytes(), StandardCharsets.UTF_8), is("first"));
+        assertThat(new String(deframer.next().readAllBytes(), StandardCharsets.UTF_8), is("second"));
+        assertThat(deframer.next(), nullValue());
+        assertThat(deframer.buffered(), is(0L));
+    }
+
+    @Test
+    void testMessageSpanningFrames() throws IOException {
+        byte[] framed = frame("a message split into frames").readBytes();
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer();
+
+        // split inside the prefix, and inside the message
+        deframer.add(BufferData.create(framed, 0, 3));
+        assertThat(deframer.next(), nullValue());
+        deframer.add(BufferData.create(framed, 3, 10));
+        assertThat(deframer.next(), nullValue());
+        deframer.add(BufferData.create(framed, 13, framed.length - 13));
+
+        InputStream message = deframer.next();
+        assertThat(deframer.compressed(), is(false));
+        assertThat(new String(message.readAllBytes(), StandardCharsets.UTF_8), is("a message split into frames"));
+    }
+
+    @Test
+    void testUnreadMessageIsSkipped() throws IOException {
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer();
+        deframer.add(frame("skipped"));
+        deframer.add(frame("read"));
+
+        assertThat(deframer.next().read(), is((int) 's'));
+        assertThat(new String(deframer.next().readAllBytes(), StandardCharsets.UTF_8), is("read"));
+    }
+
+    @Test
+    void testEmptyAndCompressedMessages() throws IOException {
+        BufferData compressed = BufferData.create(6);
+        compressed.write(1);
+        compressed.writeUnsignedInt32(1);
+        compressed.write(42);
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer();
+        deframer.add(frame(""));
+        deframer.add(compressed);
+
+        assertThat(deframer.next().read(), is(-1));
+        InputStream message = deframer.next();
+        assertThat(deframer.compressed(), is(true));
+        assertThat(message.read(), is(42));
+    }
+
+    private static BufferData frame(String message) {
+        return GrpcMessageFramer.frame(new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
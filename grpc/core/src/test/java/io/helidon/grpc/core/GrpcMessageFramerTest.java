@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.common.buffers.BufferData;
+
+import io.grpc.Compressor;
+import io.grpc.KnownLength;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * {@link GrpcMessageFramer} unit tests
+ */
+class GrpcMessageFramerTest {
+    private static final byte[] MESSAGE = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testKnownLength() {
+        BufferData frame = GrpcMessageFramer.frame(new KnownLengthStream(MESSAGE), null);
+
+        assertThat(frame.read(), is(0));
+        assertThat(frame.readUnsignedInt32(), is((long) MESSAGE.length));
+        assertThat(frame.readBytes(), is(MESSAGE));
+    }
+
+    @Test
+    void testUnknownLength() {
+        BufferData frame = GrpcMessageFramer.frame(new ByteArrayInputStream(MESSAGE), null, 4);
+
+        assertThat(frame.read(), is(0));
+        assertThat(frame.readUnsignedInt32(), is((long) MESSAGE.length));
+        assertThat(frame.readBytes(), is(MESSAGE));
+    }
+
+    @Test
+    void testCompressed() throws IOException {
+        BufferData frame = GrpcMessageFramer.frame(new KnownLengthStream(MESSAGE), new GzipCompressor());
+
+        assertThat(frame.read(), is(1));
+        long length = frame.readUnsignedInt32();
+        byte[] compressed = frame.readBytes();
+        assertThat((long) compressed.length, is(length));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes(), is(MESSAGE));
+        }
+    }
+
+    private static final class KnownLengthStream extends ByteArrayInputStream implements KnownLength {
+        private KnownLengthStream(byte[] bytes) {
+            super(bytes);
+        }
+    }
+
+    private static final class GzipCompressor implements Compressor {
+        @Override
+        public String getMessageEncoding() {
+            return "gzip";
+        }
+
+        @Override
+        public OutputStream compress(OutputStream os) throws IOException {
+            return new GZIPOutputStream(os);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link PooledCodec} unit tests
+ */
+class PooledCodecTest {
+    private static final byte[] MESSAGE = "Hello World, Hello World, Hello World".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testGzipCompatibleWithJdk() throws IOException {
+        PooledCodec codec = PooledCodec.gzip();
+
+        byte[] compressed = compress(codec, MESSAGE);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes(), is(MESSAGE));
+        }
+
+        ByteArrayOutputStream jdk = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(jdk)) {
+            out.write(MESSAGE);
+        }
+        assertThat(decompress(codec, jdk.toByteArray()), is(MESSAGE));
+    }
+
+    @Test
+    void testDeflateCompatibleWithJdk() throws IOException {
+        PooledCodec codec = PooledCodec.deflate();
+
+        byte[] compressed = compress(codec, MESSAGE);
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes(), is(MESSAGE));
+        }
+
+        ByteArrayOutputStream jdk = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(jdk)) {
+            out.write(MESSAGE);
+        }
+        assertThat(decompress(codec, jdk.toByteArray()), is(MESSAGE));
+    }
+
+    @Test
+    void testInstancesReused() throws IOException {
+        PooledCodec codec = PooledCodec.gzip();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(decompress(codec, compress(codec, MESSAGE)), is(MESSAGE));
+        }
+        // one deflater and one inflater
+        assertThat(codec.pooled(), is(2));
+    }
+
+    @Test
+    void testCorruptGzipTrailer() throws IOException {
+        PooledCodec codec = PooledCodec.gzip();
+
+        byte[] compressed = compress(codec, MESSAGE);
+        compressed[compressed.length - 1]++;
+        assertThrows(ZipException.class, () -> decompress(codec, compressed));
+        assertThat(codec.pooled(), is(2));
+    }
+
+    private static byte[] compress(PooledCodec codec, byte[] data) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputStream out = codec.compress(result)) {
+            out.write(data);
+        }
+        return result.toByteArray();
+    }
+
+    private static byte[] decompress(PooledCodec codec, byte[] data) throws IOException {
+        try (InputStream in = codec.decompress(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
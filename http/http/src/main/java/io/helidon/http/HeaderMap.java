@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http;
+
+import java.util.Arrays;
+
+/**
+ * A map of custom (not known) header names to headers, optimized for a small number of headers.
+ * <p>
+ * Headers are kept in arrays in insertion order, and found through an open addressing table (with linear probing)
+ * of indices into these arrays, so a lookup does not allocate. Removal is expected to be rare, and rebuilds the table.
+ */
+class HeaderMap {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private HeaderName[] names = new HeaderName[INITIAL_CAPACITY];
+    private Header[] headers = new Header[INITIAL_CAPACITY];
+    // index of a header + 1, 0 for an empty slot; always at least twice as large as the capacity
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size;
+
+    /**
+     * Get a header.
+     *
+     * @param name header name
+     * @return header, or {@code null} if not present
+     */
+    Header get(HeaderName name) {
+        int index = indexOf(name);
+        return index == -1 ? null : headers[index];
+    }
+
+    /**
+     * Set a header, replacing an existing header with the same name.
+     *
+     * @param name   header name
+     * @param header header
+     */
+    void put(HeaderName name, Header header) {
+        int index = indexOf(name);
+        if (index != -1) {
+            headers[index] = header;
+            return;
+        }
+        if (size == names.length) {
+            grow();
+        }
+        names[size] = name;
+        headers[size] = header;
+        size++;
+        addSlot(name, size);
+    }
+
+    /**
+     * Remove a header.
+     *
+     * @param name header name
+     * @return removed header, or {@code null} if not present
+     */
+    Header remove(HeaderName name) {
+        int index = indexOf(name);
+        if (index == -1) {
+            return null;
+        }
+        Header removed = headers[index];
+        int toMove = size - index - 1;
+        System.arraycopy(names, index + 1, names, index, toMove);
+        System.arraycopy(headers, index + 1, headers, index, toMove);
+        size--;
+        names[size] = null;
+        headers[size] = null;
+        rebuildSlots();
+        return removed;
+    }
+
+    /**
+     * Remove all headers.
+     */
+    void clear() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(headers, 0, size, null);
+        Arrays.fill(slots, 0);
+        size = 0;
+    }
+
+    /**
+     * Number of headers.
+     *
+     * @return size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Header at an index, in insertion order.
+     *
+     * @param index index, must be lower than {@link #size()}
+     * @return header
+     */
+    Header header(int index) {
+        return headers[index];
+    }
+
+    private int indexOf(HeaderName name) {
+        int mask = slots.length - 1;
+        for (int slot = slot(name, mask); ; slot = (slot + 1) & mask) {
+            int value = slots[slot];
+            if (value == 0) {
+                return -1;
+            }
+            if (names[value - 1].equals(name)) {
+                return value - 1;
+            }
+        }
+    }
+
+    private void addSlot(HeaderName name, int value) {
+        int mask = slots.length - 1;
+        int slot = slot(name, mask);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+    }
+
+    private void grow() {
+        int capacity = names.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        headers = Arrays.copyOf(headers, capacity);
+        slots = new int[capacity * 2];
+        rebuildSlots();
+    }
+
+    private void rebuildSlots() {
+        Arrays.fill(slots, 0);
+        for (int i = 0; i < size; i++) {
+            addSlot(names[i], i + 1);
+        }
+    }
+
+    private static int slot(HeaderName name, int mask) {
+        int hash = name.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,6 @@
 
 package io.helidon.http;
 
-import java.util.Objects;
-
 record HeaderNameImpl(String lowerCase, String defaultCase) implements HeaderName {
 
     @Override
@@ -39,6 +37,7 @@ record HeaderNameImpl(String lowerCase, String defaultCase) implements HeaderNam
 
     @Override
     public int hashCode() {
-        return Objects.hash(lowerCase);
+        // not using Objects.hash, as it allocates an array on each call
+        return lowerCase.hashCode();
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http;
+
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.common.buffers.DataReader;
+
+/*
+ * Do not add random values here. Each received header with a name used in this enum is compared with its values,
+ * so only values that are very common (and short) should be added.
+ */
+
+/**
+ * Frequently received values of known headers. Parsers use the cached headers of this enum instead of creating
+ * a new header for each request.
+ */
+enum HeaderValueEnum {
+    ACCEPT_ALL(HeaderNameEnum.ACCEPT, "*/*"),
+    ACCEPT_JSON(HeaderValues.ACCEPT_JSON),
+    ACCEPT_EVENT_STREAM(HeaderValues.ACCEPT_EVENT_STREAM),
+    ACCEPT_ENCODING_GZIP(HeaderNameEnum.ACCEPT_ENCODING, "gzip"),
+    ACCEPT_ENCODING_IDENTITY(HeaderNameEnum.ACCEPT_ENCODING, "identity"),
+    ACCEPT_ENCODING_GZIP_DEFLATE(HeaderNameEnum.ACCEPT_ENCODING, "gzip, deflate"),
+    ACCEPT_ENCODING_GZIP_DEFLATE_BR(HeaderNameEnum.ACCEPT_ENCODING, "gzip, deflate, br"),
+    ACCEPT_ENCODING_GZIP_DEFLATE_BR_ZSTD(HeaderNameEnum.ACCEPT_ENCODING, "gzip, deflate, br, zstd"),
+    CACHE_CONTROL_NO_CACHE(HeaderNameEnum.CACHE_CONTROL, "no-cache"),
+    CACHE_CONTROL_MAX_AGE_ZERO(HeaderNameEnum.CACHE_CONTROL, "max-age=0"),
+    CONNECTION_KEEP_ALIVE(HeaderValues.CONNECTION_KEEP_ALIVE),
+    CONNECTION_CLOSE(HeaderValues.CONNECTION_CLOSE),
+    CONNECTION_UPGRADE(HeaderNameEnum.CONNECTION, "Upgrade"),
+    CONNECTION_UPGRADE_HTTP2_SETTINGS(HeaderNameEnum.CONNECTION, "Upgrade, HTTP2-Settings"),
+    CONTENT_LENGTH_ZERO(HeaderValues.CONTENT_LENGTH_ZERO),
+    CONTENT_TYPE_JSON(HeaderValues.CONTENT_TYPE_JSON),
+    CONTENT_TYPE_JSON_UTF_8(HeaderNameEnum.CONTENT_TYPE, "application/json; charset=UTF-8"),
+    CONTENT_TYPE_TEXT_PLAIN(HeaderValues.CONTENT_TYPE_TEXT_PLAIN),
+    CONTENT_TYPE_TEXT_PLAIN_UTF_8(HeaderNameEnum.CONTENT_TYPE, "text/plain; charset=UTF-8"),
+    CONTENT_TYPE_FORM(HeaderNameEnum.CONTENT_TYPE, "application/x-www-form-urlencoded"),
+    CONTENT_TYPE_OCTET_STREAM(HeaderValues.CONTENT_TYPE_OCTET_STREAM),
+    CONTENT_TYPE_EVENT_STREAM(HeaderValues.CONTENT_TYPE_EVENT_STREAM),
+    EXPECT_100(HeaderValues.EXPECT_100),
+    PRAGMA_NO_CACHE(HeaderNameEnum.PRAGMA, "no-cache"),
+    TE_TRAILERS(HeaderValues.TE_TRAILERS),
+    TRANSFER_ENCODING_CHUNKED(HeaderValues.TRANSFER_ENCODING_CHUNKED),
+    UPGRADE_H2C(HeaderNameEnum.UPGRADE, "h2c"),
+    UPGRADE_WEBSOCKET(HeaderNameEnum.UPGRADE, "websocket"),
+    X_CONTENT_TYPE_OPTIONS_NOSNIFF(HeaderValues.X_CONTENT_TYPE_OPTIONS_NOSNIFF);
+
+    // values of each known header name, indexed by the header name index
+    private static final HeaderValueEnum[][] BY_NAME_INDEX = new HeaderValueEnum[HeadersImpl.KNOWN_HEADER_SIZE][];
+
+    static {
+        for (HeaderValueEnum value : values()) {
+            int index = value.header.headerName().index();
+            HeaderValueEnum[] existing = BY_NAME_INDEX[index];
+            if (existing == null) {
+                BY_NAME_INDEX[index] = new HeaderValueEnum[] {value};
+            } else {
+                HeaderValueEnum[] values = new HeaderValueEnum[existing.length + 1];
+                System.arraycopy(existing, 0, values, 0, existing.length);
+                values[existing.length] = value;
+                BY_NAME_INDEX[index] = values;
+            }
+        }
+    }
+
+    private final Header header;
+    // value as received after the colon (with a single space), which is by far the most common format
+    private final byte[] received;
+
+    HeaderValueEnum(HeaderName name, String value) {
+        this(HeaderValues.createCached(name, value));
+    }
+
+    HeaderValueEnum(Header header) {
+        this.header = header;
+        this.received = (" " + header.get()).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Find a cached header for the value at the current position of the reader. If found, the reader
+     * is moved by the length of the value.
+     *
+     * @param name   header name
+     * @param reader reader positioned after the colon that follows the header name
+     * @param length number of bytes of the value (up to the new line)
+     * @return cached header, or {@code null} if this value is not cached
+     */
+    static Header find(HeaderName name, DataReader reader, int length) {
+        int index = name.index();
+        if (index == -1) {
+            return null;
+        }
+        HeaderValueEnum[] values = BY_NAME_INDEX[index];
+        if (values == null) {
+            return null;
+        }
+        for (HeaderValueEnum value : values) {
+            if (value.received.length == length && reader.startsWith(value.received)) {
+                reader.skip(length);
+                return value.header;
+            }
+        }
+        return null;
+    }
+
+    Header header() {
+        return header;
+    }
+}
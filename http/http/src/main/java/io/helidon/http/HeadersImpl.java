@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,8 @@ package io.helidon.http;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -37,7 +35,7 @@ class HeadersImpl<T extends WritableHeaders<T>> implements WritableHeaders<T> {
     private IntSet knownHeaderIndices = new IntSet(KNOWN_HEADER_SIZE);
 
     // custom (unknown) headers are slower
-    private Map<HeaderName, Header> customHeaders = null;
+    private HeaderMap customHeaders = null;
 
     HeadersImpl() {
     }
@@ -132,7 +130,7 @@ class HeadersImpl<T extends WritableHeaders<T>> implements WritableHeaders<T> {
             if (headerValue instanceof HeaderWriteable hvw) {
                 writable = hvw;
             } else {
-                writable = HeaderWriteable.create(header);
+                writable = HeaderWriteable.create(headerValue);
             }
             for (String value : header.allValues()) {
                 writable.addValue(value);
@@ -182,7 +180,9 @@ class HeadersImpl<T extends WritableHeaders<T>> implements WritableHeaders<T> {
     public T clear() {
         Arrays.fill(knownHeaders, null);
         knownHeaderIndices = new IntSet(KNOWN_HEADER_SIZE);
-        customHeaders().clear();
+        if (customHeaders != null) {
+            customHeaders.clear();
+        }
         return (T) this;
     }
 
@@ -234,7 +234,10 @@ class HeadersImpl<T extends WritableHeaders<T>> implements WritableHeaders<T> {
             knownHeaderIndices.remove(index);
             return value;
         }
-        return customHeaders().remove(name);
+        if (customHeaders == null) {
+            return null;
+        }
+        return customHeaders.remove(name);
     }
 
     private Header findOrNull(HeaderName name) {
@@ -243,23 +246,25 @@ class HeadersImpl<T extends WritableHeaders<T>> implements WritableHeaders<T> {
         if (index > -1) {
             return knownHeaders[index];
         }
-
-        return customHeaders().get(name);
+        if (customHeaders == null) {
+            return null;
+        }
+        return customHeaders.get(name);
     }
 
-    private Map<HeaderName, Header> customHeaders() {
+    private HeaderMap customHeaders() {
         if (customHeaders == null) {
-            customHeaders = new HashMap<>();
+            customHeaders = new HeaderMap();
         }
         return customHeaders;
     }
 
     private class HeaderIterator implements Iterator<Header> {
-        private final boolean noCustom = (customHeaders == null || customHeaders.isEmpty());
+        private final boolean noCustom = (customHeaders == null || customHeaders.size() == 0);
 
         private boolean inKnown = true;
         private int last = -1;
-        private Iterator<Header> customHeadersIterator;
+        private int customIndex = -1;
 
         @Override
         public boolean hasNext() {
@@ -272,10 +277,9 @@ class HeadersImpl<T extends WritableHeaders<T>> implements WritableHeaders<T> {
                 if (noCustom) {
                     return false;
                 }
-                ensureCustom();
             }
 
-            return customHeadersIterator.hasNext();
+            return customIndex + 1 < customHeaders.size();
         }
 
         @Override
@@ -283,15 +287,10 @@ class HeadersImpl<T extends WritableHeaders<T>> implements WritableHeaders<T> {
             if (last >= 0) {
                 return knownHeaders[last];
             }
-
-            ensureCustom();
-            return customHeadersIterator.next();
-        }
-
-        private void ensureCustom() {
-            if (customHeadersIterator == null) {
-                customHeadersIterator = customHeaders.values().iterator();
+            if (noCustom || customIndex + 1 >= customHeaders.size()) {
+                throw new NoSuchElementException("No more headers");
             }
+            return customHeaders.header(++customIndex);
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,15 @@ import io.helidon.common.buffers.BufferData;
  * Token is defined by the HTTP specification and must not contain a set of characters.
  */
 public final class HttpToken {
+    // characters up to 254 that are valid in a token, so we can validate each character with a single lookup
+    private static final boolean[] VALID_CHARS = new boolean[255];
+
+    static {
+        for (char aChar = 0; aChar < VALID_CHARS.length; aChar++) {
+            VALID_CHARS[aChar] = invalidCharacter(aChar) == null;
+        }
+    }
+
     private HttpToken() {
     }
 
@@ -35,41 +44,37 @@ public final class HttpToken {
      * @throws IllegalArgumentException in case the token is not valid
      */
     public static void validate(String token) throws IllegalArgumentException {
-        char[] chars = token.toCharArray();
-        for (int i = 0; i < chars.length; i++) {
-            char aChar = chars[i];
-            if (aChar > 254) {
-                throw new IllegalArgumentException("Token contains non-ASCII character at position "
-                                                           + hex(i)
-                                                           + " \n"
-                                                           + debugToken(token));
-            }
-            if (Character.isISOControl(aChar)) {
-                throw new IllegalArgumentException("Token contains control character at position "
-                                                           + hex(i)
-                                                           + "\n"
-                                                           + debugToken(token));
-            }
-            if (Character.isWhitespace(aChar)) {
-                throw new IllegalArgumentException("Token contains whitespace character at position "
+        int length = token.length();
+        for (int i = 0; i < length; i++) {
+            char aChar = token.charAt(i);
+            if (aChar >= VALID_CHARS.length || !VALID_CHARS[aChar]) {
+                throw new IllegalArgumentException("Token contains "
+                                                           + invalidCharacter(aChar)
+                                                           + " at position "
                                                            + hex(i)
                                                            + "\n"
                                                            + debugToken(token));
             }
-            switch (aChar) {
-            case '(', ')', '<', '>', '@', ',', ';', ':', '\\', '"', '/', '[', ']', '?', '=', '{', '}' -> {
-                throw new IllegalArgumentException("Token contains illegal character at position "
-                                                           + hex(i)
-                                                           + "\n"
-                                                           + debugToken(token));
-            }
-            default -> {
-                // this is a valid character
-            }
-            }
         }
     }
 
+    // description of the invalid character, or null if the character is valid
+    private static String invalidCharacter(char aChar) {
+        if (aChar > 254) {
+            return "non-ASCII character";
+        }
+        if (Character.isISOControl(aChar)) {
+            return "control character";
+        }
+        if (Character.isWhitespace(aChar)) {
+            return "whitespace character";
+        }
+        return switch (aChar) {
+            case '(', ')', '<', '>', '@', ',', ';', ':', '\\', '"', '/', '[', ']', '?', '=', '{', '}' -> "illegal character";
+            default -> null;
+        };
+    }
+
     private static String hex(int i) {
         return Integer.toHexString(i);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -69,8 +69,11 @@ class IntSet {
      * @param i value
      */
     public void add(int i) {
-        data[i / 64] |= (1L << (i % 64));
-        size++;
+        long bit = 1L << (i % 64);
+        if ((data[i / 64] & bit) == 0) {
+            data[i / 64] |= bit;
+            size++;
+        }
     }
 
     /**
@@ -79,8 +82,11 @@ class IntSet {
      * @param i value
      */
     public void remove(int i) {
-        data[i / 64] &= ~(1L << (i % 64));
-        size--;
+        long bit = 1L << (i % 64);
+        if ((data[i / 64] & bit) != 0) {
+            data[i / 64] &= ~bit;
+            size--;
+        }
     }
 
     /**
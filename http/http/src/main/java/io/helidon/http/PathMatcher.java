@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.http;
 
+import java.util.List;
 import java.util.Optional;
 
 import io.helidon.common.uri.UriPath;
@@ -52,4 +53,17 @@ public interface PathMatcher {
     default Optional<String> matchingElement() {
         return Optional.empty();
     }
+
+    /**
+     * Path segments that every path accepted by this matcher starts with (both for {@link #match(UriPath)} and
+     * {@link #prefixMatch(UriPath)}), compared against the decoded path.
+     * This is used by routing to index routes, so only routes that may accept a path are tested.
+     * <p>
+     * A matcher that cannot guarantee any leading segments must return an empty list (the default).
+     *
+     * @return leading literal segments of every accepted path, empty if unknown
+     */
+    default List<String> prefixSegments() {
+        return List.of();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 
 package io.helidon.http;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -269,6 +271,45 @@ public final class PathMatchers {
         builder.append(')');
     }
 
+    /*
+     * Segments of a literal path, if lastComplete is false, the last segment is ignored, as it may be a prefix
+     * of a longer segment. Paths that may differ between raw and decoded form, or that contain empty, "." or ".."
+     * segments (which may differ from the normalized requested path) are not indexed at all.
+     */
+    private static List<String> literalSegments(String path, boolean lastComplete) {
+        if (path.isEmpty() || path.charAt(0) != '/' || path.indexOf('%') != -1 || path.indexOf('+') != -1
+                || path.indexOf(';') != -1) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        int start = 1;
+        int slash;
+        while ((slash = path.indexOf('/', start)) != -1) {
+            String segment = path.substring(start, slash);
+            if (!isIndexableSegment(segment)) {
+                return List.of();
+            }
+            result.add(segment);
+            start = slash + 1;
+        }
+        if (lastComplete && start < path.length()) {
+            String segment = path.substring(start);
+            if (!isIndexableSegment(segment)) {
+                return List.of();
+            }
+            result.add(segment);
+        }
+        return List.copyOf(result);
+    }
+
+    private static boolean isIndexableSegment(String segment) {
+        return !segment.isEmpty() && !segment.equals(".") && !segment.equals("..");
+    }
+
+    private static boolean isPatternSpecial(char ch) {
+        return ch == '{' || ch == '[' || ch == '*' || ch == '\\' || ch == ']';
+    }
+
     private static String fixPrefix(String pathToMatch) {
         if (pathToMatch.isEmpty()) {
             return "/";
@@ -282,11 +323,13 @@ public final class PathMatchers {
     static final class ExactPathMatcher implements PathMatcher {
         private final String path;
         private final String pathWithTrailingSlash;
+        private final List<String> prefixSegments;
 
         ExactPathMatcher(String path) {
             // We work with decoded URIs
             this.path = UriEncoding.decodeUri(path);
             this.pathWithTrailingSlash = this.path + "/";
+            this.prefixSegments = literalSegments(this.path, true);
         }
 
         @Override
@@ -335,6 +378,11 @@ public final class PathMatchers {
             return Optional.of(path);
         }
 
+        @Override
+        public List<String> prefixSegments() {
+            return prefixSegments;
+        }
+
         @Override
         public String toString() {
             return "exact: " + path;
@@ -344,6 +392,7 @@ public final class PathMatchers {
     static final class PrefixPathMatcher implements PathMatcher {
         private final String prefix;
         private final String exactMatch;
+        private final List<String> prefixSegments;
 
         PrefixPathMatcher(String prefix) {
             this.prefix = prefix;
@@ -352,6 +401,8 @@ public final class PathMatchers {
             } else {
                 exactMatch = prefix;
             }
+            // "/a/b" also matches "/a/bc", only segments terminated by a slash are complete
+            this.prefixSegments = literalSegments(prefix, false);
         }
 
         @Override
@@ -410,6 +461,11 @@ public final class PathMatchers {
             return Optional.of(exactMatch + "/*");
         }
 
+        @Override
+        public List<String> prefixSegments() {
+            return prefixSegments;
+        }
+
         @Override
         public String toString() {
             return "prefix: " + prefix;
@@ -424,6 +480,7 @@ public final class PathMatchers {
         private final Pattern leftPattern;
         private final String patternString;
         private final String sourcePattern;
+        private final List<String> prefixSegments;
 
         PatternPathMatcher(String pattern, Map<String, String> paramToGroupName, String sourcePattern) {
             this.patternString = pattern;
@@ -431,6 +488,7 @@ public final class PathMatchers {
             this.leftPattern = Pattern.compile(pattern + "(?<" + RIGHT_PART_PARAM_NAME + ">/.+)?");
             this.paramToGroupName = paramToGroupName;
             this.sourcePattern = sourcePattern;
+            this.prefixSegments = patternPrefixSegments(sourcePattern);
         }
 
         @Override
@@ -466,6 +524,11 @@ public final class PathMatchers {
             return PrefixMatchResult.notAccepted();
         }
 
+        @Override
+        public List<String> prefixSegments() {
+            return prefixSegments;
+        }
+
         @Override
         public String toString() {
             return "pattern: " + patternString;
@@ -480,6 +543,21 @@ public final class PathMatchers {
             return Optional.of(sourcePattern);
         }
 
+        // literal segments before the first segment that contains a parameter, glob or optional sequence
+        private static List<String> patternPrefixSegments(String sourcePattern) {
+            int literalEnd = sourcePattern.length();
+            for (int i = 0; i < sourcePattern.length(); i++) {
+                if (isPatternSpecial(sourcePattern.charAt(i))) {
+                    literalEnd = i;
+                    break;
+                }
+            }
+            if (literalEnd == sourcePattern.length()) {
+                return literalSegments(sourcePattern, true);
+            }
+            return literalSegments(sourcePattern.substring(0, literalEnd), false);
+        }
+
         private Parameters extractParams(Matcher matcher) {
             // Old school, but slightly faster than stream.
             Map<String, String> params = new HashMap<>(paramToGroupName.size());
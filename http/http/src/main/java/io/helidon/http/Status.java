@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,16 @@ public class Status {
      * see <a href="https://www.w3.org/Protocols/rfc2616/rfc2616-sec10.html#sec10.1.2">HTTP/1.1 documentations</a>.
      */
     public static final Status SWITCHING_PROTOCOLS_101 = new Status(SWITCHING_PROTOCOLS_101_CODE, "Switching Protocols", true);
+    /**
+     * 103 Early Hints,
+     * see <a href="https://www.rfc-editor.org/rfc/rfc8297">RFC 8297 - An HTTP Status Code for Indicating Hints</a>.
+     */
+    public static final int EARLY_HINTS_103_CODE = 103;
+    /**
+     * 103 Early Hints,
+     * see <a href="https://www.rfc-editor.org/rfc/rfc8297">RFC 8297 - An HTTP Status Code for Indicating Hints</a>.
+     */
+    public static final Status EARLY_HINTS_103 = new Status(EARLY_HINTS_103_CODE, "Early Hints", true);
 
     /**
      * 200 OK, see <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec10.html#sec10.2.1">HTTP/1.1 documentation</a>.
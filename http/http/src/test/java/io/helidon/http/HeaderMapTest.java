@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class HeaderMapTest {
+    @Test
+    void testPutAndGet() {
+        HeaderMap map = new HeaderMap();
+        Header first = HeaderValues.create("X-First", "1");
+        Header second = HeaderValues.create("X-Second", "2");
+        map.put(first.headerName(), first);
+        map.put(second.headerName(), second);
+
+        assertThat(map.size(), is(2));
+        assertThat(map.get(HeaderNames.create("x-first")), sameInstance(first));
+        assertThat(map.get(HeaderNames.create("X-SECOND")), sameInstance(second));
+        assertThat(map.get(HeaderNames.create("X-Third")), nullValue());
+
+        Header replaced = HeaderValues.create("X-First", "3");
+        map.put(replaced.headerName(), replaced);
+        assertThat(map.size(), is(2));
+        assertThat(map.get(first.headerName()), sameInstance(replaced));
+        assertThat(map.header(0), sameInstance(replaced));
+    }
+
+    @Test
+    void testGrowKeepsOrder() {
+        HeaderMap map = new HeaderMap();
+        for (int i = 0; i < 100; i++) {
+            Header header = HeaderValues.create("X-Header-" + i, String.valueOf(i));
+            map.put(header.headerName(), header);
+        }
+
+        assertThat(map.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(map.header(i).get(), is(String.valueOf(i)));
+            assertThat(map.get(HeaderNames.create("x-header-" + i)).get(), is(String.valueOf(i)));
+        }
+    }
+
+    @Test
+    void testRemove() {
+        HeaderMap map = new HeaderMap();
+        for (int i = 0; i < 10; i++) {
+            Header header = HeaderValues.create("X-Header-" + i, String.valueOf(i));
+            map.put(header.headerName(), header);
+        }
+
+        assertThat(map.remove(HeaderNames.create("X-Header-3")).get(), is("3"));
+        assertThat(map.remove(HeaderNames.create("X-Header-3")), nullValue());
+        assertThat(map.remove(HeaderNames.create("X-Header-0")).get(), is("0"));
+        assertThat(map.size(), is(8));
+
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < map.size(); i++) {
+            values.add(map.header(i).get());
+        }
+        assertThat(values, is(List.of("1", "2", "4", "5", "6", "7", "8", "9")));
+        assertThat(map.get(HeaderNames.create("X-Header-9")).get(), is("9"));
+
+        map.clear();
+        assertThat(map.size(), is(0));
+        assertThat(map.get(HeaderNames.create("X-Header-9")), nullValue());
+    }
+}
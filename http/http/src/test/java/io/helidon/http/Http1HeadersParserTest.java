@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.http;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.stream.Stream;
 
 import io.helidon.common.buffers.DataReader;
@@ -29,6 +30,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -55,6 +57,34 @@ class Http1HeadersParserTest {
         testHeader(headers, "HeADer", "hv1", "hv2", "hv3");
     }
 
+    @Test
+    void testCommonValuesAreCached() {
+        DataReader reader = new DataReader(() -> (
+                "Connection: keep-alive\r\n"
+                        + "Accept-Encoding: gzip, deflate, br\r\n"
+                        + "Content-Type: application/json\r\n"
+                        + "Upgrade: h2c-custom\r\n"
+                        + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        WritableHeaders<?> headers = Http1HeadersParser.readHeaders(reader, 1024, true);
+
+        assertThat(headers.get(HeaderNames.CONNECTION), sameInstance(HeaderValues.CONNECTION_KEEP_ALIVE));
+        assertThat(headers.get(HeaderNames.CONTENT_TYPE), sameInstance(HeaderValues.CONTENT_TYPE_JSON));
+        assertThat(headers.get(HeaderNames.ACCEPT_ENCODING).values(), is("gzip, deflate, br"));
+        // same prefix as a cached value, but a different length
+        assertThat(headers.get(HeaderNames.UPGRADE).values(), is("h2c-custom"));
+    }
+
+    @Test
+    void testRepeatedCachedValues() {
+        DataReader reader = new DataReader(() -> (
+                "Cache-Control: no-cache\r\n"
+                        + "Cache-Control: max-age=0\r\n"
+                        + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        WritableHeaders<?> headers = Http1HeadersParser.readHeaders(reader, 1024, true);
+
+        assertThat(headers.get(HeaderNames.CACHE_CONTROL).allValues(), is(List.of("no-cache", "max-age=0")));
+    }
+
     @ParameterizedTest
     @MethodSource("headers")
     void testHeadersWithValidationEnabled(String headerName, String headerValue, boolean expectsValid) {
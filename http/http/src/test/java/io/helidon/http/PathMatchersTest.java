@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.http;
 
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -42,6 +43,26 @@ class PathMatchersTest {
         assertThat(actualPattern.pattern(), is("/(?<gfXdbHQlk0>\\w{2})/name"));
     }
 
+    @Test
+    void testPrefixSegments() {
+        assertThat(PathMatchers.exact("/a/b").prefixSegments(), is(List.of("a", "b")));
+        assertThat(PathMatchers.exact("/").prefixSegments(), is(List.of()));
+        assertThat(PathMatchers.create("/a/b/*").prefixSegments(), is(List.of("a", "b")));
+        // prefix "/a/b" also matches "/a/bc"
+        assertThat(PathMatchers.prefix("/a/b").prefixSegments(), is(List.of("a")));
+        assertThat(PathMatchers.pattern("/a/{id}/c").prefixSegments(), is(List.of("a")));
+        assertThat(PathMatchers.pattern("/a/b{id}").prefixSegments(), is(List.of("a")));
+        assertThat(PathMatchers.pattern("/a[/b]").prefixSegments(), is(List.of()));
+        assertThat(PathMatchers.pattern("/{id:\\w{2}}/name").prefixSegments(), is(List.of()));
+        // may differ between raw and decoded path
+        assertThat(PathMatchers.exact("/a%2525/c").prefixSegments(), is(List.of()));
+        // may differ from the normalized path
+        assertThat(PathMatchers.exact("/a//b").prefixSegments(), is(List.of()));
+        assertThat(PathMatchers.exact("/a/./b").prefixSegments(), is(List.of()));
+        assertThat(PathMatchers.create("/a/../b/*").prefixSegments(), is(List.of()));
+        assertThat(PathMatchers.any().prefixSegments(), is(List.of()));
+    }
+
     @Test
     void testNormalization() {
         assertThat("/a/./b", pathMatcherMatches("/a/b"));
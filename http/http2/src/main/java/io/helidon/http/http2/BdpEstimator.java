@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import io.helidon.common.buffers.BufferData;
+
+/**
+ * Estimates bandwidth-delay product of a connection to tune the size of inbound flow control windows.
+ * <p>
+ * When data is received and no measurement is in progress, a {@code PING} is sent, and all data received until
+ * its acknowledgement is counted. The count is the amount of data in flight during one round trip. If it is close
+ * to the current window, the window limits the throughput, and it is doubled (as long as the bandwidth grows).
+ * If it stays well below the window for several round trips, the window is shrunk, so slow peers do not need
+ * large buffers.
+ * <p>
+ * This class is not thread safe, it must be used from the thread that reads frames of the connection.
+ */
+final class BdpEstimator {
+    // 'B', 'D', 'P' followed by a sequence number, to recognize our own pings
+    private static final long PING_MARKER = 0x4244500000000000L;
+    private static final long PING_MARKER_MASK = 0xFFFFFF0000000000L;
+    // number of consecutive small samples needed to shrink the window
+    private static final int SHRINK_SAMPLES = 4;
+
+    private final int minWindowSize;
+    private final int maxWindowSize;
+    private int windowSize;
+    private boolean pingInProgress;
+    private long pingSequence;
+    private long pingPayload;
+    private long pingSent;
+    private long sample;
+    private double maxBandwidth;
+    private int smallSamples;
+    private long largestSmallSample;
+
+    BdpEstimator(int initialWindowSize, int maxWindowSize) {
+        this.minWindowSize = initialWindowSize;
+        this.maxWindowSize = Math.max(initialWindowSize, maxWindowSize);
+        this.windowSize = initialWindowSize;
+    }
+
+    /**
+     * Data was received.
+     *
+     * @param length number of bytes received
+     * @return ping to send to measure round trip time, or {@code null} if a measurement is already in progress
+     */
+    Http2Ping dataReceived(int length) {
+        sample += length;
+        if (pingInProgress) {
+            return null;
+        }
+        pingInProgress = true;
+        sample = length;
+        pingSequence = (pingSequence + 1) & ~PING_MARKER_MASK;
+        pingPayload = PING_MARKER | pingSequence;
+        pingSent = System.nanoTime();
+
+        BufferData data = BufferData.create(8);
+        data.writeInt32((int) (pingPayload >>> 32));
+        data.writeInt32((int) pingPayload);
+        return Http2Ping.create(data);
+    }
+
+    /**
+     * A ping was acknowledged.
+     *
+     * @param payload payload of the acknowledgement
+     * @return new window size, {@code -1} if the ping was not sent by this estimator, or the current window size
+     *         if it does not change
+     */
+    int pingAcknowledged(long payload) {
+        if (!pingInProgress || payload != pingPayload) {
+            return -1;
+        }
+        pingInProgress = false;
+        long rtt = Math.max(1, System.nanoTime() - pingSent);
+        double bandwidth = (double) sample / rtt;
+
+        // the window is (almost) fully used during a round trip, a larger window may increase throughput
+        if (sample * 3 >= windowSize * 2L) {
+            smallSamples = 0;
+            if (bandwidth > maxBandwidth && windowSize < maxWindowSize) {
+                maxBandwidth = bandwidth;
+                windowSize = (int) Math.min(maxWindowSize, Math.max(sample * 2, windowSize));
+            }
+            return windowSize;
+        }
+
+        if (windowSize > minWindowSize && sample * 4 < windowSize) {
+            largestSmallSample = smallSamples == 0 ? sample : Math.max(largestSmallSample, sample);
+            if (++smallSamples >= SHRINK_SAMPLES) {
+                smallSamples = 0;
+                // start measuring bandwidth again, as it is likely limited by the peer now
+                maxBandwidth = 0;
+                windowSize = (int) Math.max(minWindowSize, largestSmallSample * 2);
+            }
+        } else {
+            smallSamples = 0;
+        }
+        return windowSize;
+    }
+
+    /**
+     * Whether the payload is of a ping sent by an estimator.
+     *
+     * @param payload ping payload
+     * @return whether this is an estimator ping
+     */
+    static boolean isBdpPing(long payload) {
+        return (payload & PING_MARKER_MASK) == PING_MARKER;
+    }
+
+    int windowSize() {
+        return windowSize;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,9 @@
 package io.helidon.http.http2;
 
 import java.time.Duration;
+import java.util.Objects;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import io.helidon.common.Builder;
 
@@ -28,6 +30,7 @@ import static java.lang.System.Logger.Level.DEBUG;
  */
 public class ConnectionFlowControl {
 
+    private static final System.Logger LOGGER_INBOUND = System.getLogger(FlowControl.class.getName() + ".ifc");
     private static final System.Logger LOGGER_OUTBOUND = System.getLogger(FlowControl.class.getName() + ".ofc");
 
     private final Type type;
@@ -35,18 +38,26 @@ public class ConnectionFlowControl {
     private final Duration timeout;
     private final WindowSize.Inbound inboundConnectionWindowSize;
     private final WindowSize.Outbound outboundConnectionWindowSize;
+    private final BdpEstimator bdpEstimator;
+    private final Consumer<Http2FrameData> frameWriter;
 
     private volatile int maxFrameSize = WindowSize.DEFAULT_MAX_FRAME_SIZE;
     private volatile int initialWindowSize = WindowSize.DEFAULT_WIN_SIZE;
+    private volatile int inboundWindowSize;
 
     private ConnectionFlowControl(Type type,
                                   int initialWindowSize,
                                   int maxFrameSize,
                                   BiConsumer<Integer, Http2WindowUpdate> windowUpdateWriter,
-                                  Duration timeout) {
+                                  Duration timeout,
+                                  int maxWindowSize,
+                                  Consumer<Http2FrameData> frameWriter) {
         this.type = type;
         this.windowUpdateWriter = windowUpdateWriter;
         this.timeout = timeout;
+        this.inboundWindowSize = initialWindowSize;
+        this.frameWriter = frameWriter;
+        this.bdpEstimator = frameWriter == null ? null : new BdpEstimator(initialWindowSize, maxWindowSize);
         this.inboundConnectionWindowSize =
                 WindowSize.createInbound(type,
                                          0,
@@ -118,6 +129,70 @@ public class ConnectionFlowControl {
         return inboundConnectionWindowSize.decrementWindowSize(decrement);
     }
 
+    /**
+     * Inbound DATA frame was received, used to tune the inbound window size when auto-tuning is enabled.
+     * Must be called from the thread reading frames of the connection.
+     *
+     * @param length received DATA frame size in bytes
+     */
+    public void inboundData(int length) {
+        if (bdpEstimator == null) {
+            return;
+        }
+        Http2Ping ping = bdpEstimator.dataReceived(length);
+        if (ping != null) {
+            frameWriter.accept(ping.toFrameData());
+        }
+    }
+
+    /**
+     * Acknowledgement of a PING frame was received. Must be called from the thread reading frames of the connection.
+     *
+     * @param ping acknowledged ping
+     * @return {@code true} if this ping was sent to measure round trip time for window auto-tuning,
+     *         {@code false} if it was sent by someone else
+     */
+    public boolean pingAcknowledged(Http2Ping ping) {
+        byte[] bytes = ping.getBytes();
+        if (bytes.length != 8) {
+            return false;
+        }
+        long payload = 0;
+        for (byte b : bytes) {
+            payload = (payload << 8) | (b & 0xFF);
+        }
+        if (!BdpEstimator.isBdpPing(payload)) {
+            return false;
+        }
+        if (bdpEstimator == null) {
+            return true;
+        }
+        int newWindowSize = bdpEstimator.pingAcknowledged(payload);
+        if (newWindowSize != -1 && newWindowSize != inboundWindowSize) {
+            resizeInboundWindow(newWindowSize);
+        }
+        return true;
+    }
+
+    /**
+     * Current size of inbound flow control windows. This is the initial window size, unless auto-tuning is enabled.
+     * The same size is used both for the connection window, and for windows of new streams.
+     *
+     * @return inbound window size in bytes
+     */
+    public int inboundWindowSize() {
+        return inboundWindowSize;
+    }
+
+    /**
+     * Whether the inbound window size is tuned to bandwidth-delay product of the connection.
+     *
+     * @return whether window auto-tuning is enabled
+     */
+    public boolean windowAutoTuning() {
+        return bdpEstimator != null;
+    }
+
     /**
      * Reset MAX_FRAME_SIZE for all streams, existing and future ones.
      *
@@ -166,6 +241,20 @@ public class ConnectionFlowControl {
         return maxFrameSize;
     }
 
+    private void resizeInboundWindow(int newWindowSize) {
+        if (LOGGER_INBOUND.isLoggable(DEBUG)) {
+            LOGGER_INBOUND.log(DEBUG, String.format("%s IFC STR *: Tuned window size %d -> %d",
+                                                    type, inboundWindowSize, newWindowSize));
+        }
+        this.inboundWindowSize = newWindowSize;
+        // windows of existing streams are adjusted by the peer, new streams are created with the new size
+        Http2Settings settings = Http2Settings.builder()
+                .add(Http2Setting.INITIAL_WINDOW_SIZE, (long) newWindowSize)
+                .build();
+        frameWriter.accept(settings.toFrameData(null, 0, Http2Flag.SettingsFlags.create(0)));
+        inboundConnectionWindowSize.resize(newWindowSize);
+    }
+
     int initialWindowSize() {
         return initialWindowSize;
     }
@@ -194,11 +283,14 @@ public class ConnectionFlowControl {
     public static class ConnectionFlowControlBuilder implements Builder<ConnectionFlowControlBuilder, ConnectionFlowControl> {
 
         private static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(100);
+        private static final int DEFAULT_MAX_WINDOW_SIZE = 16 * 1024 * 1024;
         private final Type type;
         private final BiConsumer<Integer, Http2WindowUpdate> windowUpdateWriter;
         private int initialWindowSize = WindowSize.DEFAULT_WIN_SIZE;
         private int maxFrameSize = WindowSize.DEFAULT_MAX_FRAME_SIZE;
         private Duration blockTimeout = DEFAULT_TIMEOUT;
+        private int maxWindowSize = DEFAULT_MAX_WINDOW_SIZE;
+        private Consumer<Http2FrameData> frameWriter;
 
         ConnectionFlowControlBuilder(Type type, BiConsumer<Integer, Http2WindowUpdate> windowUpdateWriter) {
             this.type = type;
@@ -240,9 +332,44 @@ public class ConnectionFlowControl {
             return this;
         }
 
+        /**
+         * Enable auto-tuning of inbound window sizes. The window size is tuned to the bandwidth-delay product
+         * of the connection, measured using PING frames, between the initial window size and the maximal window size.
+         * Windows of streams are changed by sending SETTINGS frames.
+         * <p>
+         * When enabled, the connection must report received DATA frames using
+         * {@link ConnectionFlowControl#inboundData(int)}, and acknowledged PING frames using
+         * {@link ConnectionFlowControl#pingAcknowledged(Http2Ping)}.
+         *
+         * @param frameWriter method called for sending PING and SETTINGS frames
+         * @return updated builder
+         */
+        public ConnectionFlowControlBuilder windowAutoTuning(Consumer<Http2FrameData> frameWriter) {
+            this.frameWriter = Objects.requireNonNull(frameWriter, "Frame writer must not be null");
+            return this;
+        }
+
+        /**
+         * Maximal size of inbound windows when auto-tuning is enabled, defaults to 16 MiB.
+         *
+         * @param maxWindowSize maximal window size in bytes
+         * @return updated builder
+         * @see #windowAutoTuning(java.util.function.Consumer)
+         */
+        public ConnectionFlowControlBuilder maxWindowSize(int maxWindowSize) {
+            this.maxWindowSize = maxWindowSize;
+            return this;
+        }
+
         @Override
         public ConnectionFlowControl build() {
-            return new ConnectionFlowControl(type, initialWindowSize, maxFrameSize, windowUpdateWriter, blockTimeout);
+            return new ConnectionFlowControl(type,
+                                             initialWindowSize,
+                                             maxFrameSize,
+                                             windowUpdateWriter,
+                                             blockTimeout,
+                                             maxWindowSize,
+                                             frameWriter);
         }
     }
 }
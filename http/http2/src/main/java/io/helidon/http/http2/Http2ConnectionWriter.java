@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,27 +16,56 @@
 
 package io.helidon.http.http2;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.socket.SocketContext;
 
 /**
  * HTTP/2 connection writer.
+ * <p>
+ * Frames of all streams are added to a lock-free queue. The first thread that finds no other thread writing becomes
+ * the writer, and writes frames queued by all threads (its own included) using gathering writes, until the queue is empty;
+ * other threads wait until their frames are written. Frames other than {@code DATA} are written first, in the order they
+ * were added (header blocks must be written in the order they were encoded); {@code DATA} frames are written according
+ * to the {@link io.helidon.http.http2.Http2StreamPriority priority} of their stream.
  */
 public class Http2ConnectionWriter implements Http2StreamWriter {
+    // maximal number of bytes written at once, so frames of urgent streams do not wait for a huge write
+    private static final int MAX_BATCH_SIZE = 64 * 1024;
+
     private final DataWriter writer;
+    private final BufferPool bufferPool;
 
-    private final Lock streamLock = new ReentrantLock(true);
+    // used only to encode headers, as the dynamic table must be updated in the same order header blocks are written
+    private final Lock headerLock = new ReentrantLock();
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Map<Integer, Http2StreamPriority> priorities = new ConcurrentHashMap<>();
     private final SocketContext ctx;
     private final Http2FrameListener listener;
     private final Http2Headers.DynamicTable outboundDynamicTable;
     private final Http2HuffmanEncoder responseHuffman;
     private final BufferData headerBuffer = BufferData.growing(512);
 
+    // the following fields are only used by the thread that is currently draining the queue
+    private final ArrayDeque<Entry> control = new ArrayDeque<>();
+    private final PriorityQueue<Entry> data = new PriorityQueue<>(Http2ConnectionWriter::compare);
+    private final List<Entry> batch = new ArrayList<>();
+    private long sequence;
+
     /**
      * A new writer.
      *
@@ -45,9 +74,25 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
      * @param sendFrameListeners send frame listeners
      */
     public Http2ConnectionWriter(SocketContext ctx, DataWriter writer, List<Http2FrameListener> sendFrameListeners) {
+        this(ctx, writer, sendFrameListeners, BufferPool.unpooled());
+    }
+
+    /**
+     * A new writer.
+     *
+     * @param ctx                connection context
+     * @param writer             data writer
+     * @param sendFrameListeners send frame listeners
+     * @param bufferPool         pool of buffers used to copy frame payloads, the data writer releases them once written
+     */
+    public Http2ConnectionWriter(SocketContext ctx,
+                                 DataWriter writer,
+                                 List<Http2FrameListener> sendFrameListeners,
+                                 BufferPool bufferPool) {
         this.ctx = ctx;
         this.listener = Http2FrameListener.create(sendFrameListeners);
         this.writer = writer;
+        this.bufferPool = bufferPool;
 
         // initial size is based on our settings, then updated with client settings
         this.outboundDynamicTable = Http2Headers.DynamicTable.create(Http2Setting.HEADER_TABLE_SIZE.defaultValue());
@@ -56,7 +101,10 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
 
     @Override
     public void write(Http2FrameData frame) {
-        lockedWrite(frame);
+        Http2FrameHeader header = frame.header();
+        BufferData[] buffers = new BufferData[header.length() == 0 ? 1 : 2];
+        addFrame(buffers, 0, frame);
+        writeAndWait(new Entry(header.streamId(), buffers, frameSize(header), false, isEndOfStream(header)));
     }
 
     @Override
@@ -70,14 +118,13 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
     public int writeHeaders(Http2Headers headers, int streamId, Http2Flag.HeaderFlags flags, FlowControl.Outbound flowControl) {
         // this is executing in the thread of the stream
         // we must enforce parallelism of exactly 1, to make sure the dynamic table is updated
-        // and then immediately written
+        // and then the header block is queued before any other header block
 
         int maxFrameSize = flowControl.maxFrameSize();
+        Entry entry;
 
         lock();
         try {
-
-            int written = 0;
             headerBuffer.clear();
             headers.write(outboundDynamicTable, responseHuffman, headerBuffer);
 
@@ -87,53 +134,41 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
                         Http2FrameTypes.HEADERS,
                         flags,
                         streamId);
-                written += frameHeader.length();
-                written += Http2FrameHeader.LENGTH;
-
-                noLockWrite(new Http2FrameData(frameHeader, headerBuffer));
-                return written;
-            }
+                entry = headerBlock(streamId, frameHeader, new Http2FrameData(frameHeader, headerBuffer));
+            } else {
+                // Split header frame to smaller continuation frames RFC 9113 §6.10
+                BufferData[] fragments = Http2Headers.split(headerBuffer, maxFrameSize);
+                Http2FrameData[] frames = new Http2FrameData[fragments.length];
 
-            // Split header frame to smaller continuation frames RFC 9113 §6.10
-            BufferData[] fragments = Http2Headers.split(headerBuffer, maxFrameSize);
-
-            // First header fragment
-            BufferData fragment = fragments[0];
-            Http2FrameHeader frameHeader;
-            frameHeader = Http2FrameHeader.create(fragment.available(),
-                    Http2FrameTypes.HEADERS,
-                    Http2Flag.HeaderFlags.create(0),
-                    streamId);
-            written += frameHeader.length();
-            written += Http2FrameHeader.LENGTH;
-            noLockWrite(new Http2FrameData(frameHeader, fragment));
-
-            // Header continuation fragments in the middle
-            for (int i = 1; i < fragments.length; i++) {
-                fragment = fragments[i];
-                frameHeader = Http2FrameHeader.create(fragment.available(),
-                        Http2FrameTypes.CONTINUATION,
-                        Http2Flag.ContinuationFlags.create(0),
+                // First header fragment, keeps all flags except for end of headers
+                BufferData fragment = fragments[0];
+                Http2FrameHeader frameHeader = Http2FrameHeader.create(fragment.available(),
+                        Http2FrameTypes.HEADERS,
+                        Http2Flag.HeaderFlags.create(flags.value() & ~Http2Flag.END_OF_HEADERS),
                         streamId);
-                written += frameHeader.length();
-                written += Http2FrameHeader.LENGTH;
-                noLockWrite(new Http2FrameData(frameHeader, fragment));
-            }
+                Http2FrameHeader firstHeader = frameHeader;
+                frames[0] = new Http2FrameData(frameHeader, fragment);
 
-            // Last header continuation fragment
-            fragment = fragments[fragments.length - 1];
-            frameHeader = Http2FrameHeader.create(fragment.available(),
-                    Http2FrameTypes.CONTINUATION,
-                    // Last fragment needs to indicate the end of headers
-                    Http2Flag.ContinuationFlags.create(flags.value() | Http2Flag.END_OF_HEADERS),
-                    streamId);
-            written += frameHeader.length();
-            written += Http2FrameHeader.LENGTH;
-            noLockWrite(new Http2FrameData(frameHeader, fragment));
-            return written;
+                // Header continuation fragments, the last one needs to indicate the end of headers
+                for (int i = 1; i < fragments.length; i++) {
+                    fragment = fragments[i];
+                    boolean last = i == fragments.length - 1;
+                    frameHeader = Http2FrameHeader.create(fragment.available(),
+                            Http2FrameTypes.CONTINUATION,
+                            Http2Flag.ContinuationFlags.create(last ? Http2Flag.END_OF_HEADERS : 0),
+                            streamId);
+                    frames[i] = new Http2FrameData(frameHeader, fragment);
+                }
+                entry = headerBlock(streamId, firstHeader, frames);
+            }
+            // must be queued while holding the lock, so header blocks are written in the order they were encoded
+            queue.offer(entry);
         } finally {
-            streamLock.unlock();
+            headerLock.unlock();
         }
+
+        await(entry);
+        return entry.size;
     }
 
     @Override
@@ -152,6 +187,35 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         return bytesWritten;
     }
 
+    @Override
+    public void priority(int streamId, Http2StreamPriority priority) {
+        if (Http2StreamPriority.DEFAULT.equals(priority)) {
+            priorities.remove(streamId);
+        } else {
+            priorities.put(streamId, priority);
+        }
+    }
+
+    /**
+     * Forget the priority of a stream closed by the peer, such as with {@code RST_STREAM}.
+     * Streams closed by a frame written by this writer ({@code END_STREAM} flag or {@code RST_STREAM}) are forgotten
+     * automatically.
+     *
+     * @param streamId stream ID
+     */
+    public void streamClosed(int streamId) {
+        if (!priorities.isEmpty()) {
+            priorities.remove(streamId);
+        }
+    }
+
+    /**
+     * Forget priorities of all streams, once they were closed by a connection error.
+     */
+    public void streamsClosed() {
+        priorities.clear();
+    }
+
     /**
      * Update header table size.
      *
@@ -163,51 +227,197 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         try {
             outboundDynamicTable.protocolMaxTableSize(newSize);
         } finally {
-            streamLock.unlock();
+            headerLock.unlock();
         }
     }
 
-    private void lockedWrite(Http2FrameData frame) {
-        lock();
-        try {
-            noLockWrite(frame);
-        } finally {
-            streamLock.unlock();
+    private static int compare(Entry first, Entry second) {
+        if (first.urgency != second.urgency) {
+            return Integer.compare(first.urgency, second.urgency);
         }
+        if (first.incremental != second.incremental) {
+            // non-incremental streams first, as they are of no use to the peer until complete
+            return first.incremental ? 1 : -1;
+        }
+        if (first.incremental) {
+            // round-robin, each stream has at most one frame waiting to be written
+            return Long.compare(first.sequence, second.sequence);
+        }
+        // one stream after another, in order they were created
+        return Integer.compare(first.streamId, second.streamId);
+    }
+
+    private static int frameSize(Http2FrameHeader header) {
+        return Http2FrameHeader.LENGTH + header.length();
+    }
+
+    private static boolean isEndOfStream(Http2FrameHeader header) {
+        return switch (header.type()) {
+            case DATA, HEADERS -> (header.flags() & Http2Flag.END_OF_STREAM) != 0;
+            case RST_STREAM -> true;
+            default -> false;
+        };
+    }
+
+    // jUnit pkg only visible test accessor
+    int prioritizedStreams() {
+        return priorities.size();
     }
 
     private void lock() {
         try {
-            streamLock.lockInterruptibly();
+            headerLock.lockInterruptibly();
         } catch (InterruptedException e) {
             throw new IllegalStateException("Interrupted", e);
         }
     }
 
-    private void noLockWrite(Http2FrameData frame) {
+    private Entry headerBlock(int streamId, Http2FrameHeader firstHeader, Http2FrameData... frames) {
+        BufferData[] buffers = new BufferData[frames.length * 2];
+        int size = 0;
+        for (int i = 0; i < frames.length; i++) {
+            addFrame(buffers, i * 2, frames[i]);
+            size += frameSize(frames[i].header());
+        }
+        return new Entry(streamId, buffers, size, false, isEndOfStream(firstHeader));
+    }
+
+    // serialize the frame into buffers owned by this writer, as the frame data may be reused once the write method returns
+    private void addFrame(BufferData[] buffers, int index, Http2FrameData frame) {
         Http2FrameHeader frameHeader = frame.header();
         int streamId = frameHeader.streamId();
         listener.frameHeader(ctx, streamId, frameHeader);
 
         BufferData headerData = frameHeader.write();
         listener.frameHeader(ctx, streamId, headerData);
+        buffers[index] = headerData;
 
-        if (frameHeader.length() == 0) {
-            writer.writeNow(headerData);
-        } else {
-            BufferData data = frame.data().copy();
+        if (frameHeader.length() != 0) {
+            BufferData data = bufferPool.acquire(frameHeader.length());
+            data.write(frame.data());
             listener.frame(ctx, streamId, data);
-            writer.writeNow(BufferData.create(headerData, data));
+            buffers[index + 1] = data;
         }
     }
 
+    private void writeDataFrame(Http2FrameData frame) {
+        Http2FrameHeader header = frame.header();
+        BufferData[] buffers = new BufferData[header.length() == 0 ? 1 : 2];
+        addFrame(buffers, 0, frame);
+        writeAndWait(new Entry(header.streamId(), buffers, frameSize(header), true, isEndOfStream(header)));
+    }
+
+    private void writeAndWait(Entry entry) {
+        queue.offer(entry);
+        await(entry);
+    }
+
+    private void await(Entry entry) {
+        while (!entry.done) {
+            if (draining.compareAndSet(false, true)) {
+                drain();
+            } else {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    // the frame is still written, as it may be part of a header block (and it already owns its buffers)
+                    throw new IllegalStateException("Interrupted");
+                }
+            }
+        }
+        Throwable failure = entry.failure;
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+    }
+
+    private void drain() {
+        do {
+            try {
+                takeQueued();
+                while (!control.isEmpty() || !data.isEmpty()) {
+                    writeBatch();
+                    // frames queued while we were writing may be more urgent than the ones we already have
+                    takeQueued();
+                }
+            } finally {
+                draining.set(false);
+            }
+            // an entry may have been queued after we checked the queue, while its owner still saw us draining
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private void takeQueued() {
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            if (entry.data) {
+                Http2StreamPriority priority = priorities.isEmpty() ? null : priorities.get(entry.streamId);
+                if (priority == null) {
+                    priority = Http2StreamPriority.DEFAULT;
+                }
+                entry.urgency = priority.urgency();
+                entry.incremental = priority.incremental();
+                entry.sequence = sequence++;
+                data.add(entry);
+            } else {
+                control.add(entry);
+            }
+        }
+    }
+
+    private void writeBatch() {
+        int size = 0;
+        int buffers = 0;
+        while (size < MAX_BATCH_SIZE) {
+            Entry entry = control.poll();
+            if (entry == null) {
+                entry = data.poll();
+                if (entry == null) {
+                    break;
+                }
+            }
+            batch.add(entry);
+            size += entry.size;
+            buffers += entry.buffers.length;
+        }
+
+        Throwable failure = null;
+        try {
+            if (buffers == 1) {
+                writer.writeNow(batch.getFirst().buffers[0]);
+            } else {
+                BufferData[] toWrite = new BufferData[buffers];
+                int index = 0;
+                for (Entry entry : batch) {
+                    System.arraycopy(entry.buffers, 0, toWrite, index, entry.buffers.length);
+                    index += entry.buffers.length;
+                }
+                writer.writeNow(toWrite);
+            }
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+
+        for (Entry entry : batch) {
+            if (entry.endOfStream && !priorities.isEmpty()) {
+                priorities.remove(entry.streamId);
+            }
+            entry.failure = failure;
+            entry.done = true;
+            LockSupport.unpark(entry.owner);
+        }
+        batch.clear();
+    }
+
     private void splitAndWrite(Http2FrameData frame, FlowControl.Outbound flowControl) {
         Http2FrameData currFrame = frame;
         while (true) {
             Http2FrameData[] splitFrames = flowControl.cut(currFrame);
             if (splitFrames.length == 1) {
                 // windows are wide enough
-                lockedWrite(currFrame);
+                writeDataFrame(currFrame);
                 flowControl.decrementWindowSize(currFrame.header().length());
                 break;
             } else if (splitFrames.length == 0) {
@@ -215,11 +425,38 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
                 flowControl.blockTillUpdate();
             } else if (splitFrames.length == 2) {
                 // write send-able part and block until window update with the rest
-                lockedWrite(splitFrames[0]);
+                writeDataFrame(splitFrames[0]);
                 flowControl.decrementWindowSize(splitFrames[0].header().length());
                 flowControl.blockTillUpdate();
                 currFrame = splitFrames[1];
             }
         }
     }
+
+    /**
+     * Frames queued by a single write operation, written together.
+     */
+    private static final class Entry {
+        private final Thread owner = Thread.currentThread();
+        private final int streamId;
+        private final BufferData[] buffers;
+        private final int size;
+        private final boolean data;
+        private final boolean endOfStream;
+        // assigned by the draining thread
+        private int urgency;
+        private boolean incremental;
+        private long sequence;
+        // failure is always set before done
+        private Throwable failure;
+        private volatile boolean done;
+
+        private Entry(int streamId, BufferData[] buffers, int size, boolean data, boolean endOfStream) {
+            this.streamId = streamId;
+            this.buffers = buffers;
+            this.size = size;
+            this.data = data;
+            this.endOfStream = endOfStream;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,6 @@
 package io.helidon.http.http2;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -74,7 +73,7 @@ public class Http2Headers {
      * Header name of the status pseudo header.
      */
     public static final HeaderName STATUS_NAME = HeaderNames.create(STATUS);
-    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0);
+    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0, 0);
     private static final System.Logger LOGGER = System.getLogger(Http2Headers.class.getName());
     private static final String TRAILERS = "trailers";
     private static final String HTTP = "http";
@@ -1126,9 +1125,20 @@ public class Http2Headers {
      * There is one dynamic table for inbound headers and one for outbound headers for each connection.
      * This is to minimize size of headers on the transport.
      * The table caches header names and values and then uses indexes only when transferring headers over network.
+     * <p>
+     * Entries are stored in a ring buffer addressed by their insertion sequence, so adding and evicting a header
+     * does not move other entries, and an index of names and values is used to find existing entries when encoding.
      */
     public static class DynamicTable {
-        private final List<DynamicHeader> headers = new ArrayList<>();
+        private static final int INITIAL_CAPACITY = 16;
+
+        // name (lower case) to entries with that name
+        private final Map<String, NameEntries> index = new HashMap<>();
+        private DynamicHeader[] entries = new DynamicHeader[INITIAL_CAPACITY];
+        private int mask = INITIAL_CAPACITY - 1;
+        // sequence number of the next inserted header
+        private long nextSequence;
+        private int count;
         private volatile long protocolMaxTableSize;
         private long maxTableSize;
         private int currentTableSize;
@@ -1174,9 +1184,6 @@ public class Http2Headers {
                 throw new Http2Exception(Http2ErrorCode.COMPRESSION, "Attempt to set larger size than protocol max");
             }
             this.maxTableSize = number;
-            if (maxTableSize == 0) {
-                headers.clear();
-            }
             while (maxTableSize < currentTableSize) {
                 evict();
             }
@@ -1186,18 +1193,15 @@ public class Http2Headers {
             String name = headerName.lowerCase();
             int size = name.length() + headerValue.getBytes(StandardCharsets.US_ASCII).length + 32;
 
-            if (currentTableSize + size <= maxTableSize) {
-                return add(headerName, headerValue, size);
+            if (size > maxTableSize) {
+                // RFC 7541, section 4.4: an entry larger than the table empties the table and is not added
+                while (count > 0) {
+                    evict();
+                }
+                return 0;
             }
-
             while ((currentTableSize + size) > maxTableSize) {
                 evict();
-                if (currentTableSize <= 0) {
-                    throw new Http2Exception(Http2ErrorCode.COMPRESSION,
-                                             "Cannot add header record, max table size too low. "
-                                                     + "current size: " + currentTableSize + ", max size: " + maxTableSize + ","
-                                                     + " header size: " + size);
-                }
             }
             return add(headerName, headerValue, size);
         }
@@ -1214,7 +1218,7 @@ public class Http2Headers {
             return currentTableSize;
         }
 
-        private IndexedHeaderRecord find(HeaderName headerName, String headerValue) {
+        IndexedHeaderRecord find(HeaderName headerName, String headerValue) {
             StaticHeader staticHeader = StaticHeader.find(headerName, headerValue);
             IndexedHeaderRecord candidate = null;
 
@@ -1226,50 +1230,91 @@ public class Http2Headers {
                 }
                 candidate = staticHeader;
             }
-            for (int i = 0; i < headers.size(); i++) {
-                DynamicHeader header = headers.get(i);
-                if (header.headerName.equals(headerName)) {
-                    if (header.value().equals(headerValue)) {
-                        return new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
-                    if (candidate == null) {
-                        candidate = new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
-                }
+            if (count == 0) {
+                return candidate;
+            }
+            NameEntries byName = index.get(headerName.lowerCase());
+            if (byName == null) {
+                return candidate;
+            }
+            DynamicHeader header = byName.byValue.get(headerValue);
+            if (header != null) {
+                return new IndexedHeader(header, indexOf(header));
+            }
+            if (candidate == null) {
+                return new IndexedHeader(byName.latest, indexOf(byName.latest));
             }
-
             return candidate;
         }
 
+        // HPACK index of a header present in this table, the latest added header has the lowest index
+        private int indexOf(DynamicHeader header) {
+            return StaticHeader.MAX_INDEX + (int) (nextSequence - header.sequence());
+        }
+
         private void evict() {
-            if (headers.isEmpty()) {
+            if (count == 0) {
                 return;
             }
-            DynamicHeader removed = headers.remove(headers.size() - 1);
-
-            if (removed != null) {
-                currentTableSize -= removed.size();
+            int position = (int) ((nextSequence - count) & mask);
+            DynamicHeader removed = entries[position];
+            entries[position] = null;
+            count--;
+            currentTableSize -= removed.size();
+
+            String name = removed.headerName().lowerCase();
+            NameEntries byName = index.get(name);
+            if (byName.latest == removed) {
+                // this was the only (oldest is also the latest) header with this name
+                index.remove(name);
+            } else {
+                byName.byValue.remove(removed.value(), removed);
             }
         }
 
         private int add(HeaderName name, String value, int size) {
-            headers.add(0, new DynamicHeader(name, value, size));
+            if (count == entries.length) {
+                grow();
+            }
+            DynamicHeader header = new DynamicHeader(name, value, size, nextSequence);
+            entries[(int) (nextSequence & mask)] = header;
+            nextSequence++;
+            count++;
             currentTableSize += size;
+
+            NameEntries byName = index.computeIfAbsent(name.lowerCase(), it -> new NameEntries());
+            byName.latest = header;
+            byName.byValue.put(value, header);
             return 0;
         }
 
+        private void grow() {
+            DynamicHeader[] newEntries = new DynamicHeader[entries.length * 2];
+            int newMask = newEntries.length - 1;
+            for (long sequence = nextSequence - count; sequence < nextSequence; sequence++) {
+                newEntries[(int) (sequence & newMask)] = entries[(int) (sequence & mask)];
+            }
+            this.entries = newEntries;
+            this.mask = newMask;
+        }
+
         private HeaderRecord doGet(int index) {
-            try {
-                // table is 1 based, list is 0 based
-                return headers.get(index - 1);
-            } catch (IndexOutOfBoundsException e) {
+            // table is 1 based, the latest added header is 1
+            if (index < 1 || index > count) {
                 throw new Http2Exception(Http2ErrorCode.PROTOCOL,
                                          "Dynamic table does not contain required header at index " + index);
             }
+            return entries[(int) ((nextSequence - index) & mask)];
+        }
+
+        private static final class NameEntries {
+            // latest header added with this name, used when only name is indexed
+            private final Map<String, DynamicHeader> byValue = new HashMap<>();
+            private DynamicHeader latest;
         }
     }
 
-    private record DynamicHeader(HeaderName headerName, String value, int size) implements HeaderRecord {
+    private record DynamicHeader(HeaderName headerName, String value, int size, long sequence) implements HeaderRecord {
     }
 
     private record IndexedHeader(HeaderRecord delegate, int index) implements IndexedHeaderRecord {
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+
+/**
+ * Priority of a stream as defined by the Extensible Prioritization Scheme for HTTP (RFC 9218).
+ * Data of streams with a lower urgency is written first; data of incremental streams of the same urgency is interleaved,
+ * while other streams of the same urgency are written one after another.
+ *
+ * @param urgency     urgency from {@code 0} (highest) to {@code 7} (lowest)
+ * @param incremental whether the data of the stream can be processed incrementally by the peer
+ */
+public record Http2StreamPriority(int urgency, boolean incremental) {
+    /**
+     * Name of the header used to signal priority.
+     */
+    public static final HeaderName HEADER_NAME = HeaderNames.create("Priority");
+    /**
+     * Default priority of a stream ({@code u=3}, not incremental).
+     */
+    public static final Http2StreamPriority DEFAULT = new Http2StreamPriority(3, false);
+
+    /**
+     * Create a new priority.
+     *
+     * @param urgency     urgency from {@code 0} (highest) to {@code 7} (lowest)
+     * @param incremental whether the data of the stream can be processed incrementally by the peer
+     */
+    public Http2StreamPriority {
+        if (urgency < 0 || urgency > 7) {
+            throw new IllegalArgumentException("Urgency must be between 0 and 7, but is: " + urgency);
+        }
+    }
+
+    /**
+     * Parse the value of the {@code Priority} header (such as {@code u=5, i}).
+     * Unknown parameters and invalid values are ignored, as required by the specification.
+     *
+     * @param value header value
+     * @return parsed priority, default values are used for parameters that are not present
+     */
+    public static Http2StreamPriority parse(String value) {
+        int urgency = DEFAULT.urgency();
+        boolean incremental = DEFAULT.incremental();
+
+        for (String member : value.split(",")) {
+            String param = member.trim();
+            int eq = param.indexOf('=');
+            String key = eq == -1 ? param : param.substring(0, eq).trim();
+            String paramValue = eq == -1 ? null : param.substring(eq + 1).trim();
+            switch (key) {
+            case "u" -> {
+                if (paramValue != null && paramValue.length() == 1) {
+                    char c = paramValue.charAt(0);
+                    if (c >= '0' && c <= '7') {
+                        urgency = c - '0';
+                    }
+                }
+            }
+            case "i" -> {
+                if (paramValue == null || "?1".equals(paramValue)) {
+                    incremental = true;
+                } else if ("?0".equals(paramValue)) {
+                    incremental = false;
+                }
+            }
+            default -> {
+                // ignore unknown parameters
+            }
+            }
+        }
+
+        if (urgency == DEFAULT.urgency() && incremental == DEFAULT.incremental()) {
+            return DEFAULT;
+        }
+        return new Http2StreamPriority(urgency, incremental);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,4 +61,14 @@ public interface Http2StreamWriter {
                      Http2Flag.HeaderFlags flags,
                      Http2FrameData dataFrame,
                      FlowControl.Outbound flowControl);
+
+    /**
+     * Set priority of a stream, used to decide which stream is written first when multiple streams have data to write.
+     * Priority is forgotten once the stream is closed.
+     *
+     * @param streamId stream ID
+     * @param priority priority of the stream
+     */
+    default void priority(int streamId, Http2StreamPriority priority) {
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -113,11 +113,18 @@ public interface WindowSize {
      */
     int getRemainingWindowSize();
 
-    // Does not add anything new but having a separate name makes code more human-readable.
     /**
      * Inbound window size container.
      */
     interface Inbound extends WindowSize {
+        /**
+         * Change size of this window, such as when the window is tuned to the bandwidth-delay product of the connection.
+         * A larger window is announced to the peer right away, a smaller window is reached by not returning credit
+         * for consumed data.
+         *
+         * @param size new window size
+         */
+        void resize(int size);
     }
 
     /**
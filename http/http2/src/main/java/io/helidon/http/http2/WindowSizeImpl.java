@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,14 +47,27 @@ abstract class WindowSizeImpl implements WindowSize {
         // When the value of SETTINGS_INITIAL_WINDOW_SIZE changes,
         // a receiver MUST adjust the size of all stream flow-control windows that
         // it maintains by the difference between the new value and the old value
-        remainingWindowSize.updateAndGet(o -> o + size - windowSize);
-        windowSize = size;
+        windowSize(size);
         if (LOGGER_OUTBOUND.isLoggable(DEBUG)) {
             LOGGER_OUTBOUND.log(DEBUG, String.format("%s OFC STR %d: Recv INITIAL_WINDOW_SIZE %d(%d)",
                                                      type, streamId, windowSize, remainingWindowSize.get()));
         }
     }
 
+    /**
+     * Change the window size, adjusting the remaining window by the difference.
+     *
+     * @param size new window size
+     */
+    void windowSize(int size) {
+        remainingWindowSize.updateAndGet(o -> o + size - windowSize);
+        windowSize = size;
+    }
+
+    int windowSize() {
+        return windowSize;
+    }
+
     @Override
     public long incrementWindowSize(int increment) {
         int remaining = remainingWindowSize
@@ -88,6 +101,8 @@ abstract class WindowSizeImpl implements WindowSize {
         private final Strategy strategy;
         private final ConnectionFlowControl.Type type;
         private final int streamId;
+        // credit that is not returned to the peer, as the window was made smaller
+        private final AtomicInteger withheld = new AtomicInteger();
 
         Inbound(ConnectionFlowControl.Type type,
                 int streamId,
@@ -108,12 +123,41 @@ abstract class WindowSizeImpl implements WindowSize {
             // with a flow-control window increment of 0 as a stream error
             if (increment > 0) {
                 long result = super.incrementWindowSize(increment);
-                strategy.windowUpdate(this.type, this.streamId, increment);
+                int toReturn = increment;
+                if (withheld.get() > 0) {
+                    toReturn -= Math.min(increment, withheld.getAndUpdate(w -> Math.max(0, w - increment)));
+                }
+                if (toReturn > 0) {
+                    strategy.windowUpdate(this.type, this.streamId, toReturn);
+                }
                 return result;
             }
             return super.getRemainingWindowSize();
         }
 
+        @Override
+        public void resize(int size) {
+            int difference = size - windowSize();
+            if (difference == 0) {
+                return;
+            }
+            if (LOGGER_INBOUND.isLoggable(DEBUG)) {
+                LOGGER_INBOUND.log(DEBUG, String.format("%s IFC STR %d: Resize window %d -> %d",
+                                                        type, streamId, windowSize(), size));
+            }
+            windowSize(size);
+            strategy.resize(size);
+            if (difference > 0) {
+                int returned = Math.min(difference, withheld.getAndUpdate(w -> Math.max(0, w - difference)));
+                if (difference > returned) {
+                    strategy.windowUpdateWriter().accept(streamId, new Http2WindowUpdate(difference - returned));
+                }
+            } else {
+                // the peer already has the credit, we can only stop returning it
+                withheld.addAndGet(-difference);
+            }
+        }
+
     }
 
     /**
@@ -227,6 +271,10 @@ abstract class WindowSizeImpl implements WindowSize {
         public void resetWindowSize(int size) {
         }
 
+        @Override
+        public void resize(int size) {
+        }
+
         @Override
         public int decrementWindowSize(int decrement) {
             return MAX_WIN_SIZE;
@@ -269,6 +317,9 @@ abstract class WindowSizeImpl implements WindowSize {
 
         abstract void windowUpdate(ConnectionFlowControl.Type type, int increment, int i);
 
+        void resize(int windowSize) {
+        }
+
         Context context() {
             return context;
         }
@@ -335,7 +386,7 @@ abstract class WindowSizeImpl implements WindowSize {
          */
         private static final class Bisection extends Strategy {
 
-            private final int watermark;
+            private int watermark;
             private int delayedIncrement;
 
             private Bisection(Context context, int streamId, BiConsumer<Integer, Http2WindowUpdate> windowUpdateWriter) {
@@ -344,6 +395,11 @@ abstract class WindowSizeImpl implements WindowSize {
                 this.watermark = context().initialWindowSize() / 2;
             }
 
+            @Override
+            void resize(int windowSize) {
+                this.watermark = windowSize / 2;
+            }
+
             @Override
             void windowUpdate(ConnectionFlowControl.Type type, int streamId, int increment) {
                 if (LOGGER_INBOUND.isLoggable(DEBUG)) {
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.http.http2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class BdpEstimatorTest {
+    private static final int INITIAL = 65535;
+    private static final int MAX = 1024 * 1024;
+
+    @Test
+    void testWindowGrowsWhenFullyUsed() {
+        BdpEstimator estimator = new BdpEstimator(INITIAL, MAX);
+
+        Http2Ping ping = estimator.dataReceived(16384);
+        assertThat(ping, notNullValue());
+        assertThat(estimator.dataReceived(16384), nullValue());
+        estimator.dataReceived(16384);
+        estimator.dataReceived(16384);
+
+        assertThat(estimator.pingAcknowledged(payload(ping)), is(2 * 4 * 16384));
+    }
+
+    @Test
+    void testWindowLimitedByMaximum() {
+        BdpEstimator estimator = new BdpEstimator(INITIAL, 100_000);
+
+        Http2Ping ping = estimator.dataReceived(INITIAL);
+
+        assertThat(estimator.pingAcknowledged(payload(ping)), is(100_000));
+    }
+
+    @Test
+    void testWindowShrinksAfterSmallSamples() {
+        BdpEstimator estimator = new BdpEstimator(INITIAL, MAX);
+        Http2Ping ping = estimator.dataReceived(INITIAL);
+        int grown = estimator.pingAcknowledged(payload(ping));
+        assertThat(grown, is(2 * INITIAL));
+
+        for (int i = 0; i < 3; i++) {
+            ping = estimator.dataReceived(1000);
+            assertThat(estimator.pingAcknowledged(payload(ping)), is(grown));
+        }
+        ping = estimator.dataReceived(1000);
+        assertThat(estimator.pingAcknowledged(payload(ping)), is(INITIAL));
+    }
+
+    @Test
+    void testForeignPingIgnored() {
+        BdpEstimator estimator = new BdpEstimator(INITIAL, MAX);
+        Http2Ping ping = estimator.dataReceived(INITIAL);
+
+        assertThat(estimator.pingAcknowledged(0L), is(-1));
+        assertThat(BdpEstimator.isBdpPing(payload(Http2Ping.create())), is(false));
+        assertThat(BdpEstimator.isBdpPing(payload(ping)), is(true));
+    }
+
+    @Test
+    void testConnectionFlowControlResizesWindows() {
+        List<Http2FrameData> frames = new ArrayList<>();
+        List<Http2WindowUpdate> updates = new ArrayList<>();
+        ConnectionFlowControl flowControl = ConnectionFlowControl.serverBuilder((id, update) -> updates.add(update))
+                .initialWindowSize(INITIAL)
+                .windowAutoTuning(frames::add)
+                .maxWindowSize(MAX)
+                .build();
+
+        flowControl.inboundData(INITIAL);
+        assertThat(frames.size(), is(1));
+        Http2Ping ping = Http2Ping.create(frames.getFirst().data());
+
+        assertThat(flowControl.pingAcknowledged(ping), is(true));
+        assertThat(flowControl.inboundWindowSize(), is(2 * INITIAL));
+        assertThat(frames.size(), is(2));
+        assertThat(frames.get(1).header().type(), is(Http2FrameType.SETTINGS));
+        Http2Settings settings = Http2Settings.create(frames.get(1).data());
+        assertThat(settings.value(Http2Setting.INITIAL_WINDOW_SIZE), is((long) 2 * INITIAL));
+        // connection window is grown by sending a window update
+        assertThat(updates.size(), is(1));
+        assertThat(updates.getFirst().windowSizeIncrement(), is(INITIAL));
+
+        assertThat(flowControl.pingAcknowledged(Http2Ping.create()), is(false));
+    }
+
+    private static long payload(Http2Ping ping) {
+        long result = 0;
+        for (byte b : ping.getBytes()) {
+            result = (result << 8) | (b & 0xFF);
+        }
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,9 @@ import io.helidon.http.HeaderNames;
 
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 class DynamicTableTest {
@@ -54,6 +56,65 @@ class DynamicTableTest {
         testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 2, "b", "c");
     }
 
+    @Test
+    void testGrowAndWrapAround() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(4096);
+
+        // each record is 32 + 2 + 3 bytes, so at most 110 records fit, which requires growing and wrapping around
+        for (int i = 0; i < 500; i++) {
+            table.add(HeaderNames.create("x" + (i % 10)), String.format("%03d", i));
+        }
+        assertThat(table.currentTableSize(), is(110 * 37));
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 1, "x9", "499");
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 110, "x0", "390");
+
+        Http2Headers.IndexedHeaderRecord found = table.find(HeaderNames.create("x5"), "495");
+        assertThat(found.index(), is(Http2Headers.StaticHeader.MAX_INDEX + 5));
+        // evicted value, only name is found (latest record with that name)
+        found = table.find(HeaderNames.create("x5"), "005");
+        assertThat(found.index(), is(Http2Headers.StaticHeader.MAX_INDEX + 5));
+        assertThat(found.value(), is("495"));
+        assertThat(table.find(HeaderNames.create("y"), "value"), is(nullValue()));
+    }
+
+    @Test
+    void testFindPrefersStaticTable() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(4096);
+        table.add(HeaderNames.CONTENT_TYPE, "application/grpc");
+
+        Http2Headers.IndexedHeaderRecord found = table.find(HeaderNames.CONTENT_TYPE, "application/grpc");
+        assertThat(found.index(), is(Http2Headers.StaticHeader.MAX_INDEX + 1));
+
+        found = table.find(HeaderNames.CONTENT_TYPE, "text/plain");
+        assertThat(found, instanceOf(Http2Headers.StaticHeader.class));
+    }
+
+    @Test
+    void testEvictOnResize() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(4096);
+        table.add(HeaderNames.create("a"), "b");
+        table.add(HeaderNames.create("b"), "c");
+        table.add(HeaderNames.create("a"), "b");
+
+        table.maxTableSize(68);
+        assertThat(table.currentTableSize(), is(68));
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 1, "a", "b");
+        assertThat(table.find(HeaderNames.create("a"), "b").index(), is(Http2Headers.StaticHeader.MAX_INDEX + 1));
+
+        table.maxTableSize(0);
+        assertThat(table.currentTableSize(), is(0));
+        assertThat(table.find(HeaderNames.create("a"), "b"), is(nullValue()));
+    }
+
+    @Test
+    void testTooLargeRecordEmptiesTable() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(80);
+        table.add(HeaderNames.create("a"), "b");
+
+        table.add(HeaderNames.create("a"), "b".repeat(100));
+        assertThat(table.currentTableSize(), is(0));
+    }
+
     private void testRecord(Http2Headers.DynamicTable table,
                             int index,
                             String expectedName,
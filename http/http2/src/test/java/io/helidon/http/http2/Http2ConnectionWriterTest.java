@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataWriter;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class Http2ConnectionWriterTest {
+    @Test
+    void testDataWrittenByPriority() throws Exception {
+        RecordingWriter dataWriter = new RecordingWriter();
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, dataWriter, List.of());
+        writer.priority(3, new Http2StreamPriority(5, false));
+        writer.priority(5, new Http2StreamPriority(1, false));
+        writer.priority(7, new Http2StreamPriority(1, true));
+        writer.priority(9, new Http2StreamPriority(1, true));
+
+        dataWriter.block();
+        // the first thread becomes the writer, and blocks in the data writer, others must queue their frames
+        List<Thread> threads = new ArrayList<>();
+        threads.add(start(() -> writer.writeData(dataFrame(1), FlowControl.Outbound.NOOP)));
+        dataWriter.awaitBlocked();
+        for (int streamId : new int[] {3, 9, 7, 5, 11}) {
+            threads.add(start(() -> writer.writeData(dataFrame(streamId), FlowControl.Outbound.NOOP)));
+            awaitWaiting(threads.getLast());
+        }
+        threads.add(start(() -> writer.write(Http2Ping.create().toFrameData())));
+        awaitWaiting(threads.getLast());
+
+        dataWriter.unblock();
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+
+        // ping first, then urgency 1 (non-incremental first, then incremental in order of arrival),
+        // then default urgency (3), and the lowest urgency (5) last
+        List<Http2FrameHeader> frames = dataWriter.frames();
+        assertThat(frames.size(), is(7));
+        assertThat(frames.get(1).type(), is(Http2FrameType.PING));
+        assertThat(streamIds(frames), is(List.of(1, 0, 5, 9, 7, 11, 3)));
+    }
+
+    @Test
+    void testPriorityForgottenOnStreamClose() {
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, new RecordingWriter(), List.of());
+        writer.priority(3, new Http2StreamPriority(5, false));
+        writer.priority(5, new Http2StreamPriority(1, false));
+        writer.priority(7, new Http2StreamPriority(1, true));
+        writer.priority(9, new Http2StreamPriority(1, true));
+
+        // reset by this side
+        writer.write(new Http2RstStream(Http2ErrorCode.CANCEL).toFrameData(null, 3, Http2Flag.NoFlags.create()));
+        assertThat(writer.prioritizedStreams(), is(3));
+        // reset by the peer
+        writer.streamClosed(5);
+        assertThat(writer.prioritizedStreams(), is(2));
+        // connection error
+        writer.streamsClosed();
+        assertThat(writer.prioritizedStreams(), is(0));
+    }
+
+    @Test
+    void testHeaderContinuation() {
+        RecordingWriter dataWriter = new RecordingWriter();
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, dataWriter, List.of());
+        WritableHeaders<?> headers = WritableHeaders.create();
+        for (int i = 0; i < 20; i++) {
+            headers.add(HeaderNames.create("x-header-" + i), "header value number " + i);
+        }
+        FlowControl.Outbound flowControl = new FlowControlNoop.Outbound() {
+            @Override
+            public int maxFrameSize() {
+                return 100;
+            }
+        };
+
+        int written = writer.writeHeaders(Http2Headers.create(headers),
+                                          1,
+                                          Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS
+                                                                               | Http2Flag.END_OF_STREAM),
+                                          flowControl);
+
+        List<Http2FrameHeader> frames = dataWriter.frames();
+        assertThat(frames.size() > 2, is(true));
+        int totalSize = 0;
+        for (int i = 0; i < frames.size(); i++) {
+            Http2FrameHeader frame = frames.get(i);
+            boolean last = i == frames.size() - 1;
+            assertThat(frame.type(), is(i == 0 ? Http2FrameType.HEADERS : Http2FrameType.CONTINUATION));
+            assertThat(frame.length() > 0, is(true));
+            assertThat("Only the last frame ends headers", (frame.flags() & Http2Flag.END_OF_HEADERS) != 0, is(last));
+            totalSize += Http2FrameHeader.LENGTH + frame.length();
+        }
+        assertThat("End of stream must be on the HEADERS frame", (frames.getFirst().flags() & Http2Flag.END_OF_STREAM) != 0,
+                   is(true));
+        assertThat(written, is(totalSize));
+        assertThat(dataWriter.bytes, is(totalSize));
+    }
+
+    private static Http2FrameData dataFrame(int streamId) {
+        BufferData data = BufferData.create("data of stream " + streamId);
+        Http2FrameHeader header = Http2FrameHeader.create(data.available(),
+                                                          Http2FrameTypes.DATA,
+                                                          Http2Flag.DataFlags.create(0),
+                                                          streamId);
+        return new Http2FrameData(header, data);
+    }
+
+    private static List<Integer> streamIds(List<Http2FrameHeader> frames) {
+        return frames.stream()
+                .map(Http2FrameHeader::streamId)
+                .toList();
+    }
+
+    private static Thread start(Runnable runnable) {
+        return Thread.ofVirtual().start(runnable);
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Thread did not start waiting for its frame to be written");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class RecordingWriter implements DataWriter {
+        private final List<Http2FrameHeader> frames = new ArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch block;
+        private int bytes;
+
+        @Override
+        public void write(BufferData... buffers) {
+            writeNow(buffers);
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            writeNow(buffer);
+        }
+
+        @Override
+        public void writeNow(BufferData... buffers) {
+            CountDownLatch latch = block;
+            if (latch != null) {
+                blocked.countDown();
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                block = null;
+            }
+            BufferData all = BufferData.create(buffers);
+            synchronized (frames) {
+                bytes += all.available();
+                while (all.available() > 0) {
+                    Http2FrameHeader header = Http2FrameHeader.create(all);
+                    all.skip(header.length());
+                    frames.add(header);
+                }
+            }
+        }
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            writeNow(new BufferData[] {buffer});
+        }
+
+        void block() {
+            block = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(5, TimeUnit.SECONDS), is(true));
+        }
+
+        void unblock() {
+            block.countDown();
+        }
+
+        List<Http2FrameHeader> frames() {
+            synchronized (frames) {
+                return List.copyOf(frames);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class Http2StreamPriorityTest {
+    @Test
+    void testParse() {
+        assertThat(Http2StreamPriority.parse("u=5, i"), is(new Http2StreamPriority(5, true)));
+        assertThat(Http2StreamPriority.parse("i=?1,u=0"), is(new Http2StreamPriority(0, true)));
+        assertThat(Http2StreamPriority.parse("u=1, i=?0"), is(new Http2StreamPriority(1, false)));
+    }
+
+    @Test
+    void testDefaults() {
+        assertThat(Http2StreamPriority.parse(""), sameInstance(Http2StreamPriority.DEFAULT));
+        assertThat(Http2StreamPriority.parse("u=3"), sameInstance(Http2StreamPriority.DEFAULT));
+        assertThat(Http2StreamPriority.parse("i"), is(new Http2StreamPriority(3, true)));
+    }
+
+    @Test
+    void testInvalidValuesIgnored() {
+        assertThat(Http2StreamPriority.parse("u=8, x=1"), sameInstance(Http2StreamPriority.DEFAULT));
+        assertThat(Http2StreamPriority.parse("u=a, i=yes"), sameInstance(Http2StreamPriority.DEFAULT));
+        assertThat(Http2StreamPriority.parse("u=12, u=6"), is(new Http2StreamPriority(6, false)));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
+import io.helidon.common.socket.PlainSocket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Writing a large response entity to a socket channel using pooled heap buffers, and pooled direct buffers.
+ * Heap buffers are copied by the JDK into a temporary direct buffer before being written, direct buffers are not.
+ */
+@State(Scope.Thread)
+public class DirectBufferJmhTest {
+    @Param({"heap", "direct"})
+    private String bufferType;
+
+    @Param({"16384", "524288"})
+    private int entitySize;
+
+    private byte[] entity;
+    private BufferPool bufferPool;
+    private ServerSocketChannel serverChannel;
+    private SocketChannel clientChannel;
+    private PlainSocket socket;
+    private Thread drainThread;
+
+    @Setup
+    public void setup() throws IOException {
+        entity = new byte[entitySize];
+        Arrays.fill(entity, (byte) 'a');
+        bufferPool = "direct".equals(bufferType) ? BufferPool.createDirect(4) : BufferPool.create(4);
+
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        clientChannel = SocketChannel.open(serverChannel.getLocalAddress());
+        SocketChannel accepted = serverChannel.accept();
+        // the other side of the connection only consumes the bytes
+        drainThread = Thread.ofPlatform()
+                .daemon()
+                .start(() -> drain(accepted));
+        socket = PlainSocket.client(clientChannel.socket(), "jmh");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        socket.close();
+        drainThread.join();
+        serverChannel.close();
+    }
+
+    @Benchmark
+    public void writeEntity() {
+        BufferData buffer = bufferPool.acquire(entitySize + 256);
+        buffer.write(entity);
+        socket.write(buffer);
+        buffer.release();
+    }
+
+    private static void drain(SocketChannel channel) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+        try (channel) {
+            while (channel.read(buffer.clear()) != -1) {
+                // discard the data
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.http2.Http2Flag;
+import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2FrameHeader;
+import io.helidon.http.http2.Http2FrameTypes;
+import io.helidon.http.http2.Http2Headers;
+import io.helidon.http.http2.Http2HuffmanDecoder;
+import io.helidon.http.http2.Http2HuffmanEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * HPACK encoding and decoding of a header block of a gRPC unary call, as sent repeatedly on a single connection.
+ */
+@State(Scope.Thread)
+public class HpackJmhTest {
+    private static final int TABLE_SIZE = 4096;
+
+    private final Http2HuffmanEncoder huffmanEncoder = Http2HuffmanEncoder.create();
+    private final Http2HuffmanDecoder huffmanDecoder = Http2HuffmanDecoder.create();
+
+    private Http2Headers.DynamicTable encoderTable;
+    private Http2Headers.DynamicTable decoderTable;
+    private Http2Headers.DynamicTable roundTripEncoderTable;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        encoderTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        roundTripEncoderTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        decoderTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+    }
+
+    @Benchmark
+    public void encode(Blackhole bh) {
+        BufferData buffer = BufferData.growing(512);
+        grpcHeaders().write(encoderTable, huffmanEncoder, buffer);
+        bh.consume(buffer);
+    }
+
+    @Benchmark
+    public void encodeDecode(Blackhole bh) {
+        BufferData buffer = BufferData.growing(512);
+        grpcHeaders().write(roundTripEncoderTable, huffmanEncoder, buffer);
+
+        Http2FrameHeader header = Http2FrameHeader.create(buffer.available(),
+                                                          Http2FrameTypes.HEADERS,
+                                                          Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS),
+                                                          1);
+        bh.consume(Http2Headers.create(null, decoderTable, huffmanDecoder, new Http2FrameData(header, buffer)));
+    }
+
+    private Http2Headers grpcHeaders() {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.add(HeaderNames.CONTENT_TYPE, "application/grpc")
+                .add(HeaderNames.TE, "trailers")
+                .add(HeaderNames.USER_AGENT, "grpc-java-netty/1.65.0")
+                .add(HeaderNames.create("grpc-accept-encoding"), "gzip")
+                .add(HeaderNames.create("grpc-timeout"), "1S")
+                .add(HeaderNames.create("x-request-id"), "req-" + (counter++ % 64))
+                .add(HeaderNames.create("x-tenant"), "tenant-a");
+
+        Http2Headers http2Headers = Http2Headers.create(headers);
+        http2Headers.method(Method.POST);
+        http2Headers.scheme("http");
+        http2Headers.path("/helidon.example.StringService/Upper");
+        http2Headers.authority("localhost:8080");
+        return http2Headers;
+    }
+}
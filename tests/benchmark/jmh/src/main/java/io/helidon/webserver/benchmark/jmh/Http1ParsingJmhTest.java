@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,6 +52,28 @@ public class Http1ParsingJmhTest {
                     Accept: */*""".getBytes(StandardCharsets.UTF_8),
             "\r\n\r\n".getBytes(StandardCharsets.UTF_8));
 
+    private static final byte[] BROWSER_REQUEST = """
+            GET /docs/index.html HTTP/1.1\r
+            Host: www.example.com\r
+            Connection: keep-alive\r
+            Cache-Control: max-age=0\r
+            Sec-Ch-Ua: "Chromium";v="124", "Google Chrome";v="124", "Not-A.Brand";v="99"\r
+            Sec-Ch-Ua-Mobile: ?0\r
+            Sec-Ch-Ua-Platform: "Linux"\r
+            Upgrade-Insecure-Requests: 1\r
+            User-Agent: Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36\r
+            Accept: text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8\r
+            Sec-Fetch-Site: same-origin\r
+            Sec-Fetch-Mode: navigate\r
+            Sec-Fetch-User: ?1\r
+            Sec-Fetch-Dest: document\r
+            Referer: https://www.example.com/docs/\r
+            Accept-Encoding: gzip, deflate, br, zstd\r
+            Accept-Language: en-US,en;q=0.9,cs;q=0.8\r
+            Cookie: session=6f1ed002ab5595859014ebf0951522d9; theme=dark; consent=granted\r
+            \r
+            """.getBytes(StandardCharsets.UTF_8);
+
     private byte[] longMessage;
 
     @Setup
@@ -90,9 +112,25 @@ public class Http1ParsingJmhTest {
         readRequest(bh, reader);
     }
 
+    @Benchmark
+    public void browserHeaders(Blackhole bh) {
+        DataReader reader = new DataReader(() -> BROWSER_REQUEST);
+        readRequest(bh, reader, false);
+    }
+
+    @Benchmark
+    public void browserHeadersValidated(Blackhole bh) {
+        DataReader reader = new DataReader(() -> BROWSER_REQUEST);
+        readRequest(bh, reader, true);
+    }
+
     private void readRequest(Blackhole bh, DataReader reader) {
-        Http1Prologue prologue = new Http1Prologue(reader, 1024, false);
-        Http1Headers headers = new Http1Headers(reader, 4096, false);
+        readRequest(bh, reader, false);
+    }
+
+    private void readRequest(Blackhole bh, DataReader reader, boolean validate) {
+        Http1Prologue prologue = new Http1Prologue(reader, 1024, validate);
+        Http1Headers headers = new Http1Headers(reader, 4096, validate);
 
         HttpPrologue httpPrologue = prologue.readPrologue();
         WritableHeaders<?> httpHeaders = headers.readHeaders(httpPrologue);
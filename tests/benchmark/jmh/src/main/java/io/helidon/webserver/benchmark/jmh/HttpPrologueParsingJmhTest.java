@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,9 @@ public class HttpPrologueParsingJmhTest {
     private static final byte[] ENCODED_PROLOGUE =
             "GET /one/two?a=b%26c=d&e=f&e=g&h=x%63%23e%3c#a%20frag%23ment HTTP/1.1\r\n".getBytes(
                     StandardCharsets.UTF_8);
+    private static final byte[] LONG_PATH_PROLOGUE =
+            ("GET /api/v1/" + "segment/".repeat(48) + "resource?query=" + "value".repeat(32) + " HTTP/1.1\r\n")
+                    .getBytes(StandardCharsets.UTF_8);
 
     @Benchmark
     public void techEmpower(Blackhole bh) {
@@ -47,4 +50,11 @@ public class HttpPrologueParsingJmhTest {
                 .readPrologue();
         bh.consume(prologue);
     }
+
+    @Benchmark
+    public void longPath(Blackhole bh) {
+        HttpPrologue prologue = new Http1Prologue(new DataReader(() -> LONG_PATH_PROLOGUE), 1024, false)
+                .readPrologue();
+        bh.consume(prologue);
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import io.helidon.logging.common.LogConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.Handler;
+import io.helidon.webserver.http.HttpRouting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Dispatch cost of routing with increasing number of routes.
+ * The requested routes are registered last, so a linear search would have to test all other routes first.
+ */
+@State(Scope.Benchmark)
+public class RoutingJmhTest {
+    private static final Handler HANDLER = (req, res) -> res.send("Hello, World!");
+
+    @Param({"10", "100", "1000"})
+    private int routes;
+
+    private WebServer server;
+    private HttpClient client;
+    private URI exactUri;
+    private URI patternUri;
+
+    @Setup
+    public void setup() {
+        LogConfig.configureRuntime();
+
+        HttpRouting.Builder routing = HttpRouting.builder();
+        for (int i = 0; i < routes; i++) {
+            // mix of exact and path parameter routes, as is common in real applications
+            if (i % 2 == 0) {
+                routing.get("/resource" + i, HANDLER);
+            } else {
+                routing.get("/resource" + i + "/{id}", HANDLER);
+            }
+        }
+        routing.get("/plaintext", HANDLER)
+                .get("/users/{id}/orders", HANDLER);
+
+        server = WebServer.builder()
+                .host("127.0.0.1")
+                .routing(routing)
+                .build()
+                .start();
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        exactUri = URI.create("http://localhost:" + server.port() + "/plaintext");
+        patternUri = URI.create("http://localhost:" + server.port() + "/users/42/orders");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public void exact(Blackhole bh) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .GET()
+                .uri(exactUri)
+                .build();
+        bh.consume(client.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    @Benchmark
+    public void pattern(Blackhole bh) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .GET()
+                .uri(patternUri)
+                .build();
+        bh.consume(client.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -290,6 +290,17 @@ public interface ClientRequest<T extends ClientRequest<T>> {
 
     /**
      * Submit an entity.
+     * <p>
+     * The following entities are streamed as they are read, without reading them into memory:
+     * <ul>
+     *     <li>{@link java.io.InputStream} - read until end of stream, and closed</li>
+     *     <li>{@link java.nio.channels.ReadableByteChannel} - read until end of stream, and closed</li>
+     *     <li>{@link java.util.concurrent.Flow.Publisher} of {@code byte[]}, {@link java.nio.ByteBuffer}, or
+     *     {@link io.helidon.common.buffers.BufferData} - items are requested as they are written</li>
+     * </ul>
+     * Such entities are sent using chunked transfer encoding (HTTP/1.1), unless the {@code Content-Length} header is
+     * configured (see {@link io.helidon.http.WritableHeaders#contentLength(long)}), and write data
+     * as allowed by flow control (HTTP/2). Other entities are written using the configured media context.
      *
      * @param entity request entity
      * @return response
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -275,6 +275,10 @@ public abstract class ClientRequestBase<T extends ClientRequest<T>, R extends Ht
 
     @Override
     public R submit(Object entity) {
+        OutputStreamHandler streamingEntity = StreamingEntity.handler(entity);
+        if (streamingEntity != null) {
+            return outputStream(streamingEntity);
+        }
         if (!(entity instanceof byte[] bytes && bytes.length == 0)) {
             rejectHeadWithEntity();
         }
@@ -418,7 +422,9 @@ public abstract class ClientRequestBase<T extends ClientRequest<T>, R extends Ht
                                                                         whenSent,
                                                                         properties);
 
-        WebClientService.Chain last = httpCallChain;
+        WebClientService.Chain last = clientConfig.loadBalancer()
+                .<WebClientService.Chain>map(it -> new LoadBalancedChain(httpCallChain, it, clientConfig.baseUri()))
+                .orElse(httpCallChain);
 
         List<WebClientService> services = clientConfig.services();
         ListIterator<WebClientService> serviceIterator = services.listIterator(services.size());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.webclient.api;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.List;
 
 import io.helidon.webclient.spi.DnsResolver;
 
@@ -47,11 +48,15 @@ public final class DefaultDnsResolver implements DnsResolver {
 
     @Override
     public InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup) {
+        return resolveAddresses(hostname, dnsAddressLookup).getFirst();
+    }
+
+    @Override
+    public List<InetAddress> resolveAddresses(String hostname, DnsAddressLookup dnsAddressLookup) {
         try {
-            InetAddress[] addresses = InetAddress.getAllByName(hostname);
-            addresses = dnsAddressLookup.filter(addresses);
+            InetAddress[] addresses = dnsAddressLookup.filter(InetAddress.getAllByName(hostname));
             if (addresses.length > 0) {
-                return addresses[0];
+                return List.of(addresses);
             }
         } catch (UnknownHostException e) {
             // falls through
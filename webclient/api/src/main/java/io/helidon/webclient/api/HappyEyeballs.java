@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.socket.SocketOptions;
+
+import static java.lang.System.Logger.Level.TRACE;
+
+/**
+ * Connection racing across multiple addresses of a host, as described by
+ * <a href="https://www.rfc-editor.org/rfc/rfc8305">RFC 8305</a>.
+ * <p>
+ * Addresses are interleaved by address family (starting with the family of the first address), and connection attempts
+ * are started one after another, each after the configured attempt delay, or immediately when the previous attempt fails.
+ * The first established connection wins, all other attempts are closed.
+ */
+final class HappyEyeballs {
+    private static final System.Logger LOGGER = System.getLogger(HappyEyeballs.class.getName());
+
+    private HappyEyeballs() {
+    }
+
+    /**
+     * Connect to the first address that accepts the connection.
+     *
+     * @param addresses     addresses to connect to, in order of preference
+     * @param port          port to connect to
+     * @param socketOptions socket options to configure each socket
+     * @param attemptDelay  delay before starting the next attempt
+     * @return connected socket
+     * @throws java.io.UncheckedIOException in case no connection could be established
+     */
+    static Socket connect(List<InetAddress> addresses, int port, SocketOptions socketOptions, Duration attemptDelay) {
+        List<InetAddress> ordered = interleave(addresses);
+        if (ordered.size() == 1) {
+            return connect(new Socket(), new InetSocketAddress(ordered.getFirst(), port), socketOptions);
+        }
+
+        LinkedBlockingQueue<Attempt> completed = new LinkedBlockingQueue<>();
+        List<Socket> sockets = new ArrayList<>(ordered.size());
+        List<IOException> failures = new ArrayList<>();
+        long delayMillis = attemptDelay.toMillis();
+        int started = 0;
+        int finished = 0;
+
+        try {
+            while (finished < ordered.size()) {
+                if (started < ordered.size()) {
+                    start(ordered.get(started), port, socketOptions, sockets, completed);
+                    started++;
+                }
+                Attempt attempt = started < ordered.size()
+                        ? completed.poll(delayMillis, TimeUnit.MILLISECONDS)
+                        : completed.take();
+                if (attempt == null) {
+                    // attempt delay elapsed, start the next one
+                    continue;
+                }
+                finished++;
+                if (attempt.failure() == null) {
+                    closeOthers(sockets, attempt.socket());
+                    return attempt.socket();
+                }
+                if (LOGGER.isLoggable(TRACE)) {
+                    LOGGER.log(TRACE, "Connection attempt to " + attempt.address() + " failed", attempt.failure());
+                }
+                failures.add(attempt.failure());
+            }
+        } catch (InterruptedException e) {
+            closeOthers(sockets, null);
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted while connecting to " + addresses, e));
+        }
+
+        IOException exception = new IOException("Failed to connect to any of " + ordered + " on port " + port);
+        failures.forEach(exception::addSuppressed);
+        throw new UncheckedIOException(exception);
+    }
+
+    /**
+     * Interleave addresses by address family, so two consecutive attempts use a different family.
+     * The family of the first address is preferred.
+     *
+     * @param addresses addresses in order of preference
+     * @return interleaved addresses
+     */
+    static List<InetAddress> interleave(List<InetAddress> addresses) {
+        if (addresses.size() < 2) {
+            return addresses;
+        }
+        boolean firstIpv6 = addresses.getFirst() instanceof Inet6Address;
+        List<InetAddress> preferred = new ArrayList<>();
+        List<InetAddress> other = new ArrayList<>();
+        for (InetAddress address : addresses) {
+            if ((address instanceof Inet6Address) == firstIpv6) {
+                preferred.add(address);
+            } else {
+                other.add(address);
+            }
+        }
+        List<InetAddress> result = new ArrayList<>(addresses.size());
+        for (int i = 0; i < Math.max(preferred.size(), other.size()); i++) {
+            if (i < preferred.size()) {
+                result.add(preferred.get(i));
+            }
+            if (i < other.size()) {
+                result.add(other.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static void start(InetAddress address,
+                              int port,
+                              SocketOptions socketOptions,
+                              List<Socket> sockets,
+                              LinkedBlockingQueue<Attempt> completed) {
+        Socket socket = new Socket();
+        sockets.add(socket);
+        Thread.ofVirtual()
+                .name("helidon-client-connect-" + address.getHostAddress())
+                .start(() -> {
+                    try {
+                        connect(socket, new InetSocketAddress(address, port), socketOptions);
+                        completed.add(new Attempt(address, socket, null));
+                    } catch (UncheckedIOException e) {
+                        completed.add(new Attempt(address, socket, e.getCause()));
+                    }
+                });
+    }
+
+    private static Socket connect(Socket socket, InetSocketAddress address, SocketOptions socketOptions) {
+        try {
+            socketOptions.configureSocket(socket);
+            socket.connect(address, (int) socketOptions.connectTimeout().toMillis());
+            return socket;
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ex) {
+                e.addSuppressed(ex);
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeOthers(List<Socket> sockets, Socket winner) {
+        for (Socket socket : sockets) {
+            if (socket != winner) {
+                try {
+                    // also aborts a connection attempt in progress
+                    socket.close();
+                } catch (IOException e) {
+                    LOGGER.log(TRACE, "Failed to close a losing connection attempt", e);
+                }
+            }
+        }
+    }
+
+    private record Attempt(InetAddress address, Socket socket, IOException failure) {
+    }
+}
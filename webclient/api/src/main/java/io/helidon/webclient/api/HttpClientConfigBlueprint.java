@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -111,6 +111,31 @@ interface HttpClientConfigBlueprint extends HttpConfigBaseBlueprint {
      */
     DnsAddressLookup dnsAddressLookup();
 
+    /**
+     * Whether to race connection attempts to all addresses of the target host, as described by
+     * <a href="https://www.rfc-editor.org/rfc/rfc8305">RFC 8305 (Happy Eyeballs)</a>.
+     * Addresses obtained from {@link io.helidon.webclient.spi.DnsResolver#resolveAddresses(String, DnsAddressLookup)}
+     * are interleaved by address family, and a new attempt is started each {@link #connectionAttemptDelay()}
+     * (or as soon as the previous attempt fails). The first established connection is used.
+     * <p>
+     * Only used when connecting directly (without a proxy).
+     *
+     * @return whether to race connection attempts, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean happyEyeballs();
+
+    /**
+     * Delay before starting a connection attempt to the next address, when {@link #happyEyeballs()} is enabled.
+     * RFC 8305 recommends 250 milliseconds.
+     *
+     * @return connection attempt delay
+     */
+    @Option.Configured
+    @Option.Default("PT0.25S")
+    Duration connectionAttemptDelay();
+
     /**
      * Default headers to be used in every request from configuration.
      *
@@ -235,6 +260,16 @@ interface HttpClientConfigBlueprint extends HttpConfigBaseBlueprint {
     @Option.Configured
     Optional<WebClientCookieManager> cookieManager();
 
+    /**
+     * Client side load balancer. When configured, each request to the {@link #baseUri()} is sent to an endpoint chosen
+     * by the load balancer, replacing scheme, host, and port of the request URI. Requests to other hosts are not
+     * balanced. If no base URI is configured, all requests are balanced.
+     *
+     * @return load balancer to use
+     */
+    @Option.Configured
+    Optional<LoadBalancer> loadBalancer();
+
     /**
      * Socket 100-Continue read timeout. Default is 1 second.
      * This read timeout is used when 100-Continue is sent by the client, before it sends an entity.
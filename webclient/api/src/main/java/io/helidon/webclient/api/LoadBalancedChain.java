@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.api;
+
+import java.util.Optional;
+
+import io.helidon.webclient.spi.WebClientService;
+
+/**
+ * Last chain before the network call, sends the request to an endpoint chosen by a {@link LoadBalancer}.
+ * Only requests to the balanced base URI are rewritten, requests to any other absolute URI (or redirects to another
+ * host) are sent as they are.
+ */
+class LoadBalancedChain implements WebClientService.Chain {
+    private final WebClientService.Chain next;
+    private final LoadBalancer loadBalancer;
+    private final Optional<ClientUri> balancedUri;
+
+    LoadBalancedChain(WebClientService.Chain next, LoadBalancer loadBalancer, Optional<ClientUri> balancedUri) {
+        this.next = next;
+        this.loadBalancer = loadBalancer;
+        this.balancedUri = balancedUri;
+    }
+
+    @Override
+    public WebClientServiceResponse proceed(WebClientServiceRequest clientRequest) {
+        if (!balanced(clientRequest.uri())) {
+            return next.proceed(clientRequest);
+        }
+        LoadBalancer.Endpoint endpoint = loadBalancer.select();
+        // connection caches are keyed by scheme, host and port, so connections are pooled per endpoint
+        clientRequest.uri()
+                .scheme(endpoint.scheme())
+                .host(endpoint.host())
+                .port(endpoint.port());
+
+        long started = endpoint.requestStarted();
+        boolean success = false;
+        try {
+            WebClientServiceResponse response = next.proceed(clientRequest);
+            success = response.status().code() < 500;
+            return response;
+        } finally {
+            endpoint.requestFinished(started, success);
+        }
+    }
+
+    private boolean balanced(ClientUri uri) {
+        // without a base URI, all requests are balanced
+        return balancedUri.map(it -> it.scheme().equals(uri.scheme())
+                       && it.host().equalsIgnoreCase(uri.host())
+                       && it.port() == uri.port())
+                .orElse(true);
+    }
+
+    @Override
+    public boolean repeatable() {
+        return next.repeatable();
+    }
+}
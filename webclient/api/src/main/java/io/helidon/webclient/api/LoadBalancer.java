@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.api;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.helidon.builder.api.RuntimeType;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * Client side load balancer across a set of endpoints.
+ * <p>
+ * Each request picks two random endpoints and uses the one with the lower cost, as defined by {@link Policy}
+ * ("power of two choices"). This avoids both the herd behavior of always choosing the best endpoint, and the
+ * overhead of comparing all endpoints.
+ * <p>
+ * Endpoints are passively health checked: an endpoint that fails {@link LoadBalancerConfig#consecutiveFailures()}
+ * requests in a row is ejected (not used) for {@link LoadBalancerConfig#ejectionTime()}.
+ * <p>
+ * When configured on a client (see {@link io.helidon.webclient.api.HttpClientConfig#loadBalancer()}), scheme, host, and
+ * port of each request are replaced with the chosen endpoint, so connections are cached per endpoint.
+ */
+@RuntimeType.PrototypedBy(LoadBalancerConfig.class)
+public final class LoadBalancer implements RuntimeType.Api<LoadBalancerConfig> {
+    private static final System.Logger LOGGER = System.getLogger(LoadBalancer.class.getName());
+    // cost of an endpoint without a response time that already has a request in progress
+    private static final double PENALTY = 1e15;
+
+    private final LoadBalancerConfig prototype;
+    private final Supplier<List<URI>> endpointsSupplier;
+    private final long refreshNanos;
+    private final Policy policy;
+    private final double decayNanos;
+    private final int consecutiveFailures;
+    private final long ejectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjectionPercent;
+    private final LongSupplier nanoTime;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile List<Endpoint> endpoints;
+    private volatile long nextRefresh;
+
+    LoadBalancer(LoadBalancerConfig config, LongSupplier nanoTime) {
+        this.prototype = config;
+        this.endpointsSupplier = config.endpointsSupplier().orElse(null);
+        this.refreshNanos = config.refreshInterval().toNanos();
+        this.policy = config.policy();
+        this.decayNanos = config.ewmaDecay().toNanos();
+        this.consecutiveFailures = config.consecutiveFailures();
+        this.ejectionNanos = config.ejectionTime().toNanos();
+        this.maxEjectionNanos = config.maxEjectionTime().toNanos();
+        this.maxEjectionPercent = config.maxEjectionPercent();
+        this.nanoTime = nanoTime;
+        this.endpoints = config.endpoints()
+                .stream()
+                .map(Endpoint::new)
+                .toList();
+        this.nextRefresh = nanoTime.getAsLong() + refreshNanos;
+
+        if (endpointsSupplier == null && endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Load balancer must have endpoints, or an endpoints supplier configured");
+        }
+    }
+
+    /**
+     * Create a load balancer from its configuration.
+     *
+     * @param config configuration of the load balancer
+     * @return a new load balancer
+     */
+    public static LoadBalancer create(LoadBalancerConfig config) {
+        return new LoadBalancer(config, System::nanoTime);
+    }
+
+    /**
+     * Create a load balancer updating its configuration.
+     *
+     * @param configConsumer consumer to update load balancer configuration
+     * @return a new load balancer
+     */
+    public static LoadBalancer create(Consumer<LoadBalancerConfig.Builder> configConsumer) {
+        return builder()
+                .update(configConsumer)
+                .build();
+    }
+
+    /**
+     * A new builder to create a customized load balancer.
+     *
+     * @return load balancer builder
+     */
+    public static LoadBalancerConfig.Builder builder() {
+        return LoadBalancerConfig.builder();
+    }
+
+    @Override
+    public LoadBalancerConfig prototype() {
+        return prototype;
+    }
+
+    /**
+     * Choose an endpoint for a request.
+     * The caller must call {@link Endpoint#requestStarted()} and {@link Endpoint#requestFinished(long, boolean)}
+     * on the returned endpoint, so its statistics are updated.
+     *
+     * @return endpoint to use
+     * @throws java.lang.IllegalStateException in case there are no endpoints
+     */
+    public Endpoint select() {
+        List<Endpoint> current = endpoints();
+        if (current.isEmpty()) {
+            throw new IllegalStateException("No endpoints available for load balancing");
+        }
+        long now = nanoTime.getAsLong();
+        int available = 0;
+        for (Endpoint endpoint : current) {
+            if (!endpoint.ejected(now)) {
+                available++;
+            }
+        }
+        // all ejected (such as after endpoints were refreshed), better to try any than to fail
+        boolean includeEjected = available == 0;
+        int count = includeEjected ? current.size() : available;
+        if (count == 1) {
+            return endpoint(current, 0, now, includeEjected);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = endpoint(current, first, now, includeEjected);
+        Endpoint b = endpoint(current, second, now, includeEjected);
+        return b.cost(now) < a.cost(now) ? b : a;
+    }
+
+    /**
+     * Current endpoints, including ejected ones.
+     *
+     * @return endpoints
+     */
+    public List<Endpoint> endpoints() {
+        List<Endpoint> current = endpoints;
+        if (endpointsSupplier != null) {
+            if (current.isEmpty()) {
+                refresh();
+                return endpoints;
+            }
+            if (nanoTime.getAsLong() - nextRefresh >= 0 && refreshing.compareAndSet(false, true)) {
+                Thread.ofVirtual()
+                        .name("helidon-load-balancer-refresh")
+                        .start(() -> {
+                            try {
+                                refresh();
+                            } finally {
+                                refreshing.set(false);
+                            }
+                        });
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadBalancer" + endpoints;
+    }
+
+    private static Endpoint endpoint(List<Endpoint> endpoints, int index, long now, boolean includeEjected) {
+        int remaining = index;
+        for (Endpoint endpoint : endpoints) {
+            if (includeEjected || !endpoint.ejected(now)) {
+                if (remaining == 0) {
+                    return endpoint;
+                }
+                remaining--;
+            }
+        }
+        // endpoint was ejected since we counted them
+        return endpoints.getFirst();
+    }
+
+    private void refresh() {
+        try {
+            List<URI> uris = endpointsSupplier.get();
+            Map<URI, Endpoint> existing = new HashMap<>();
+            for (Endpoint endpoint : endpoints) {
+                existing.put(endpoint.uri(), endpoint);
+            }
+            List<Endpoint> refreshed = new ArrayList<>(uris.size());
+            for (URI uri : uris) {
+                Endpoint endpoint = existing.get(uri);
+                refreshed.add(endpoint == null ? new Endpoint(uri) : endpoint);
+            }
+            endpoints = List.copyOf(refreshed);
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, "Load balancer endpoints refreshed: " + uris);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(WARNING, "Failed to refresh load balancer endpoints, keeping " + endpoints, e);
+        } finally {
+            nextRefresh = nanoTime.getAsLong() + refreshNanos;
+        }
+    }
+
+    private boolean canEject(long now) {
+        List<Endpoint> current = endpoints;
+        int ejected = 0;
+        for (Endpoint endpoint : current) {
+            if (endpoint.ejected(now)) {
+                ejected++;
+            }
+        }
+        return (ejected + 1) * 100L <= (long) maxEjectionPercent * current.size();
+    }
+
+    /**
+     * Policy to choose between two endpoints.
+     */
+    public enum Policy {
+        /**
+         * Choose the endpoint with fewer requests in progress.
+         */
+        LEAST_REQUESTS,
+        /**
+         * Choose the endpoint with the lower exponentially weighted moving average of response times, multiplied
+         * by the number of requests in progress. Response times higher than the average replace it (peak), so slow
+         * endpoints are avoided quickly, and are tried again as the average decays.
+         */
+        PEAK_EWMA
+    }
+
+    /**
+     * An endpoint of a load balancer, with its statistics.
+     */
+    public final class Endpoint {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final URI uri;
+        private final String scheme;
+        private final String host;
+        private final int port;
+
+        // guarded by lock
+        private int failures;
+        private int ejections;
+        // written under lock
+        private volatile long lastUpdate;
+        private volatile double ewma;
+        private volatile long ejectedUntil;
+        private volatile boolean wasEjected;
+
+        private Endpoint(URI uri) {
+            this.uri = uri;
+            this.scheme = uri.getScheme() == null ? "http" : uri.getScheme();
+            this.host = uri.getHost();
+            this.port = uri.getPort() == -1 ? ("https".equals(scheme) ? 443 : 80) : uri.getPort();
+            if (host == null) {
+                throw new IllegalArgumentException("Load balancer endpoint must have a host: " + uri);
+            }
+        }
+
+        /**
+         * URI of this endpoint, as configured.
+         *
+         * @return endpoint URI
+         */
+        public URI uri() {
+            return uri;
+        }
+
+        /**
+         * Scheme to use with this endpoint.
+         *
+         * @return scheme
+         */
+        public String scheme() {
+            return scheme;
+        }
+
+        /**
+         * Host of this endpoint.
+         *
+         * @return host
+         */
+        public String host() {
+            return host;
+        }
+
+        /**
+         * Port of this endpoint (default port of the scheme, if not part of the URI).
+         *
+         * @return port
+         */
+        public int port() {
+            return port;
+        }
+
+        /**
+         * Number of requests in progress.
+         *
+         * @return requests in progress
+         */
+        public int inFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * Whether this endpoint is currently ejected because of failures.
+         *
+         * @return whether ejected
+         */
+        public boolean ejected() {
+            return ejected(nanoTime.getAsLong());
+        }
+
+        /**
+         * Record start of a request to this endpoint.
+         *
+         * @return start time to provide to {@link #requestFinished(long, boolean)}
+         */
+        public long requestStarted() {
+            inFlight.incrementAndGet();
+            return nanoTime.getAsLong();
+        }
+
+        /**
+         * Record end of a request to this endpoint. A request is finished when its response status is received, or
+         * when it fails.
+         *
+         * @param startNanos time returned from {@link #requestStarted()}
+         * @param success    whether the request succeeded; a failed request is one that threw an exception, or that
+         *                   received a {@code 5xx} response
+         */
+        public void requestFinished(long startNanos, boolean success) {
+            inFlight.decrementAndGet();
+            long now = nanoTime.getAsLong();
+            lock.lock();
+            try {
+                if (success) {
+                    updateEwma(now, now - startNanos);
+                    failures = 0;
+                    if (!ejected(now)) {
+                        ejections = 0;
+                    }
+                    return;
+                }
+                failures++;
+                if (failures >= consecutiveFailures && !ejected(now) && canEject(now)) {
+                    ejections++;
+                    long ejectFor = Math.min(maxEjectionNanos, ejectionNanos * ejections);
+                    ejectedUntil = now + ejectFor;
+                    wasEjected = true;
+                    failures = 0;
+                    if (LOGGER.isLoggable(DEBUG)) {
+                        LOGGER.log(DEBUG, "Ejecting load balancer endpoint " + uri + " for "
+                                + (ejectFor / 1_000_000) + " ms");
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return uri + " (in flight: " + inFlight.get() + ")";
+        }
+
+        private boolean ejected(long now) {
+            return wasEjected && now - ejectedUntil < 0;
+        }
+
+        private double cost(long now) {
+            int requests = inFlight.get();
+            if (policy == Policy.LEAST_REQUESTS) {
+                return requests;
+            }
+            double average = ewma;
+            if (average == 0) {
+                return requests == 0 ? 0 : PENALTY + requests;
+            }
+            double decayed = average * Math.exp(-(now - lastUpdate) / decayNanos);
+            return decayed * (requests + 1);
+        }
+
+        private void updateEwma(long now, long latency) {
+            double average = ewma;
+            if (average == 0 || latency > average) {
+                ewma = latency;
+            } else {
+                double weight = Math.exp(-(now - lastUpdate) / decayNanos);
+                ewma = average * weight + latency * (1 - weight);
+            }
+            lastUpdate = now;
+        }
+    }
+}
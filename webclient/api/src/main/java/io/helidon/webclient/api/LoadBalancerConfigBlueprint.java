@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.api;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of client side load balancing, see {@link io.helidon.webclient.api.LoadBalancer}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface LoadBalancerConfigBlueprint extends Prototype.Factory<LoadBalancer> {
+    /**
+     * Endpoints to balance requests across, such as {@code http://10.0.0.1:8080}. Only scheme, host, and port
+     * of each endpoint are used; path and query of requests are not modified.
+     * If {@link #endpointsSupplier()} is configured, these are the initial endpoints until the supplier is first called.
+     *
+     * @return endpoints
+     */
+    @Option.Configured
+    @Option.Singular
+    List<URI> endpoints();
+
+    /**
+     * Supplier of endpoints, for endpoint sets that change over time (such as when obtained from service discovery).
+     * The supplier is called when the load balancer has no endpoints, and then once per {@link #refreshInterval()}
+     * in the background. Statistics of endpoints that remain in the set are retained.
+     *
+     * @return endpoints supplier
+     */
+    Optional<Supplier<List<URI>>> endpointsSupplier();
+
+    /**
+     * How often to refresh endpoints from {@link #endpointsSupplier()}.
+     *
+     * @return refresh interval
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration refreshInterval();
+
+    /**
+     * Policy used to choose between two randomly picked endpoints.
+     *
+     * @return load balancing policy
+     */
+    @Option.Configured
+    @Option.Default("LEAST_REQUESTS")
+    LoadBalancer.Policy policy();
+
+    /**
+     * Decay time of the response time moving average used by {@link LoadBalancer.Policy#PEAK_EWMA}.
+     * Response times older than this have less than a third of their original weight.
+     *
+     * @return decay time
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration ewmaDecay();
+
+    /**
+     * Number of consecutive failures (exceptions or {@code 5xx} responses) after which an endpoint is ejected.
+     *
+     * @return number of consecutive failures
+     */
+    @Option.Configured
+    @Option.DefaultInt(5)
+    int consecutiveFailures();
+
+    /**
+     * How long an endpoint is ejected for. Each consecutive ejection (without a successful request
+     * in between) multiplies this time, up to {@link #maxEjectionTime()}.
+     *
+     * @return base ejection time
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration ejectionTime();
+
+    /**
+     * Maximal time an endpoint is ejected for.
+     *
+     * @return maximal ejection time
+     */
+    @Option.Configured
+    @Option.Default("PT5M")
+    Duration maxEjectionTime();
+
+    /**
+     * Maximal percentage of endpoints that can be ejected at the same time. A single endpoint is never ejected
+     * with the default value.
+     *
+     * @return maximal percentage of ejected endpoints
+     */
+    @Option.Configured
+    @Option.DefaultInt(50)
+    int maxEjectionPercent();
+}
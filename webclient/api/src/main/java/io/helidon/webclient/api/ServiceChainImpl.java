@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,4 +31,9 @@ class ServiceChainImpl implements WebClientService.Chain {
     public WebClientServiceResponse proceed(WebClientServiceRequest clientRequest) {
         return service.handle(next, clientRequest);
     }
+
+    @Override
+    public boolean repeatable() {
+        return next.repeatable();
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import io.helidon.common.buffers.BufferData;
+
+/**
+ * Request entities that are streamed to the network as they are read, rather than serialized into memory.
+ */
+final class StreamingEntity {
+    // number of items requested from a publisher ahead of writing them
+    private static final int PREFETCH = 8;
+
+    private StreamingEntity() {
+    }
+
+    /**
+     * Output stream handler for entities that can be streamed.
+     *
+     * @param entity request entity
+     * @return handler that writes the entity and closes the output stream, or {@code null} if the entity is not a stream
+     */
+    static ClientRequest.OutputStreamHandler handler(Object entity) {
+        return switch (entity) {
+            case InputStream inputStream -> out -> {
+                try (inputStream) {
+                    inputStream.transferTo(out);
+                }
+                out.close();
+            };
+            case ReadableByteChannel channel -> out -> {
+                try (InputStream inputStream = Channels.newInputStream(channel)) {
+                    inputStream.transferTo(out);
+                }
+                out.close();
+            };
+            case Flow.Publisher<?> publisher -> out -> new PublisherWriter(out).write(publisher);
+            case null, default -> null;
+        };
+    }
+
+    /**
+     * Writes items of a publisher to an output stream on the calling thread. Items are requested from the publisher only
+     * as they are written, so the network (including HTTP/2 flow control) limits the rate of the publisher.
+     */
+    private static final class PublisherWriter implements Flow.Subscriber<Object> {
+        private static final Object COMPLETE = new Object();
+
+        private final LinkedBlockingQueue<Object> items = new LinkedBlockingQueue<>();
+        private final OutputStream out;
+        private volatile Flow.Subscription subscription;
+
+        private PublisherWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(PREFETCH);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            items.add(Objects.requireNonNull(item));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            items.add(new Failure(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            items.add(COMPLETE);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void write(Flow.Publisher<?> publisher) throws IOException {
+            ((Flow.Publisher<Object>) publisher).subscribe(this);
+            try {
+                while (true) {
+                    Object item = items.take();
+                    if (item == COMPLETE) {
+                        out.close();
+                        return;
+                    }
+                    if (item instanceof Failure failure) {
+                        throw new IOException("Request entity publisher failed", failure.cause());
+                    }
+                    writeItem(item);
+                    subscription.request(1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new InterruptedIOException("Interrupted while waiting for request entity publisher");
+            } catch (IOException | RuntimeException e) {
+                cancel();
+                throw e;
+            }
+        }
+
+        private void writeItem(Object item) throws IOException {
+            switch (item) {
+                case byte[] bytes -> out.write(bytes);
+                case ByteBuffer buffer -> {
+                    if (buffer.hasArray()) {
+                        out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                        buffer.position(buffer.limit());
+                    } else {
+                        byte[] bytes = new byte[buffer.remaining()];
+                        buffer.get(bytes);
+                        out.write(bytes);
+                    }
+                }
+                case BufferData buffer -> {
+                    byte[] bytes = new byte[buffer.available()];
+                    buffer.read(bytes);
+                    out.write(bytes);
+                }
+                default -> throw new IllegalArgumentException("Request entity publisher must publish byte[], ByteBuffer, "
+                                                                      + "or BufferData, but published: "
+                                                                      + item.getClass().getName());
+            }
+        }
+
+        private void cancel() {
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        private record Failure(Throwable cause) {
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -106,16 +106,32 @@ public class TcpClientConnection implements ClientConnection {
      */
     public TcpClientConnection connect() {
         Tls tls = connectionKey.tls();
-        InetSocketAddress targetAddress = inetSocketAddress();
-
-        /*
-        Obtain target socket through proxy (if enabled), or connect to target socket
-         */
-        this.socket = connectionKey.proxy()
-                .tcpSocket(webClient,
-                           targetAddress,
-                           webClient.prototype().socketOptions(),
-                           tls.enabled());
+        InetSocketAddress targetAddress;
+
+        if (webClient.prototype().happyEyeballs() && connectionKey.proxy().type() == Proxy.ProxyType.NONE) {
+            /*
+            Race connection attempts to all addresses of the target host
+             */
+            DnsResolver dnsResolver = connectionKey.dnsResolver();
+            List<InetAddress> addresses = dnsResolver.resolveAddresses(connectionKey.host(),
+                                                                       connectionKey.dnsAddressLookup());
+            this.socket = HappyEyeballs.connect(addresses,
+                                                connectionKey.port(),
+                                                webClient.prototype().socketOptions(),
+                                                webClient.prototype().connectionAttemptDelay());
+            targetAddress = new InetSocketAddress(socket.getInetAddress(), connectionKey.port());
+        } else {
+            targetAddress = inetSocketAddress();
+
+            /*
+            Obtain target socket through proxy (if enabled), or connect to target socket
+             */
+            this.socket = connectionKey.proxy()
+                    .tcpSocket(webClient,
+                               targetAddress,
+                               webClient.prototype().socketOptions(),
+                               tls.enabled());
+        }
 
         this.channelId = createChannelId(socket);
 
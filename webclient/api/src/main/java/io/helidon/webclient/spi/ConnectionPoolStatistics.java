@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.spi;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Statistics of client connection pools of a single protocol, aggregated over all {@link ClientConnectionCache}
+ * instances of that protocol.
+ * <p>
+ * Connection caches report events of their connections, integrations (such as WebClient metrics) read
+ * the statistics, see {@link #listen(java.util.function.Consumer)}.
+ */
+public final class ConnectionPoolStatistics {
+    private static final Map<String, ConnectionPoolStatistics> STATISTICS = new ConcurrentHashMap<>();
+    private static final List<Consumer<ConnectionPoolStatistics>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final String protocol;
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    private ConnectionPoolStatistics(String protocol) {
+        this.protocol = protocol;
+    }
+
+    /**
+     * Statistics of a protocol, created if not yet present.
+     *
+     * @param protocol protocol id, such as {@code http/1.1}
+     * @return statistics of the protocol
+     */
+    public static ConnectionPoolStatistics get(String protocol) {
+        ConnectionPoolStatistics existing = STATISTICS.get(protocol);
+        if (existing != null) {
+            return existing;
+        }
+        ConnectionPoolStatistics created = new ConnectionPoolStatistics(protocol);
+        existing = STATISTICS.putIfAbsent(protocol, created);
+        if (existing != null) {
+            return existing;
+        }
+        LISTENERS.forEach(it -> it.accept(created));
+        return created;
+    }
+
+    /**
+     * Register a listener that is called for statistics of each protocol, both the existing ones and the ones
+     * created later.
+     *
+     * @param listener listener to call
+     */
+    public static void listen(Consumer<ConnectionPoolStatistics> listener) {
+        LISTENERS.add(listener);
+        STATISTICS.values().forEach(listener);
+    }
+
+    /**
+     * Protocol id of these statistics.
+     *
+     * @return protocol id
+     */
+    public String protocol() {
+        return protocol;
+    }
+
+    /**
+     * Number of open connections available for reuse.
+     *
+     * @return idle connections
+     */
+    public int idleConnections() {
+        return idle.get();
+    }
+
+    /**
+     * Number of open connections used by requests.
+     *
+     * @return active connections
+     */
+    public int activeConnections() {
+        return active.get();
+    }
+
+    /**
+     * Number of requests waiting for a connection, because the pool limits were reached.
+     *
+     * @return pending requests
+     */
+    public int pendingAcquires() {
+        return pending.get();
+    }
+
+    /**
+     * Number of connections opened by the pools.
+     *
+     * @return created connections
+     */
+    public long createdConnections() {
+        return created.sum();
+    }
+
+    /**
+     * Number of times an idle connection was reused.
+     *
+     * @return reused connections
+     */
+    public long reusedConnections() {
+        return reused.sum();
+    }
+
+    /**
+     * Number of idle connections closed by the pools, because they expired, or were closed by the server.
+     *
+     * @return evicted connections
+     */
+    public long evictedConnections() {
+        return evicted.sum();
+    }
+
+    /**
+     * A new connection was opened, and is used by a request.
+     */
+    public void connectionCreated() {
+        created.increment();
+        active.incrementAndGet();
+    }
+
+    /**
+     * A new connection was opened in advance, and is available for reuse.
+     */
+    public void idleConnectionCreated() {
+        created.increment();
+        idle.incrementAndGet();
+    }
+
+    /**
+     * An active connection was returned to the pool.
+     */
+    public void connectionReleased() {
+        active.decrementAndGet();
+        idle.incrementAndGet();
+    }
+
+    /**
+     * An idle connection was obtained from the pool by a request.
+     */
+    public void connectionReused() {
+        reused.increment();
+        idle.decrementAndGet();
+        active.incrementAndGet();
+    }
+
+    /**
+     * An idle connection was closed.
+     */
+    public void connectionEvicted() {
+        evicted.increment();
+        idle.decrementAndGet();
+    }
+
+    /**
+     * An active connection was closed.
+     */
+    public void connectionClosed() {
+        active.decrementAndGet();
+    }
+
+    /**
+     * A request started waiting for a connection.
+     */
+    public void acquireStarted() {
+        pending.incrementAndGet();
+    }
+
+    /**
+     * A request stopped waiting for a connection, either with a connection, or failed.
+     */
+    public void acquireFinished() {
+        pending.decrementAndGet();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -59,5 +59,16 @@ public interface WebClientService extends NamedService {
          * @return response from the next service or HTTP call
          */
         WebClientServiceResponse proceed(WebClientServiceRequest clientRequest);
+
+        /**
+         * Whether {@link #proceed(io.helidon.webclient.api.WebClientServiceRequest)} may be invoked more than once
+         * for the same request, possibly concurrently, each time sending the request again (such as when hedging requests).
+         * Requests with an entity written through an output stream cannot be repeated.
+         *
+         * @return whether the request can be sent more than once, defaults to {@code false}
+         */
+        default boolean repeatable() {
+            return false;
+        }
     }
 }
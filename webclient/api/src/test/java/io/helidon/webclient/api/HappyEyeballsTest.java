@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.api;
+
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+
+import io.helidon.common.socket.SocketOptions;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HappyEyeballsTest {
+    private static final SocketOptions SOCKET_OPTIONS = SocketOptions.builder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void testInterleave() throws Exception {
+        InetAddress v6First = InetAddress.getByName("::1");
+        InetAddress v6Second = InetAddress.getByName("::2");
+        InetAddress v4First = InetAddress.getByName("10.0.0.1");
+        InetAddress v4Second = InetAddress.getByName("10.0.0.2");
+
+        List<InetAddress> interleaved = HappyEyeballs.interleave(List.of(v6First, v6Second, v4First, v4Second));
+        assertThat(interleaved, is(List.of(v6First, v4First, v6Second, v4Second)));
+
+        interleaved = HappyEyeballs.interleave(List.of(v4First, v6First, v6Second));
+        assertThat(interleaved, is(List.of(v4First, v6First, v6Second)));
+    }
+
+    @Test
+    void testFailedAttemptStartsNext() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 10, InetAddress.getLoopbackAddress())) {
+            int port = server.getLocalPort();
+            // nothing listens on this port on the other address, connection is refused
+            InetAddress refused = InetAddress.getByName("127.0.0.2");
+            InetAddress listening = server.getInetAddress();
+
+            long start = System.nanoTime();
+            try (Socket socket = HappyEyeballs.connect(List.of(refused, listening),
+                                                       port,
+                                                       SOCKET_OPTIONS,
+                                                       Duration.ofSeconds(30))) {
+                assertThat(socket.isConnected(), is(true));
+                assertThat(socket.getInetAddress(), is(listening));
+            }
+            // failure of the first attempt must not wait for the attempt delay
+            assertThat(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 10, is(true));
+        }
+    }
+
+    @Test
+    void testAllAttemptsFail() throws Exception {
+        int port;
+        try (ServerSocket server = new ServerSocket(0, 10, InetAddress.getLoopbackAddress())) {
+            port = server.getLocalPort();
+        }
+        List<InetAddress> addresses = List.of(InetAddress.getByName("127.0.0.2"), InetAddress.getByName("127.0.0.3"));
+
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+                                                      () -> HappyEyeballs.connect(addresses,
+                                                                                  port,
+                                                                                  SOCKET_OPTIONS,
+                                                                                  Duration.ofMillis(10)));
+        assertThat(exception.getCause().getSuppressed().length, is(2));
+    }
+}
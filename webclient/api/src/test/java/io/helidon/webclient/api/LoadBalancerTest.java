@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.api;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LoadBalancerTest {
+    private static final URI FIRST = URI.create("http://10.0.0.1:8080");
+    private static final URI SECOND = URI.create("http://10.0.0.2:8080");
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testEndpointDefaults() {
+        LoadBalancer loadBalancer = loadBalancer(LoadBalancerConfig.builder()
+                                                         .addEndpoint(URI.create("https://example.com")));
+
+        LoadBalancer.Endpoint endpoint = loadBalancer.select();
+        assertThat(endpoint.scheme(), is("https"));
+        assertThat(endpoint.host(), is("example.com"));
+        assertThat(endpoint.port(), is(443));
+    }
+
+    @Test
+    void testLeastRequests() {
+        LoadBalancer loadBalancer = loadBalancer(LoadBalancerConfig.builder()
+                                                         .addEndpoint(FIRST)
+                                                         .addEndpoint(SECOND));
+        LoadBalancer.Endpoint busy = loadBalancer.endpoints().getFirst();
+        busy.requestStarted();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalancer.select().uri(), is(SECOND));
+        }
+    }
+
+    @Test
+    void testPeakEwma() {
+        LoadBalancer loadBalancer = loadBalancer(LoadBalancerConfig.builder()
+                                                         .policy(LoadBalancer.Policy.PEAK_EWMA)
+                                                         .addEndpoint(FIRST)
+                                                         .addEndpoint(SECOND));
+        LoadBalancer.Endpoint slow = loadBalancer.endpoints().getFirst();
+        LoadBalancer.Endpoint fast = loadBalancer.endpoints().getLast();
+        request(slow, Duration.ofMillis(100), true);
+        request(fast, Duration.ofMillis(10), true);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalancer.select(), sameInstance(fast));
+        }
+    }
+
+    @Test
+    void testOutlierEjection() {
+        LoadBalancer loadBalancer = loadBalancer(LoadBalancerConfig.builder()
+                                                         .consecutiveFailures(2)
+                                                         .ejectionTime(Duration.ofSeconds(10))
+                                                         .addEndpoint(FIRST)
+                                                         .addEndpoint(SECOND));
+        LoadBalancer.Endpoint failing = loadBalancer.endpoints().getFirst();
+        LoadBalancer.Endpoint healthy = loadBalancer.endpoints().getLast();
+
+        request(failing, Duration.ofMillis(1), false);
+        assertThat(failing.ejected(), is(false));
+        request(failing, Duration.ofMillis(1), false);
+        assertThat(failing.ejected(), is(true));
+        // at most half of the endpoints can be ejected
+        request(healthy, Duration.ofMillis(1), false);
+        request(healthy, Duration.ofMillis(1), false);
+        assertThat(healthy.ejected(), is(false));
+
+        // the ejected endpoint would be chosen otherwise, as it has fewer requests in progress
+        healthy.requestStarted();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalancer.select(), sameInstance(healthy));
+        }
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(failing.ejected(), is(false));
+        assertThat(loadBalancer.select(), sameInstance(failing));
+    }
+
+    @Test
+    void testSingleEndpointNotEjected() {
+        LoadBalancer loadBalancer = loadBalancer(LoadBalancerConfig.builder()
+                                                         .consecutiveFailures(1)
+                                                         .addEndpoint(FIRST));
+        LoadBalancer.Endpoint endpoint = loadBalancer.select();
+        request(endpoint, Duration.ofMillis(1), false);
+
+        assertThat(endpoint.ejected(), is(false));
+    }
+
+    @Test
+    void testEndpointsRefreshed() throws InterruptedException {
+        AtomicReference<List<URI>> uris = new AtomicReference<>(List.of(FIRST));
+        LoadBalancer loadBalancer = loadBalancer(LoadBalancerConfig.builder()
+                                                         .refreshInterval(Duration.ofSeconds(30))
+                                                         .endpointsSupplier(uris::get));
+        List<LoadBalancer.Endpoint> endpoints = loadBalancer.endpoints();
+        assertThat(endpoints.size(), is(1));
+        LoadBalancer.Endpoint first = endpoints.getFirst();
+        first.requestStarted();
+
+        uris.set(List.of(FIRST, SECOND));
+        assertThat(loadBalancer.endpoints().size(), is(1));
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        for (int i = 0; i < 100 && loadBalancer.endpoints().size() == 1; i++) {
+            Thread.sleep(10);
+        }
+        endpoints = loadBalancer.endpoints();
+        assertThat(endpoints.size(), is(2));
+        assertThat(endpoints.getFirst(), sameInstance(first));
+        assertThat(endpoints.getFirst().inFlight(), is(1));
+    }
+
+    private LoadBalancer loadBalancer(LoadBalancerConfig.Builder builder) {
+        return new LoadBalancer(builder.buildPrototype(), clock::get);
+    }
+
+    private void request(LoadBalancer.Endpoint endpoint, Duration latency, boolean success) {
+        long started = endpoint.requestStarted();
+        clock.addAndGet(latency.toNanos());
+        endpoint.requestFinished(started, success);
+    }
+}
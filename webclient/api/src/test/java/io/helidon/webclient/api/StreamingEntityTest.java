@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.common.buffers.BufferData;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingEntityTest {
+    @Test
+    void testNotStreamed() {
+        assertThat(StreamingEntity.handler("Hello"), is(nullValue()));
+        assertThat(StreamingEntity.handler(new byte[0]), is(nullValue()));
+    }
+
+    @Test
+    void testInputStreamClosed() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes("Hello")) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        assertThat(write(in), is("Hello"));
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    void testChannel() throws IOException {
+        assertThat(write(Channels.newChannel(new ByteArrayInputStream(bytes("Hello")))), is("Hello"));
+    }
+
+    @Test
+    void testPublisherRequestsAsWritten() throws IOException {
+        List<Object> items = List.of(bytes("a"),
+                                     ByteBuffer.wrap(bytes("b")),
+                                     ByteBuffer.wrap(bytes("c")).asReadOnlyBuffer(),
+                                     BufferData.create("d"));
+        AtomicLong maxOutstanding = new AtomicLong();
+        Flow.Publisher<Object> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            private long requested;
+            private int index;
+
+            @Override
+            public void request(long n) {
+                requested += n;
+                maxOutstanding.accumulateAndGet(requested, Math::max);
+                while (requested > 0 && index < items.size()) {
+                    requested--;
+                    subscriber.onNext(items.get(index++));
+                }
+                if (index == items.size()) {
+                    index++;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        assertThat(write(publisher), is("abcd"));
+        assertThat(maxOutstanding.get(), is(8L));
+    }
+
+    @Test
+    void testPublisherFailure() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Object> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                subscriber.onNext("not bytes");
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.set(true);
+            }
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> write(publisher));
+        assertThat(cancelled.get(), is(true));
+
+        Flow.Publisher<Object> failing = subscriber -> {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("failed"));
+        };
+        IOException e = assertThrows(IOException.class, () -> write(failing));
+        assertThat(e.getCause().getMessage(), is("failed"));
+    }
+
+    private static String write(Object entity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingEntity.handler(entity).handle(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
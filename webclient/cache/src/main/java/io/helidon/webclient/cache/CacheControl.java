@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parsed {@code Cache-Control} directives of a request or a response (RFC 9111, section 5.2).
+ * Durations are in seconds, {@code -1} if the directive is not present.
+ */
+final class CacheControl {
+    private static final CacheControl EMPTY = new CacheControl();
+
+    private boolean noStore;
+    private boolean noCache;
+    private boolean mustRevalidate;
+    private boolean isPublic;
+    private boolean onlyIfCached;
+    private boolean immutable;
+    private long maxAge = -1;
+    private long sharedMaxAge = -1;
+    private long maxStale = -1;
+    private long minFresh = -1;
+    private long staleWhileRevalidate = -1;
+    private long staleIfError = -1;
+
+    private CacheControl() {
+    }
+
+    /**
+     * Parse values of {@code Cache-Control} header(s).
+     *
+     * @param values header values, each may contain more than one directive
+     * @return parsed directives
+     */
+    static CacheControl parse(List<String> values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        CacheControl result = new CacheControl();
+        for (String value : values) {
+            result.parse(value);
+        }
+        return result;
+    }
+
+    boolean noStore() {
+        return noStore;
+    }
+
+    boolean noCache() {
+        return noCache;
+    }
+
+    boolean mustRevalidate() {
+        return mustRevalidate;
+    }
+
+    boolean isPublic() {
+        return isPublic;
+    }
+
+    boolean onlyIfCached() {
+        return onlyIfCached;
+    }
+
+    boolean immutable() {
+        return immutable;
+    }
+
+    long maxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Response {@code s-maxage}, only used to decide whether a response to an authorized request may be stored.
+     */
+    long sharedMaxAge() {
+        return sharedMaxAge;
+    }
+
+    /**
+     * Request {@code max-stale}, {@link Long#MAX_VALUE} if present without a value.
+     */
+    long maxStale() {
+        return maxStale;
+    }
+
+    long minFresh() {
+        return minFresh;
+    }
+
+    long staleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    long staleIfError() {
+        return staleIfError;
+    }
+
+    private void parse(String value) {
+        int index = 0;
+        int length = value.length();
+        while (index < length) {
+            int nameStart = skipWhitespace(value, index);
+            int nameEnd = nameStart;
+            while (nameEnd < length && value.charAt(nameEnd) != '=' && value.charAt(nameEnd) != ',') {
+                nameEnd++;
+            }
+            String name = value.substring(nameStart, nameEnd).trim();
+            String argument = null;
+            index = nameEnd;
+            if (index < length && value.charAt(index) == '=') {
+                int argumentStart = skipWhitespace(value, index + 1);
+                if (argumentStart < length && value.charAt(argumentStart) == '"') {
+                    // quoted string may contain commas
+                    int argumentEnd = value.indexOf('"', argumentStart + 1);
+                    argumentEnd = argumentEnd == -1 ? length : argumentEnd;
+                    argument = value.substring(argumentStart + 1, argumentEnd);
+                    index = argumentEnd + 1;
+                } else {
+                    int argumentEnd = value.indexOf(',', argumentStart);
+                    argumentEnd = argumentEnd == -1 ? length : argumentEnd;
+                    argument = value.substring(argumentStart, argumentEnd).trim();
+                    index = argumentEnd;
+                }
+            }
+            // skip to the next directive
+            while (index < length && value.charAt(index) != ',') {
+                index++;
+            }
+            index++;
+            directive(name, argument);
+        }
+    }
+
+    private void directive(String name, String argument) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "no-store" -> noStore = true;
+            // no-cache with field names is handled as an unqualified no-cache
+            case "no-cache" -> noCache = true;
+            case "must-revalidate" -> mustRevalidate = true;
+            case "public" -> isPublic = true;
+            case "only-if-cached" -> onlyIfCached = true;
+            case "immutable" -> immutable = true;
+            case "max-age" -> maxAge = seconds(argument, maxAge);
+            case "s-maxage" -> sharedMaxAge = seconds(argument, sharedMaxAge);
+            case "max-stale" -> maxStale = argument == null ? Long.MAX_VALUE : seconds(argument, maxStale);
+            case "min-fresh" -> minFresh = seconds(argument, minFresh);
+            case "stale-while-revalidate" -> staleWhileRevalidate = seconds(argument, staleWhileRevalidate);
+            case "stale-if-error" -> staleIfError = seconds(argument, staleIfError);
+            default -> {
+                // other directives do not change behavior of a private cache
+            }
+        }
+    }
+
+    private static long seconds(String argument, long current) {
+        if (argument == null) {
+            return current;
+        }
+        try {
+            return Math.max(0, Long.parseLong(argument));
+        } catch (NumberFormatException e) {
+            // RFC 9111, section 1.2.2: delta-seconds too large to represent
+            return !argument.isEmpty() && argument.chars().allMatch(Character::isDigit) ? Long.MAX_VALUE / 1000 : current;
+        }
+    }
+
+    private static int skipWhitespace(String value, int index) {
+        int result = index;
+        while (result < value.length() && Character.isWhitespace(value.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Storage of cached responses. Implementations must be thread safe, and may drop any response at any time
+ * (such as to stay within a size limit).
+ */
+public interface CacheStorage {
+    /**
+     * Storage in memory, evicting least recently used responses when full.
+     *
+     * @param maxSize maximal size of stored responses in bytes
+     * @return a new memory storage
+     */
+    static CacheStorage memory(long maxSize) {
+        return new MemoryCacheStorage(maxSize);
+    }
+
+    /**
+     * Storage in files of a directory, evicting least recently used responses when full.
+     * Responses already stored in the directory are used.
+     *
+     * @param directory directory to store responses in, created if it does not exist
+     * @param maxSize   maximal size of stored responses in bytes
+     * @return a new file storage
+     */
+    static CacheStorage file(Path directory, long maxSize) {
+        return new FileCacheStorage(directory, maxSize);
+    }
+
+    /**
+     * Get a stored response.
+     *
+     * @param key cache key
+     * @return stored response, or empty if not stored
+     */
+    Optional<CachedResponse> get(String key);
+
+    /**
+     * Store a response, replacing any response stored with the same key.
+     *
+     * @param key      cache key
+     * @param response response to store
+     */
+    void put(String key, CachedResponse response);
+
+    /**
+     * Remove a stored response.
+     *
+     * @param key cache key
+     */
+    void remove(String key);
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * A response stored in a {@link io.helidon.webclient.cache.CacheStorage}.
+ * Instances are immutable, the entity array must not be modified.
+ */
+public final class CachedResponse {
+    // rough overhead of an entry in memory, in addition to headers and entity
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final byte[] entity;
+    private final Map<String, String> varyHeaders;
+    private final Instant requestTime;
+    private final Instant responseTime;
+
+    private CachedResponse(int status,
+                           Map<String, List<String>> headers,
+                           byte[] entity,
+                           Map<String, String> varyHeaders,
+                           Instant requestTime,
+                           Instant responseTime) {
+        this.status = status;
+        this.headers = headers;
+        this.entity = entity;
+        this.varyHeaders = varyHeaders;
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+    }
+
+    /**
+     * Create a new cached response.
+     *
+     * @param status       response status code
+     * @param headers      response headers (header name to values)
+     * @param entity       response entity, empty array if there is no entity
+     * @param varyHeaders  values of request headers listed in the {@code Vary} response header; headers not present
+     *                     in the request are not present in this map
+     * @param requestTime  time the request was sent
+     * @param responseTime time the response was received
+     * @return a new cached response
+     */
+    public static CachedResponse create(int status,
+                                        Map<String, List<String>> headers,
+                                        byte[] entity,
+                                        Map<String, String> varyHeaders,
+                                        Instant requestTime,
+                                        Instant responseTime) {
+        Map<String, List<String>> headersCopy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, values) -> headersCopy.put(name, List.copyOf(values)));
+        Map<String, String> varyCopy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        varyCopy.putAll(varyHeaders);
+
+        return new CachedResponse(status,
+                                  Collections.unmodifiableMap(headersCopy),
+                                  Objects.requireNonNull(entity),
+                                  Collections.unmodifiableMap(varyCopy),
+                                  Objects.requireNonNull(requestTime),
+                                  Objects.requireNonNull(responseTime));
+    }
+
+    /**
+     * Response status code.
+     *
+     * @return status code
+     */
+    public int status() {
+        return status;
+    }
+
+    /**
+     * Response headers, with case-insensitive names.
+     *
+     * @return headers
+     */
+    public Map<String, List<String>> headers() {
+        return headers;
+    }
+
+    /**
+     * Response entity.
+     *
+     * @return entity bytes, must not be modified
+     */
+    public byte[] entity() {
+        return entity;
+    }
+
+    /**
+     * Values of request headers that select this response (see {@code Vary}), with case-insensitive names.
+     *
+     * @return vary header values
+     */
+    public Map<String, String> varyHeaders() {
+        return varyHeaders;
+    }
+
+    /**
+     * Time the request was sent.
+     *
+     * @return request time
+     */
+    public Instant requestTime() {
+        return requestTime;
+    }
+
+    /**
+     * Time the response was received.
+     *
+     * @return response time
+     */
+    public Instant responseTime() {
+        return responseTime;
+    }
+
+    /**
+     * Approximate size of this response in memory.
+     *
+     * @return size in bytes
+     */
+    public long size() {
+        long size = ENTRY_OVERHEAD + entity.length;
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            size += entry.getKey().length();
+            for (String value : entry.getValue()) {
+                size += value.length();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Values of a header.
+     *
+     * @param name header name
+     * @return values, empty if the header is not present
+     */
+    List<String> header(String name) {
+        return headers.getOrDefault(name, List.of());
+    }
+
+    @Override
+    public String toString() {
+        return status + " " + headers + " (" + entity.length + " bytes)";
+    }
+}
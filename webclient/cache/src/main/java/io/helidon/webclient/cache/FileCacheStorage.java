@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Size bounded storage in files of a directory, evicting least recently used responses.
+ * Each response is stored in a file named by a hash of its key, written to a temporary file first and then moved,
+ * so readers never see a partially written response.
+ */
+final class FileCacheStorage implements CacheStorage {
+    private static final System.Logger LOGGER = System.getLogger(FileCacheStorage.class.getName());
+    // "HCC1" - Helidon client cache, version 1
+    private static final int MAGIC = 0x48434331;
+    private static final String SUFFIX = ".cache";
+    // protection against corrupted files
+    private static final int MAX_STRING_LENGTH = 1024 * 1024;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // file name to file size, access ordered, guarded by lock
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private final Path directory;
+    private final long maxSize;
+    private long size;
+
+    FileCacheStorage(Path directory, long maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive, but is: " + maxSize);
+        }
+        this.directory = directory;
+        this.maxSize = maxSize;
+        try {
+            Files.createDirectories(directory);
+            loadExisting();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to initialize cache directory " + directory, e);
+        }
+    }
+
+    @Override
+    public Optional<CachedResponse> get(String key) {
+        String fileName = fileName(key);
+        lock.lock();
+        try {
+            if (files.get(fileName) == null) {
+                return Optional.empty();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(directory.resolve(
+                fileName))))) {
+            return Optional.ofNullable(read(in, key));
+        } catch (NoSuchFileException e) {
+            forget(fileName);
+            return Optional.empty();
+        } catch (IOException e) {
+            LOGGER.log(DEBUG, "Failed to read cached response for " + key + ", removing it", e);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        if (response.size() > maxSize) {
+            remove(key);
+            return;
+        }
+        String fileName = fileName(key);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, fileName, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(out, key, response);
+            }
+            long fileSize = Files.size(temp);
+            lock.lock();
+            try {
+                Files.move(temp, directory.resolve(fileName),
+                           StandardCopyOption.REPLACE_EXISTING,
+                           StandardCopyOption.ATOMIC_MOVE);
+                temp = null;
+                Long previous = files.put(fileName, fileSize);
+                size += fileSize - (previous == null ? 0 : previous);
+                evict();
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            LOGGER.log(DEBUG, "Failed to store cached response for " + key, e);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        String fileName = fileName(key);
+        lock.lock();
+        try {
+            forgetLocked(fileName);
+            deleteQuietly(directory.resolve(fileName));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + SUFFIX;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void write(DataOutputStream out, String key, CachedResponse response) throws IOException {
+        out.writeInt(MAGIC);
+        writeString(out, key);
+        out.writeInt(response.status());
+        out.writeLong(response.requestTime().toEpochMilli());
+        out.writeLong(response.responseTime().toEpochMilli());
+        out.writeInt(response.headers().size());
+        for (Map.Entry<String, List<String>> header : response.headers().entrySet()) {
+            writeString(out, header.getKey());
+            out.writeInt(header.getValue().size());
+            for (String value : header.getValue()) {
+                writeString(out, value);
+            }
+        }
+        out.writeInt(response.varyHeaders().size());
+        for (Map.Entry<String, String> vary : response.varyHeaders().entrySet()) {
+            writeString(out, vary.getKey());
+            writeString(out, vary.getValue());
+        }
+        out.writeInt(response.entity().length);
+        out.write(response.entity());
+    }
+
+    private static CachedResponse read(DataInputStream in, String key) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a cached response file");
+        }
+        if (!key.equals(readString(in))) {
+            // hash collision, treat as not cached
+            return null;
+        }
+        int status = in.readInt();
+        Instant requestTime = Instant.ofEpochMilli(in.readLong());
+        Instant responseTime = Instant.ofEpochMilli(in.readLong());
+        int headerCount = count(in);
+        Map<String, List<String>> headers = new HashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            String name = readString(in);
+            int valueCount = count(in);
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readString(in));
+            }
+            headers.put(name, values);
+        }
+        int varyCount = count(in);
+        Map<String, String> varyHeaders = new HashMap<>();
+        for (int i = 0; i < varyCount; i++) {
+            varyHeaders.put(readString(in), readString(in));
+        }
+        int entityLength = in.readInt();
+        if (entityLength < 0) {
+            throw new IOException("Corrupted cached response file");
+        }
+        byte[] entity = in.readNBytes(entityLength);
+        if (entity.length != entityLength) {
+            throw new IOException("Corrupted cached response file, entity is truncated");
+        }
+        return CachedResponse.create(status, headers, entity, varyHeaders, requestTime, responseTime);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IOException("Corrupted cached response file");
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("Corrupted cached response file, string is truncated");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int count(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_STRING_LENGTH) {
+            throw new IOException("Corrupted cached response file");
+        }
+        return count;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.log(DEBUG, "Failed to delete cache file " + path, e);
+        }
+    }
+
+    private void loadExisting() throws IOException {
+        List<Path> existing;
+        try (Stream<Path> list = Files.list(directory)) {
+            existing = list.filter(it -> it.getFileName().toString().endsWith(SUFFIX))
+                    .toList();
+        }
+        Map<Path, FileTime> modified = new HashMap<>();
+        for (Path path : existing) {
+            modified.put(path, Files.getLastModifiedTime(path));
+        }
+        lock.lock();
+        try {
+            // oldest first, as the least recently used
+            for (Path path : existing.stream().sorted(Comparator.comparing(modified::get)).toList()) {
+                long fileSize = Files.size(path);
+                files.put(path.getFileName().toString(), fileSize);
+                size += fileSize;
+            }
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = files.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            size -= eldest.getValue();
+            iterator.remove();
+            deleteQuietly(directory.resolve(eldest.getKey()));
+        }
+    }
+
+    private void forget(String fileName) {
+        lock.lock();
+        try {
+            forgetLocked(fileName);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void forgetLocked(String fileName) {
+        Long removed = files.remove(fileName);
+        if (removed != null) {
+            size -= removed;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import io.helidon.http.DateTime;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+
+/**
+ * Freshness and age of stored responses (RFC 9111, section 4.2).
+ */
+final class Freshness {
+    // status codes that can be cached using heuristic freshness, RFC 9110, section 15.1
+    private static final Set<Integer> HEURISTIC_STATUSES = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+
+    private Freshness() {
+    }
+
+    /**
+     * Freshness lifetime of a stored response in seconds, RFC 9111, section 4.2.1.
+     *
+     * @param cached          stored response
+     * @param responseControl cache control directives of the response
+     * @return freshness lifetime
+     */
+    static long lifetime(CachedResponse cached, CacheControl responseControl) {
+        if (responseControl.maxAge() >= 0) {
+            return responseControl.maxAge();
+        }
+        Instant date = date(cached, HeaderNames.DATE).orElse(cached.responseTime());
+        if (!cached.header(HeaderNames.EXPIRES.defaultCase()).isEmpty()) {
+            // invalid dates (such as "0") mean already expired
+            return date(cached, HeaderNames.EXPIRES)
+                    .map(expires -> Math.max(0, Duration.between(date, expires).toSeconds()))
+                    .orElse(0L);
+        }
+        if (HEURISTIC_STATUSES.contains(cached.status())) {
+            // RFC 9111, section 4.2.2, a fraction of the time since the last modification
+            return date(cached, HeaderNames.LAST_MODIFIED)
+                    .map(lastModified -> Math.max(0, Duration.between(lastModified, date).toSeconds() / 10))
+                    .orElse(0L);
+        }
+        return 0;
+    }
+
+    /**
+     * Current age of a stored response in seconds, RFC 9111, section 4.2.3.
+     *
+     * @param cached stored response
+     * @param now    current time
+     * @return age
+     */
+    static long ageSeconds(CachedResponse cached, Instant now) {
+        long responseTime = cached.responseTime().toEpochMilli();
+        long requestTime = cached.requestTime().toEpochMilli();
+        long dateValue = date(cached, HeaderNames.DATE).map(Instant::toEpochMilli).orElse(responseTime);
+        long ageValue = 0;
+        List<String> age = cached.header(HeaderNames.AGE.defaultCase());
+        if (!age.isEmpty()) {
+            try {
+                ageValue = Math.max(0, Long.parseLong(age.getFirst().trim())) * 1000;
+            } catch (NumberFormatException ignored) {
+                // invalid age is ignored
+            }
+        }
+        long apparentAge = Math.max(0, responseTime - dateValue);
+        long correctedAgeValue = ageValue + (responseTime - requestTime);
+        long correctedInitialAge = Math.max(apparentAge, correctedAgeValue);
+        long residentTime = now.toEpochMilli() - responseTime;
+        return (correctedInitialAge + residentTime) / 1000;
+    }
+
+    /**
+     * Whether a stored response can be used without revalidation, RFC 9111, sections 4.2 and 5.2.1.
+     *
+     * @param requestControl  cache control directives of the request
+     * @param responseControl cache control directives of the stored response
+     * @param age             current age of the stored response in seconds
+     * @param lifetime        freshness lifetime of the stored response in seconds
+     * @return whether the stored response can be used
+     */
+    static boolean usable(CacheControl requestControl, CacheControl responseControl, long age, long lifetime) {
+        boolean fresh = age < lifetime;
+        if (fresh && responseControl.immutable()) {
+            return true;
+        }
+        if (requestControl.maxAge() >= 0 && age > requestControl.maxAge()) {
+            return false;
+        }
+        if (requestControl.minFresh() >= 0 && lifetime - age < requestControl.minFresh()) {
+            return false;
+        }
+        if (fresh) {
+            return true;
+        }
+        // stale, only usable if the client accepts it
+        return !responseControl.mustRevalidate() && age - lifetime <= requestControl.maxStale();
+    }
+
+    /**
+     * Whether a stale response can be used when revalidation fails (RFC 5861, section 4).
+     *
+     * @param requestControl  cache control directives of the request
+     * @param responseControl cache control directives of the stored response
+     * @param staleness       seconds since the stored response became stale
+     * @return whether the stored response can be used on error
+     */
+    static boolean staleIfError(CacheControl requestControl, CacheControl responseControl, long staleness) {
+        if (responseControl.mustRevalidate() || responseControl.noCache() || requestControl.noCache()) {
+            return false;
+        }
+        return staleness <= Math.max(requestControl.staleIfError(), responseControl.staleIfError());
+    }
+
+    private static Optional<Instant> date(CachedResponse cached, HeaderName headerName) {
+        List<String> values = cached.header(headerName.defaultCase());
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(DateTime.parse(values.getFirst().trim()).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
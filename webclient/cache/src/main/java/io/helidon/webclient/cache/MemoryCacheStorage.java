@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size bounded in memory storage, evicting least recently used responses.
+ */
+final class MemoryCacheStorage implements CacheStorage {
+    private final ReentrantLock lock = new ReentrantLock();
+    // access ordered, guarded by lock
+    private final LinkedHashMap<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxSize;
+    private long size;
+
+    MemoryCacheStorage(long maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive, but is: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Optional<CachedResponse> get(String key) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(responses.get(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        long responseSize = response.size();
+        lock.lock();
+        try {
+            removeLocked(key);
+            if (responseSize > maxSize) {
+                return;
+            }
+            responses.put(key, response);
+            size += responseSize;
+            Iterator<Map.Entry<String, CachedResponse>> iterator = responses.entrySet().iterator();
+            while (size > maxSize && iterator.hasNext()) {
+                Map.Entry<String, CachedResponse> eldest = iterator.next();
+                size -= eldest.getValue().size();
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        lock.lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeLocked(String key) {
+        CachedResponse removed = responses.remove(key);
+        if (removed != null) {
+            size -= removed.size();
+        }
+    }
+}
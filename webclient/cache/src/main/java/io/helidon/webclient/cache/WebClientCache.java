@@ -0,0 +1,644 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.helidon.common.config.Config;
+import io.helidon.common.context.Contexts;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.ClientResponseHeaders;
+import io.helidon.http.ClientResponseTrailers;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Headers;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.metrics.api.Counter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.Tag;
+import io.helidon.webclient.api.ReleasableResource;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Client service caching responses as described by <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+ * <p>
+ * Responses to {@code GET} requests are stored when they have an explicit expiration time ({@code max-age},
+ * or {@code Expires}), or a validator ({@code ETag}, or {@code Last-Modified}). Fresh responses are served
+ * without contacting the server, stale responses are revalidated using a conditional request, and served from the cache
+ * if the server replies with {@code 304 Not Modified}. The cache also supports:
+ * <ul>
+ *     <li>{@code Vary} - a stored response is only used for requests with the same values of the listed headers;
+ *          only the last variant of each URI is stored</li>
+ *     <li>{@code stale-while-revalidate} - a stale response is served, and revalidated in the background</li>
+ *     <li>{@code stale-if-error} - a stale response is served if revalidation fails, or the server replies with
+ *          a {@code 5xx} status</li>
+ *     <li>request directives {@code no-cache}, {@code no-store}, {@code max-age}, {@code max-stale},
+ *          {@code min-fresh} and {@code only-if-cached}</li>
+ * </ul>
+ * A successful response to a request with an unsafe method (such as {@code POST}) removes the stored response
+ * of the same URI.
+ * <p>
+ * This is a private cache of a single client, so responses with {@code Cache-Control: private} are stored as well.
+ * Responses to requests with an {@code Authorization} header are only stored if the response explicitly allows it
+ * with {@code public}, {@code must-revalidate}, or {@code s-maxage} (RFC 9111, section 3.5), as the stored response
+ * is served to any request of the same URI.
+ * <p>
+ * The following metrics are registered, tagged by the name of this service:
+ * <ul>
+ *     <li>{@code webclient.cache.hits} - responses served from the cache without contacting the server</li>
+ *     <li>{@code webclient.cache.misses} - requests with no stored response</li>
+ *     <li>{@code webclient.cache.revalidations} - stored responses validated by the server
+ *          ({@code 304 Not Modified})</li>
+ *     <li>{@code webclient.cache.bytes.saved} - entity bytes served from the cache instead of being transferred</li>
+ * </ul>
+ */
+public class WebClientCache implements WebClientService {
+    private static final System.Logger LOGGER = System.getLogger(WebClientCache.class.getName());
+    private static final Set<Method> SAFE_METHODS = Set.of(Method.GET, Method.HEAD, Method.OPTIONS, Method.TRACE);
+    // headers not stored, as they only apply to a single connection, RFC 9110, section 7.6.1
+    private static final Set<HeaderName> HOP_BY_HOP = Set.of(HeaderNames.CONNECTION,
+                                                             HeaderNames.create("Keep-Alive"),
+                                                             HeaderNames.create("Proxy-Connection"),
+                                                             HeaderNames.PROXY_AUTHENTICATE,
+                                                             HeaderNames.PROXY_AUTHORIZATION,
+                                                             HeaderNames.TE,
+                                                             HeaderNames.TRAILER,
+                                                             HeaderNames.TRANSFER_ENCODING,
+                                                             HeaderNames.UPGRADE);
+    // responses served without a connection (or with a connection already released) have nothing to release
+    private static final ReleasableResource NO_RESOURCE = () -> {
+    };
+
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private final String name;
+    private final boolean enabled;
+    private final CacheStorage storage;
+    private final int maxEntrySize;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter revalidations;
+    private final Counter bytesSaved;
+
+    private WebClientCache(Builder builder) {
+        this.name = builder.name;
+        this.enabled = builder.enabled;
+        this.storage = builder.storage == null ? CacheStorage.memory(Builder.DEFAULT_MAX_SIZE) : builder.storage;
+        this.maxEntrySize = builder.maxEntrySize;
+
+        MeterRegistry registry = Metrics.globalRegistry();
+        List<Tag> tags = List.of(Tag.create("name", name));
+        this.hits = registry.getOrCreate(Counter.builder("webclient.cache.hits")
+                                                 .description("Responses served from the cache without contacting "
+                                                                      + "the server")
+                                                 .scope(VENDOR)
+                                                 .tags(tags));
+        this.misses = registry.getOrCreate(Counter.builder("webclient.cache.misses")
+                                                   .description("Requests with no stored response")
+                                                   .scope(VENDOR)
+                                                   .tags(tags));
+        this.revalidations = registry.getOrCreate(Counter.builder("webclient.cache.revalidations")
+                                                          .description("Stored responses validated by the server")
+                                                          .scope(VENDOR)
+                                                          .tags(tags));
+        this.bytesSaved = registry.getOrCreate(Counter.builder("webclient.cache.bytes.saved")
+                                                       .description("Entity bytes served from the cache")
+                                                       .scope(VENDOR)
+                                                       .tags(tags));
+    }
+
+    /**
+     * A new builder for client cache.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates new client cache with default configuration (10 MiB in memory, entities up to 1 MiB).
+     *
+     * @return client cache service
+     */
+    public static WebClientCache create() {
+        return builder().build();
+    }
+
+    /**
+     * Creates new client cache from configuration.
+     *
+     * @param config configuration, see {@link Builder#config(io.helidon.common.config.Config)}
+     * @return client cache service
+     */
+    public static WebClientCache create(Config config) {
+        return builder().config(config).build();
+    }
+
+    @Override
+    public String type() {
+        return "cache";
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest request) {
+        if (!enabled) {
+            return chain.proceed(request);
+        }
+        Method method = request.method();
+        if (!Method.GET.equals(method)) {
+            if (SAFE_METHODS.contains(method)) {
+                return chain.proceed(request);
+            }
+            // RFC 9111, section 4.4
+            String key = key(request);
+            WebClientServiceResponse response = chain.proceed(request);
+            if (response.status().code() < 400) {
+                storage.remove(key);
+            }
+            return response;
+        }
+
+        ClientRequestHeaders headers = request.headers();
+        CacheControl requestControl = requestControl(headers);
+        if (requestControl.noStore()
+                || headers.contains(HeaderNames.IF_NONE_MATCH)
+                || headers.contains(HeaderNames.IF_MODIFIED_SINCE)
+                || headers.contains(HeaderNames.IF_MATCH)
+                || headers.contains(HeaderNames.IF_UNMODIFIED_SINCE)
+                || headers.contains(HeaderNames.RANGE)) {
+            // the user handles caching, or partial content, which is not cached
+            return chain.proceed(request);
+        }
+
+        String key = key(request);
+        CachedResponse cached = storage.get(key)
+                .filter(it -> varyMatches(it, headers))
+                .orElse(null);
+        if (cached == null) {
+            if (requestControl.onlyIfCached()) {
+                return gatewayTimeout(request);
+            }
+            misses.increment();
+            return fetch(chain, request, key);
+        }
+
+        CacheControl responseControl = CacheControl.parse(cached.header(HeaderNames.CACHE_CONTROL.defaultCase()));
+        long age = Freshness.ageSeconds(cached, Instant.now());
+        long lifetime = Freshness.lifetime(cached, responseControl);
+        long staleness = age - lifetime;
+        boolean mustValidate = requestControl.noCache() || responseControl.noCache();
+
+        if (!mustValidate && Freshness.usable(requestControl, responseControl, age, lifetime)) {
+            return hit(request, cached, age);
+        }
+        if (!mustValidate
+                && !responseControl.mustRevalidate()
+                && staleness >= 0
+                && staleness <= responseControl.staleWhileRevalidate()
+                && chain.repeatable()) {
+            revalidateInBackground(chain, request, key, cached);
+            return hit(request, cached, age);
+        }
+        if (requestControl.onlyIfCached()) {
+            return gatewayTimeout(request);
+        }
+        return revalidate(chain, request, key, cached, Freshness.staleIfError(requestControl, responseControl, staleness));
+    }
+
+    private static CacheControl requestControl(Headers headers) {
+        if (headers.contains(HeaderNames.CACHE_CONTROL)) {
+            return CacheControl.parse(headers.values(HeaderNames.CACHE_CONTROL));
+        }
+        // HTTP/1.0 clients, RFC 9111, section 5.4
+        if (headers.values(HeaderNames.PRAGMA).contains("no-cache")) {
+            return CacheControl.parse(List.of("no-cache"));
+        }
+        return CacheControl.parse(List.of());
+    }
+
+    private static String key(WebClientServiceRequest request) {
+        String uri = request.uri().toUri().toString();
+        int fragment = uri.indexOf('#');
+        return "GET " + (fragment == -1 ? uri : uri.substring(0, fragment));
+    }
+
+    private static boolean varyMatches(CachedResponse cached, Headers requestHeaders) {
+        for (String vary : varyNames(cached.header(HeaderNames.VARY.defaultCase()))) {
+            if (!Objects.equals(cached.varyHeaders().get(vary), varyValue(requestHeaders, vary))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> varyNames(List<String> varyValues) {
+        return varyValues.stream()
+                .flatMap(it -> Arrays.stream(it.split(",")))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty())
+                .toList();
+    }
+
+    private static String varyValue(Headers headers, String name) {
+        HeaderName headerName = HeaderNames.create(name);
+        if (!headers.contains(headerName)) {
+            return null;
+        }
+        return String.join(",", headers.get(headerName).allValues());
+    }
+
+    private WebClientServiceResponse fetch(Chain chain, WebClientServiceRequest request, String key) {
+        Instant requestTime = Instant.now();
+        WebClientServiceResponse response = chain.proceed(request);
+        return store(request, key, response, requestTime);
+    }
+
+    private WebClientServiceResponse revalidate(Chain chain,
+                                                WebClientServiceRequest request,
+                                                String key,
+                                                CachedResponse cached,
+                                                boolean staleIfError) {
+        ClientRequestHeaders headers = request.headers();
+        cached.header(HeaderNames.ETAG.defaultCase())
+                .stream()
+                .findFirst()
+                .ifPresent(it -> headers.set(HeaderNames.IF_NONE_MATCH, it));
+        cached.header(HeaderNames.LAST_MODIFIED.defaultCase())
+                .stream()
+                .findFirst()
+                .ifPresent(it -> headers.set(HeaderNames.IF_MODIFIED_SINCE, it));
+
+        Instant requestTime = Instant.now();
+        WebClientServiceResponse response;
+        try {
+            response = chain.proceed(request);
+        } catch (RuntimeException e) {
+            if (staleIfError) {
+                LOGGER.log(DEBUG, "Serving a stale response, as revalidation of " + key + " failed", e);
+                return hit(request, cached, Freshness.ageSeconds(cached, Instant.now()));
+            }
+            throw e;
+        }
+
+        int status = response.status().code();
+        if (status == Status.NOT_MODIFIED_304_CODE) {
+            // no entity, the connection can be reused right away
+            response.connection().releaseResource();
+            revalidations.increment();
+            bytesSaved.increment(cached.entity().length);
+            CachedResponse updated = updated(cached, response.headers(), requestTime, Instant.now());
+            storage.put(key, updated);
+            return serve(request, updated, Freshness.ageSeconds(updated, Instant.now()));
+        }
+        if (status >= 500 && staleIfError) {
+            response.connection().closeResource();
+            return hit(request, cached, Freshness.ageSeconds(cached, Instant.now()));
+        }
+        return store(request, key, response, requestTime);
+    }
+
+    private void revalidateInBackground(Chain chain, WebClientServiceRequest request, String key, CachedResponse cached) {
+        if (!revalidating.add(key)) {
+            // already being revalidated
+            return;
+        }
+        WebClientServiceRequest revalidation = new RevalidationRequest(request);
+        Thread.ofVirtual()
+                .name("helidon-client-cache-" + revalidation.requestId())
+                .start(() -> Contexts.runInContext(request.context(), () -> {
+                    try {
+                        discard(revalidate(chain, revalidation, key, cached, false));
+                    } catch (RuntimeException e) {
+                        LOGGER.log(DEBUG, "Background revalidation of " + key + " failed", e);
+                    } finally {
+                        revalidating.remove(key);
+                    }
+                }));
+    }
+
+    private WebClientServiceResponse store(WebClientServiceRequest request,
+                                           String key,
+                                           WebClientServiceResponse response,
+                                           Instant requestTime) {
+        if (!storable(request, response)) {
+            return response;
+        }
+        InputStream inputStream = response.inputStream().orElse(null);
+        byte[] entity;
+        if (inputStream == null) {
+            entity = new byte[0];
+        } else {
+            try {
+                entity = inputStream.readNBytes(maxEntrySize + 1);
+            } catch (IOException e) {
+                response.connection().closeResource();
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                response.connection().closeResource();
+                throw e;
+            }
+            if (entity.length > maxEntrySize) {
+                // too big to cache, the user gets the bytes already read followed by the rest of the entity
+                return WebClientServiceResponse.builder()
+                        .from(response)
+                        .inputStream(new SequenceInputStream(new ByteArrayInputStream(entity), inputStream))
+                        .build();
+            }
+        }
+        // the whole entity was read
+        response.connection().releaseResource();
+
+        Map<String, List<String>> headers = new HashMap<>();
+        for (Header header : response.headers()) {
+            if (!HOP_BY_HOP.contains(header.headerName())) {
+                headers.put(header.name(), header.allValues());
+            }
+        }
+        headers.put(HeaderNames.CONTENT_LENGTH.defaultCase(), List.of(String.valueOf(entity.length)));
+
+        Map<String, String> varyHeaders = new HashMap<>();
+        for (String vary : varyNames(response.headers().values(HeaderNames.VARY))) {
+            String value = varyValue(request.headers(), vary);
+            if (value != null) {
+                varyHeaders.put(vary, value);
+            }
+        }
+        CachedResponse cached = CachedResponse.create(response.status().code(),
+                                                      headers,
+                                                      entity,
+                                                      varyHeaders,
+                                                      requestTime,
+                                                      Instant.now());
+        storage.put(key, cached);
+        return serve(request, cached, Freshness.ageSeconds(cached, Instant.now()));
+    }
+
+    private boolean storable(WebClientServiceRequest request, WebClientServiceResponse response) {
+        int status = response.status().code();
+        if (status < 200 || status == Status.PARTIAL_CONTENT_206_CODE || status == Status.NOT_MODIFIED_304_CODE) {
+            return false;
+        }
+        Headers headers = response.headers();
+        if (headers.values(HeaderNames.VARY).contains("*")) {
+            return false;
+        }
+        CacheControl control = CacheControl.parse(headers.values(HeaderNames.CACHE_CONTROL));
+        if (control.noStore()) {
+            return false;
+        }
+        // RFC 9111, section 3.5
+        if (request.headers().contains(HeaderNames.AUTHORIZATION)
+                && !control.isPublic()
+                && !control.mustRevalidate()
+                && control.sharedMaxAge() < 0) {
+            return false;
+        }
+        // not worth storing without a way to know it is fresh, or to revalidate it
+        return control.maxAge() >= 0
+                || headers.contains(HeaderNames.EXPIRES)
+                || headers.contains(HeaderNames.ETAG)
+                || headers.contains(HeaderNames.LAST_MODIFIED);
+    }
+
+    private CachedResponse updated(CachedResponse cached, Headers notModified, Instant requestTime, Instant responseTime) {
+        // RFC 9111, section 3.2
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(cached.headers());
+        for (Header header : notModified) {
+            HeaderName headerName = header.headerName();
+            if (!HOP_BY_HOP.contains(headerName) && !HeaderNames.CONTENT_LENGTH.equals(headerName)) {
+                headers.put(header.name(), header.allValues());
+            }
+        }
+        return CachedResponse.create(cached.status(),
+                                     headers,
+                                     cached.entity(),
+                                     cached.varyHeaders(),
+                                     requestTime,
+                                     responseTime);
+    }
+
+    private WebClientServiceResponse hit(WebClientServiceRequest request, CachedResponse cached, long age) {
+        hits.increment();
+        bytesSaved.increment(cached.entity().length);
+        return serve(request, cached, age);
+    }
+
+    private WebClientServiceResponse serve(WebClientServiceRequest request, CachedResponse cached, long age) {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        cached.headers().forEach((name, values) -> headers.set(HeaderNames.create(name), values));
+        headers.set(HeaderNames.AGE, String.valueOf(age));
+
+        WebClientServiceResponse.Builder builder = WebClientServiceResponse.builder()
+                .headers(ClientResponseHeaders.create(headers))
+                .status(Status.create(cached.status()))
+                .connection(NO_RESOURCE)
+                .trailers(CompletableFuture.completedFuture(ClientResponseTrailers.create()))
+                .whenComplete(request.whenComplete().toCompletableFuture())
+                .serviceRequest(request);
+        if (cached.entity().length > 0) {
+            builder.inputStream(new ByteArrayInputStream(cached.entity()));
+        }
+        return builder.build();
+    }
+
+    private WebClientServiceResponse gatewayTimeout(WebClientServiceRequest request) {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.set(HeaderNames.CONTENT_LENGTH, "0");
+        return WebClientServiceResponse.builder()
+                .headers(ClientResponseHeaders.create(headers))
+                .status(Status.GATEWAY_TIMEOUT_504)
+                .connection(NO_RESOURCE)
+                .trailers(CompletableFuture.completedFuture(ClientResponseTrailers.create()))
+                .whenComplete(request.whenComplete().toCompletableFuture())
+                .serviceRequest(request)
+                .build();
+    }
+
+    private void discard(WebClientServiceResponse response) {
+        try {
+            Optional<InputStream> inputStream = response.inputStream();
+            if (inputStream.isPresent()) {
+                inputStream.get().transferTo(OutputStream.nullOutputStream());
+            }
+            response.connection().releaseResource();
+        } catch (IOException | RuntimeException e) {
+            response.connection().closeResource();
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link WebClientCache}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, WebClientCache> {
+        private static final long DEFAULT_MAX_SIZE = 10 * 1024 * 1024;
+
+        private String name = "cache";
+        private boolean enabled = true;
+        private CacheStorage storage;
+        private int maxEntrySize = 1024 * 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * Name of this service, used as a tag of metrics.
+         *
+         * @param name name of the service
+         * @return updated builder instance
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Whether the cache is enabled.
+         *
+         * @param enabled whether to cache responses
+         * @return updated builder instance
+         */
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Storage of responses, defaults to 10 MiB in memory.
+         *
+         * @param storage cache storage
+         * @return updated builder instance
+         * @see io.helidon.webclient.cache.CacheStorage#memory(long)
+         * @see io.helidon.webclient.cache.CacheStorage#file(java.nio.file.Path, long)
+         */
+        public Builder storage(CacheStorage storage) {
+            this.storage = Objects.requireNonNull(storage);
+            return this;
+        }
+
+        /**
+         * Maximal size of a cached entity in bytes, larger entities are not cached. Entities up to this size are read
+         * into memory before the response is returned, to be stored.
+         *
+         * @param maxEntrySize maximal entity size
+         * @return updated builder instance
+         */
+        public Builder maxEntrySize(int maxEntrySize) {
+            if (maxEntrySize < 0 || maxEntrySize == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Max entry size must not be negative or max integer, but is: "
+                                                           + maxEntrySize);
+            }
+            this.maxEntrySize = maxEntrySize;
+            return this;
+        }
+
+        /**
+         * Configure cache from configuration.
+         * The following configuration key are used:
+         * <table>
+         * <caption>Client cache configuration options</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>enabled</td>
+         *     <td>{@code true}</td>
+         *     <td>Whether the cache is enabled</td>
+         * </tr>
+         * <tr>
+         *     <td>max-entry-size</td>
+         *     <td>{@code 1048576}</td>
+         *     <td>Maximal size of a cached entity in bytes</td>
+         * </tr>
+         * <tr>
+         *     <td>storage.type</td>
+         *     <td>{@code memory}</td>
+         *     <td>Type of storage, {@code memory} or {@code file}</td>
+         * </tr>
+         * <tr>
+         *     <td>storage.max-size</td>
+         *     <td>{@code 10485760}</td>
+         *     <td>Maximal size of stored responses in bytes</td>
+         * </tr>
+         * <tr>
+         *     <td>storage.directory</td>
+         *     <td>&nbsp;</td>
+         *     <td>Directory of the {@code file} storage, required for that type</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration to configure cache
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("enabled").asBoolean().ifPresent(this::enabled);
+            config.get("max-entry-size").asInt().ifPresent(this::maxEntrySize);
+            Config storageConfig = config.get("storage");
+            if (storageConfig.exists()) {
+                long maxSize = storageConfig.get("max-size").asLong().orElse(DEFAULT_MAX_SIZE);
+                String type = storageConfig.get("type").asString().orElse("memory");
+                switch (type) {
+                    case "memory" -> storage(CacheStorage.memory(maxSize));
+                    case "file" -> storage(CacheStorage.file(Path.of(storageConfig.get("directory").asString().get()),
+                                                             maxSize));
+                    default -> throw new IllegalArgumentException("Unsupported cache storage type: " + type
+                                                                          + ", supported types: memory, file");
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public WebClientCache build() {
+            return new WebClientCache(this);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import io.helidon.common.Weight;
+import io.helidon.common.Weighted;
+import io.helidon.common.config.Config;
+import io.helidon.webclient.spi.WebClientService;
+import io.helidon.webclient.spi.WebClientServiceProvider;
+
+/**
+ * Client cache SPI provider implementation.
+ * <p>
+ * The cache is disabled when the provider is discovered and there is no {@code cache} configuration of client services.
+ * <p>
+ * Weight must be lower than that of security, so cached responses are only served to requests that passed
+ * outbound security, and higher than that of hedging, so responses served from the cache are not hedged.
+ *
+ * @deprecated This class should only be used via {@link java.util.ServiceLoader}.
+ *  Use {@link WebClientCache} instead
+ */
+@Deprecated
+@Weight(Weighted.DEFAULT_WEIGHT - 20)
+public class WebClientCacheProvider implements WebClientServiceProvider {
+    /**
+     * Required public constructor.
+     *
+     * @deprecated This class should only be used via {@link java.util.ServiceLoader}.
+     */
+    @Deprecated
+    public WebClientCacheProvider() {
+    }
+
+    @Override
+    public String configKey() {
+        return "cache";
+    }
+
+    @Override
+    public WebClientService create(Config config, String name) {
+        return WebClientCache.builder()
+                .name(name)
+                .enabled(config.exists())
+                .config(config)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CacheControlTest {
+    @Test
+    void testEmpty() {
+        CacheControl control = CacheControl.parse(List.of());
+
+        assertThat(control.noStore(), is(false));
+        assertThat(control.noCache(), is(false));
+        assertThat(control.maxAge(), is(-1L));
+        assertThat(control.maxStale(), is(-1L));
+    }
+
+    @Test
+    void testDirectives() {
+        CacheControl control = CacheControl.parse(List.of("max-age=60, Must-Revalidate",
+                                                          "stale-while-revalidate=30,stale-if-error=\"120\""));
+
+        assertThat(control.maxAge(), is(60L));
+        assertThat(control.mustRevalidate(), is(true));
+        assertThat(control.staleWhileRevalidate(), is(30L));
+        assertThat(control.staleIfError(), is(120L));
+        assertThat(control.noCache(), is(false));
+    }
+
+    @Test
+    void testSharedCacheDirectives() {
+        CacheControl control = CacheControl.parse(List.of("public, s-maxage=600"));
+
+        assertThat(control.isPublic(), is(true));
+        assertThat(control.sharedMaxAge(), is(600L));
+        assertThat(control.maxAge(), is(-1L));
+    }
+
+    @Test
+    void testQuotedArgumentWithComma() {
+        CacheControl control = CacheControl.parse(List.of("no-cache=\"Set-Cookie, Authorization\", no-store"));
+
+        assertThat(control.noCache(), is(true));
+        assertThat(control.noStore(), is(true));
+    }
+
+    @Test
+    void testMaxStaleWithoutValue() {
+        CacheControl control = CacheControl.parse(List.of("max-stale"));
+
+        assertThat(control.maxStale(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testInvalidValues() {
+        CacheControl control = CacheControl.parse(List.of("max-age=abc, min-fresh=, max-stale=99999999999999999999"));
+
+        assertThat(control.maxAge(), is(-1L));
+        assertThat(control.minFresh(), is(-1L));
+        assertThat(control.maxStale(), is(Long.MAX_VALUE / 1000));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class FileCacheStorageTest {
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("helidon-client-cache");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void testStoredResponse() {
+        Instant time = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        CachedResponse response = CachedResponse.create(200,
+                                                        Map.of("ETag", List.of("\"v1\""),
+                                                               "Vary", List.of("Accept-Language")),
+                                                        "Hello".getBytes(StandardCharsets.UTF_8),
+                                                        Map.of("Accept-Language", "en"),
+                                                        time.minusMillis(10),
+                                                        time);
+        CacheStorage storage = new FileCacheStorage(directory, 10_000);
+        storage.put("GET http://localhost/greet", response);
+
+        // a new storage reads responses stored in the directory
+        CachedResponse read = new FileCacheStorage(directory, 10_000).get("GET http://localhost/greet").orElseThrow();
+
+        assertThat(read.status(), is(200));
+        assertThat(read.header("etag"), is(List.of("\"v1\"")));
+        assertThat(new String(read.entity(), StandardCharsets.UTF_8), is("Hello"));
+        assertThat(read.varyHeaders().get("accept-language"), is("en"));
+        assertThat(read.requestTime(), is(time.minusMillis(10)));
+        assertThat(read.responseTime(), is(time));
+    }
+
+    @Test
+    void testRemove() {
+        CacheStorage storage = new FileCacheStorage(directory, 10_000);
+        storage.put("a", response(10));
+        storage.remove("a");
+
+        assertThat(storage.get("a").isPresent(), is(false));
+        assertThat(new FileCacheStorage(directory, 10_000).get("a").isPresent(), is(false));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() throws IOException {
+        FileCacheStorage storage = new FileCacheStorage(directory, 1000);
+        storage.put("a", response(400));
+        storage.put("b", response(400));
+        storage.get("a");
+        storage.put("c", response(400));
+
+        assertThat(storage.get("a").isPresent(), is(true));
+        assertThat(storage.get("b").isPresent(), is(false));
+        assertThat(storage.get("c").isPresent(), is(true));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count(), is(2L));
+        }
+    }
+
+    @Test
+    void testCorruptedFileIsMiss() throws IOException {
+        FileCacheStorage storage = new FileCacheStorage(directory, 10_000);
+        storage.put("a", response(10));
+        try (Stream<Path> files = Files.list(directory)) {
+            Files.write(files.findFirst().orElseThrow(), new byte[] {1, 2, 3});
+        }
+
+        assertThat(storage.get("a").isPresent(), is(false));
+        assertThat(storage.size(), is(0L));
+    }
+
+    private static CachedResponse response(int entitySize) {
+        return CachedResponse.create(200, Map.of(), new byte[entitySize], Map.of(), Instant.now(), Instant.now());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class FreshnessTest {
+    private static final Instant RESPONSE_TIME = Instant.parse("2026-01-01T10:00:00Z");
+    private static final String DATE = "Thu, 01 Jan 2026 10:00:00 GMT";
+
+    @Test
+    void testMaxAgeLifetime() {
+        CachedResponse cached = response(Map.of("Cache-Control", List.of("max-age=60"),
+                                                "Expires", List.of("Thu, 01 Jan 2026 11:00:00 GMT")));
+
+        assertThat(Freshness.lifetime(cached, control(cached)), is(60L));
+    }
+
+    @Test
+    void testExpiresLifetime() {
+        CachedResponse cached = response(Map.of("Date", List.of(DATE),
+                                                "Expires", List.of("Thu, 01 Jan 2026 11:00:00 GMT")));
+
+        assertThat(Freshness.lifetime(cached, control(cached)), is(3600L));
+    }
+
+    @Test
+    void testInvalidExpiresIsExpired() {
+        CachedResponse cached = response(Map.of("Date", List.of(DATE),
+                                                "Expires", List.of("0"),
+                                                "Last-Modified", List.of("Wed, 31 Dec 2025 10:00:00 GMT")));
+
+        assertThat(Freshness.lifetime(cached, control(cached)), is(0L));
+    }
+
+    @Test
+    void testHeuristicLifetime() {
+        CachedResponse cached = response(Map.of("Date", List.of(DATE),
+                                                "Last-Modified", List.of("Wed, 31 Dec 2025 10:00:00 GMT")));
+
+        // 10 % of one day
+        assertThat(Freshness.lifetime(cached, control(cached)), is(8640L));
+    }
+
+    @Test
+    void testAge() {
+        CachedResponse cached = CachedResponse.create(200,
+                                                      Map.of("Date", List.of(DATE), "Age", List.of("10")),
+                                                      new byte[0],
+                                                      Map.of(),
+                                                      RESPONSE_TIME.minusSeconds(2),
+                                                      RESPONSE_TIME);
+
+        // age from upstream cache, plus response delay, plus time spent in this cache
+        assertThat(Freshness.ageSeconds(cached, RESPONSE_TIME.plusSeconds(30)), is(42L));
+    }
+
+    @Test
+    void testUsable() {
+        CacheControl none = CacheControl.parse(List.of());
+
+        assertThat(Freshness.usable(none, none, 10, 60), is(true));
+        assertThat(Freshness.usable(none, none, 60, 60), is(false));
+        assertThat(Freshness.usable(CacheControl.parse(List.of("max-age=5")), none, 10, 60), is(false));
+        assertThat(Freshness.usable(CacheControl.parse(List.of("min-fresh=55")), none, 10, 60), is(false));
+        assertThat(Freshness.usable(CacheControl.parse(List.of("max-stale=30")), none, 80, 60), is(true));
+        assertThat(Freshness.usable(CacheControl.parse(List.of("max-stale=30")),
+                                    CacheControl.parse(List.of("must-revalidate")),
+                                    80,
+                                    60),
+                   is(false));
+    }
+
+    @Test
+    void testStaleIfError() {
+        CacheControl none = CacheControl.parse(List.of());
+        CacheControl staleIfError = CacheControl.parse(List.of("stale-if-error=60"));
+
+        assertThat(Freshness.staleIfError(none, none, 10), is(false));
+        assertThat(Freshness.staleIfError(none, staleIfError, 10), is(true));
+        assertThat(Freshness.staleIfError(none, staleIfError, 61), is(false));
+        assertThat(Freshness.staleIfError(staleIfError, none, 10), is(true));
+    }
+
+    private static CacheControl control(CachedResponse cached) {
+        return CacheControl.parse(cached.header("Cache-Control"));
+    }
+
+    private static CachedResponse response(Map<String, List<String>> headers) {
+        return CachedResponse.create(200, headers, new byte[0], Map.of(), RESPONSE_TIME, RESPONSE_TIME);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.cache;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MemoryCacheStorageTest {
+    @Test
+    void testPutGetRemove() {
+        MemoryCacheStorage storage = new MemoryCacheStorage(10_000);
+        CachedResponse response = response(100);
+
+        storage.put("a", response);
+        assertThat(storage.get("a").orElseThrow(), is(response));
+        assertThat(storage.size(), is(response.size()));
+
+        storage.remove("a");
+        assertThat(storage.get("a").isPresent(), is(false));
+        assertThat(storage.size(), is(0L));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        CachedResponse response = response(100);
+        MemoryCacheStorage storage = new MemoryCacheStorage(response.size() * 2);
+
+        storage.put("a", response);
+        storage.put("b", response);
+        // a is now more recently used than b
+        storage.get("a");
+        storage.put("c", response);
+
+        assertThat(storage.get("a").isPresent(), is(true));
+        assertThat(storage.get("b").isPresent(), is(false));
+        assertThat(storage.get("c").isPresent(), is(true));
+        assertThat(storage.size(), is(response.size() * 2));
+    }
+
+    @Test
+    void testTooLargeNotStored() {
+        MemoryCacheStorage storage = new MemoryCacheStorage(1000);
+        storage.put("a", response(10));
+
+        // replaces the previous response, even though it is not stored
+        storage.put("a", response(1000));
+
+        assertThat(storage.get("a").isPresent(), is(false));
+        assertThat(storage.size(), is(0L));
+    }
+
+    private static CachedResponse response(int entitySize) {
+        return CachedResponse.create(200,
+                                     Map.of("Content-Type", List.of("text/plain")),
+                                     new byte[entitySize],
+                                     Map.of(),
+                                     Instant.now(),
+                                     Instant.now());
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.Security;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import io.helidon.webclient.api.DnsAddressLookup;
+import io.helidon.webclient.api.RuntimeUnknownHostException;
+import io.helidon.webclient.spi.DnsResolver;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * DNS resolver that caches resolved addresses of each host for a configured time to live.
+ * <p>
+ * Concurrent lookups of the same host share a single DNS query. Once {@value #REFRESH_PERCENT}% of the time to live
+ * elapses, the next request triggers a background refresh and is served the cached addresses, so requests do not wait
+ * for DNS queries of hosts in use. Failed lookups are cached for the negative time to live.
+ * <p>
+ * The Java resolver does not expose time to live of DNS records, so the time to live is configured. It defaults to
+ * the value of security property {@code networkaddress.cache.ttl} (or {@value #DEFAULT_TTL_SECONDS} seconds), and
+ * negative time to live to {@code networkaddress.cache.negative.ttl} (or {@value #DEFAULT_NEGATIVE_TTL_SECONDS} seconds).
+ */
+public final class CachingDnsResolver implements DnsResolver {
+    private static final System.Logger LOGGER = System.getLogger(CachingDnsResolver.class.getName());
+    private static final int REFRESH_PERCENT = 80;
+    private static final long DEFAULT_TTL_SECONDS = 30;
+    private static final long DEFAULT_NEGATIVE_TTL_SECONDS = 10;
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final long refreshNanos;
+    private final long negativeTtlNanos;
+    private final Lookup lookup;
+    private final LongSupplier nanoTime;
+
+    CachingDnsResolver(Duration ttl, Duration negativeTtl, Lookup lookup, LongSupplier nanoTime) {
+        if (ttl.isNegative() || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("Time to live must not be negative, but ttl is: " + ttl
+                                                       + ", negative ttl is: " + negativeTtl);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.refreshNanos = ttlNanos / 100 * REFRESH_PERCENT;
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.lookup = lookup;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Create new instance with time to live based on the {@code networkaddress.cache.ttl}
+     * and {@code networkaddress.cache.negative.ttl} security properties.
+     *
+     * @return new instance
+     */
+    public static CachingDnsResolver create() {
+        return create(securityTtl("networkaddress.cache.ttl", DEFAULT_TTL_SECONDS),
+                      securityTtl("networkaddress.cache.negative.ttl", DEFAULT_NEGATIVE_TTL_SECONDS));
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @param ttl         how long to cache resolved addresses
+     * @param negativeTtl how long to cache failed lookups
+     * @return new instance
+     */
+    public static CachingDnsResolver create(Duration ttl, Duration negativeTtl) {
+        Objects.requireNonNull(ttl);
+        Objects.requireNonNull(negativeTtl);
+        return new CachingDnsResolver(ttl, negativeTtl, InetAddress::getAllByName, System::nanoTime);
+    }
+
+    @Override
+    public InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup) {
+        return resolveAddresses(hostname, dnsAddressLookup).getFirst();
+    }
+
+    @Override
+    public List<InetAddress> resolveAddresses(String hostname, DnsAddressLookup dnsAddressLookup) {
+        Objects.requireNonNull(hostname);
+        Objects.requireNonNull(dnsAddressLookup);
+
+        InetAddress[] processed = dnsAddressLookup.filter(addresses(hostname));
+        if (processed.length == 0) {
+            throw new RuntimeUnknownHostException("No IP version " + dnsAddressLookup.name() + " found for host " + hostname);
+        }
+        return List.of(processed);
+    }
+
+    private static Duration securityTtl(String property, long defaultSeconds) {
+        String value = Security.getProperty(property);
+        if (value != null) {
+            try {
+                long seconds = Long.parseLong(value.trim());
+                // negative value means "cache forever" for the JDK, we always want to expire
+                if (seconds >= 0) {
+                    return Duration.ofSeconds(seconds);
+                }
+            } catch (NumberFormatException e) {
+                LOGGER.log(DEBUG, "Invalid value of security property " + property + ": " + value, e);
+            }
+        }
+        return Duration.ofSeconds(defaultSeconds);
+    }
+
+    private InetAddress[] addresses(String hostname) {
+        long now = nanoTime.getAsLong();
+        Entry entry = cache.get(hostname);
+        if (entry == null || entry.expired(now)) {
+            Entry created = new Entry();
+            entry = cache.compute(hostname, (host, existing) -> existing == null || existing.expired(now) ? created : existing);
+            if (entry == created) {
+                load(hostname, created);
+            }
+        } else if (entry.refreshDue(now) && entry.refreshing.compareAndSet(false, true)) {
+            refresh(hostname, entry);
+        }
+
+        try {
+            return entry.addresses.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeUnknownHostException unknownHost) {
+                throw unknownHost;
+            }
+            throw e;
+        }
+    }
+
+    private void load(String hostname, Entry entry) {
+        try {
+            InetAddress[] addresses = lookup.lookup(hostname);
+            long now = nanoTime.getAsLong();
+            entry.refreshAt = now + refreshNanos;
+            entry.expiresAt = now + ttlNanos;
+            entry.addresses.complete(addresses);
+        } catch (UnknownHostException e) {
+            entry.expiresAt = nanoTime.getAsLong() + negativeTtlNanos;
+            entry.addresses.completeExceptionally(new RuntimeUnknownHostException(e));
+        } catch (RuntimeException e) {
+            // do not cache unexpected failures
+            cache.remove(hostname, entry);
+            entry.addresses.completeExceptionally(e);
+        }
+    }
+
+    private void refresh(String hostname, Entry stale) {
+        Thread.ofVirtual()
+                .name("helidon-dns-refresh-" + hostname)
+                .start(() -> {
+                    Entry refreshed = new Entry();
+                    load(hostname, refreshed);
+                    if (refreshed.addresses.isCompletedExceptionally()) {
+                        // keep serving the cached addresses until they expire
+                        LOGGER.log(DEBUG, "Failed to refresh addresses of host " + hostname);
+                        stale.refreshing.set(false);
+                    } else {
+                        cache.replace(hostname, stale, refreshed);
+                    }
+                });
+    }
+
+    /**
+     * Host name lookup, {@link java.net.InetAddress#getAllByName(String)} by default.
+     */
+    @FunctionalInterface
+    interface Lookup {
+        InetAddress[] lookup(String hostname) throws UnknownHostException;
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<InetAddress[]> addresses = new CompletableFuture<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        // written before the future is completed, read only after it is done
+        private volatile long refreshAt;
+        private volatile long expiresAt;
+
+        private boolean expired(long now) {
+            return addresses.isDone() && now - expiresAt >= 0;
+        }
+
+        private boolean refreshDue(long now) {
+            return addresses.isDone()
+                    && !addresses.isCompletedExceptionally()
+                    && now - refreshAt >= 0;
+        }
+    }
+}
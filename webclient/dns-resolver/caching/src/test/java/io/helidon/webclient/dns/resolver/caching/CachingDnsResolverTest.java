@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.helidon.webclient.api.DnsAddressLookup;
+import io.helidon.webclient.api.RuntimeUnknownHostException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingDnsResolverTest {
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(2);
+
+    private final AtomicLong time = new AtomicLong();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicReference<String> address = new AtomicReference<>("10.0.0.1");
+    private final CachingDnsResolver resolver = new CachingDnsResolver(TTL, NEGATIVE_TTL, this::lookup, time::get);
+
+    @Test
+    void testCached() {
+        assertThat(resolve("service"), is("10.0.0.1"));
+        assertThat(resolve("service"), is("10.0.0.1"));
+        assertThat(lookups.get(), is(1));
+    }
+
+    @Test
+    void testExpired() {
+        assertThat(resolve("service"), is("10.0.0.1"));
+        address.set("10.0.0.2");
+        advance(TTL);
+
+        assertThat(resolve("service"), is("10.0.0.2"));
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    void testNegativeCache() {
+        assertThrows(RuntimeUnknownHostException.class, () -> resolve("unknown"));
+        assertThrows(RuntimeUnknownHostException.class, () -> resolve("unknown"));
+        assertThat(lookups.get(), is(1));
+
+        advance(NEGATIVE_TTL);
+        assertThrows(RuntimeUnknownHostException.class, () -> resolve("unknown"));
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    void testRefreshAhead() throws InterruptedException {
+        assertThat(resolve("service"), is("10.0.0.1"));
+        address.set("10.0.0.2");
+        advance(TTL.multipliedBy(9).dividedBy(10));
+
+        // cached value is returned, refresh happens in background
+        assertThat(resolve("service"), is("10.0.0.1"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!resolve("service").equals("10.0.0.2") && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(resolve("service"), is("10.0.0.2"));
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    void testConcurrentLookupsCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CachingDnsResolver blocking = new CachingDnsResolver(TTL, NEGATIVE_TTL, host -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new UnknownHostException(host);
+            }
+            return lookup(host);
+        }, time::get);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<InetAddress> first = executor.submit(() -> blocking.resolveAddress("service", DnsAddressLookup.IPV4));
+            assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+            Future<InetAddress> second = executor.submit(() -> blocking.resolveAddress("service", DnsAddressLookup.IPV4));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getHostAddress(), is("10.0.0.1"));
+            assertThat(second.get(5, TimeUnit.SECONDS).getHostAddress(), is("10.0.0.1"));
+        }
+        assertThat(lookups.get(), is(1));
+    }
+
+    @Test
+    void testAllAddresses() {
+        List<InetAddress> addresses = resolver.resolveAddresses("multi", DnsAddressLookup.IPV4);
+        assertThat(addresses.size(), is(2));
+        assertThat(addresses.get(1).getHostAddress(), is("10.0.0.3"));
+    }
+
+    private String resolve(String host) {
+        return resolver.resolveAddress(host, DnsAddressLookup.IPV4).getHostAddress();
+    }
+
+    private void advance(Duration duration) {
+        time.addAndGet(duration.toNanos());
+    }
+
+    private InetAddress[] lookup(String host) throws UnknownHostException {
+        lookups.incrementAndGet();
+        return switch (host) {
+            case "service" -> new InetAddress[] {InetAddress.getByName(address.get())};
+            case "multi" -> new InetAddress[] {InetAddress.getByName("10.0.0.2"), InetAddress.getByName("10.0.0.3")};
+            default -> throw new UnknownHostException(host);
+        };
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,10 @@
 
 package io.helidon.webclient.grpc;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.time.Duration;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,7 +29,11 @@ import java.util.concurrent.atomic.AtomicLong;
 import io.helidon.common.LazyValue;
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.socket.HelidonSocket;
+import io.helidon.grpc.core.GrpcCompression;
+import io.helidon.grpc.core.GrpcMessageDeframer;
+import io.helidon.grpc.core.GrpcMessageFramer;
 import io.helidon.http.Header;
+import io.helidon.http.HeaderName;
 import io.helidon.http.HeaderNames;
 import io.helidon.http.HeaderValues;
 import io.helidon.http.WritableHeaders;
@@ -46,18 +48,15 @@ import io.helidon.metrics.api.Tag;
 import io.helidon.metrics.api.Timer;
 import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.ClientUri;
-import io.helidon.webclient.api.ConnectionKey;
-import io.helidon.webclient.api.DefaultDnsResolver;
-import io.helidon.webclient.api.DnsAddressLookup;
-import io.helidon.webclient.api.Proxy;
-import io.helidon.webclient.api.TcpClientConnection;
-import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.http2.Http2ClientConnection;
 import io.helidon.webclient.http2.Http2ClientImpl;
 import io.helidon.webclient.http2.Http2StreamConfig;
 
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
+import io.grpc.Compressor;
+import io.grpc.Decompressor;
+import io.grpc.KnownLength;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 
@@ -71,18 +70,20 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
     private static final System.Logger LOGGER = System.getLogger(GrpcBaseClientCall.class.getName());
 
     protected static final Metadata EMPTY_METADATA = new Metadata();
-    protected static final Header GRPC_ACCEPT_ENCODING = HeaderValues.create(HeaderNames.ACCEPT_ENCODING, "gzip");
+    protected static final HeaderName GRPC_ENCODING = HeaderNames.create("grpc-encoding");
+    protected static final HeaderName GRPC_ACCEPT_ENCODING = HeaderNames.create("grpc-accept-encoding");
     protected static final Header GRPC_CONTENT_TYPE = HeaderValues.create(HeaderNames.CONTENT_TYPE, "application/grpc");
 
     protected static final BufferData PING_FRAME = BufferData.create("PING");
     protected static final BufferData EMPTY_BUFFER_DATA = BufferData.empty();
-    protected static final int DATA_PREFIX_LENGTH = 5;
 
     protected static final Tag OK_TAG = Tag.create("grpc.status", "OK");
     protected record MethodMetrics(Counter callStarted,
                                    Timer callDuration,
                                    DistributionSummary sentMessageSize,
-                                   DistributionSummary recvMessageSize) { }
+                                   DistributionSummary recvMessageSize,
+                                   DistributionSummary compressionRatio,
+                                   Timer compressionDuration) { }
     private static final LazyValue<Map<String, MethodMetrics>> METHOD_METRICS = LazyValue.create(ConcurrentHashMap::new);
 
     private final GrpcClientImpl grpcClient;
@@ -95,9 +96,12 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
     private final Duration heartbeatPeriod;
     private final ClientUriSupplier clientUriSupplier;
     private final GrpcClientConfig grpcConfig;
+    private final GrpcClientCompressionConfig compressionPolicy;
+    private final Compressor compressor;
 
     private final MethodDescriptor.Marshaller<ReqT> requestMarshaller;
     private final MethodDescriptor.Marshaller<ResT> responseMarshaller;
+    private final GrpcMessageDeframer deframer = new GrpcMessageDeframer();
 
     private volatile Http2ClientConnection connection;
     private volatile GrpcClientStream clientStream;
@@ -105,6 +109,8 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
     private volatile HelidonSocket socket;
     private volatile MethodMetrics methodMetrics;
     private volatile long startMillis;
+    private volatile Decompressor decompressor;
+    private volatile GrpcSubchannels.Lease lease;
 
     private AtomicLong bytesSent;
     private AtomicLong bytesRcvd;
@@ -122,6 +128,11 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
         this.abortPollTimeExpired = grpcClient.prototype().protocolConfig().abortPollTimeExpired();
         this.heartbeatPeriod = grpcClient.prototype().protocolConfig().heartbeatPeriod();
         this.clientUriSupplier = grpcClient.prototype().clientUriSupplier().orElse(null);
+        this.compressionPolicy = compressionPolicy(grpcClient.prototype().protocolConfig(),
+                                                   methodDescriptor.getFullMethodName());
+        this.compressor = compressionPolicy.enabled()
+                ? compressionPolicy.requestEncoding().map(GrpcCompression::compressor).orElse(null)
+                : null;
     }
 
     @Override
@@ -139,12 +150,21 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
             methodMetrics.callStarted.increment();
         }
 
-        // obtain HTTP2 connection
-        ClientUri clientUri = nextClientUri();
-        ClientConnection clientConnection = clientConnection(clientUri);
-        socket = clientConnection.helidonSocket();
-        connection = Http2ClientConnection.create((Http2ClientImpl) grpcClient.http2Client(),
-                                                  clientConnection, true);
+        // obtain HTTP2 connection, shared with other calls if load balanced
+        ClientUri clientUri;
+        GrpcSubchannels subchannels = grpcClient.subchannels();
+        if (subchannels == null) {
+            clientUri = nextClientUri();
+            ClientConnection clientConnection = clientConnection(clientUri);
+            socket = clientConnection.helidonSocket();
+            connection = Http2ClientConnection.create((Http2ClientImpl) grpcClient.http2Client(),
+                                                      clientConnection, true);
+        } else {
+            lease = subchannels.acquire();
+            clientUri = lease.clientUri();
+            socket = lease.socket();
+            connection = lease.connection();
+        }
 
         // create HTTP2 stream from connection
         clientStream = new GrpcClientStream(
@@ -181,7 +201,10 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
         headers.add(Http2Headers.PATH_NAME, "/" + methodDescriptor.getFullMethodName());
         headers.add(Http2Headers.SCHEME_NAME, "http");
         headers.add(GRPC_CONTENT_TYPE);
-        headers.add(GRPC_ACCEPT_ENCODING);
+        if (compressor != null) {
+            headers.add(GRPC_ENCODING, compressor.getMessageEncoding());
+        }
+        headers.add(GRPC_ACCEPT_ENCODING, acceptEncoding());
         clientStream.writeHeaders(Http2Headers.create(headers), false);
     }
 
@@ -210,23 +233,21 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
     }
 
     protected ClientConnection clientConnection(ClientUri clientUri) {
-        WebClient webClient = grpcClient.webClient();
-        GrpcClientConfig clientConfig = grpcClient.prototype();
-        ConnectionKey connectionKey = new ConnectionKey(
-                clientUri.scheme(),
-                clientUri.host(),
-                clientUri.port(),
-                clientConfig.readTimeout().orElse(Duration.ZERO),
-                clientConfig.tls(),
-                DefaultDnsResolver.create(),
-                DnsAddressLookup.defaultLookup(),
-                Proxy.noProxy());
-        return TcpClientConnection.create(webClient,
-                                          connectionKey,
-                                          Collections.emptyList(),
-                                          connection -> false,
-                                          connection -> {
-                                          }).connect();
+        return grpcClient.connect(clientUri);
+    }
+
+    /**
+     * Release the connection of this call. Connections of load balanced calls stay open for other calls,
+     * other connections are closed.
+     */
+    protected void releaseConnection() {
+        GrpcSubchannels.Lease current = lease;
+        if (current == null) {
+            connection.close();
+        } else {
+            clientStream.close();
+            current.release();
+        }
     }
 
     protected boolean isRemoteOpen() {
@@ -234,25 +255,67 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
                 && clientStream.streamState() != Http2StreamState.CLOSED;
     }
 
-    protected ResT toResponse(BufferData bufferData) {
-        bufferData.read();                  // compression
-        bufferData.readUnsignedInt32();     // length prefixed
-        return responseMarshaller.parse(new InputStream() {
-            @Override
-            public int read() {
-                return bufferData.available() > 0 ? bufferData.read() : -1;
+    /**
+     * Process response headers, selecting a decompressor of response messages.
+     *
+     * @param headers response headers
+     */
+    protected void responseHeaders(Http2Headers headers) {
+        if (headers.httpHeaders().contains(GRPC_ENCODING)) {
+            decompressor = GrpcCompression.decompressor(headers.httpHeaders().get(GRPC_ENCODING).asString().get());
+        }
+    }
+
+    protected ResT toResponse(InputStream message) {
+        if (deframer.compressed()) {
+            Decompressor current = decompressor;
+            if (current == null) {
+                throw new IllegalStateException("Received a compressed message, but compression was not negotiated");
             }
-        });
+            try (InputStream decompressed = current.decompress(message)) {
+                return responseMarshaller.parse(decompressed);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return responseMarshaller.parse(message);
     }
 
-    protected byte[] serializeMessage(ReqT message) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(initBufferSize);
+    /**
+     * Frame a request message, serializing it directly into the frame buffer where possible.
+     *
+     * @param message message to frame
+     * @return framed message
+     */
+    protected BufferData frameMessage(ReqT message) {
         try (InputStream is = requestMarshaller().stream(message)) {
-            is.transferTo(baos);
+            // small messages are not worth compressing, the size is only known for some streams
+            int messageSize = is instanceof KnownLength ? is.available() : -1;
+            if (compressor == null || (messageSize >= 0 && messageSize < compressionPolicy.minMessageSize())) {
+                return GrpcMessageFramer.frame(is, null, initBufferSize);
+            }
+            long startNanos = System.nanoTime();
+            BufferData frame = GrpcMessageFramer.frame(is, compressor, initBufferSize);
+            if (enableMetrics()) {
+                methodMetrics.compressionDuration().record(Duration.ofNanos(System.nanoTime() - startNanos));
+                int compressedSize = frame.available() - GrpcMessageFramer.PREFIX_LENGTH;
+                if (messageSize > 0 && compressedSize > 0) {
+                    methodMetrics.compressionRatio().record((double) messageSize / compressedSize);
+                }
+            }
+            return frame;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
-        return baos.toByteArray();
+    }
+
+    /**
+     * Deframer of received messages, only to be used by the reading thread.
+     *
+     * @return deframer of this call
+     */
+    protected GrpcMessageDeframer deframer() {
+        return deframer;
     }
 
     protected Duration heartbeatPeriod() {
@@ -319,6 +382,46 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
                 : clientUriSupplier.next();
     }
 
+    /**
+     * Compression policy of a method, the most specific configured policy is used.
+     *
+     * @param protocolConfig protocol configuration
+     * @param fullMethodName full name of the method, such as {@code helidon.StringService/Upper}
+     * @return compression policy
+     */
+    private static GrpcClientCompressionConfig compressionPolicy(GrpcClientProtocolConfig protocolConfig,
+                                                                 String fullMethodName) {
+        int index = fullMethodName.lastIndexOf('/');
+        String service = index < 0 ? fullMethodName : fullMethodName.substring(0, index);
+        String method = index < 0 ? "" : fullMethodName.substring(index + 1);
+
+        GrpcClientCompressionConfig result = protocolConfig.compression();
+        for (GrpcClientCompressionConfig policy : protocolConfig.compressionPolicies()) {
+            if (!policy.service().map(service::equals).orElse(true)) {
+                continue;
+            }
+            if (policy.method().isPresent()) {
+                if (policy.method().get().equals(method)) {
+                    return policy;
+                }
+            } else {
+                result = policy;
+            }
+        }
+        return result;
+    }
+
+    private String acceptEncoding() {
+        if (!compressionPolicy.enabled()) {
+            return GrpcCompression.IDENTITY;
+        }
+        List<String> accepted = compressionPolicy.acceptedEncodings()
+                .stream()
+                .filter(encoding -> GrpcCompression.decompressor(encoding) != null)
+                .toList();
+        return accepted.isEmpty() ? GrpcCompression.IDENTITY : String.join(",", accepted);
+    }
+
     protected void initMetrics() {
         String baseUri = grpcChannel.baseUri().toString();
         String methodName = methodDescriptor.getFullMethodName();
@@ -351,7 +454,24 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
                     .tags(List.of(grpcMethod, grpcTarget, OK_TAG));
             DistributionSummary recvMessageSize = meterRegistry.getOrCreate(recvMessageSizeBuilder);
 
-            return new MethodMetrics(callStarted, callDuration, sentMessageSize, recvMessageSize);
+            DistributionSummary.Builder compressionRatioBuilder = DistributionSummary.builder(
+                            "grpc.client.attempt.sent_message_compression_ratio")
+                    .scope(VENDOR)
+                    .tags(List.of(grpcMethod, grpcTarget));
+            DistributionSummary compressionRatio = meterRegistry.getOrCreate(compressionRatioBuilder);
+
+            Timer.Builder compressionDurationBuilder = Timer.builder("grpc.client.attempt.sent_message_compression_duration")
+                    .scope(VENDOR)
+                    .baseUnit(Timer.BaseUnits.MICROSECONDS)
+                    .tags(List.of(grpcMethod, grpcTarget));
+            Timer compressionDuration = meterRegistry.getOrCreate(compressionDurationBuilder);
+
+            return new MethodMetrics(callStarted,
+                                     callDuration,
+                                     sentMessageSize,
+                                     recvMessageSize,
+                                     compressionRatio,
+                                     compressionDuration);
         });
     }
 }
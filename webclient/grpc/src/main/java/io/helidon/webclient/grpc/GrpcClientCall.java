@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,10 +22,15 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.grpc.core.GrpcMessageDeframer;
 import io.helidon.http.http2.Http2FrameData;
 import io.helidon.webclient.http2.StreamTimeoutException;
 
@@ -46,16 +51,26 @@ import static java.lang.System.Logger.Level.ERROR;
  */
 class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
     private static final System.Logger LOGGER = System.getLogger(GrpcClientCall.class.getName());
+    // the call is not ready once this many bytes are queued for sending
+    private static final int ON_READY_THRESHOLD = 32 * 1024;
+    // received bytes read ahead of requested messages, further frames are left to HTTP/2 flow control
+    private static final int READ_AHEAD_BYTES = 32 * 1024;
 
     private final ExecutorService executor;
     private final AtomicInteger messageRequest = new AtomicInteger();
+    private final Semaphore messageRequested = new Semaphore(0);
 
     private final LinkedBlockingQueue<BufferData> sendingQueue = new LinkedBlockingQueue<>();
-    private final LinkedBlockingQueue<BufferData> receivingQueue = new LinkedBlockingQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean notifyReady = new AtomicBoolean();
 
     private final CountDownLatch startReadBarrier = new CountDownLatch(1);
     private final CountDownLatch startWriteBarrier = new CountDownLatch(1);
 
+    // listener is notified from the reading, writing and calling threads, one callback at a time
+    private final ReentrantLock listenerLock = new ReentrantLock();
+    private boolean listenerClosed;     // guarded by listenerLock
+
     private volatile Future<?> readStreamFuture;
     private volatile Future<?> writeStreamFuture;
     private volatile Future<?> heartbeatFuture;
@@ -69,13 +84,24 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
     public void request(int numMessages) {
         socket().log(LOGGER, DEBUG, "request called %d", numMessages);
         messageRequest.addAndGet(numMessages);
+        messageRequested.release();
         startReadBarrier.countDown();
     }
 
+    @Override
+    public boolean isReady() {
+        if (queuedBytes.get() < ON_READY_THRESHOLD) {
+            return true;
+        }
+        // onReady is called once the writing thread catches up, check again in case it already did
+        notifyReady.set(true);
+        return queuedBytes.get() < ON_READY_THRESHOLD;
+    }
+
     @Override
     public void cancel(String message, Throwable cause) {
         socket().log(LOGGER, DEBUG, "cancel called %s", message);
-        responseListener().onClose(Status.CANCELLED, EMPTY_METADATA);
+        listenerClose(Status.CANCELLED);
         readStreamFuture.cancel(true);
         writeStreamFuture.cancel(true);
         heartbeatFuture.cancel(true);
@@ -92,12 +118,9 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
     @Override
     public void sendMessage(ReqT message) {
         // serialize and queue message for writing
-        byte[] serialized = serializeMessage(message);
-        BufferData messageData = BufferData.createReadOnly(serialized, 0, serialized.length);
-        BufferData headerData = BufferData.create(DATA_PREFIX_LENGTH);
-        headerData.writeInt8(0);                                // no compression
-        headerData.writeUnsignedInt32(messageData.available());         // length prefixed
-        sendingQueue.add(BufferData.create(headerData, messageData));
+        BufferData bufferData = frameMessage(message);
+        queuedBytes.addAndGet(bufferData.available());
+        sendingQueue.add(bufferData);
         startWriteBarrier.countDown();
     }
 
@@ -148,17 +171,23 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
                         endOfStream = (sendingQueue.peek() == EMPTY_BUFFER_DATA);
                         boolean lastEndOfStream = endOfStream;
                         socket().log(LOGGER, DEBUG, "[Writing thread] writing bufferData %b", lastEndOfStream);
+                        int length = bufferData.available();
                         // update bytes sent
                         if (enableMetrics()) {
-                            bytesSent().addAndGet(bufferData.available());
+                            bytesSent().addAndGet(length);
                         }
+                        // blocks while the stream window of the server is exhausted
                         clientStream().writeData(bufferData, endOfStream);
+                        if (queuedBytes.addAndGet(-length) < ON_READY_THRESHOLD
+                                && notifyReady.compareAndSet(true, false)) {
+                            listenerReady();
+                        }
                     }
                 }
             } catch (Throwable e) {
                 socket().log(LOGGER, ERROR, e.getMessage(), e);
                 Status errorStatus = Status.UNKNOWN.withDescription(e.getMessage()).withCause(e);
-                responseListener().onClose(errorStatus, EMPTY_METADATA);
+                listenerClose(errorStatus);
             }
             socket().log(LOGGER, DEBUG, "[Writing thread] exiting");
         });
@@ -166,6 +195,9 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
         // read streaming thread
         readStreamFuture = executor.submit(() -> {
             try {
+                // the call is ready once started, applications may wait for onReady before sending messages;
+                // notified from this thread, so it precedes any message or close
+                listenerReady();
                 startReadBarrier.await();
                 socket().log(LOGGER, DEBUG, "[Reading thread] started");
 
@@ -173,7 +205,7 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
                 boolean headersRead = false;
                 do {
                     try {
-                        clientStream().readHeaders();
+                        responseHeaders(clientStream().readHeaders());
                         headersRead = true;
                     } catch (StreamTimeoutException e) {
                         handleStreamTimeout(e);
@@ -181,16 +213,27 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
                 } while (!headersRead);
 
                 // read data from stream
-                while (isRemoteOpen()) {
+                while (true) {
                     // drain queue
                     drainReceivingQueue();
 
                     // trailers or eos received?
-                    if (clientStream().trailers().isDone() || !clientStream().hasEntity()) {
+                    boolean ended = !isRemoteOpen() || clientStream().trailers().isDone() || !clientStream().hasEntity();
+                    if (ended && (messageRequest.get() > 0 || deframer().buffered() == 0)) {
                         socket().log(LOGGER, DEBUG, "[Reading thread] trailers or eos received");
                         break;
                     }
 
+                    // frames are only read (and their flow control credit returned) once messages are requested
+                    if (ended || (messageRequest.get() <= 0 && deframer().buffered() >= READ_AHEAD_BYTES)) {
+                        socket().log(LOGGER, DEBUG, "[Reading thread] waiting for message request");
+                        messageRequested.drainPermits();
+                        if (messageRequest.get() <= 0) {
+                            boolean ignored = messageRequested.tryAcquire(pollWaitTime().toMillis(), TimeUnit.MILLISECONDS);
+                        }
+                        continue;
+                    }
+
                     // attempt to read and queue
                     Http2FrameData frameData;
                     try {
@@ -200,24 +243,20 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
                         continue;
                     }
                     if (frameData != null) {
-                        BufferData bufferData = frameData.data();
-                        // update bytes received excluding prefix
-                        if (enableMetrics()) {
-                            bytesRcvd().addAndGet(bufferData.available() - DATA_PREFIX_LENGTH);
-                        }
-                        receivingQueue.add(bufferData);
-                        socket().log(LOGGER, DEBUG, "[Reading thread] adding bufferData to receiving queue");
+                        // messages are parsed from the received frames once requested
+                        deframer().add(frameData.data());
+                        socket().log(LOGGER, DEBUG, "[Reading thread] adding bufferData to deframer");
                     }
                 }
 
                 socket().log(LOGGER, DEBUG, "[Reading thread] closing listener");
-                responseListener().onClose(Status.OK, EMPTY_METADATA);
+                listenerClose(Status.OK);
             } catch (StreamTimeoutException e) {
-                responseListener().onClose(Status.DEADLINE_EXCEEDED, EMPTY_METADATA);
+                listenerClose(Status.DEADLINE_EXCEEDED);
             } catch (Throwable e) {
                 socket().log(LOGGER, ERROR, e.getMessage(), e);
                 Status errorStatus = Status.UNKNOWN.withDescription(e.getMessage()).withCause(e);
-                responseListener().onClose(errorStatus, EMPTY_METADATA);
+                listenerClose(errorStatus);
             } finally {
                 close();
             }
@@ -228,8 +267,9 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
     private void close() {
         socket().log(LOGGER, DEBUG, "closing client call");
         sendingQueue.clear();
+        queuedBytes.set(0);
         clientStream().cancel();
-        connection().close();
+        releaseConnection();
         unblockUnaryExecutor();
 
         // update metrics
@@ -243,11 +283,54 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
     }
 
     private void drainReceivingQueue() {
-        socket().log(LOGGER, DEBUG, "[Reading thread] draining receiving queue");
-        while (messageRequest.get() > 0 && !receivingQueue.isEmpty()) {
+        socket().log(LOGGER, DEBUG, "[Reading thread] draining received messages");
+        while (messageRequest.get() > 0) {
+            GrpcMessageDeframer.MessageInputStream message = deframer().next();
+            if (message == null) {
+                break;
+            }
             messageRequest.getAndDecrement();
-            ResT res = toResponse(receivingQueue.remove());
-            responseListener().onMessage(res);
+            // update bytes received excluding prefix
+            if (enableMetrics()) {
+                bytesRcvd().addAndGet(message.available());
+            }
+            ResT res = toResponse(message);
+            listenerMessage(res);
+        }
+    }
+
+    private void listenerReady() {
+        listenerLock.lock();
+        try {
+            if (!listenerClosed) {
+                responseListener().onReady();
+            }
+        } finally {
+            listenerLock.unlock();
+        }
+    }
+
+    private void listenerMessage(ResT message) {
+        listenerLock.lock();
+        try {
+            if (!listenerClosed) {
+                responseListener().onMessage(message);
+            }
+        } finally {
+            listenerLock.unlock();
+        }
+    }
+
+    // the listener is closed only once, the first status wins
+    private void listenerClose(Status status) {
+        listenerLock.lock();
+        try {
+            if (!listenerClosed) {
+                listenerClosed = true;
+                responseListener().onClose(status, EMPTY_METADATA);
+            }
+        } finally {
+            listenerLock.unlock();
         }
     }
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.grpc;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Compression policy of gRPC client calls.
+ * <p>
+ * A policy with neither {@link #service()} nor {@link #method()} applies to all methods, a policy with only a
+ * service applies to all methods of that service, and a policy with both applies to a single method.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface GrpcClientCompressionConfigBlueprint {
+
+    /**
+     * Fully qualified name of the service this policy applies to, such as {@code helidon.StringService}.
+     *
+     * @return service name, if not present, the policy applies to all services
+     */
+    @Option.Configured
+    Optional<String> service();
+
+    /**
+     * Name of the method (without the service name) this policy applies to.
+     *
+     * @return method name, if not present, the policy applies to all methods of the service
+     */
+    @Option.Configured
+    Optional<String> method();
+
+    /**
+     * Whether compression is enabled. If disabled, requests are not compressed and
+     * the server is asked not to compress responses.
+     *
+     * @return whether compression is enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(true)
+    boolean enabled();
+
+    /**
+     * Request messages smaller than this number of bytes are sent uncompressed, as compressing them rarely pays off.
+     * Only applies to messages with a known serialized size.
+     *
+     * @return minimal size of a compressed message
+     */
+    @Option.Configured
+    @Option.DefaultInt(1024)
+    int minMessageSize();
+
+    /**
+     * Encodings the server may use to compress responses, in order of preference.
+     *
+     * @return accepted encodings
+     */
+    @Option.Configured
+    @Option.Singular
+    @Option.Default({"gzip", "deflate"})
+    List<String> acceptedEncodings();
+
+    /**
+     * Encoding used to compress requests, such as {@code gzip}. Requests are not compressed unless configured,
+     * as the server must support the encoding.
+     *
+     * @return request encoding
+     */
+    @Option.Configured
+    Optional<String> requestEncoding();
+}
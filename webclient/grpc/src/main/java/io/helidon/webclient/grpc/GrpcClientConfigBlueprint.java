@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,16 @@ interface GrpcClientConfigBlueprint extends HttpClientConfig, Prototype.Factory<
      */
     Optional<ClientUriSupplier> clientUriSupplier();
 
+    /**
+     * Load balancing of calls across endpoints, using a pool of HTTP/2 connections per endpoint.
+     * If not configured, each call opens its own connection, to the base URI or to the next URI
+     * of {@link #clientUriSupplier()}. Takes precedence over {@link #clientUriSupplier()} when configured.
+     *
+     * @return load balancing configuration
+     */
+    @Option.Configured
+    Optional<GrpcLoadBalancingConfig> loadBalancing();
+
     /**
      * Whether to collect metrics for gRPC client calls.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,17 @@
 
 package io.helidon.webclient.grpc;
 
+import java.time.Duration;
+import java.util.Collections;
+
+import io.helidon.common.LazyValue;
+import io.helidon.webclient.api.ClientConnection;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.ConnectionKey;
+import io.helidon.webclient.api.DefaultDnsResolver;
+import io.helidon.webclient.api.DnsAddressLookup;
+import io.helidon.webclient.api.Proxy;
+import io.helidon.webclient.api.TcpClientConnection;
 import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.http2.Http2Client;
 
@@ -27,11 +38,16 @@ class GrpcClientImpl implements GrpcClient {
     private final WebClient webClient;
     private final Http2Client http2Client;
     private final GrpcClientConfig clientConfig;
+    // shared by all channels of this client
+    private final LazyValue<GrpcSubchannels> subchannels;
 
     GrpcClientImpl(WebClient webClient, GrpcClientConfig clientConfig) {
         this.webClient = webClient;
         this.http2Client = webClient.client(Http2Client.PROTOCOL);
         this.clientConfig = clientConfig;
+        this.subchannels = clientConfig.loadBalancing()
+                .map(config -> LazyValue.create(() -> GrpcSubchannels.create(this, config)))
+                .orElse(null);
     }
 
     WebClient webClient() {
@@ -42,6 +58,39 @@ class GrpcClientImpl implements GrpcClient {
         return http2Client;
     }
 
+    /**
+     * Subchannels used by load balanced calls.
+     *
+     * @return subchannels, or {@code null} if load balancing is not configured
+     */
+    GrpcSubchannels subchannels() {
+        return subchannels == null ? null : subchannels.get();
+    }
+
+    /**
+     * Open a new connection, not shared with other clients.
+     *
+     * @param clientUri URI to connect to
+     * @return connected client connection
+     */
+    ClientConnection connect(ClientUri clientUri) {
+        ConnectionKey connectionKey = new ConnectionKey(
+                clientUri.scheme(),
+                clientUri.host(),
+                clientUri.port(),
+                clientConfig.readTimeout().orElse(Duration.ZERO),
+                clientConfig.tls(),
+                DefaultDnsResolver.create(),
+                DnsAddressLookup.defaultLookup(),
+                Proxy.noProxy());
+        return TcpClientConnection.create(webClient,
+                                          connectionKey,
+                                          Collections.emptyList(),
+                                          connection -> false,
+                                          connection -> {
+                                          }).connect();
+    }
+
     @Override
     public GrpcClientConfig prototype() {
         return clientConfig;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.webclient.grpc;
 
 import java.time.Duration;
+import java.util.List;
 
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
@@ -83,13 +84,33 @@ interface GrpcClientProtocolConfigBlueprint extends ProtocolConfig {
     Duration heartbeatPeriod();
 
     /**
-     * Initial buffer size used to serialize gRPC request payloads. Buffers shall grow
+     * Initial buffer size used to serialize gRPC request payloads of unknown size. Buffers shall grow
      * according to the payload size, but setting this initial buffer size to a larger value
-     * may improve performance for certain applications.
+     * may improve performance for certain applications. Payloads of a known size (such as protobuf
+     * messages) are serialized directly into a buffer of their size.
      *
      * @return initial buffer size
      */
     @Option.Configured
     @Option.Default("2048")
     int initBufferSize();
+
+    /**
+     * Default compression policy of calls.
+     *
+     * @return compression policy
+     */
+    @Option.Configured
+    @Option.Default("create()")
+    GrpcClientCompressionConfig compression();
+
+    /**
+     * Compression policies of specific services or methods, overriding {@link #compression()}.
+     * A policy of a method takes precedence over a policy of its service.
+     *
+     * @return compression policies
+     */
+    @Option.Configured
+    @Option.Singular("compressionPolicy")
+    List<GrpcClientCompressionConfig> compressionPolicies();
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.grpc;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of gRPC client load balancing.
+ * <p>
+ * Each endpoint is a subchannel with one or more HTTP/2 connections. Calls are spread across the
+ * connections of the chosen subchannel, and a new connection is opened once all connections reached
+ * the server's {@code MAX_CONCURRENT_STREAMS} limit.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface GrpcLoadBalancingConfigBlueprint {
+    /**
+     * Endpoints to balance calls across, such as {@code https://10.0.0.1:8080}.
+     * If empty, the base URI of the client is the only endpoint.
+     *
+     * @return endpoints
+     */
+    @Option.Configured
+    @Option.Singular
+    List<URI> endpoints();
+
+    /**
+     * Policy used to choose an endpoint for each call.
+     *
+     * @return load balancing policy
+     */
+    @Option.Configured
+    @Option.Default("PICK_FIRST")
+    GrpcLoadBalancingPolicy policy();
+
+    /**
+     * Maximal number of HTTP/2 connections to a single endpoint. Once all connections are at their
+     * stream limit, new calls use the connection with the fewest calls in progress.
+     *
+     * @return maximal number of connections per endpoint
+     */
+    @Option.Configured
+    @Option.DefaultInt(4)
+    int maxConnectionsPerEndpoint();
+
+    /**
+     * Time to wait before connecting to an endpoint again after the first failed attempt.
+     *
+     * @return initial reconnect backoff
+     */
+    @Option.Configured
+    @Option.Default("PT1S")
+    Duration initialBackoff();
+
+    /**
+     * Maximal time to wait before connecting to an endpoint again.
+     *
+     * @return maximal reconnect backoff
+     */
+    @Option.Configured
+    @Option.Default("PT2M")
+    Duration maxBackoff();
+
+    /**
+     * Multiplier of the reconnect backoff after each consecutive failed attempt.
+     *
+     * @return backoff multiplier
+     */
+    @Option.Configured
+    @Option.DefaultDouble(1.6)
+    double backoffMultiplier();
+
+    /**
+     * Random jitter of the reconnect backoff, as a fraction of the backoff, so clients do not reconnect
+     * at the same time.
+     *
+     * @return backoff jitter
+     */
+    @Option.Configured
+    @Option.DefaultDouble(0.2)
+    double backoffJitter();
+
+    /**
+     * How often to send a keepalive {@code PING} on each open connection. Connections that do not acknowledge
+     * the ping in time are closed. Disabled by default, can be enabled by setting the period to a value greater than 0.
+     *
+     * @return keepalive period
+     * @see io.helidon.webclient.http2.Http2ClientProtocolConfig#pingTimeout()
+     */
+    @Option.Configured
+    @Option.Default("PT0S")
+    Duration keepAliveTime();
+
+    /**
+     * How long a connection without calls in progress stays open. Idle connections are closed, and opened again
+     * when needed. Can be disabled by setting the timeout to 0.
+     *
+     * @return idle timeout
+     */
+    @Option.Configured
+    @Option.Default("PT5M")
+    Duration idleTimeout();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.grpc;
+
+/**
+ * Policy used to choose an endpoint for a gRPC call when load balancing is configured,
+ * see {@link GrpcClientConfig#loadBalancing()}.
+ */
+public enum GrpcLoadBalancingPolicy {
+    /**
+     * Use the first endpoint that can be connected to, other endpoints are only used while it is unavailable.
+     */
+    PICK_FIRST,
+    /**
+     * Use endpoints in turns.
+     */
+    ROUND_ROBIN,
+    /**
+     * Choose two random endpoints and use the one with fewer calls in progress.
+     */
+    LEAST_REQUEST
+}
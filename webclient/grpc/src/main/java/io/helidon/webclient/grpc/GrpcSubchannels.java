@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.grpc;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import io.helidon.common.socket.HelidonSocket;
+import io.helidon.webclient.api.ClientConnection;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.http2.Http2ClientConnection;
+import io.helidon.webclient.http2.Http2ClientImpl;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Subchannels of a load balanced gRPC client, one per endpoint. Each subchannel is a pool of HTTP/2 connections,
+ * a call uses the connection with the fewest calls in progress, and a new connection is opened once
+ * all connections reached the server's {@code MAX_CONCURRENT_STREAMS} limit.
+ * <p>
+ * Endpoints that cannot be connected to are not used until their reconnect backoff expires. Connections without
+ * calls in progress are closed once idle for longer than the configured idle timeout.
+ */
+final class GrpcSubchannels {
+    private static final System.Logger LOGGER = System.getLogger(GrpcSubchannels.class.getName());
+
+    private final GrpcClientImpl grpcClient;
+    private final GrpcLoadBalancingConfig config;
+    private final List<Subchannel> subchannels;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private GrpcSubchannels(GrpcClientImpl grpcClient, GrpcLoadBalancingConfig config, List<ClientUri> endpoints) {
+        this.grpcClient = grpcClient;
+        this.config = config;
+        this.subchannels = endpoints.stream()
+                .map(Subchannel::new)
+                .toList();
+    }
+
+    static GrpcSubchannels create(GrpcClientImpl grpcClient, GrpcLoadBalancingConfig config) {
+        List<ClientUri> endpoints;
+        if (config.endpoints().isEmpty()) {
+            endpoints = List.of(grpcClient.prototype()
+                                        .baseUri()
+                                        .orElseThrow(() -> new IllegalArgumentException(
+                                                "Either load balancing endpoints or a base URI must be configured")));
+        } else {
+            endpoints = config.endpoints()
+                    .stream()
+                    .map(ClientUri::create)
+                    .toList();
+        }
+        GrpcSubchannels result = new GrpcSubchannels(grpcClient, config, endpoints);
+        if (config.keepAliveTime().isPositive()) {
+            startMaintenance(result, "helidon-grpc-keepalive", config.keepAliveTime(), GrpcSubchannels::keepAlive);
+        }
+        if (config.idleTimeout().isPositive()) {
+            startMaintenance(result, "helidon-grpc-idle", config.idleTimeout(), GrpcSubchannels::closeIdle);
+        }
+        return result;
+    }
+
+    /**
+     * Choose an endpoint and a connection for a new call. The returned lease must be released once the call completes.
+     *
+     * @return connection lease
+     * @throws java.lang.RuntimeException if no endpoint could be connected to
+     */
+    Lease acquire() {
+        long now = System.nanoTime();
+        RuntimeException failure = null;
+        for (Subchannel subchannel : candidates(now)) {
+            try {
+                return subchannel.lease();
+            } catch (RuntimeException e) {
+                subchannel.connectFailed(System.nanoTime());
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        throw new IllegalStateException("No gRPC endpoint available, all endpoints are waiting to reconnect");
+    }
+
+    /**
+     * Number of open connections to all endpoints.
+     *
+     * @return number of connections
+     */
+    int connections() {
+        int result = 0;
+        for (Subchannel subchannel : subchannels) {
+            result += subchannel.connections.size();
+        }
+        return result;
+    }
+
+    // endpoints in the order they should be tried, endpoints waiting to reconnect are skipped
+    private List<Subchannel> candidates(long now) {
+        List<Subchannel> available = new ArrayList<>(subchannels.size());
+        for (Subchannel subchannel : subchannels) {
+            if (subchannel.available(now)) {
+                available.add(subchannel);
+            }
+        }
+        int size = available.size();
+        if (size < 2) {
+            return available;
+        }
+        switch (config.policy()) {
+        case ROUND_ROBIN -> {
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            List<Subchannel> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(available.get((start + i) % size));
+            }
+            return result;
+        }
+        case LEAST_REQUEST -> {
+            // power of two choices, the other endpoints are only used if both fail to connect
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            Subchannel a = available.get(first);
+            Subchannel b = available.get(second);
+            Subchannel chosen = b.activeCalls() < a.activeCalls() ? b : a;
+            List<Subchannel> result = new ArrayList<>(size);
+            result.add(chosen);
+            result.add(chosen == a ? b : a);
+            for (Subchannel subchannel : available) {
+                if (subchannel != a && subchannel != b) {
+                    result.add(subchannel);
+                }
+            }
+            return result;
+        }
+        default -> {
+            return available;
+        }
+        }
+    }
+
+    private void keepAlive() {
+        for (Subchannel subchannel : subchannels) {
+            for (PooledConnection pooled : subchannel.connections) {
+                if (!pooled.connection.acceptsStreams()) {
+                    subchannel.remove(pooled);
+                } else if (!pooled.connection.ping()) {
+                    LOGGER.log(DEBUG, "Closing gRPC connection to " + subchannel.clientUri.authority()
+                            + ", keepalive ping was not acknowledged");
+                    subchannel.connections.remove(pooled);
+                    pooled.close();
+                }
+            }
+        }
+    }
+
+    // a connection is closed after it was idle for at least the idle timeout, and at most twice the idle timeout
+    private void closeIdle() {
+        long now = System.nanoTime();
+        long idleTimeout = config.idleTimeout().toNanos();
+        for (Subchannel subchannel : subchannels) {
+            for (PooledConnection pooled : subchannel.connections) {
+                if (pooled.activeCalls.get() == 0 && now - pooled.lastUsed >= idleTimeout) {
+                    LOGGER.log(DEBUG, "Closing idle gRPC connection to " + subchannel.clientUri.authority());
+                    subchannel.remove(pooled);
+                }
+            }
+        }
+    }
+
+    // the maintenance threads do not prevent the subchannels from being garbage collected with their client
+    private static void startMaintenance(GrpcSubchannels subchannels,
+                                         String name,
+                                         Duration period,
+                                         Consumer<GrpcSubchannels> task) {
+        WeakReference<GrpcSubchannels> reference = new WeakReference<>(subchannels);
+        Thread.ofVirtual()
+                .name(name)
+                .start(() -> {
+                    try {
+                        while (true) {
+                            TimeUnit.MILLISECONDS.sleep(period.toMillis());
+                            GrpcSubchannels current = reference.get();
+                            if (current == null) {
+                                return;
+                            }
+                            task.accept(current);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+    }
+
+    /**
+     * A connection and endpoint used by a single call.
+     */
+    final class Lease {
+        private final Subchannel subchannel;
+        private final PooledConnection pooled;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Subchannel subchannel, PooledConnection pooled) {
+            this.subchannel = subchannel;
+            this.pooled = pooled;
+        }
+
+        ClientUri clientUri() {
+            return subchannel.clientUri;
+        }
+
+        Http2ClientConnection connection() {
+            return pooled.connection;
+        }
+
+        HelidonSocket socket() {
+            return pooled.clientConnection.helidonSocket();
+        }
+
+        /**
+         * Release the connection once the call completed, it stays open for other calls.
+         */
+        void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            pooled.lastUsed = System.nanoTime();
+            pooled.activeCalls.decrementAndGet();
+            if (!pooled.connection.acceptsStreams() || !subchannel.connections.contains(pooled)) {
+                subchannel.remove(pooled);
+            }
+        }
+    }
+
+    private static final class PooledConnection {
+        private final ClientConnection clientConnection;
+        private final Http2ClientConnection connection;
+        private final AtomicInteger activeCalls = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastUsed = System.nanoTime();
+
+        private PooledConnection(ClientConnection clientConnection, Http2ClientConnection connection) {
+            this.clientConnection = clientConnection;
+            this.connection = connection;
+        }
+
+        // may be called by both a released call and the thread that removed the connection
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                connection.close();
+            }
+        }
+
+        private boolean tryReserve() {
+            while (connection.acceptsStreams()) {
+                int current = activeCalls.get();
+                if (current >= connection.maxConcurrentStreams()) {
+                    return false;
+                }
+                if (activeCalls.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final class Subchannel {
+        private final ClientUri clientUri;
+        private final List<PooledConnection> connections = new CopyOnWriteArrayList<>();
+        // only used to open connections, so concurrent calls do not open more connections than needed
+        private final ReentrantLock connectLock = new ReentrantLock();
+        private volatile int failures;
+        private volatile long retryAt;
+
+        private Subchannel(ClientUri clientUri) {
+            this.clientUri = clientUri;
+        }
+
+        private boolean available(long now) {
+            return failures == 0 || now - retryAt >= 0;
+        }
+
+        private int activeCalls() {
+            int result = 0;
+            for (PooledConnection pooled : connections) {
+                result += pooled.activeCalls.get();
+            }
+            return result;
+        }
+
+        private Lease lease() {
+            PooledConnection pooled = tryReserve();
+            if (pooled != null) {
+                return new Lease(this, pooled);
+            }
+            connectLock.lock();
+            try {
+                while (true) {
+                    // another call may have opened a connection, or finished, in the meantime
+                    pooled = tryReserve();
+                    if (pooled != null) {
+                        return new Lease(this, pooled);
+                    }
+                    if (connections.isEmpty() || connections.size() < config.maxConnectionsPerEndpoint()) {
+                        pooled = connect();
+                        pooled.activeCalls.incrementAndGet();
+                        connections.add(pooled);
+                        return new Lease(this, pooled);
+                    }
+                    // all connections are at their stream limit, the server may queue or refuse the stream
+                    pooled = leastActive();
+                    if (pooled != null) {
+                        pooled.activeCalls.incrementAndGet();
+                        if (stillPooled(pooled)) {
+                            return new Lease(this, pooled);
+                        }
+                    }
+                }
+            } finally {
+                connectLock.unlock();
+            }
+        }
+
+        private PooledConnection tryReserve() {
+            while (true) {
+                PooledConnection selected = null;
+                int selectedCalls = Integer.MAX_VALUE;
+                for (PooledConnection pooled : connections) {
+                    if (!pooled.connection.acceptsStreams()) {
+                        remove(pooled);
+                        continue;
+                    }
+                    int active = pooled.activeCalls.get();
+                    if (active < selectedCalls && active < pooled.connection.maxConcurrentStreams()) {
+                        selected = pooled;
+                        selectedCalls = active;
+                    }
+                }
+                if (selected == null) {
+                    return null;
+                }
+                if (selected.tryReserve() && stillPooled(selected)) {
+                    return selected;
+                }
+                // another call used the last stream of the selected connection, or it was removed
+            }
+        }
+
+        // the connection may have been removed (and closed) while it was being reserved, removal happens
+        // before its calls are checked, so either the reserving or the removing thread sees the other one
+        private boolean stillPooled(PooledConnection pooled) {
+            if (connections.contains(pooled)) {
+                return true;
+            }
+            pooled.activeCalls.decrementAndGet();
+            remove(pooled);
+            return false;
+        }
+
+        private PooledConnection leastActive() {
+            PooledConnection selected = null;
+            for (PooledConnection pooled : connections) {
+                if (selected == null || pooled.activeCalls.get() < selected.activeCalls.get()) {
+                    selected = pooled;
+                }
+            }
+            return selected;
+        }
+
+        private PooledConnection connect() {
+            ClientConnection clientConnection = grpcClient.connect(clientUri);
+            Http2ClientConnection connection = Http2ClientConnection.create((Http2ClientImpl) grpcClient.http2Client(),
+                                                                            clientConnection,
+                                                                            true);
+            failures = 0;
+            return new PooledConnection(clientConnection, connection);
+        }
+
+        private void connectFailed(long now) {
+            int attempt = failures + 1;
+            failures = attempt;
+            double backoff = config.initialBackoff().toNanos() * Math.pow(config.backoffMultiplier(), attempt - 1);
+            backoff = Math.min(backoff, config.maxBackoff().toNanos());
+            double jitter = config.backoffJitter();
+            if (jitter > 0) {
+                backoff *= 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+            }
+            retryAt = now + (long) backoff;
+            LOGGER.log(DEBUG, "Failed to connect to " + clientUri.authority() + ", retrying in "
+                    + TimeUnit.NANOSECONDS.toMillis(retryAt - now) + " ms");
+        }
+
+        // connections in use are closed once their last call is released
+        private void remove(PooledConnection pooled) {
+            connections.remove(pooled);
+            if (pooled.activeCalls.get() == 0) {
+                pooled.close();
+            }
+        }
+    }
+}
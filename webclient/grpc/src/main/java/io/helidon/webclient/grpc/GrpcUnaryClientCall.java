@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,8 @@ package io.helidon.webclient.grpc;
 import java.time.Duration;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.grpc.core.GrpcMessageDeframer;
+import io.helidon.grpc.core.GrpcMessageFramer;
 import io.helidon.http.http2.Http2FrameData;
 import io.helidon.webclient.http2.StreamTimeoutException;
 
@@ -79,21 +81,18 @@ class GrpcUnaryClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
         }
 
         // serialize and write message
-        byte[] serialized = serializeMessage(message);
-        BufferData messageData = BufferData.createReadOnly(serialized, 0, serialized.length);
-        BufferData headerData = BufferData.create(DATA_PREFIX_LENGTH);
-        headerData.writeInt8(0);                                // no compression
-        headerData.writeUnsignedInt32(messageData.available());         // length prefixed
-        clientStream().writeData(BufferData.create(headerData, messageData), true);
+        BufferData frame = frameMessage(message);
+        int messageLength = frame.available() - GrpcMessageFramer.PREFIX_LENGTH;
+        clientStream().writeData(frame, true);
         requestSent = true;
 
         // Update bytes sent
         if (enableMetrics()) {
-            bytesSent().addAndGet(serialized.length);
+            bytesSent().addAndGet(messageLength);
         }
 
         // read response headers
-        clientStream().readHeaders();
+        responseHeaders(clientStream().readHeaders());
 
         while (isRemoteOpen()) {
             // trailers or eos received?
@@ -117,16 +116,20 @@ class GrpcUnaryClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
                 continue;
             }
             if (frameData != null) {
-                BufferData bufferData = frameData.data();
-                socket().log(LOGGER, DEBUG, "response received");
-
-                // update bytes received excluding prefix
-                if (enableMetrics()) {
-                    bytesRcvd().addAndGet(bufferData.available() - DATA_PREFIX_LENGTH);
+                socket().log(LOGGER, DEBUG, "response data received");
+
+                // the response may span more than one frame
+                deframer().add(frameData.data());
+                GrpcMessageDeframer.MessageInputStream response = deframer().next();
+                if (response != null) {
+                    // update bytes received excluding prefix
+                    if (enableMetrics()) {
+                        bytesRcvd().addAndGet(response.available());
+                    }
+
+                    responseListener().onMessage(toResponse(response));
+                    responseSent = true;
                 }
-
-                responseListener().onMessage(toResponse(bufferData));
-                responseSent = true;
             }
         }
     }
@@ -141,7 +144,7 @@ class GrpcUnaryClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
             socket().log(LOGGER, DEBUG, "closing client call");
             responseListener().onClose(status, EMPTY_METADATA);
             clientStream().cancel();
-            connection().close();
+            releaseConnection();
 
             // update metrics
             if (enableMetrics() && status == Status.OK) {
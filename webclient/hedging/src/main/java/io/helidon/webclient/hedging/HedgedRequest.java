@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.hedging;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import io.helidon.common.context.Context;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.Headers;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+
+/**
+ * Copy of a request used by a hedged request, so it does not share mutable state with the other requests.
+ */
+class HedgedRequest implements WebClientServiceRequest {
+    private final WebClientServiceRequest delegate;
+    private final ClientUri uri;
+    private final ClientRequestHeaders headers;
+    private final Map<String, String> properties;
+    private String requestId;
+
+    HedgedRequest(WebClientServiceRequest delegate, ClientUri uri, Headers headers, int attempt) {
+        this.delegate = delegate;
+        this.uri = ClientUri.create(uri);
+        this.headers = ClientRequestHeaders.create(WritableHeaders.create(headers));
+        this.properties = new HashMap<>(delegate.properties());
+        this.requestId = delegate.requestId() + "-hedge-" + attempt;
+    }
+
+    @Override
+    public ClientUri uri() {
+        return uri;
+    }
+
+    @Override
+    public Method method() {
+        return delegate.method();
+    }
+
+    @Override
+    public String protocolId() {
+        return delegate.protocolId();
+    }
+
+    @Override
+    public ClientRequestHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public Context context() {
+        return delegate.context();
+    }
+
+    @Override
+    public String requestId() {
+        return requestId;
+    }
+
+    @Override
+    public void requestId(String requestId) {
+        this.requestId = requestId;
+    }
+
+    @Override
+    public CompletionStage<WebClientServiceRequest> whenSent() {
+        return delegate.whenSent();
+    }
+
+    @Override
+    public CompletionStage<WebClientServiceResponse> whenComplete() {
+        return delegate.whenComplete();
+    }
+
+    @Override
+    public Map<String, String> properties() {
+        return properties;
+    }
+}
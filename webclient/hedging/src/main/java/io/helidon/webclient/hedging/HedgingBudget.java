@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits hedged requests to a percentage of all requests, so slow backends are not overloaded by duplicate requests.
+ * Each request deposits a fraction of a token, each hedged request withdraws a whole token.
+ * The number of tokens is capped, which limits bursts of hedged requests.
+ */
+final class HedgingBudget {
+    // tokens are counted in thousandths
+    private static final long TOKEN = 1000;
+
+    private final AtomicLong tokens;
+    private final long deposit;
+    private final long maxTokens;
+
+    HedgingBudget(double percent, int maxTokens) {
+        this.deposit = Math.round(percent * TOKEN / 100);
+        this.maxTokens = maxTokens * TOKEN;
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    void deposit() {
+        tokens.updateAndGet(current -> Math.min(maxTokens, current + deposit));
+    }
+
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+}
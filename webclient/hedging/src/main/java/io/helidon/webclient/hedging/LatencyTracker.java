@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Estimates a percentile of response times from a window of recent samples.
+ * The percentile is recomputed after each {@value #RECOMPUTE_INTERVAL} samples, so recording a sample is cheap.
+ */
+final class LatencyTracker {
+    private static final int SAMPLES = 1024;
+    private static final int RECOMPUTE_INTERVAL = 64;
+    private static final int MIN_SAMPLES = 128;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+    private volatile long thresholdNanos = -1;
+
+    LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(long nanos) {
+        long recorded = count.incrementAndGet();
+        samples.set((int) ((recorded - 1) % SAMPLES), nanos);
+        if (recorded >= MIN_SAMPLES && recorded % RECOMPUTE_INTERVAL == 0) {
+            recompute((int) Math.min(recorded, SAMPLES));
+        }
+    }
+
+    /**
+     * Current percentile of response times.
+     *
+     * @return response time in nanoseconds, or {@code -1} if there are not enough samples yet
+     */
+    long thresholdNanos() {
+        return thresholdNanos;
+    }
+
+    private void recompute(int size) {
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        thresholdNanos = sorted[Math.max(0, Math.min(size - 1, index))];
+    }
+}
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.hedging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import io.helidon.common.context.Contexts;
+import io.helidon.common.config.Config;
+import io.helidon.http.Headers;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.metrics.api.Counter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.Tag;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.TRACE;
+
+/**
+ * Client service for request hedging.
+ * <p>
+ * If a response to an idempotent request is not received within the hedging delay, the same request is sent again,
+ * and the response that arrives first is used. The other requests are cancelled. This reduces tail latency
+ * caused by a few slow backend replicas. The delay is either fixed, or a percentile of recent response times.
+ * <p>
+ * To avoid overloading the backends, the number of hedged requests is limited by a budget, a percentage of all requests.
+ * <p>
+ * Only requests with an entity fully available in memory are hedged (not requests using an output stream), see
+ * {@link io.helidon.webclient.spi.WebClientService.Chain#repeatable()}.
+ * <p>
+ * The following metrics are registered, tagged by the name of this service:
+ * <ul>
+ *     <li>{@code webclient.hedging.requests} - requests that could be hedged</li>
+ *     <li>{@code webclient.hedging.hedges} - hedged requests sent, the hedge rate is {@code hedges / requests}</li>
+ *     <li>{@code webclient.hedging.wins} - responses of hedged requests that arrived first,
+ *          the win rate is {@code wins / hedges}</li>
+ *     <li>{@code webclient.hedging.budget.exhausted} - hedged requests not sent, as the budget was exhausted</li>
+ * </ul>
+ */
+public class WebClientHedging implements WebClientService {
+    private static final System.Logger LOGGER = System.getLogger(WebClientHedging.class.getName());
+    private static final int BUDGET_MAX_TOKENS = 10;
+    // marks a call that was interrupted before any response arrived
+    private static final Attempt CANCELLED = new Attempt(-1);
+
+    private final String name;
+    private final boolean enabled;
+    private final Set<Method> methods;
+    private final long delayNanos;
+    private final LatencyTracker latencyTracker;
+    private final int maxAttempts;
+    private final HedgingBudget budget;
+    private final Counter requests;
+    private final Counter hedges;
+    private final Counter wins;
+    private final Counter budgetExhausted;
+
+    private WebClientHedging(Builder builder) {
+        this.name = builder.name;
+        this.enabled = builder.enabled;
+        this.methods = builder.methods;
+        this.delayNanos = builder.delay.toNanos();
+        this.latencyTracker = builder.percentile > 0 ? new LatencyTracker(builder.percentile) : null;
+        this.maxAttempts = builder.maxAttempts;
+        this.budget = new HedgingBudget(builder.budget, BUDGET_MAX_TOKENS);
+
+        MeterRegistry registry = Metrics.globalRegistry();
+        List<Tag> tags = List.of(Tag.create("name", name));
+        this.requests = registry.getOrCreate(Counter.builder("webclient.hedging.requests")
+                                                     .description("Requests that could be hedged")
+                                                     .scope(VENDOR)
+                                                     .tags(tags));
+        this.hedges = registry.getOrCreate(Counter.builder("webclient.hedging.hedges")
+                                                   .description("Hedged requests sent")
+                                                   .scope(VENDOR)
+                                                   .tags(tags));
+        this.wins = registry.getOrCreate(Counter.builder("webclient.hedging.wins")
+                                                 .description("Responses of hedged requests that arrived first")
+                                                 .scope(VENDOR)
+                                                 .tags(tags));
+        this.budgetExhausted = registry.getOrCreate(Counter.builder("webclient.hedging.budget.exhausted")
+                                                            .description("Hedged requests not sent, "
+                                                                                 + "as the hedging budget was exhausted")
+                                                            .scope(VENDOR)
+                                                            .tags(tags));
+    }
+
+    /**
+     * A new builder for client hedging.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates new client hedging with default configuration (hedged request after 50 milliseconds,
+     * up to 10 percent of requests, for {@code GET}, {@code HEAD} and {@code OPTIONS} methods).
+     *
+     * @return client hedging service
+     */
+    public static WebClientHedging create() {
+        return builder().build();
+    }
+
+    /**
+     * Creates new client hedging from configuration.
+     *
+     * @param config configuration, see {@link Builder#config(io.helidon.common.config.Config)}
+     * @return client hedging service
+     */
+    public static WebClientHedging create(Config config) {
+        return builder().config(config).build();
+    }
+
+    @Override
+    public String type() {
+        return "hedging";
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest request) {
+        if (!enabled || maxAttempts < 2 || !chain.repeatable() || !methods.contains(request.method())) {
+            return chain.proceed(request);
+        }
+        requests.increment();
+        budget.deposit();
+        return new HedgedCall(chain, request).execute();
+    }
+
+    private long delayNanos() {
+        if (latencyTracker == null) {
+            return delayNanos;
+        }
+        long threshold = latencyTracker.thresholdNanos();
+        return threshold < 0 ? delayNanos : threshold;
+    }
+
+    /**
+     * Fluent API builder for {@link WebClientHedging}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, WebClientHedging> {
+        private Set<Method> methods = Set.of(Method.GET, Method.HEAD, Method.OPTIONS);
+        private String name = "hedging";
+        private boolean enabled = true;
+        private Duration delay = Duration.ofMillis(50);
+        private double percentile;
+        private int maxAttempts = 2;
+        private double budget = 10;
+
+        private Builder() {
+        }
+
+        /**
+         * Name of this service, used as a tag of metrics.
+         *
+         * @param name name of the service
+         * @return updated builder instance
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Whether hedging is enabled.
+         *
+         * @param enabled whether to hedge requests
+         * @return updated builder instance
+         */
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Methods of requests to hedge. Only idempotent methods should be used, as the same request may be processed
+         * more than once by the backends.
+         *
+         * @param methods methods to hedge
+         * @return updated builder instance
+         */
+        public Builder methods(Method... methods) {
+            this.methods = Set.of(methods);
+            return this;
+        }
+
+        /**
+         * Methods of requests to hedge.
+         *
+         * @param methods methods to hedge
+         * @return updated builder instance
+         * @see #methods(io.helidon.http.Method...)
+         */
+        public Builder methods(Collection<String> methods) {
+            this.methods = methods.stream()
+                    .map(Method::create)
+                    .collect(Collectors.toSet());
+            return this;
+        }
+
+        /**
+         * Delay before a hedged request is sent, if no response was received. When {@link #percentile(double)}
+         * is configured, this delay is used until enough response times are recorded.
+         *
+         * @param delay hedging delay
+         * @return updated builder instance
+         */
+        public Builder delay(Duration delay) {
+            if (delay.isNegative()) {
+                throw new IllegalArgumentException("Hedging delay must not be negative, but is: " + delay);
+            }
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * Percentile of recent response times to use as the hedging delay, such as {@code 95}.
+         * Disabled by default (the fixed {@link #delay(java.time.Duration)} is used).
+         *
+         * @param percentile percentile of response times, greater than {@code 0} and up to {@code 100}
+         * @return updated builder instance
+         */
+        public Builder percentile(double percentile) {
+            if (percentile <= 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be greater than 0 and at most 100, but is: "
+                                                           + percentile);
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Maximal number of requests sent for a single client request, including the original one.
+         *
+         * @param maxAttempts maximal number of attempts, {@code 1} disables hedging
+         * @return updated builder instance
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Max attempts must be at least 1, but is: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Maximal percentage of requests that may be hedged.
+         *
+         * @param budget hedging budget in percent of requests
+         * @return updated builder instance
+         */
+        public Builder budget(double budget) {
+            if (budget < 0) {
+                throw new IllegalArgumentException("Hedging budget must not be negative, but is: " + budget);
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Configure hedging from configuration.
+         * The following configuration key are used:
+         * <table>
+         * <caption>Client hedging configuration options</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>enabled</td>
+         *     <td>{@code true}</td>
+         *     <td>Whether hedging is enabled</td>
+         * </tr>
+         * <tr>
+         *     <td>methods</td>
+         *     <td>{@code GET, HEAD, OPTIONS}</td>
+         *     <td>Methods of requests to hedge</td>
+         * </tr>
+         * <tr>
+         *     <td>delay</td>
+         *     <td>{@code PT0.05S}</td>
+         *     <td>Delay before a hedged request is sent</td>
+         * </tr>
+         * <tr>
+         *     <td>percentile</td>
+         *     <td>&nbsp;</td>
+         *     <td>Percentile of recent response times to use as the delay</td>
+         * </tr>
+         * <tr>
+         *     <td>max-attempts</td>
+         *     <td>{@code 2}</td>
+         *     <td>Maximal number of requests sent, including the original one</td>
+         * </tr>
+         * <tr>
+         *     <td>budget</td>
+         *     <td>{@code 10}</td>
+         *     <td>Maximal percentage of requests that may be hedged</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration to configure hedging
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("enabled").asBoolean().ifPresent(this::enabled);
+            config.get("methods").asList(String.class).ifPresent(this::methods);
+            config.get("delay").as(Duration.class).ifPresent(this::delay);
+            config.get("percentile").asDouble().ifPresent(this::percentile);
+            config.get("max-attempts").asInt().ifPresent(this::maxAttempts);
+            config.get("budget").asDouble().ifPresent(this::budget);
+            return this;
+        }
+
+        @Override
+        public WebClientHedging build() {
+            return new WebClientHedging(this);
+        }
+    }
+
+    private final class HedgedCall {
+        private final LinkedBlockingQueue<Attempt> completed = new LinkedBlockingQueue<>();
+        private final AtomicReference<Attempt> winner = new AtomicReference<>();
+        private final List<Attempt> attempts = new ArrayList<>(maxAttempts);
+        private final Chain chain;
+        private final WebClientServiceRequest request;
+        // copies taken before the first request is sent, as it may modify the request
+        private final ClientUri uri;
+        private final Headers headers;
+
+        private HedgedCall(Chain chain, WebClientServiceRequest request) {
+            this.chain = chain;
+            this.request = request;
+            this.uri = ClientUri.create(request.uri());
+            this.headers = WritableHeaders.create(request.headers());
+        }
+
+        private WebClientServiceResponse execute() {
+            start(request);
+            long delay = delayNanos();
+            boolean mayHedge = true;
+            int finished = 0;
+            RuntimeException failure = null;
+
+            try {
+                while (finished < attempts.size()) {
+                    mayHedge = mayHedge && attempts.size() < maxAttempts;
+                    Attempt attempt = mayHedge
+                            ? completed.poll(delay, TimeUnit.NANOSECONDS)
+                            : completed.take();
+                    if (attempt == null) {
+                        if (budget.tryWithdraw()) {
+                            hedges.increment();
+                            start(new HedgedRequest(request, uri, headers, attempts.size()));
+                        } else {
+                            budgetExhausted.increment();
+                            mayHedge = false;
+                        }
+                        continue;
+                    }
+                    finished++;
+                    if (attempt.response != null) {
+                        cancelOthers(attempt);
+                        if (attempt.index > 0) {
+                            wins.increment();
+                        }
+                        return attempt.response;
+                    }
+                    if (failure == null) {
+                        failure = attempt.failure;
+                    } else {
+                        failure.addSuppressed(attempt.failure);
+                    }
+                }
+            } catch (InterruptedException e) {
+                winner.compareAndSet(null, CANCELLED);
+                cancelOthers(CANCELLED);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a response to a hedged request", e);
+            }
+            throw failure;
+        }
+
+        private void start(WebClientServiceRequest attemptRequest) {
+            Attempt attempt = new Attempt(attempts.size());
+            attempts.add(attempt);
+            attempt.thread = Thread.ofVirtual()
+                    .name("helidon-client-hedging-" + attemptRequest.requestId())
+                    .start(() -> Contexts.runInContext(request.context(), () -> run(attempt, attemptRequest)));
+        }
+
+        private void run(Attempt attempt, WebClientServiceRequest attemptRequest) {
+            long start = System.nanoTime();
+            WebClientServiceResponse response;
+            try {
+                response = chain.proceed(attemptRequest);
+            } catch (RuntimeException e) {
+                attempt.failure = e;
+                completed.add(attempt);
+                return;
+            }
+            if (latencyTracker != null) {
+                latencyTracker.record(System.nanoTime() - start);
+            }
+            if (winner.compareAndSet(null, attempt)) {
+                attempt.response = response;
+                completed.add(attempt);
+            } else {
+                // another response arrived first
+                closeResponse(response);
+            }
+        }
+
+        private void cancelOthers(Attempt won) {
+            for (Attempt attempt : attempts) {
+                if (attempt != won) {
+                    if (LOGGER.isLoggable(TRACE)) {
+                        LOGGER.log(TRACE, "Cancelling hedged request " + attempt.index + " of " + request.requestId());
+                    }
+                    // interrupts a blocking socket operation of a virtual thread, which closes the connection
+                    attempt.thread.interrupt();
+                }
+            }
+        }
+
+        private void closeResponse(WebClientServiceResponse response) {
+            try {
+                response.connection().closeResource();
+            } catch (RuntimeException e) {
+                LOGGER.log(DEBUG, "Failed to close response of a cancelled hedged request", e);
+            }
+        }
+    }
+
+    private static final class Attempt {
+        private final int index;
+        private volatile Thread thread;
+        private volatile WebClientServiceResponse response;
+        private volatile RuntimeException failure;
+
+        private Attempt(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.hedging;
+
+import io.helidon.common.Weight;
+import io.helidon.common.Weighted;
+import io.helidon.common.config.Config;
+import io.helidon.webclient.spi.WebClientService;
+import io.helidon.webclient.spi.WebClientServiceProvider;
+
+/**
+ * Client hedging SPI provider implementation.
+ * <p>
+ * As hedging sends duplicate requests, it is disabled when the provider is discovered and there is no
+ * {@code hedging} configuration of client services.
+ * <p>
+ * Weight must be lower than that of other services (such as security), so hedged requests are sent with all headers
+ * added by these services, and these services are invoked only once for each request.
+ *
+ * @deprecated This class should only be used via {@link java.util.ServiceLoader}.
+ *  Use {@link WebClientHedging} instead
+ */
+@Deprecated
+@Weight(Weighted.DEFAULT_WEIGHT - 50)
+public class WebClientHedgingProvider implements WebClientServiceProvider {
+    /**
+     * Required public constructor.
+     *
+     * @deprecated This class should only be used via {@link java.util.ServiceLoader}.
+     */
+    @Deprecated
+    public WebClientHedgingProvider() {
+    }
+
+    @Override
+    public String configKey() {
+        return "hedging";
+    }
+
+    @Override
+    public WebClientService create(Config config, String name) {
+        return WebClientHedging.builder()
+                .name(name)
+                .enabled(config.exists())
+                .config(config)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.hedging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class HedgingBudgetTest {
+    @Test
+    void testBudgetStartsFull() {
+        HedgingBudget budget = new HedgingBudget(10, 3);
+
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(false));
+    }
+
+    @Test
+    void testDepositsRefillBudget() {
+        HedgingBudget budget = new HedgingBudget(25, 1);
+        assertThat(budget.tryWithdraw(), is(true));
+
+        for (int i = 0; i < 3; i++) {
+            budget.deposit();
+            assertThat(budget.tryWithdraw(), is(false));
+        }
+        budget.deposit();
+        assertThat(budget.tryWithdraw(), is(true));
+    }
+
+    @Test
+    void testBudgetIsCapped() {
+        HedgingBudget budget = new HedgingBudget(100, 2);
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(false));
+    }
+}
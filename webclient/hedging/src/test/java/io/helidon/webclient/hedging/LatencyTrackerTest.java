@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.hedging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LatencyTrackerTest {
+    @Test
+    void testNoThresholdWithoutEnoughSamples() {
+        LatencyTracker tracker = new LatencyTracker(95);
+        for (int i = 1; i < 128; i++) {
+            tracker.record(i);
+        }
+
+        assertThat(tracker.thresholdNanos(), is(-1L));
+    }
+
+    @Test
+    void testPercentile() {
+        LatencyTracker tracker = new LatencyTracker(90);
+        for (int i = 1; i <= 1000; i++) {
+            tracker.record(i);
+        }
+
+        // recomputed after 960 samples
+        assertThat(tracker.thresholdNanos(), is(864L));
+    }
+}
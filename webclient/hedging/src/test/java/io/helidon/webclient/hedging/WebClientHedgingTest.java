@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.hedging;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.webclient.api.HttpClient;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http2.Http2Client;
+import io.helidon.webclient.spi.WebClientService;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@ServerTest
+class WebClientHedgingTest {
+    private static final Duration DELAY = Duration.ofMillis(200);
+    private static final HeaderName HEDGED = HeaderNames.create("X-Hedged");
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static final AtomicInteger ORIGINAL_PORT = new AtomicInteger();
+    private static final AtomicInteger HEDGED_PORT = new AtomicInteger();
+    private static volatile CountDownLatch releaseSlowResponse = new CountDownLatch(1);
+
+    private final URI uri;
+
+    WebClientHedgingTest(URI uri) {
+        this.uri = uri;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder router) {
+        router.get("/hedged", (req, res) -> {
+                    REQUESTS.incrementAndGet();
+                    int port = req.remotePeer().port();
+                    if (req.headers().contains(HEDGED)) {
+                        HEDGED_PORT.set(port);
+                        res.send("hedged");
+                    } else {
+                        ORIGINAL_PORT.set(port);
+                        // much slower than the hedging delay, only answered once the test has finished its checks
+                        releaseSlowResponse.await(10, TimeUnit.SECONDS);
+                        res.send("original");
+                    }
+                })
+                .get("/port", (req, res) -> res.send(String.valueOf(req.remotePeer().port())));
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        REQUESTS.set(0);
+        ORIGINAL_PORT.set(0);
+        HEDGED_PORT.set(0);
+        releaseSlowResponse = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void afterEach() {
+        releaseSlowResponse.countDown();
+    }
+
+    static Stream<String> protocols() {
+        return Stream.of("http/1.1", "h2");
+    }
+
+    @ParameterizedTest
+    @MethodSource("protocols")
+    void testSlowFirstResponse(String protocol) throws Exception {
+        AttemptRecorder recorder = new AttemptRecorder();
+        HttpClient<?> client = client(protocol, recorder);
+
+        long start = System.nanoTime();
+        assertThat(client.get("/hedged").requestEntity(String.class), is("hedged"));
+
+        // the hedged request is only sent after the delay
+        long hedgeDelay = recorder.hedgeSent.get(5, TimeUnit.SECONDS) - start;
+        assertThat(TimeUnit.NANOSECONDS.toMillis(hedgeDelay), greaterThanOrEqualTo(DELAY.toMillis()));
+
+        // the original request is cancelled while the server still processes it
+        Throwable cancelled = recorder.originalFailure.get(5, TimeUnit.SECONDS);
+        assertThat("Original request should have been cancelled", cancelled, not(nullValue()));
+        assertThat(REQUESTS.get(), is(2));
+
+        // the client can still be used, and the connection of the cancelled request is not reused
+        int port = Integer.parseInt(client.get("/port").requestEntity(String.class));
+        if (protocol.equals("h2")) {
+            // a single multiplexed connection, only the stream of the cancelled request was reset
+            assertThat(HEDGED_PORT.get(), is(ORIGINAL_PORT.get()));
+            assertThat(port, is(ORIGINAL_PORT.get()));
+        } else {
+            assertThat(HEDGED_PORT.get(), not(ORIGINAL_PORT.get()));
+            assertThat(port, not(ORIGINAL_PORT.get()));
+        }
+    }
+
+    private HttpClient<?> client(String protocol, AttemptRecorder recorder) {
+        WebClientHedging hedging = WebClientHedging.builder()
+                .delay(DELAY)
+                .budget(100)
+                .build();
+        if (protocol.equals("h2")) {
+            return Http2Client.builder()
+                    .baseUri(uri)
+                    .protocolConfig(it -> it.priorKnowledge(true))
+                    .addService(hedging)
+                    .addService(recorder)
+                    .build();
+        }
+        return Http1Client.builder()
+                .baseUri(uri)
+                .addService(hedging)
+                .addService(recorder)
+                .build();
+    }
+
+    // invoked by the hedging service for each attempt, marks hedged requests so the server does not delay them
+    private static final class AttemptRecorder implements WebClientService {
+        private final CompletableFuture<Long> hedgeSent = new CompletableFuture<>();
+        private final CompletableFuture<Throwable> originalFailure = new CompletableFuture<>();
+
+        @Override
+        public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest request) {
+            if (request instanceof HedgedRequest) {
+                hedgeSent.complete(System.nanoTime());
+                request.headers().set(HEDGED, "true");
+                return chain.proceed(request);
+            }
+            try {
+                WebClientServiceResponse response = chain.proceed(request);
+                originalFailure.complete(null);
+                return response;
+            } catch (RuntimeException e) {
+                originalFailure.complete(e);
+                throw e;
+            }
+        }
+    }
+}
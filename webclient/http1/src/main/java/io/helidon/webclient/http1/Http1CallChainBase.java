@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,7 +60,6 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
     private static final Supplier<IllegalArgumentException> INVALID_SIZE_EXCEPTION_SUPPLIER =
             () -> new IllegalArgumentException("Chunk size is invalid");
 
-    private final BufferData writeBuffer = BufferData.growing(128);
     private final HttpClientConfig clientConfig;
     private final Http1ClientProtocolConfig protocolConfig;
     private final ClientConnection connection;
@@ -71,7 +70,7 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
     private final CompletableFuture<WebClientServiceResponse> whenComplete;
     private final Duration timeout;
     private final Http1ClientImpl http1Client;
-    private ClientConnection effectiveConnection;
+    private volatile ClientConnection effectiveConnection;
 
     Http1CallChainBase(Http1ClientImpl http1Client,
                        Http1ClientRequestImpl clientRequest,
@@ -134,19 +133,21 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
     @Override
     public WebClientServiceResponse proceed(WebClientServiceRequest serviceRequest) {
         // either use the explicit connection, or obtain one (keep alive or one-off)
-        effectiveConnection = connection == null ? obtainConnection(serviceRequest, timeout) : connection;
-        effectiveConnection.readTimeout(this.timeout);
+        // local variables, as the request may be sent more than once concurrently (see repeatable())
+        ClientConnection usedConnection = connection == null ? obtainConnection(serviceRequest, timeout) : connection;
+        effectiveConnection = usedConnection;
+        usedConnection.readTimeout(this.timeout);
 
-        DataWriter writer = effectiveConnection.writer();
-        DataReader reader = effectiveConnection.reader();
+        DataWriter writer = usedConnection.writer();
+        DataReader reader = usedConnection.reader();
         ClientUri uri = serviceRequest.uri();
         ClientRequestHeaders headers = serviceRequest.headers();
 
-        writeBuffer.clear();
+        BufferData writeBuffer = BufferData.growing(128);
         prologue(writeBuffer, serviceRequest, uri);
         headers.setIfAbsent(HeaderValues.create(HeaderNames.HOST, uri.authority()));
 
-        return doProceed(effectiveConnection, serviceRequest, headers, writer, reader, writeBuffer);
+        return doProceed(usedConnection, serviceRequest, headers, writer, reader, writeBuffer);
     }
 
     abstract WebClientServiceResponse doProceed(ClientConnection connection,
@@ -216,6 +217,11 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
         Status responseStatus;
         try {
             responseStatus = Http1StatusParser.readStatus(reader, protocolConfig.maxStatusLineLength());
+            while (responseStatus == Status.EARLY_HINTS_103) {
+                // informational response, the final response follows
+                readHeaders(reader);
+                responseStatus = Http1StatusParser.readStatus(reader, protocolConfig.maxStatusLineLength());
+            }
         } catch (UncheckedIOException e) {
             // if we get a timeout or connection close, we must close the resource (as otherwise we may receive
             // data of this request on the next use of this connection
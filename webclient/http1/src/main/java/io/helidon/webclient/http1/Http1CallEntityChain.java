@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,4 +66,10 @@ class Http1CallEntityChain extends Http1CallChainBase {
 
         return readResponse(serviceRequest, connection, reader);
     }
+
+    @Override
+    public boolean repeatable() {
+        // entity is fully in memory
+        return true;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -108,8 +108,8 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
         Status responseStatus;
         try {
             responseStatus = Http1StatusParser.readStatus(reader, http1Client.protocolConfig().maxStatusLineLength());
-            if (responseStatus == Status.CONTINUE_100) {
-                // skip the next empty end of line
+            while (responseStatus == Status.CONTINUE_100 || responseStatus == Status.EARLY_HINTS_103) {
+                // skip headers of the informational response
                 readHeaders(reader);
                 responseStatus = Http1StatusParser.readStatus(reader, http1Client.protocolConfig().maxStatusLineLength());
             }
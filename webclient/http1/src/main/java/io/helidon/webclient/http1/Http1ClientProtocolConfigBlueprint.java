@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package io.helidon.webclient.http1;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 import io.helidon.webclient.spi.ProtocolConfig;
@@ -87,4 +90,57 @@ interface Http1ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultBoolean(true)
     boolean validateResponseHeaders();
+
+    /**
+     * Maximal number of open keep-alive connections of a connection cache, over all hosts.
+     * When reached, an idle connection to another host is closed to make room, or the request waits
+     * for a connection, up to {@link #connectionAcquireTimeout()}.
+     * Defaults to {@code -1}, which means no limit.
+     *
+     * @return maximal number of connections
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int maxConnections();
+
+    /**
+     * Maximal number of open keep-alive connections to a single route (scheme, host, port and connection options).
+     * When reached, the request waits for a connection to be returned, up to {@link #connectionAcquireTimeout()}.
+     * The number of idle connections kept for reuse is limited by
+     * {@link io.helidon.webclient.api.HttpClientConfig#connectionCacheSize()}.
+     * Defaults to {@code -1}, which means no limit.
+     *
+     * @return maximal number of connections per route
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int maxConnectionsPerRoute();
+
+    /**
+     * How long to wait for a connection, when the connection limits are reached.
+     *
+     * @return timeout
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration connectionAcquireTimeout();
+
+    /**
+     * How long an idle connection is kept for reuse. Idle connections are closed by a background task,
+     * and are checked again when obtained from the cache.
+     *
+     * @return idle timeout
+     */
+    @Option.Configured
+    @Option.Default("PT60S")
+    Duration idleTimeout();
+
+    /**
+     * Maximal time since a connection was opened, after which it is not reused.
+     * If not configured, connections are reused until closed or idle for longer than {@link #idleTimeout()}.
+     *
+     * @return maximal lifetime of a connection
+     */
+    @Option.Configured
+    Optional<Duration> maxLifetime();
 }
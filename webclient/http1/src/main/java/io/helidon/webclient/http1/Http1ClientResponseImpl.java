@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,7 @@ import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.ClientResponseEntity;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.HttpClientConfig;
+import io.helidon.webclient.api.ReleasableResource;
 import io.helidon.webclient.spi.Source;
 import io.helidon.webclient.spi.SourceHandlerProvider;
 
@@ -71,7 +72,9 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
     private final ParserMode parserMode;
     private final ClientUri lastEndpointUri;
 
+    // may be null, if the response was not received over the network (such as when served from a cache)
     private final ClientConnection connection;
+    private final ReleasableResource resource;
     private final LazyValue<Headers> trailers;
     private boolean entityRequested;
     private long entityLength;
@@ -83,6 +86,7 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
                             ClientRequestHeaders requestHeaders,
                             ClientResponseHeaders responseHeaders,
                             ClientConnection connection,
+                            ReleasableResource resource,
                             InputStream inputStream, // can be null if no entity
                             MediaContext mediaContext,
                             ClientUri lastEndpointUri,
@@ -93,6 +97,7 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
         this.requestHeaders = requestHeaders;
         this.responseHeaders = responseHeaders;
         this.connection = connection;
+        this.resource = resource;
         this.inputStream = inputStream;
         this.mediaContext = mediaContext;
         this.parserMode = clientConfig.mediaTypeParserMode();
@@ -153,12 +158,12 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
         if (closed.compareAndSet(false, true)) {
             try {
                 if (headers().contains(HeaderValues.CONNECTION_CLOSE)) {
-                    connection.closeResource();
+                    resource.closeResource();
                 } else {
-                    if (entityFullyRead || entityLength == 0 || consumeUnreadEntity()) {
-                        connection.releaseResource();
+                    if ((entityFullyRead || entityLength == 0 || consumeUnreadEntity()) && consumeUnreadTrailers()) {
+                        resource.releaseResource();
                     } else {
-                        connection.closeResource();
+                        resource.closeResource();
                     }
                 }
             } finally {
@@ -197,7 +202,7 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
      * @return {@code true} if consumed, {@code false} otherwise
      */
     private boolean consumeUnreadEntity() {
-        if (entityLength == ENTITY_LENGTH_CHUNKED) {
+        if (entityLength == ENTITY_LENGTH_CHUNKED || connection == null || resource != connection) {
             return false;
         }
         DataReader reader = connection.reader();
@@ -214,6 +219,26 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
         }
     }
 
+    /**
+     * Reads trailers that were not requested, as otherwise they would be read as the beginning of the next response
+     * on a re-used connection. Trailers follow the last chunk of the entity, so this is only called once the entity
+     * was fully read.
+     *
+     * @return {@code true} if there are no unread trailers, {@code false} if they could not be read
+     */
+    private boolean consumeUnreadTrailers() {
+        if (!hasTrailers || trailers.isLoaded() || connection == null || resource != connection) {
+            return true;
+        }
+        try {
+            trailers.get();
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.DEBUG, "Exception while consuming trailers", e);
+            return false;
+        }
+    }
+
     private ReadableEntity entity(ClientRequestHeaders requestHeaders,
                                   ClientResponseHeaders responseHeaders) {
         if (inputStream == null) {
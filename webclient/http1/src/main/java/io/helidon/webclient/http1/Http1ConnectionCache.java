@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,20 @@
 
 package io.helidon.webclient.http1;
 
+import java.lang.ref.WeakReference;
 import java.time.Duration;
-import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.helidon.common.tls.Tls;
 import io.helidon.http.ClientRequestHeaders;
@@ -36,11 +42,17 @@ import io.helidon.webclient.api.Proxy;
 import io.helidon.webclient.api.TcpClientConnection;
 import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.spi.ClientConnectionCache;
+import io.helidon.webclient.spi.ConnectionPoolStatistics;
 
 import static java.lang.System.Logger.Level.DEBUG;
 
 /**
  * Cache of HTTP/1.1 connections for keep alive.
+ * <p>
+ * Idle connections are reused in LIFO order, to keep the most recently used sockets busy, and let the others expire.
+ * Connections are obtained and returned without locking, only requests waiting for a connection (when a limit
+ * of {@link io.helidon.webclient.http1.Http1ClientProtocolConfig} is reached) block.
+ * Expired idle connections are closed by a background virtual thread.
  */
 class Http1ConnectionCache extends ClientConnectionCache {
     private static final System.Logger LOGGER = System.getLogger(Http1ConnectionCache.class.getName());
@@ -48,8 +60,14 @@ class Http1ConnectionCache extends ClientConnectionCache {
     private static final String HTTPS = "https";
     private static final Http1ConnectionCache SHARED = new Http1ConnectionCache(true);
     private static final List<String> ALPN_ID = List.of(Http1Client.PROTOCOL_ID);
-    private static final Duration QUEUE_TIMEOUT = Duration.ofMillis(10);
-    private final Map<ConnectionKey, LinkedBlockingDeque<TcpClientConnection>> cache = new ConcurrentHashMap<>();
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(1);
+    // waiting requests re-check limits shared with other routes at least this often
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final ConnectionPoolStatistics STATISTICS = ConnectionPoolStatistics.get(Http1Client.PROTOCOL_ID);
+    private final Map<ConnectionKey, RoutePool> cache = new ConcurrentHashMap<>();
+    // open keep-alive connections of all routes, both idle and used
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicBoolean evictionStarted = new AtomicBoolean();
     private final AtomicBoolean closed = new AtomicBoolean();
 
     protected Http1ConnectionCache(boolean shared) {
@@ -82,9 +100,7 @@ class Http1ConnectionCache extends ClientConnectionCache {
 
     @Override
     public void evict() {
-        cache.values().stream()
-                .flatMap(Collection::stream)
-                .forEach(TcpClientConnection::closeResource);
+        cache.values().forEach(RoutePool::closeIdle);
     }
 
     @Override
@@ -93,6 +109,7 @@ class Http1ConnectionCache extends ClientConnectionCache {
             return;
         }
         evict();
+        cache.values().forEach(RoutePool::signal);
     }
 
     private boolean handleKeepAlive(boolean defaultKeepAlive, WritableHeaders<?> headers) {
@@ -121,6 +138,7 @@ class Http1ConnectionCache extends ClientConnectionCache {
         }
 
         Http1ClientConfig clientConfig = http1Client.clientConfig();
+        Http1ClientProtocolConfig protocolConfig = http1Client.protocolConfig();
 
         ConnectionKey connectionKey = new ConnectionKey(uri.scheme(),
                                                         uri.host(),
@@ -131,30 +149,90 @@ class Http1ConnectionCache extends ClientConnectionCache {
                                                         clientConfig.dnsAddressLookup(),
                                                         proxy);
 
-        LinkedBlockingDeque<TcpClientConnection> connectionQueue =
-                cache.computeIfAbsent(connectionKey,
-                                      it -> new LinkedBlockingDeque<>(clientConfig.connectionCacheSize()));
+        RoutePool route = cache.computeIfAbsent(connectionKey,
+                                                it -> new RoutePool(clientConfig.connectionCacheSize(), protocolConfig));
+        startEviction();
 
-        TcpClientConnection connection;
-        while ((connection = connectionQueue.poll()) != null && !connection.isConnected()) {
+        long deadline = System.nanoTime() + protocolConfig.connectionAcquireTimeout().toNanos();
+        boolean pending = false;
+        try {
+            while (true) {
+                long versionBefore = route.version.get();
+                PooledConnection pooled = route.pollIdle();
+                if (pooled != null) {
+                    if (LOGGER.isLoggable(DEBUG)) {
+                        LOGGER.log(DEBUG, String.format("[%s] client connection obtained %s",
+                                                        pooled.connection.channelId(),
+                                                        Thread.currentThread().getName()));
+                    }
+                    return pooled.connection;
+                }
+                if (reserve(route, protocolConfig.maxConnections())) {
+                    try {
+                        return connect(http1Client, connectionKey, route);
+                    } catch (RuntimeException e) {
+                        route.open.decrementAndGet();
+                        openConnections.decrementAndGet();
+                        throw e;
+                    }
+                }
+                if (!pending) {
+                    pending = true;
+                    STATISTICS.acquireStarted();
+                }
+                route.await(versionBefore, deadline, connectionKey);
+                if (closed.get()) {
+                    throw new IllegalStateException("Connection cache is closed");
+                }
+            }
+        } finally {
+            if (pending) {
+                STATISTICS.acquireFinished();
+            }
         }
+    }
 
-        if (connection == null) {
-            connection = TcpClientConnection.create(http1Client.webClient(),
-                                                    connectionKey,
-                                                    ALPN_ID,
-                                                    conn -> finishRequest(connectionQueue, conn),
-                                                    conn -> {
-                                                    })
-                    .connect();
-        } else {
-            if (LOGGER.isLoggable(DEBUG)) {
-                LOGGER.log(DEBUG, String.format("[%s] client connection obtained %s",
-                                                connection.channelId(),
-                                                Thread.currentThread().getName()));
+    private TcpClientConnection connect(Http1ClientImpl http1Client, ConnectionKey connectionKey, RoutePool route) {
+        PooledConnection pooled = new PooledConnection();
+        pooled.connection = TcpClientConnection.create(http1Client.webClient(),
+                                                       connectionKey,
+                                                       ALPN_ID,
+                                                       conn -> finishRequest(route, pooled),
+                                                       conn -> connectionClosed(route, pooled))
+                .connect();
+        STATISTICS.connectionCreated();
+        return pooled.connection;
+    }
+
+    // reserve a connection of the route and of this cache, closing an idle connection of another route if needed
+    private boolean reserve(RoutePool route, int maxConnections) {
+        if (!route.reserve()) {
+            return false;
+        }
+        while (true) {
+            int current = openConnections.get();
+            if (maxConnections < 0 || current < maxConnections) {
+                if (openConnections.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            } else if (!closeIdleOfOtherRoute(route)) {
+                route.open.decrementAndGet();
+                return false;
+            }
+        }
+    }
+
+    private boolean closeIdleOfOtherRoute(RoutePool route) {
+        for (RoutePool other : cache.values()) {
+            if (other != route) {
+                PooledConnection idle = other.pollOldestIdle();
+                if (idle != null) {
+                    idle.connection.closeResource();
+                    return true;
+                }
             }
         }
-        return connection;
+        return false;
     }
 
     private ClientConnection oneOffConnection(Http1ClientImpl http1Client,
@@ -182,34 +260,222 @@ class Http1ConnectionCache extends ClientConnectionCache {
                 .connect();
     }
 
-    private boolean finishRequest(LinkedBlockingDeque<TcpClientConnection> connectionQueue, TcpClientConnection conn) {
-        if (conn.isConnected()) {
-            try {
-                if (connectionQueue.offer(conn, QUEUE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
-                    conn.helidonSocket().idle(); // mark it as idle to stay blocked at read for closed conn detection
-                    if (LOGGER.isLoggable(DEBUG)) {
-                        LOGGER.log(DEBUG, String.format("[%s] client connection returned %s",
-                                                        conn.channelId(),
-                                                        Thread.currentThread().getName()));
-                    }
+    private boolean finishRequest(RoutePool route, PooledConnection pooled) {
+        TcpClientConnection conn = pooled.connection;
+        if (closed.get() || !conn.isConnected() || route.expired(pooled, System.nanoTime())) {
+            return false;
+        }
+        if (!route.reserveIdle()) {
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection because queue is full %s",
+                                                conn.channelId(),
+                                                Thread.currentThread().getName()));
+            }
+            return false;
+        }
+        conn.helidonSocket().idle(); // mark it as idle to stay blocked at read for closed conn detection
+        pooled.idleSince = System.nanoTime();
+        pooled.state.set(State.IDLE);
+        STATISTICS.connectionReleased();
+        route.idle.offerFirst(pooled);
+        route.signal();
+        if (LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, String.format("[%s] client connection returned %s",
+                                            conn.channelId(),
+                                            Thread.currentThread().getName()));
+        }
+        return true;
+    }
+
+    private void connectionClosed(RoutePool route, PooledConnection pooled) {
+        State previous = pooled.state.getAndSet(State.CLOSED);
+        if (previous == State.CLOSED) {
+            return;
+        }
+        if (previous == State.IDLE) {
+            STATISTICS.connectionEvicted();
+        } else {
+            STATISTICS.connectionClosed();
+        }
+        route.open.decrementAndGet();
+        openConnections.decrementAndGet();
+        route.signal();
+    }
+
+    private void startEviction() {
+        if (evictionStarted.compareAndSet(false, true)) {
+            // only a weak reference, so the thread does not keep a cache of a client that is no longer used
+            WeakReference<Http1ConnectionCache> reference = new WeakReference<>(this);
+            Thread.ofVirtual()
+                    .name("helidon-http1-connection-eviction")
+                    .start(() -> {
+                        try {
+                            do {
+                                Thread.sleep(EVICTION_INTERVAL);
+                            } while (evictExpired(reference));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+        }
+    }
+
+    // returns false once the cache was closed or collected, so the eviction thread stops
+    private static boolean evictExpired(WeakReference<Http1ConnectionCache> reference) {
+        Http1ConnectionCache cache = reference.get();
+        if (cache == null || cache.closed.get()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        cache.cache.values().forEach(route -> route.closeExpired(now));
+        return true;
+    }
+
+    private enum State {
+        USED,
+        IDLE,
+        CLOSED
+    }
+
+    private static final class PooledConnection {
+        private final long created = System.nanoTime();
+        private final AtomicReference<State> state = new AtomicReference<>(State.USED);
+        private volatile TcpClientConnection connection;
+        private volatile long idleSince;
+    }
+
+    /**
+     * Connections of a single {@link io.helidon.webclient.api.ConnectionKey}.
+     */
+    private static final class RoutePool {
+        // most recently returned connection first
+        private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        // idle and used connections of this route
+        private final AtomicInteger open = new AtomicInteger();
+        // incremented each time a connection may have become available
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        private final int maxIdle;
+        private final int maxConnections;
+        private final long idleTimeout;
+        private final long maxLifetime;
+
+        private RoutePool(int maxIdle, Http1ClientProtocolConfig protocolConfig) {
+            this.maxIdle = maxIdle;
+            this.maxConnections = protocolConfig.maxConnectionsPerRoute();
+            this.idleTimeout = protocolConfig.idleTimeout().toNanos();
+            this.maxLifetime = protocolConfig.maxLifetime()
+                    .map(Duration::toNanos)
+                    .orElse(Long.MAX_VALUE);
+        }
+
+        // most recently used connection that is still usable, expired connections are closed
+        private PooledConnection pollIdle() {
+            PooledConnection pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                idleCount.decrementAndGet();
+                if (!expired(pooled, System.nanoTime())
+                        && pooled.connection.isConnected()
+                        && pooled.state.compareAndSet(State.IDLE, State.USED)) {
+                    STATISTICS.connectionReused();
+                    return pooled;
+                }
+                pooled.connection.closeResource();
+            }
+            return null;
+        }
+
+        private PooledConnection pollOldestIdle() {
+            PooledConnection pooled = idle.pollLast();
+            if (pooled != null) {
+                idleCount.decrementAndGet();
+            }
+            return pooled;
+        }
+
+        private boolean reserve() {
+            while (true) {
+                int current = open.get();
+                if (maxConnections >= 0 && current >= maxConnections) {
+                    return false;
+                }
+                if (open.compareAndSet(current, current + 1)) {
                     return true;
-                } else {
-                    if (LOGGER.isLoggable(DEBUG)) {
-                        LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection because queue is full %s",
-                                                        conn.channelId(),
-                                                        Thread.currentThread().getName()));
-                    }
                 }
-            } catch (InterruptedException e) {
-                if (LOGGER.isLoggable(DEBUG)) {
-                    LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection due to '%s' %s",
-                                                    conn.channelId(),
-                                                    e.getMessage(),
-                                                    Thread.currentThread().getName()));
+            }
+        }
+
+        private boolean reserveIdle() {
+            while (true) {
+                int current = idleCount.get();
+                if (current >= maxIdle) {
+                    return false;
+                }
+                if (idleCount.compareAndSet(current, current + 1)) {
+                    return true;
                 }
             }
         }
 
-        return false;
+        private boolean expired(PooledConnection pooled, long now) {
+            if (now - pooled.created >= maxLifetime) {
+                return true;
+            }
+            return pooled.state.get() == State.IDLE && now - pooled.idleSince >= idleTimeout;
+        }
+
+        private void closeExpired(long now) {
+            for (PooledConnection pooled : idle) {
+                if ((expired(pooled, now) || !pooled.connection.isConnected()) && idle.removeFirstOccurrence(pooled)) {
+                    idleCount.decrementAndGet();
+                    pooled.connection.closeResource();
+                }
+            }
+        }
+
+        private void closeIdle() {
+            PooledConnection pooled;
+            while ((pooled = pollOldestIdle()) != null) {
+                pooled.connection.closeResource();
+            }
+        }
+
+        private void await(long versionBefore, long deadline, ConnectionKey connectionKey) {
+            waiting.incrementAndGet();
+            lock.lock();
+            try {
+                // a connection may have been returned since we looked for one
+                if (version.get() != versionBefore) {
+                    return;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Timed out waiting for a connection to " + connectionKey.host()
+                                                            + ":" + connectionKey.port() + ", " + open.get()
+                                                            + " connections are open");
+                }
+                available.awaitNanos(Math.min(remaining, MAX_WAIT_NANOS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("Interrupted", e);
+            } finally {
+                lock.unlock();
+                waiting.decrementAndGet();
+            }
+        }
+
+        private void signal() {
+            version.incrementAndGet();
+            if (waiting.get() > 0) {
+                lock.lock();
+                try {
+                    available.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
     }
 }
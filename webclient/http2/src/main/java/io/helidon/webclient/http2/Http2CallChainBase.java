@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,7 +61,6 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
     private final CompletableFuture<WebClientServiceResponse> whenComplete;
     private Http2ClientStream stream;
     private HttpClientResponse response;
-    private ClientRequestHeaders requestHeaders;
     private Status responseStatus;
 
     Http2CallChainBase(Http2ClientImpl http2Client,
@@ -106,11 +105,11 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
     @Override
     public WebClientServiceResponse proceed(WebClientServiceRequest serviceRequest) {
         ClientUri uri = serviceRequest.uri();
-        requestHeaders = serviceRequest.headers();
+        ClientRequestHeaders headers = serviceRequest.headers();
 
-        requestHeaders.setIfAbsent(HeaderValues.create(HeaderNames.HOST, uri.authority()));
-        requestHeaders.remove(HeaderNames.CONNECTION, LogHeaderConsumer.INSTANCE);
-        requestHeaders.setIfAbsent(USER_AGENT_HEADER);
+        headers.setIfAbsent(HeaderValues.create(HeaderNames.HOST, uri.authority()));
+        headers.remove(HeaderNames.CONNECTION, LogHeaderConsumer.INSTANCE);
+        headers.setIfAbsent(USER_AGENT_HEADER);
 
         ConnectionKey connectionKey = connectionKey(serviceRequest);
 
@@ -121,7 +120,7 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
             if (result.result() == Http2ConnectionAttemptResult.Result.HTTP_2) {
                 // ALPN, prior knowledge, or upgrade success
                 this.stream = result.stream();
-                return doProceed(serviceRequest, requestHeaders, result.stream());
+                return doProceed(serviceRequest, headers, result.stream());
             } else {
                 // upgrade failed
                 this.response = result.response();
@@ -134,13 +133,15 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
                 http2Client.connectionCache().remove(connectionKey);
             }
             throw e;
+        } catch (RuntimeException e) {
+            // such as when the thread was interrupted to cancel this request, the stream cannot be used anymore
+            if (result.result() == Http2ConnectionAttemptResult.Result.HTTP_2) {
+                closeStream(result.stream());
+            }
+            throw e;
         }
     }
 
-    ClientRequestHeaders requestHeaders() {
-        return requestHeaders;
-    }
-
     Status responseStatus() {
         return responseStatus;
     }
@@ -254,11 +255,31 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
             response.close();
         }
         if (stream != null) {
-            try {
-                stream.cancel();
-            } finally {
-                stream.close();
-            }
+            closeStream(stream);
+        }
+    }
+
+    /**
+     * Close the response of the provided resource. The request may be sent more than once
+     * (see {@link #repeatable()}), so the resource of the returned response is used when known.
+     *
+     * @param resource connection resource of the response
+     */
+    void closeResponse(ReleasableResource resource) {
+        if (resource instanceof Http2ClientStream usedStream) {
+            closeStream(usedStream);
+        } else if (resource instanceof Http1ResponseResource) {
+            resource.closeResource();
+        } else {
+            closeResponse();
+        }
+    }
+
+    private static void closeStream(Http2ClientStream stream) {
+        try {
+            stream.cancel();
+        } finally {
+            stream.close();
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -77,6 +77,12 @@ class Http2CallEntityChain extends Http2CallChainBase {
         return readResponse(serviceRequest, stream);
     }
 
+    @Override
+    public boolean repeatable() {
+        // entity is fully in memory
+        return true;
+    }
+
     private byte[] entityBytes(Object entity, ClientRequestHeaders headers) {
         if (entity instanceof byte[] bytes) {
             return bytes;
@@ -85,8 +91,7 @@ class Http2CallEntityChain extends Http2CallChainBase {
         GenericType<Object> genericType = GenericType.create(entity);
         EntityWriter<Object> writer = clientConfig().mediaContext().writer(genericType, headers);
 
-        // This uses an in-memory buffer, which would cause damage for writing big objects (such as Path)
-        // we have a follow-up issue to make sure this is fixed
+        // entities that may be big are streamed by the request (see Http2ClientRequestImpl.doSubmit)
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         writer.write(genericType, entity, bos, headers);
         return bos.toByteArray();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -84,7 +85,13 @@ public class Http2ClientConnection {
     private final DataWriter dataWriter;
     private final Semaphore pingPongSemaphore = new Semaphore(0);
     private final Http2ClientConfig clientConfig;
+    // streams reserved using tryStream, used to balance streams across pooled connections
+    private final AtomicInteger activeStreams = new AtomicInteger();
+    // may be null for connections that are not pooled
+    private final Http2ClientConnectionHandler pool;
     private volatile int lastStreamId;
+    private volatile int goAwayLastStreamId = Integer.MAX_VALUE;
+    private volatile long maxConcurrentStreams = Long.MAX_VALUE;
 
     private Http2Settings serverSettings = Http2Settings.builder()
             .build();
@@ -92,13 +99,23 @@ public class Http2ClientConnection {
     private final AtomicReference<State> state = new AtomicReference<>(State.OPEN);
 
     Http2ClientConnection(Http2ClientImpl http2Client, ClientConnection connection) {
+        this(http2Client, connection, null);
+    }
+
+    Http2ClientConnection(Http2ClientImpl http2Client, ClientConnection connection, Http2ClientConnectionHandler pool) {
+        this.pool = pool;
         this.protocolConfig = http2Client.protocolConfig();
         this.clientConfig = http2Client.clientConfig();
-        this.connectionFlowControl = ConnectionFlowControl.clientBuilder(this::writeWindowsUpdate)
-                .maxFrameSize(protocolConfig.maxFrameSize())
-                .initialWindowSize(protocolConfig.initialWindowSize())
-                .blockTimeout(protocolConfig.flowControlBlockTimeout())
-                .build();
+        ConnectionFlowControl.ConnectionFlowControlBuilder flowControlBuilder =
+                ConnectionFlowControl.clientBuilder(this::writeWindowsUpdate)
+                        .maxFrameSize(protocolConfig.maxFrameSize())
+                        .initialWindowSize(protocolConfig.initialWindowSize())
+                        .blockTimeout(protocolConfig.flowControlBlockTimeout());
+        if (protocolConfig.windowAutoTuning()) {
+            flowControlBuilder.windowAutoTuning(this::writeFrame)
+                    .maxWindowSize(protocolConfig.maxWindowSize());
+        }
+        this.connectionFlowControl = flowControlBuilder.build();
         this.connection = connection;
         this.ctx = connection.helidonSocket();
         this.dataWriter = connection.writer();
@@ -124,6 +141,17 @@ public class Http2ClientConnection {
         return h2conn;
     }
 
+    static Http2ClientConnection create(Http2ClientImpl http2Client,
+                                        ClientConnection connection,
+                                        boolean sendSettings,
+                                        Http2ClientConnectionHandler pool) {
+
+        Http2ClientConnection h2conn = new Http2ClientConnection(http2Client, connection, pool);
+        h2conn.start(http2Client.protocolConfig(), http2Client.webClient().executor(), sendSettings);
+
+        return h2conn;
+    }
+
     Http2ConnectionWriter writer() {
         return writer;
     }
@@ -195,22 +223,93 @@ public class Http2ClientConnection {
         } finally {
             lock.unlock();
         }
-
+        if (state.get() == State.DRAINING && drained()) {
+            ctx.log(LOGGER, TRACE, "All streams drained after GOAWAY");
+            close();
+        }
     }
 
+    /**
+     * Create a new stream, if this connection accepts new streams and the server's
+     * {@code MAX_CONCURRENT_STREAMS} limit is not reached. The stream releases its slot once closed.
+     *
+     * @param config stream configuration
+     * @return a new stream, or {@code null} if this connection cannot handle another stream
+     */
     Http2ClientStream tryStream(Http2StreamConfig config) {
+        if (!tryReserveStream()) {
+            return null;
+        }
         try {
-            return createStream(config);
+            Http2ClientStream stream = createStream(config);
+            stream.reserved();
+            return stream;
         } catch (IllegalStateException | UncheckedIOException e) {
+            releaseStream();
             return null;
         }
     }
 
+    boolean tryReserveStream() {
+        while (state.get() == State.OPEN) {
+            int current = activeStreams.get();
+            if (current >= maxConcurrentStreams) {
+                return false;
+            }
+            if (activeStreams.compareAndSet(current, current + 1)) {
+                if (current == 0 && pool != null) {
+                    pool.connectionActive(this);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void releaseStream() {
+        int remaining = activeStreams.decrementAndGet();
+        if (pool != null) {
+            if (remaining == 0) {
+                pool.connectionIdle(this);
+            }
+            pool.streamReleased(this);
+        }
+    }
+
+    int activeStreams() {
+        return activeStreams.get();
+    }
+
+    /**
+     * Maximal number of concurrent streams allowed by the server ({@code SETTINGS_MAX_CONCURRENT_STREAMS}).
+     *
+     * @return maximal number of concurrent streams, {@link Long#MAX_VALUE} if not limited
+     */
+    public long maxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    /**
+     * Whether new streams can be created on this connection, this is no longer the case
+     * once the connection is closed, or it received {@code GOAWAY}.
+     *
+     * @return whether the connection accepts new streams
+     */
+    public boolean acceptsStreams() {
+        return state.get() == State.OPEN;
+    }
+
     boolean closed() {
         return state.get().closed() || (protocolConfig.ping() && !ping());
     }
 
-    boolean ping() {
+    /**
+     * Send a {@code PING} frame and wait for the acknowledgement, at most for the configured ping timeout.
+     *
+     * @return whether the acknowledgement was received in time
+     * @see Http2ClientProtocolConfig#pingTimeout()
+     */
+    public boolean ping() {
         Http2Ping ping = Http2Ping.create();
         Http2FrameData frameData = ping.toFrameData();
         sendListener.frameHeader(ctx, 0, frameData.header());
@@ -245,6 +344,9 @@ public class Http2ClientConnection {
             } catch (Throwable e) {
                 ctx.log(LOGGER, TRACE, "Failed to close HTTP/2 connection.", e);
             }
+            if (pool != null) {
+                pool.connectionClosed(this);
+            }
         }
     }
 
@@ -324,6 +426,10 @@ public class Http2ClientConnection {
         }
     }
 
+    private void writeFrame(Http2FrameData frame) {
+        writer.write(frame);
+    }
+
     private void writeWindowsUpdate(int streamId, Http2WindowUpdate windowUpdateFrame) {
         if (streamId == 0) {
             writer.write(windowUpdateFrame.toFrameData(serverSettings, streamId, Http2Flag.NoFlags.create()));
@@ -369,6 +475,19 @@ public class Http2ClientConnection {
             Http2GoAway http2GoAway = Http2GoAway.create(data);
             recvListener.frameHeader(ctx, streamId, frameHeader);
             recvListener.frame(ctx, streamId, http2GoAway);
+            goAwayLastStreamId = http2GoAway.lastStreamId();
+            // §6.8 streams up to the last stream id may still complete, stop creating new streams and drain
+            if (http2GoAway.errorCode() == Http2ErrorCode.NO_ERROR
+                    && state.compareAndSet(State.OPEN, State.DRAINING)) {
+                ctx.log(LOGGER, TRACE, "Connection draining, requested by remote peer, last stream: %d",
+                        http2GoAway.lastStreamId());
+                if (pool != null) {
+                    pool.connectionDraining(this);
+                }
+                if (!drained()) {
+                    return true;
+                }
+            }
             this.close();
             ctx.log(LOGGER, TRACE, "Connection closed by remote peer, error code: %s, last stream: %d",
                     http2GoAway.errorCode(),
@@ -380,6 +499,9 @@ public class Http2ClientConnection {
             recvListener.frame(ctx, streamId, serverSettings);
             // §4.3.1 Endpoint communicates the size chosen by its HPACK decoder context
             inboundDynamicTable.protocolMaxTableSize(serverSettings.value(Http2Setting.HEADER_TABLE_SIZE));
+            if (serverSettings.hasValue(Http2Setting.MAX_CONCURRENT_STREAMS)) {
+                maxConcurrentStreams = serverSettings.value(Http2Setting.MAX_CONCURRENT_STREAMS);
+            }
             if (serverSettings.hasValue(Http2Setting.MAX_FRAME_SIZE)) {
                 connectionFlowControl.resetMaxFrameSize(serverSettings.value(Http2Setting.MAX_FRAME_SIZE).intValue());
             }
@@ -449,7 +571,7 @@ public class Http2ClientConnection {
                                                                   Http2Flag.PingFlags.create(Http2Flag.ACK),
                                                                   0);
                 writer.write(new Http2FrameData(header, frame));
-            } else {
+            } else if (!connectionFlowControl.pingAcknowledged(Http2Ping.create(data))) {
                 pong();
             }
             break;
@@ -467,6 +589,7 @@ public class Http2ClientConnection {
                 ctx.log(LOGGER, DEBUG, "%d: received data for stream %d, which does not exist", 0, streamId);
             } else {
                 stream.flowControl().inbound().decrementWindowSize(frameHeader.length());
+                connectionFlowControl.inboundData(frameHeader.length());
                 ctx.log(LOGGER, DEBUG, "%d: received data for stream %d", 0, streamId);
                 stream.push(new Http2FrameData(frameHeader, data));
             }
@@ -491,6 +614,23 @@ public class Http2ClientConnection {
         writer.write(frameData);
     }
 
+    // whether all streams the server promised to process after GOAWAY are closed
+    private boolean drained() {
+        int last = goAwayLastStreamId;
+        Lock lock = streamsLock.readLock();
+        lock.lock();
+        try {
+            for (Http2ClientStream stream : streams.values()) {
+                if (stream.streamId() <= last) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private void goAway(int streamId, Http2ErrorCode errorCode, String msg) {
         if (State.OPEN == state.getAndSet(State.GO_AWAY)) {
             Http2Settings http2Settings = Http2Settings.create();
@@ -502,6 +642,8 @@ public class Http2ClientConnection {
     private enum State {
         CLOSED(true),
         GO_AWAY(true),
+        // GOAWAY received, existing streams may complete
+        DRAINING(true),
         OPEN(false);
 
         private final boolean closed;
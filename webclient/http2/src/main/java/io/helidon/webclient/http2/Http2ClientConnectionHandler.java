@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,14 +17,17 @@
 package io.helidon.webclient.http2;
 
 import java.util.Base64;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
@@ -46,42 +49,55 @@ import io.helidon.webclient.http1.Http1ClientRequest;
 import io.helidon.webclient.http1.Http1ClientResponse;
 import io.helidon.webclient.http1.UpgradeResponse;
 import io.helidon.webclient.http2.Http2ConnectionAttemptResult.Result;
+import io.helidon.webclient.spi.ConnectionPoolStatistics;
 
+import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.TRACE;
 
-// a representation of a single remote endpoint
-// this may use one or more connections (depending on parallel streams)
+// a representation of a single remote endpoint (authority)
+// this is a pool of one or more connections, a new stream is created on the connection with the least active streams
+// for pool statistics, a connection is active while it has streams, and idle otherwise
 class Http2ClientConnectionHandler {
     private static final System.Logger LOGGER = System.getLogger(Http2ClientConnectionHandler.class.getName());
+    private static final ConnectionPoolStatistics STATISTICS = ConnectionPoolStatistics.get(Http2Client.PROTOCOL_ID);
     private static final Header CONNECTION_UPGRADE_HEADER = HeaderValues.createCached(HeaderNames.CONNECTION,
                                                                                       "Upgrade, HTTP2-Settings");
     // h2c stands for HTTP/2 plaintext protocol (only used without TLS)
     private static final Header UPGRADE_HEADER = HeaderValues.createCached(HeaderNames.UPGRADE, "h2c");
     private static final HeaderName HTTP2_SETTINGS_HEADER = HeaderNames.create("HTTP2-Settings");
 
-    // todo requires handling of timeouts and removal from this queue
-    private final Map<ClientConnection, Http2ClientConnection> h2ConnByConn =
-            Collections.synchronizedMap(new IdentityHashMap<>());
-
-    private final Map<Http2ClientConnection, Boolean> allConnections = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final List<Http2ClientConnection> connections = new CopyOnWriteArrayList<>();
+    // connections that received GOAWAY, these no longer count against the maximal number of connections
+    private final Set<Http2ClientConnection> draining = ConcurrentHashMap.newKeySet();
+    // connections opened for a request, counted as active by the statistics before their first stream is reserved
+    private final Set<Http2ClientConnection> opening = ConcurrentHashMap.newKeySet();
+    // open connections and connections being opened, to enforce the maximal number of connections without locking
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+    private final AtomicLong releases = new AtomicLong();
+    private final AtomicBoolean warmingUp = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
     private final ConnectionKey connectionKey;
-    private final AtomicReference<Http2ClientConnection> activeConnection = new AtomicReference<>();
+    // only used to discover the protocol supported by the server
     private final ReentrantLock lock = new ReentrantLock();
+    // only used by requests waiting for a stream, when all connections are at their stream limit
+    private final ReentrantLock releaseLock = new ReentrantLock();
+    private final Condition released = releaseLock.newCondition();
     private final AtomicReference<Result> result = new AtomicReference<>(Result.UNKNOWN);
+    // set once we know connections can be opened without a request (ALPN or prior knowledge), enables warm-up
+    private volatile Http2ClientImpl warmUpClient;
 
     Http2ClientConnectionHandler(ConnectionKey connectionKey) {
         this.connectionKey = connectionKey;
     }
 
     void close() {
-        // this is to prevent concurrent modification (connections remove themselves from the map)
-        Set<Http2ClientConnection> toClose = new HashSet<>(allConnections.keySet());
-        toClose.forEach(Http2ClientConnection::close);
-        Http2ClientConnection active = this.activeConnection.getAndSet(null);
-        if (active != null) {
-            active.close();
-        }
-        this.allConnections.clear();
+        closed.set(true);
+        // this is to prevent concurrent modification (connections remove themselves from the list)
+        List.copyOf(connections).forEach(Http2ClientConnection::close);
+        List.copyOf(draining).forEach(Http2ClientConnection::close);
+        this.connections.clear();
+        signalWaiting();
     }
 
     Http2ConnectionAttemptResult newStream(Http2ClientImpl http2Client,
@@ -99,32 +115,243 @@ class Http2ClientConnectionHandler {
     Http2ConnectionAttemptResult http2(Http2ClientImpl http2Client,
                                        Http2ClientRequestImpl request,
                                        ClientUri initialUri) {
+        Optional<ClientConnection> maybeConnection = request.connection();
+        if (maybeConnection.isPresent()) {
+            // TLS is ignored (we cannot do a TLS negotiation on a connected connection)
+            // we cannot pool this connection, it will be a one-off
+            Http2ClientConnection conn = Http2ClientConnection.create(http2Client, maybeConnection.get(), true);
+            Http2ClientStream stream = conn.tryStream(request);
+            if (stream == null) {
+                throw new IllegalStateException("Cannot create a new HTTP/2 stream on the provided connection");
+            }
+            return new Http2ConnectionAttemptResult(Result.HTTP_2, stream, null);
+        }
+
+        return new Http2ConnectionAttemptResult(Result.HTTP_2, acquireStream(http2Client, request, initialUri), null);
+    }
+
+    // the first stream of a connection was reserved
+    void connectionActive(Http2ClientConnection connection) {
+        if (!opening.remove(connection)) {
+            STATISTICS.connectionReused();
+        }
+    }
+
+    // the last stream of a connection was released
+    void connectionIdle(Http2ClientConnection connection) {
+        STATISTICS.connectionReleased();
+    }
+
+    void streamReleased(Http2ClientConnection connection) {
+        releases.incrementAndGet();
+        if (pendingAcquires.get() > 0) {
+            signalWaiting();
+        }
+    }
+
+    void connectionDraining(Http2ClientConnection connection) {
+        draining.add(connection);
+        connections.remove(connection);
+        // a replacement connection can be opened
+        connectionCount.decrementAndGet();
+        signalWaiting();
+    }
+
+    void connectionClosed(Http2ClientConnection connection) {
+        connections.remove(connection);
+        if (!draining.remove(connection)) {
+            connectionCount.decrementAndGet();
+        }
+        if (opening.remove(connection) || connection.activeStreams() > 0) {
+            STATISTICS.connectionClosed();
+        } else {
+            STATISTICS.connectionEvicted();
+        }
+        signalWaiting();
+    }
+
+    private Http2ClientStream acquireStream(Http2ClientImpl http2Client,
+                                            Http2ClientRequestImpl request,
+                                            ClientUri initialUri) {
+        Http2ClientProtocolConfig protocolConfig = http2Client.protocolConfig();
+        long deadline = System.nanoTime() + protocolConfig.streamAcquireTimeout().toNanos();
+        boolean pending = false;
         try {
-            lock.lockInterruptibly();
+            while (true) {
+                if (closed.get()) {
+                    throw new IllegalStateException("Connection pool of " + authority() + " is closed");
+                }
+                long releasesBefore = releases.get();
+                Http2ClientStream stream = tryStream(request);
+                if (stream != null) {
+                    warmUp(protocolConfig);
+                    return stream;
+                }
+                if (reserveConnection(protocolConfig.maxConnections())) {
+                    Http2ClientConnection conn;
+                    try {
+                        conn = createConnection(http2Client, request, initialUri);
+                    } catch (RuntimeException e) {
+                        connectionCount.decrementAndGet();
+                        throw e;
+                    }
+                    stream = conn.tryStream(request);
+                    if (stream != null) {
+                        return stream;
+                    }
+                    continue;
+                }
+                if (!pending) {
+                    pending = true;
+                    pendingAcquires.incrementAndGet();
+                    STATISTICS.acquireStarted();
+                }
+                awaitRelease(releasesBefore, deadline);
+            }
+        } finally {
+            if (pending) {
+                pendingAcquires.decrementAndGet();
+                STATISTICS.acquireFinished();
+            }
+        }
+    }
+
+    // least active streams selection, does not block
+    private Http2ClientStream tryStream(Http2StreamConfig config) {
+        while (true) {
+            Http2ClientConnection selected = null;
+            int selectedStreams = Integer.MAX_VALUE;
+            for (Http2ClientConnection conn : connections) {
+                if (!conn.acceptsStreams()) {
+                    connections.remove(conn);
+                    continue;
+                }
+                int active = conn.activeStreams();
+                if (active < selectedStreams && active < conn.maxConcurrentStreams()) {
+                    selected = conn;
+                    selectedStreams = active;
+                }
+            }
+            if (selected == null) {
+                return null;
+            }
+            // checks the connection with a ping, if configured
+            if (selected.closed()) {
+                connections.remove(selected);
+                selected.close();
+                continue;
+            }
+            Http2ClientStream stream = selected.tryStream(config);
+            if (stream != null) {
+                return stream;
+            }
+            // another stream used the last slot of the selected connection, or it started draining
+        }
+    }
+
+    private boolean reserveConnection(int maxConnections) {
+        while (true) {
+            int current = connectionCount.get();
+            if (current >= maxConnections) {
+                return false;
+            }
+            if (connectionCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void awaitRelease(long releasesBefore, long deadline) {
+        releaseLock.lock();
+        try {
+            // a stream may have been released since we looked for one
+            if (releases.get() != releasesBefore) {
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException("Timed out waiting for an HTTP/2 stream to " + authority()
+                                                        + ", all " + connectionCount.get()
+                                                        + " connections are at their stream limit");
+            }
+            released.awaitNanos(remaining);
         } catch (InterruptedException e) {
             throw new IllegalStateException("Interrupted", e);
+        } finally {
+            releaseLock.unlock();
+        }
+    }
+
+    private void signalWaiting() {
+        releases.incrementAndGet();
+        releaseLock.lock();
+        try {
+            released.signalAll();
+        } finally {
+            releaseLock.unlock();
+        }
+    }
+
+    // open a connection in background, if below the minimal number of connections,
+    // or if all connections are close to their stream limit
+    private void warmUp(Http2ClientProtocolConfig protocolConfig) {
+        Http2ClientImpl client = warmUpClient;
+        if (client == null || closed.get() || !needsConnection(protocolConfig)) {
+            return;
+        }
+        if (!warmingUp.compareAndSet(false, true)) {
+            return;
+        }
+        if (!reserveConnection(protocolConfig.maxConnections())) {
+            warmingUp.set(false);
+            return;
         }
         try {
-            // read/write lock to obtain a stream or create a new connection
-            Http2ClientConnection conn = activeConnection.updateAndGet(c -> c != null && c.closed() ? null : c);
-            Http2ClientStream stream;
-            if (conn == null) {
-                conn = createConnection(http2Client, request, initialUri);
-                // we must assume that a new connection can handle a new stream
-                stream = conn.createStream(request);
-            } else {
-                stream = conn.tryStream(request);
-                if (stream == null) {
-                    // either the connection is closed, or it ran out of streams
-                    conn = createConnection(http2Client, request, initialUri);
-                    stream = conn.createStream(request);
+            client.webClient().executor().submit(() -> {
+                try {
+                    ClientConnection connection = connectClient(client.webClient(), List.of(Http2Client.PROTOCOL_ID));
+                    addConnection(Http2ClientConnection.create(client, connection, true, this), false);
+                    signalWaiting();
+                } catch (RuntimeException e) {
+                    connectionCount.decrementAndGet();
+                    LOGGER.log(DEBUG, "Failed to open HTTP/2 connection to " + authority() + " in background", e);
+                } finally {
+                    warmingUp.set(false);
                 }
+            });
+        } catch (RejectedExecutionException e) {
+            connectionCount.decrementAndGet();
+            warmingUp.set(false);
+        }
+    }
+
+    private boolean needsConnection(Http2ClientProtocolConfig protocolConfig) {
+        if (connectionCount.get() < protocolConfig.minConnections()) {
+            return true;
+        }
+        for (Http2ClientConnection conn : connections) {
+            long maxStreams = conn.maxConcurrentStreams();
+            // a connection below 3/4 of its limit can handle more streams
+            if (conn.acceptsStreams() && conn.activeStreams() < maxStreams - maxStreams / 4) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            return new Http2ConnectionAttemptResult(Result.HTTP_2, stream, null);
-        } finally {
-            lock.unlock();
+    private void addConnection(Http2ClientConnection connection, boolean forRequest) {
+        if (forRequest) {
+            // must be registered before other requests can reserve a stream on the connection
+            opening.add(connection);
+            STATISTICS.connectionCreated();
+        } else {
+            STATISTICS.idleConnectionCreated();
         }
+        connections.add(connection);
+    }
+
+    private String authority() {
+        return connectionKey.host() + ":" + connectionKey.port();
     }
 
     private Http2ConnectionAttemptResult httpX(Http2ClientImpl http2Client,
@@ -151,12 +378,9 @@ class Http2ClientConnectionHandler {
                     if (Http2Client.PROTOCOL_ID.equals(tcpClientConnection.helidonSocket().protocol())) {
                         result.set(Result.HTTP_2);
                         // this should always be true
-                        Http2ClientConnection connection = Http2ClientConnection.create(http2Client,
-                                                                                        tcpClientConnection,
-                                                                                        true);
-                        allConnections.put(connection, true);
-                        h2ConnByConn.put(tcpClientConnection, connection);
-                        this.activeConnection.set(connection);
+                        connectionCount.incrementAndGet();
+                        addConnection(Http2ClientConnection.create(http2Client, tcpClientConnection, true, this), true);
+                        warmUpClient = http2Client;
                         return http2(http2Client, request, initialUri);
                     } else {
                         result.set(Result.HTTP_1);
@@ -186,10 +410,12 @@ class Http2ClientConnectionHandler {
                     .upgrade("h2c");
             if (upgradeResponse.isUpgraded()) {
                 result.set(Result.HTTP_2);
-                Http2ClientConnection conn = Http2ClientConnection.create(http2Client,
-                                                                          upgradeResponse.connection(),
-                                                                          false);
-                activeConnection.set(conn);
+                connectionCount.incrementAndGet();
+                addConnection(Http2ClientConnection.create(http2Client,
+                                                           upgradeResponse.connection(),
+                                                           false,
+                                                           this),
+                              true);
                 return http2(http2Client, request, initialUri);
             } else {
                 result.set(Result.HTTP_1);
@@ -241,70 +467,50 @@ class Http2ClientConnectionHandler {
                                                    ClientUri requestUri) {
         WebClient webClient = http2Client.webClient();
         Http2ClientProtocolConfig protocolConfig = http2Client.protocolConfig();
-        Optional<ClientConnection> maybeConnection = request.connection();
         Http2ClientConnection usedConnection;
+        ClientConnection connection;
 
-        if (maybeConnection.isPresent()) {
-            // TLS is ignored (we cannot do a TLS negotiation on a connected connection)
-            // we cannot cache this connection, it will be a one-off
-            usedConnection = Http2ClientConnection.create(http2Client, maybeConnection.get(), true);
+        // we know that this is HTTP/2 capable server - still need to support all three (prior, upgrade, alpn)
+        if ((request.tls().enabled() && "https".equals(requestUri.scheme())) || request.priorKnowledge()) {
+            connection = connectClient(webClient, List.of(Http2Client.PROTOCOL_ID));
+            usedConnection = Http2ClientConnection.create(http2Client, connection, true, this);
+            warmUpClient = http2Client;
         } else {
-            ClientConnection connection;
-
-            // we know that this is HTTP/2 capable server - still need to support all three (prior, upgrade, alpn)
-            if (request.tls().enabled() && "https".equals(requestUri.scheme())) {
-                connection = connectClient(webClient, List.of(Http2Client.PROTOCOL_ID));
-                usedConnection = Http2ClientConnection.create(http2Client, connection, true);
+            // attempt an upgrade to HTTP/2
+            UpgradeResponse upgradeResponse = http1Request(webClient, request, requestUri)
+                    .header(UPGRADE_HEADER)
+                    .header(CONNECTION_UPGRADE_HEADER)
+                    .header(HTTP2_SETTINGS_HEADER, settingsForUpgrade(protocolConfig))
+                    .upgrade("h2c");
+            if (upgradeResponse.isUpgraded()) {
+                result.set(Result.HTTP_2);
+                connection = upgradeResponse.connection();
+                usedConnection = Http2ClientConnection.create(http2Client, connection, false, this);
             } else {
-                if (request.priorKnowledge()) {
-                    connection = connectClient(webClient, List.of(Http2Client.PROTOCOL_ID));
-                    usedConnection = Http2ClientConnection.create(http2Client, connection, true);
-                } else {
-                    // attempt an upgrade to HTTP/2
-                    UpgradeResponse upgradeResponse = http1Request(webClient, request, requestUri)
-                            .header(UPGRADE_HEADER)
-                            .header(CONNECTION_UPGRADE_HEADER)
-                            .header(HTTP2_SETTINGS_HEADER, settingsForUpgrade(protocolConfig))
-                            .upgrade("h2c");
-                    if (upgradeResponse.isUpgraded()) {
-                        result.set(Result.HTTP_2);
-                        connection = upgradeResponse.connection();
-                        usedConnection = Http2ClientConnection.create(http2Client, connection, false);
-                    } else {
-                        try (HttpClientResponse response = upgradeResponse.response()) {
-                            if (LOGGER.isLoggable(TRACE)) {
-                                upgradeResponse.connection().helidonSocket()
-                                        .log(LOGGER, TRACE, "Failed to upgrade to HTTP/2");
-                            }
-                            upgradeResponse.connection().closeResource();
-                            throw new IllegalStateException(
-                                    "Failed to upgrade to HTTP/2, even though it succeeded before. Status: "
-                                            + response.status());
-                        }
+                try (HttpClientResponse response = upgradeResponse.response()) {
+                    if (LOGGER.isLoggable(TRACE)) {
+                        upgradeResponse.connection().helidonSocket()
+                                .log(LOGGER, TRACE, "Failed to upgrade to HTTP/2");
                     }
+                    upgradeResponse.connection().closeResource();
+                    throw new IllegalStateException(
+                            "Failed to upgrade to HTTP/2, even though it succeeded before. Status: "
+                                    + response.status());
                 }
             }
-
-            // only set these for requests that do not have an explicit connection defined
-            activeConnection.set(usedConnection);
-            allConnections.put(usedConnection, true);
-            h2ConnByConn.put(connection, usedConnection);
         }
 
+        addConnection(usedConnection, true);
         return usedConnection;
     }
 
     private ClientConnection connectClient(WebClient webClient, List<String> alpn) {
+        // closing is handled by the HTTP/2 connection, see connectionClosed
         return TcpClientConnection.create(webClient,
                                           connectionKey,
                                           alpn,
                                           connection -> false,
                                           connection -> {
-                                              Http2ClientConnection h2conn = h2ConnByConn.remove(
-                                                      connection);
-                                              if (h2conn != null) {
-                                                  allConnections.remove(h2conn);
-                                              }
                                           })
                 .connect();
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -88,6 +88,60 @@ interface Http2ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.DefaultInt(65535)
     int initialWindowSize();
 
+    /**
+     * Whether to tune the inbound flow control window to the bandwidth-delay product of each connection.
+     * The bandwidth-delay product is estimated from the data received during a round trip of a {@code PING} frame.
+     * The window starts at {@link #initialWindowSize()}, and may grow up to {@link #maxWindowSize()}.
+     *
+     * @return whether window auto-tuning is enabled, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean windowAutoTuning();
+
+    /**
+     * Maximal size of the inbound flow control window when {@link #windowAutoTuning()} is enabled.
+     * Defaults to 16 MiB.
+     *
+     * @return units of octets
+     */
+    @Option.Configured
+    @Option.DefaultInt(16777216)
+    int maxWindowSize();
+
+    /**
+     * Minimal number of connections kept open to a single authority (host and port).
+     * Additional connections are opened in the background, once the server is known to support HTTP/2 using
+     * ALPN or prior knowledge (connections upgraded from HTTP/1 are only opened for a request).
+     *
+     * @return minimal number of connections, defaults to {@code 1}
+     */
+    @Option.Configured
+    @Option.DefaultInt(1)
+    int minConnections();
+
+    /**
+     * Maximal number of connections opened to a single authority (host and port).
+     * A new connection is opened when all existing connections reached the {@code MAX_CONCURRENT_STREAMS}
+     * limit of the server; once this number of connections is reached, new requests wait for a stream
+     * to be released, up to {@link #streamAcquireTimeout()}.
+     *
+     * @return maximal number of connections, defaults to {@code 8}
+     */
+    @Option.Configured
+    @Option.DefaultInt(8)
+    int maxConnections();
+
+    /**
+     * How long to wait for a stream when all connections to an authority are at their stream limit,
+     * and no more connections can be opened.
+     *
+     * @return timeout
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration streamAcquireTimeout();
+
     /**
      * Timeout for blocking while waiting for window update when window is depleted.
      *
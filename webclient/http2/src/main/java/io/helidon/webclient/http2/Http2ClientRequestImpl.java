@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,10 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import io.helidon.common.GenericType;
 import io.helidon.http.Method;
+import io.helidon.http.media.EntityWriter;
+import io.helidon.http.media.InstanceWriter;
 import io.helidon.webclient.api.ClientRequestBase;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.FullClientRequest;
@@ -100,10 +103,37 @@ class Http2ClientRequestImpl extends ClientRequestBase<Http2ClientRequest, Http2
 
     @Override
     public Http2ClientResponse doSubmit(Object entity) {
+        Object toSend = entity;
+        if (!(entity instanceof byte[])) {
+            // entities that are not always in memory and are too big (or of unknown size) are streamed as DATA frames,
+            // so they are not materialized in memory
+            GenericType<Object> genericType = GenericType.create(entity);
+            EntityWriter<Object> mediaWriter = clientConfig()
+                    .mediaContext()
+                    .writer(genericType, headers());
+
+            long configuredContentLength = headers().contentLength().orElse(-1);
+            if (mediaWriter.supportsInstanceWriter()) {
+                InstanceWriter instanceWriter = mediaWriter.instanceWriter(genericType, entity, headers());
+                if (!instanceWriter.alwaysInMemory()) {
+                    long length = instanceWriter.contentLength().orElse(configuredContentLength);
+                    if (length == -1) {
+                        return doOutputStream(instanceWriter::write);
+                    } else if (length > clientConfig().maxInMemoryEntity()) {
+                        headers().contentLength(length);
+                        return doOutputStream(instanceWriter::write);
+                    }
+                }
+                toSend = instanceWriter.instanceBytes();
+            } else if (configuredContentLength > clientConfig().maxInMemoryEntity()) {
+                return doOutputStream(it -> mediaWriter.write(genericType, entity, it, headers()));
+            }
+        }
+
         if (followRedirects()) {
-            return RedirectionProcessor.invokeWithFollowRedirects(this, 0, entity);
+            return RedirectionProcessor.invokeWithFollowRedirects(this, 0, toSend);
         }
-        return invokeEntity(entity);
+        return invokeEntity(toSend);
     }
 
     @Override
@@ -186,7 +216,7 @@ class Http2ClientRequestImpl extends ClientRequestBase<Http2ClientRequest, Http2
         // if this was an HTTP/1.1 response, do something different (just re-use response)
         return new Http2ClientResponseImpl(clientConfig(),
                                            serviceResponse.status(),
-                                           callChain.requestHeaders(),
+                                           serviceResponse.serviceRequest().headers(),
                                            serviceResponse.headers(),
                                            serviceResponse.trailers(),
                                            serviceResponse.inputStream().orElse(null),
@@ -194,7 +224,7 @@ class Http2ClientRequestImpl extends ClientRequestBase<Http2ClientRequest, Http2
                                            resolvedUri,
                                            serviceResponse.connection(),
                                            complete,
-                                           callChain::closeResponse);
+                                           () -> callChain.closeResponse(serviceResponse.connection()));
 
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.socket.SocketContext;
@@ -75,6 +76,7 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
     private final Http2Settings settings = Http2Settings.create();
     private final List<Http2FrameData> continuationData = new ArrayList<>();
     private final CompletableFuture<Headers> trailers = new CompletableFuture<>();
+    private final AtomicBoolean released = new AtomicBoolean();
 
     private Http2StreamState state = Http2StreamState.IDLE;
     private ReadState readState = ReadState.INIT;
@@ -82,6 +84,8 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
     // accessed from stream thread an connection thread
     private volatile StreamFlowControl flowControl;
     private boolean hasEntity;
+    // set for streams that hold a slot on the connection (see Http2ClientConnection#tryStream), released on close
+    private volatile boolean reserved;
 
     // streamId and buffer can only be created when we are locked in the stream id sequence
     private int streamId;
@@ -179,7 +183,15 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
 
     @Override
     public void closeResource() {
-        close();
+        try {
+            cancel();
+        } finally {
+            close();
+        }
+    }
+
+    void reserved() {
+        this.reserved = true;
     }
 
     void trailers(Http2Headers headers, boolean endOfStream) {
@@ -231,6 +243,9 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
      */
     public void close() {
         connection.removeStream(streamId);
+        if (reserved && released.compareAndSet(false, true)) {
+            connection.releaseStream();
+        }
     }
 
     /**
@@ -314,7 +329,7 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
 
             this.flowControl = connection.flowControl().createStreamFlowControl(
                     streamId,
-                    WindowSize.DEFAULT_WIN_SIZE,
+                    connection.flowControl().inboundWindowSize(),
                     WindowSize.DEFAULT_MAX_FRAME_SIZE);
             // this must be done after we create the flow control, as it may be used from another thread
             this.connection.addStream(streamId, this);
@@ -445,7 +460,10 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
                         Http2Headers http2Headers = readHeaders(requestHuffman, true);
                         // Clear out for trailers
                         continuationData.clear();
-                        this.headers(http2Headers, endOfStream);
+                        // 103 Early Hints is an informational response, final headers follow
+                        if (endOfStream || http2Headers.status() != Status.EARLY_HINTS_103) {
+                            this.headers(http2Headers, endOfStream);
+                        }
                     }
                     case DATA, TRAILERS -> {
                         Http2Headers http2Headers = readHeaders(requestHuffman, false);
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.helidon.metrics.api.FunctionalCounter;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.Tag;
+import io.helidon.webclient.spi.ConnectionPoolStatistics;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+
+/**
+ * Meters of client connection pools, registered once for each protocol that pools connections.
+ */
+final class WebClientConnectionPoolMeters {
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    private WebClientConnectionPoolMeters() {
+    }
+
+    static void register() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            ConnectionPoolStatistics.listen(WebClientConnectionPoolMeters::register);
+        }
+    }
+
+    private static void register(ConnectionPoolStatistics statistics) {
+        MeterRegistry registry = Metrics.globalRegistry();
+        List<Tag> tags = List.of(Tag.create("protocol", statistics.protocol()));
+
+        registry.getOrCreate(Gauge.builder("webclient.connections.idle",
+                                           statistics,
+                                           ConnectionPoolStatistics::idleConnections)
+                                     .description("Open connections available for reuse")
+                                     .scope(VENDOR)
+                                     .tags(tags));
+        registry.getOrCreate(Gauge.builder("webclient.connections.active",
+                                           statistics,
+                                           ConnectionPoolStatistics::activeConnections)
+                                     .description("Open connections used by requests")
+                                     .scope(VENDOR)
+                                     .tags(tags));
+        registry.getOrCreate(Gauge.builder("webclient.connections.pending",
+                                           statistics,
+                                           ConnectionPoolStatistics::pendingAcquires)
+                                     .description("Requests waiting for a connection")
+                                     .scope(VENDOR)
+                                     .tags(tags));
+        registry.getOrCreate(FunctionalCounter.builder("webclient.connections.created",
+                                                       statistics,
+                                                       ConnectionPoolStatistics::createdConnections)
+                                     .description("Connections opened")
+                                     .scope(VENDOR)
+                                     .tags(tags));
+        registry.getOrCreate(FunctionalCounter.builder("webclient.connections.reused",
+                                                       statistics,
+                                                       ConnectionPoolStatistics::reusedConnections)
+                                     .description("Idle connections reused by requests")
+                                     .scope(VENDOR)
+                                     .tags(tags));
+        registry.getOrCreate(FunctionalCounter.builder("webclient.connections.evicted",
+                                                       statistics,
+                                                       ConnectionPoolStatistics::evictedConnections)
+                                     .description("Idle connections closed, because they expired or were closed by the server")
+                                     .scope(VENDOR)
+                                     .tags(tags));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,9 @@ import io.helidon.webclient.spi.WebClientService;
 
 /**
  * Container object for all metrics created by the config.
+ * <p>
+ * Once created, statistics of client connection pools are also registered as meters
+ * (such as {@code webclient.connections.idle}), tagged by protocol.
  */
 public class WebClientMetrics implements WebClientService {
 
@@ -33,6 +36,7 @@ public class WebClientMetrics implements WebClientService {
 
     private WebClientMetrics(Builder builder) {
         metrics = builder.metrics;
+        WebClientConnectionPoolMeters.register();
     }
 
     /**
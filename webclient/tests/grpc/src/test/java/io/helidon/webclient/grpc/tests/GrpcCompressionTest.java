@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.grpc.tests;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+import io.helidon.common.configurable.Resource;
+import io.helidon.common.tls.Tls;
+import io.helidon.webclient.grpc.GrpcClient;
+import io.helidon.webclient.grpc.GrpcClientCompressionConfig;
+import io.helidon.webclient.grpc.GrpcClientProtocolConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests gRPC client with compressed requests and responses.
+ */
+@ServerTest
+class GrpcCompressionTest extends GrpcBaseTest {
+
+    private final Tls clientTls;
+    private final String baseUri;
+
+    private GrpcCompressionTest(WebServer server) {
+        this.clientTls = Tls.builder()
+                .trust(trust -> trust
+                        .keystore(store -> store
+                                .passphrase("password")
+                                .trustStore(true)
+                                .keystore(Resource.create("client.p12"))))
+                .build();
+        this.baseUri = "https://localhost:" + server.port();
+    }
+
+    @Test
+    void testUnaryUpperGzip() {
+        GrpcClient grpcClient = grpcClient(GrpcClientCompressionConfig.builder()
+                                                   .requestEncoding("gzip")
+                                                   .build());
+        StringServiceGrpc.StringServiceBlockingStub service = StringServiceGrpc.newBlockingStub(grpcClient.channel());
+        String text = "hello world ".repeat(1000);
+        Strings.StringMessage res = service.upper(newStringMessage(text));
+        assertThat(res.getText(), is(text.toUpperCase(Locale.ROOT)));
+    }
+
+    @Test
+    void testServerStreamingSplitDeflate() {
+        GrpcClient grpcClient = grpcClient(GrpcClientCompressionConfig.builder()
+                                                   .requestEncoding("deflate")
+                                                   .acceptedEncodings(List.of("deflate"))
+                                                   .build());
+        StringServiceGrpc.StringServiceBlockingStub service = StringServiceGrpc.newBlockingStub(grpcClient.channel());
+        String part = "a".repeat(4096);
+        Iterator<Strings.StringMessage> res = service.split(newStringMessage(part + " " + part + " " + part));
+        int count = 0;
+        while (res.hasNext()) {
+            assertThat(res.next().getText(), is(part));
+            count++;
+        }
+        assertThat(count, is(3));
+    }
+
+    @Test
+    void testCompressionDisabledForMethod() {
+        GrpcClient grpcClient = grpcClient(GrpcClientCompressionConfig.builder()
+                                                   .requestEncoding("gzip")
+                                                   .build(),
+                                           GrpcClientCompressionConfig.builder()
+                                                   .service("StringService")
+                                                   .method("Upper")
+                                                   .enabled(false)
+                                                   .build());
+        StringServiceGrpc.StringServiceBlockingStub service = StringServiceGrpc.newBlockingStub(grpcClient.channel());
+        String text = "hello world ".repeat(1000);
+        Strings.StringMessage res = service.upper(newStringMessage(text));
+        assertThat(res.getText(), is(text.toUpperCase(Locale.ROOT)));
+    }
+
+    private GrpcClient grpcClient(GrpcClientCompressionConfig compression,
+                                  GrpcClientCompressionConfig... policies) {
+        GrpcClientProtocolConfig.Builder protocolConfig = GrpcClientProtocolConfig.builder()
+                .compression(compression);
+        for (GrpcClientCompressionConfig policy : policies) {
+            protocolConfig.addCompressionPolicy(policy);
+        }
+        return GrpcClient.builder()
+                .tls(clientTls)
+                .protocolConfig(protocolConfig.build())
+                .baseUri(baseUri)
+                .build();
+    }
+}
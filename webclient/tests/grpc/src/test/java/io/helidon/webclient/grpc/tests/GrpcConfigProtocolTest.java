@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.webclient.grpc.tests;
 
 import java.time.Duration;
+import java.util.List;
 
 import io.helidon.config.Config;
 import io.helidon.config.ConfigSources;
@@ -38,6 +39,10 @@ class GrpcConfigProtocolTest {
         assertThat(config.abortPollTimeExpired(), is(false));
         assertThat(config.initBufferSize(), is(2048));
         assertThat(config.heartbeatPeriod(), is(Duration.ofSeconds(0)));
+        assertThat(config.compression().enabled(), is(true));
+        assertThat(config.compression().minMessageSize(), is(1024));
+        assertThat(config.compression().acceptedEncodings(), is(List.of("gzip", "deflate")));
+        assertThat(config.compression().requestEncoding().isPresent(), is(false));
     }
 
     @Test
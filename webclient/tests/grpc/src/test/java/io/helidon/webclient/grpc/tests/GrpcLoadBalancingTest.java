@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.grpc.tests;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.helidon.common.configurable.Resource;
+import io.helidon.common.tls.Tls;
+import io.helidon.webclient.grpc.GrpcClient;
+import io.helidon.webclient.grpc.GrpcLoadBalancingConfig;
+import io.helidon.webclient.grpc.GrpcLoadBalancingPolicy;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests load balanced gRPC client calls, using pooled connections.
+ */
+@ServerTest
+class GrpcLoadBalancingTest extends GrpcBaseTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final Tls clientTls;
+    private final URI serverUri;
+
+    private GrpcLoadBalancingTest(WebServer server) {
+        this.clientTls = Tls.builder()
+                .trust(trust -> trust
+                        .keystore(store -> store
+                                .passphrase("password")
+                                .trustStore(true)
+                                .keystore(Resource.create("client.p12"))))
+                .build();
+        this.serverUri = URI.create("https://localhost:" + server.port());
+    }
+
+    @Test
+    void testRoundRobinSkipsUnavailableEndpoint() throws IOException {
+        URI unavailable = URI.create("https://localhost:" + unusedPort());
+        GrpcClient grpcClient = GrpcClient.builder()
+                .tls(clientTls)
+                .baseUri(serverUri.toString())
+                .loadBalancing(GrpcLoadBalancingConfig.builder()
+                                       .policy(GrpcLoadBalancingPolicy.ROUND_ROBIN)
+                                       .addEndpoint(unavailable)
+                                       .addEndpoint(serverUri)
+                                       .build())
+                .build();
+        StringServiceGrpc.StringServiceBlockingStub service = StringServiceGrpc.newBlockingStub(grpcClient.channel());
+        for (int i = 0; i < 10; i++) {
+            Strings.StringMessage res = service.upper(newStringMessage("hello" + i));
+            assertThat(res.getText(), is("HELLO" + i));
+        }
+    }
+
+    @Test
+    void testConcurrentCallsSharedConnections() throws ExecutionException, InterruptedException, TimeoutException {
+        GrpcClient grpcClient = GrpcClient.builder()
+                .tls(clientTls)
+                .baseUri(serverUri.toString())
+                .loadBalancing(GrpcLoadBalancingConfig.builder()
+                                       .policy(GrpcLoadBalancingPolicy.LEAST_REQUEST)
+                                       .maxConnectionsPerEndpoint(2)
+                                       .build())
+                .build();
+        StringServiceGrpc.StringServiceStub service = StringServiceGrpc.newStub(grpcClient.channel());
+        List<CompletableFuture<Iterator<Strings.StringMessage>>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            CompletableFuture<Iterator<Strings.StringMessage>> future = new CompletableFuture<>();
+            service.split(newStringMessage("a b c d e"), multiStreamObserver(future));
+            futures.add(future);
+        }
+        for (CompletableFuture<Iterator<Strings.StringMessage>> future : futures) {
+            Iterator<Strings.StringMessage> res = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            int count = 0;
+            while (res.hasNext()) {
+                res.next();
+                count++;
+            }
+            assertThat(count, is(5));
+        }
+    }
+
+    @Test
+    void testPickFirstKeepAlive() throws InterruptedException {
+        GrpcClient grpcClient = GrpcClient.builder()
+                .tls(clientTls)
+                .baseUri(serverUri.toString())
+                .loadBalancing(GrpcLoadBalancingConfig.builder()
+                                       .keepAliveTime(Duration.ofMillis(100))
+                                       .build())
+                .build();
+        StringServiceGrpc.StringServiceBlockingStub service = StringServiceGrpc.newBlockingStub(grpcClient.channel());
+        assertThat(service.upper(newStringMessage("hello")).getText(), is("HELLO"));
+        // keepalive pings are acknowledged, so the connection stays open
+        TimeUnit.MILLISECONDS.sleep(300);
+        assertThat(service.upper(newStringMessage("world")).getText(), is("WORLD"));
+    }
+
+    @Test
+    void testIdleConnectionReopened() throws InterruptedException {
+        GrpcClient grpcClient = GrpcClient.builder()
+                .tls(clientTls)
+                .baseUri(serverUri.toString())
+                .loadBalancing(GrpcLoadBalancingConfig.builder()
+                                       .idleTimeout(Duration.ofMillis(100))
+                                       .build())
+                .build();
+        StringServiceGrpc.StringServiceBlockingStub service = StringServiceGrpc.newBlockingStub(grpcClient.channel());
+        assertThat(service.upper(newStringMessage("hello")).getText(), is("HELLO"));
+        // the idle connection is closed, and a new one is opened for the next call
+        TimeUnit.MILLISECONDS.sleep(300);
+        assertThat(service.upper(newStringMessage("world")).getText(), is("WORLD"));
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,15 @@ package io.helidon.webclient.grpc.tests;
 
 import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.helidon.common.configurable.Resource;
 import io.helidon.common.tls.Tls;
@@ -34,6 +37,8 @@ import io.helidon.webserver.testing.junit5.ServerTest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -174,6 +179,113 @@ class GrpcStubTest extends GrpcBaseTest {
         assertThat(res.hasNext(), is(false));
     }
 
+    @Test
+    void testServerStreamingSplitSlowConsumer() throws ExecutionException, InterruptedException, TimeoutException {
+        GrpcClient grpcClient = webClient.client(GrpcClient.PROTOCOL);
+        StringServiceGrpc.StringServiceStub service = StringServiceGrpc.newStub(grpcClient.channel());
+        // more data than fits into the stream window, read only as requested
+        int parts = 32;
+        String part = "a".repeat(64 * 1024);
+        String text = String.join(" ", Collections.nCopies(parts, part));
+        AtomicInteger received = new AtomicInteger();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        service.split(newStringMessage(text), new ClientResponseObserver<Strings.StringMessage, Strings.StringMessage>() {
+            private ClientCallStreamObserver<Strings.StringMessage> requestStream;
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<Strings.StringMessage> requestStream) {
+                this.requestStream = requestStream;
+                requestStream.disableAutoRequestWithInitial(1);
+            }
+
+            @Override
+            public void onNext(Strings.StringMessage value) {
+                if (value.getText().equals(part)) {
+                    received.incrementAndGet();
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(5);
+                } catch (InterruptedException e) {
+                    future.completeExceptionally(e);
+                }
+                requestStream.request(1);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                future.complete(received.get());
+            }
+        });
+        assertThat(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(parts));
+    }
+
+    @Test
+    void testBidirectionalEchoOnReady() throws ExecutionException, InterruptedException, TimeoutException {
+        GrpcClient grpcClient = webClient.client(GrpcClient.PROTOCOL);
+        StringServiceGrpc.StringServiceStub service = StringServiceGrpc.newStub(grpcClient.channel());
+        // more data than is queued before the call is not ready, sent only when ready
+        int messages = 20;
+        String text = "a".repeat(8 * 1024);
+        AtomicInteger received = new AtomicInteger();
+        AtomicBoolean inCallback = new AtomicBoolean();
+        AtomicBoolean overlapping = new AtomicBoolean();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        service.echo(new ClientResponseObserver<Strings.StringMessage, Strings.StringMessage>() {
+            private int sent;
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<Strings.StringMessage> requestStream) {
+                requestStream.setOnReadyHandler(() -> {
+                    enter();
+                    while (requestStream.isReady() && sent < messages) {
+                        requestStream.onNext(newStringMessage(text));
+                        if (++sent == messages) {
+                            requestStream.onCompleted();
+                        }
+                    }
+                    exit();
+                });
+            }
+
+            @Override
+            public void onNext(Strings.StringMessage value) {
+                enter();
+                if (value.getText().equals(text)) {
+                    received.incrementAndGet();
+                }
+                exit();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                future.complete(received.get());
+            }
+
+            // listener callbacks must never be called concurrently
+            private void enter() {
+                if (!inCallback.compareAndSet(false, true)) {
+                    overlapping.set(true);
+                }
+            }
+
+            private void exit() {
+                inCallback.set(false);
+            }
+        });
+        assertThat(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(messages));
+        assertThat(overlapping.get(), is(false));
+    }
+
     @Test
     void testReceiveServerException() {
         GrpcClient grpcClient = webClient.client(GrpcClient.PROTOCOL);
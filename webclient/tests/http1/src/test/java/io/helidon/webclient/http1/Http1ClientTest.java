@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
 import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
@@ -61,6 +62,7 @@ import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.noHeader;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsNot.not;
@@ -341,8 +343,10 @@ class Http1ClientTest {
             request.connection(connection);
             response = request.request();
             if (i < connectionQueueSize) {
-                // Verify connections that are dequeued
-                assertThat("Failed on connection index " + i, connection, is(connectionList.get(i)));
+                // Verify connections that are dequeued, the most recently returned connection is used first
+                assertThat("Failed on connection index " + i,
+                           connection,
+                           is(connectionList.get(connectionQueueSize - 1 - i)));
             } else {
                 // Verify that the last connection was not dequeued but created as new, because it exceeded the queue size limit
                 assertThat(connection, is(not(connectionList.get(i))));
@@ -420,6 +424,18 @@ class Http1ClientTest {
         assertThat(ste.getCause(), instanceOf(SocketTimeoutException.class));
     }
 
+    @Test
+    void testUnusedConnectionCacheCollected() throws InterruptedException {
+        WeakReference<Http1ConnectionCache> cache = usedConnectionCache();
+
+        // the eviction thread of the cache must not keep it reachable
+        for (int i = 0; i < 50 && cache.get() != null; i++) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        assertThat(cache.get(), nullValue());
+    }
+
     @Test
     void testSchemeValidation() {
         try (var r = Http1Client.builder()
@@ -436,6 +452,17 @@ class Http1ClientTest {
     }
 
 
+    private WeakReference<Http1ConnectionCache> usedConnectionCache() {
+        Http1ClientImpl client = (Http1ClientImpl) Http1Client.builder()
+                .baseUri("http://localhost:" + plainPort)
+                .shareConnectionCache(false)
+                .build();
+        // starts the eviction of idle connections, and returns the connection to the cache
+        ClientResponseTyped<String> response = client.get("/afterRedirect").request(String.class);
+        assertThat(response.status(), is(Status.OK_200));
+        return new WeakReference<>(client.connectionCache());
+    }
+
     private static void validateSuccessfulResponse(Http1Client client) {
         String requestEntity = "Sending Something";
         Http1ClientRequest request = client.put("/test");
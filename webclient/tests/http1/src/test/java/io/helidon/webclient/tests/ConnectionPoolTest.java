@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.tests;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientProtocolConfig;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ServerTest
+class ConnectionPoolTest {
+    private static volatile CompletableFuture<Void> waiting;
+    private static volatile CompletableFuture<Void> release;
+
+    private final int port;
+
+    ConnectionPoolTest(WebServer server) {
+        this.port = server.port();
+    }
+
+    @SetUpRoute
+    static void route(HttpRouting.Builder router) {
+        router.get("/port", (req, res) -> res.send(String.valueOf(req.remotePeer().port())))
+                .get("/wait", (req, res) -> {
+                    waiting.complete(null);
+                    release.get(10, TimeUnit.SECONDS);
+                    res.send(String.valueOf(req.remotePeer().port()));
+                });
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        waiting = new CompletableFuture<>();
+        release = new CompletableFuture<>();
+    }
+
+    @Test
+    void testMaxConnectionsPerRoute() throws Exception {
+        Http1Client client = client(Http1ClientProtocolConfig.builder()
+                                            .maxConnectionsPerRoute(1)
+                                            .connectionAcquireTimeout(Duration.ofMillis(100)));
+
+        CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() -> get(client, "/wait"));
+        waiting.get(10, TimeUnit.SECONDS);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> get(client, "/port"));
+        assertThat(e.getMessage(), startsWith("Timed out waiting for a connection"));
+
+        release.complete(null);
+        String blockedPort = blocked.get(10, TimeUnit.SECONDS);
+        // the connection was returned to the pool, and is reused
+        assertThat(get(client, "/port"), is(blockedPort));
+    }
+
+    @Test
+    void testWaitForReturnedConnection() throws Exception {
+        Http1Client client = client(Http1ClientProtocolConfig.builder()
+                                            .maxConnectionsPerRoute(1));
+
+        CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() -> get(client, "/wait"));
+        waiting.get(10, TimeUnit.SECONDS);
+
+        CompletableFuture<String> next = CompletableFuture.supplyAsync(() -> get(client, "/port"));
+        release.complete(null);
+
+        assertThat(next.get(10, TimeUnit.SECONDS), is(blocked.get(10, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void testIdleTimeout() throws InterruptedException {
+        Http1Client client = client(Http1ClientProtocolConfig.builder()
+                                            .idleTimeout(Duration.ofMillis(50)));
+
+        String first = get(client, "/port");
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(get(client, "/port"), is(not(first)));
+    }
+
+    @Test
+    void testMaxLifetime() {
+        Http1Client client = client(Http1ClientProtocolConfig.builder()
+                                            .maxLifetime(Duration.ZERO));
+
+        String first = get(client, "/port");
+        assertThat(get(client, "/port"), is(not(first)));
+    }
+
+    private Http1Client client(Http1ClientProtocolConfig.Builder protocolConfig) {
+        return Http1Client.builder()
+                .baseUri("http://localhost:" + port)
+                .shareConnectionCache(false)
+                .protocolConfig(protocolConfig.build())
+                .build();
+    }
+
+    private static String get(Http1Client client, String path) {
+        try (Http1ClientResponse response = client.get(path).request()) {
+            return response.as(String.class);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.tests;
+
+import java.net.URI;
+
+import io.helidon.webclient.api.LoadBalancer;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.Socket;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ServerTest
+class LoadBalancerTest {
+    private final URI otherUri;
+    private final Http1Client client;
+
+    LoadBalancerTest(@Socket("@default") URI balancedUri, @Socket("other") URI otherUri) {
+        this.otherUri = otherUri;
+        this.client = Http1Client.builder()
+                // logical name of the balanced service, never resolved
+                .baseUri("http://backend.invalid:8080")
+                .loadBalancer(LoadBalancer.create(lb -> lb.addEndpoint(balancedUri)))
+                .build();
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder router) {
+        router.get("/server", (req, res) -> res.send("balanced"));
+    }
+
+    @SetUpRoute("other")
+    static void otherRouting(HttpRouting.Builder router) {
+        router.get("/server", (req, res) -> res.send("other"));
+    }
+
+    @Test
+    void testBaseUriBalanced() {
+        assertThat(client.get("/server").requestEntity(String.class), is("balanced"));
+    }
+
+    @Test
+    void testOtherUriNotBalanced() {
+        assertThat(client.get(otherUri.resolve("/server").toString()).requestEntity(String.class), is("other"));
+    }
+}
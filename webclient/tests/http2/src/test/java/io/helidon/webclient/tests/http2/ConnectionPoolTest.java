@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.tests.http2;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.http.Method;
+import io.helidon.webclient.http2.Http2Client;
+import io.helidon.webclient.http2.Http2ClientProtocolConfig;
+import io.helidon.webclient.http2.Http2ClientResponse;
+import io.helidon.webclient.spi.ConnectionPoolStatistics;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.http2.Http2Config;
+import io.helidon.webserver.http2.Http2Route;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ServerTest
+class ConnectionPoolTest {
+    private static volatile CompletableFuture<Void> waiting;
+    private static volatile CompletableFuture<Void> release;
+
+    private final int port;
+
+    ConnectionPoolTest(WebServer server) {
+        this.port = server.port();
+    }
+
+    @SetUpServer
+    static void setUpServer(WebServerConfig.Builder serverBuilder) {
+        serverBuilder.addProtocol(Http2Config.builder()
+                                          .maxConcurrentStreams(1)
+                                          .build());
+    }
+
+    @SetUpRoute
+    static void router(HttpRouting.Builder router) {
+        router.route(Http2Route.route(Method.GET, "/port", (req, res) -> res.send(String.valueOf(req.remotePeer().port()))))
+                .route(Http2Route.route(Method.GET, "/wait", (req, res) -> {
+                    waiting.complete(null);
+                    release.get(10, TimeUnit.SECONDS);
+                    res.send(String.valueOf(req.remotePeer().port()));
+                }));
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        waiting = new CompletableFuture<>();
+        release = new CompletableFuture<>();
+    }
+
+    @Test
+    void testNewConnectionAtStreamLimit() throws Exception {
+        ConnectionPoolStatistics statistics = ConnectionPoolStatistics.get(Http2Client.PROTOCOL_ID);
+        long createdBefore = statistics.createdConnections();
+        int activeBefore = statistics.activeConnections();
+        Http2Client client = client(2, Duration.ofSeconds(10));
+
+        // first request makes sure server settings (MAX_CONCURRENT_STREAMS) are known
+        String firstPort = get(client, "/port");
+        CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() -> get(client, "/wait"));
+        waiting.get(10, TimeUnit.SECONDS);
+
+        // the only stream of the first connection is used, a new connection must be opened
+        assertThat(get(client, "/port"), is(not(firstPort)));
+
+        release.complete(null);
+        assertThat(blocked.get(10, TimeUnit.SECONDS), is(firstPort));
+
+        assertThat(statistics.createdConnections() - createdBefore, is(2L));
+        // all streams were released, both connections are idle
+        assertThat(statistics.activeConnections(), is(activeBefore));
+        assertThat(statistics.pendingAcquires(), is(0));
+    }
+
+    @Test
+    void testStreamAcquireTimeout() throws Exception {
+        Http2Client client = client(1, Duration.ofMillis(100));
+
+        String firstPort = get(client, "/port");
+        CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() -> get(client, "/wait"));
+        waiting.get(10, TimeUnit.SECONDS);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> get(client, "/port"));
+        assertThat(e.getMessage(), startsWith("Timed out waiting for an HTTP/2 stream"));
+
+        release.complete(null);
+        assertThat(blocked.get(10, TimeUnit.SECONDS), is(firstPort));
+        // the stream was released, the same connection is used again
+        assertThat(get(client, "/port"), is(firstPort));
+    }
+
+    private Http2Client client(int maxConnections, Duration streamAcquireTimeout) {
+        return Http2Client.builder()
+                .baseUri("http://localhost:" + port + "/")
+                .shareConnectionCache(false)
+                .protocolConfig(Http2ClientProtocolConfig.builder()
+                                        .priorKnowledge(true)
+                                        .maxConnections(maxConnections)
+                                        .streamAcquireTimeout(streamAcquireTimeout))
+                .build();
+    }
+
+    private static String get(Http2Client client, String path) {
+        try (Http2ClientResponse response = client.get(path).request()) {
+            return response.entity().as(String.class);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,16 @@
 
 package io.helidon.webclient.tests.http2;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.OptionalLong;
 import java.util.Random;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
 
 import io.helidon.http.Header;
 import io.helidon.http.HeaderName;
@@ -134,6 +138,41 @@ class PostTest {
         assertThat(entity, is(BYTES));
     }
 
+    @Test
+    void testInputStreamEntity() {
+        Http2ClientResponse response = client
+                .method(Method.POST)
+                .uri("/chunked")
+                .submit(new ByteArrayInputStream(BYTES));
+
+        assertThat(response.status(), is(Status.OK_200));
+        byte[] entity = response.entity().as(byte[].class);
+        assertThat(entity, is(BYTES));
+    }
+
+    @Test
+    void testPublisherEntity() {
+        SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>();
+        // start publishing once subscribed, as submission publisher drops items without subscribers
+        Flow.Publisher<ByteBuffer> entityPublisher = subscriber -> {
+            publisher.subscribe(subscriber);
+            Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < BYTES.length; i += 64) {
+                    publisher.submit(ByteBuffer.wrap(BYTES, i, 64));
+                }
+                publisher.close();
+            });
+        };
+        Http2ClientResponse response = client
+                .method(Method.POST)
+                .uri("/chunked")
+                .submit(entityPublisher);
+
+        assertThat(response.status(), is(Status.OK_200));
+        byte[] entity = response.entity().as(byte[].class);
+        assertThat(entity, is(BYTES));
+    }
+
     @Test
     void testHeadersRoute() {
         Http2ClientResponse response = client
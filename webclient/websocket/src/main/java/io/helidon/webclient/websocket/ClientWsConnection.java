@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import io.helidon.websocket.WsCloseCodes;
 import io.helidon.websocket.WsCloseException;
 import io.helidon.websocket.WsListener;
 import io.helidon.websocket.WsOpCode;
+import io.helidon.websocket.WsPerMessageDeflate;
 import io.helidon.websocket.WsSession;
 
 /**
@@ -44,21 +45,36 @@ public class ClientWsConnection implements WsSession, Runnable {
     private final BufferData sendBuffer = BufferData.growing(1024);
     private final ClientConnection connection;
     private final HelidonSocket helidonSocket;
+    // null if per-message compression was not negotiated
+    private final WsPerMessageDeflate deflate;
+    private final int maxDecompressedSize;
 
     private ContinuationType recvContinuation = ContinuationType.NONE;
     private boolean sendContinuation;
+    private boolean recvCompressed;
+    private boolean sendCompressed;
     private boolean closeSent;
     private boolean terminated;
 
     ClientWsConnection(ClientConnection connection,
                        WsListener listener,
-                       String subProtocol) {
+                       String subProtocol,
+                       WsPerMessageDeflate deflate,
+                       int maxDecompressedSize) {
         this.connection = connection;
         this.listener = listener;
         this.subProtocol = subProtocol;
+        this.deflate = deflate;
+        this.maxDecompressedSize = maxDecompressedSize;
         this.helidonSocket = connection.helidonSocket();
     }
 
+    ClientWsConnection(ClientConnection connection,
+                       WsListener listener,
+                       String subProtocol) {
+        this(connection, listener, subProtocol, null, 0);
+    }
+
     ClientWsConnection(ClientConnection connection,
                        WsListener listener) {
         this(connection, listener, null);
@@ -107,6 +123,9 @@ public class ClientWsConnection implements WsSession, Runnable {
                 }
             }
         } finally {
+            if (deflate != null) {
+                deflate.close();
+            }
             connection.closeResource();
         }
     }
@@ -177,9 +196,17 @@ public class ClientWsConnection implements WsSession, Runnable {
 
     private ClientWsConnection send(ClientWsFrame frame) {
         WsOpCode opCode = frame.opCode();
+        boolean firstCompressed = false;
         if (opCode == WsOpCode.TEXT || opCode == WsOpCode.BINARY) {
             if (sendContinuation) {
                 opCode = WsOpCode.CONTINUATION;
+            } else {
+                // compression is decided for the whole message when its first frame is sent
+                sendCompressed = deflate != null && deflate.compressMessage(frame.payloadLength(), frame.fin());
+                firstCompressed = sendCompressed;
+            }
+            if (sendCompressed) {
+                frame = ClientWsFrame.data(deflate.compress(frame.payloadData(), frame.fin()), frame.fin());
             }
             sendContinuation = !frame.fin();
         }
@@ -191,6 +218,10 @@ public class ClientWsConnection implements WsSession, Runnable {
 
         sendBuffer.clear();
         int opCodeFull = frame.fin() ? 0b10000000 : 0;
+        if (firstCompressed) {
+            // RSV1
+            opCodeFull |= 0b01000000;
+        }
         opCodeFull |= opCode.code();
         sendBuffer.write(opCodeFull);
 
@@ -254,6 +285,12 @@ public class ClientWsConnection implements WsSession, Runnable {
 
     private boolean processFrame(ServerWsFrame frame) {
         BufferData payload = frame.payloadData();
+        if (frame.isPayload()) {
+            recvCompressed = frame.compressed();
+        }
+        if (recvCompressed && (frame.isPayload() || frame.opCode() == WsOpCode.CONTINUATION)) {
+            payload = deflate.decompress(payload, frame.fin(), maxDecompressedSize);
+        }
         switch (frame.opCode()) {
         case CONTINUATION -> {
             boolean finalFrame = frame.fin();
@@ -298,7 +335,7 @@ public class ClientWsConnection implements WsSession, Runnable {
 
     private ServerWsFrame readFrame() {
         try {
-            return ServerWsFrame.read(helidonSocket, connection.reader(), Integer.MAX_VALUE);
+            return ServerWsFrame.read(helidonSocket, connection.reader(), Integer.MAX_VALUE, deflate != null);
         } catch (WsCloseException e) {
             close(e.closeCode(), e.getMessage());
             throw e;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 
@@ -42,6 +43,7 @@ import io.helidon.webclient.http1.Http1Client;
 import io.helidon.webclient.http1.Http1ClientRequest;
 import io.helidon.webclient.http1.UpgradeResponse;
 import io.helidon.websocket.WsListener;
+import io.helidon.websocket.WsPerMessageDeflate;
 
 class WsClientImpl implements WsClient {
     /**
@@ -50,6 +52,7 @@ class WsClientImpl implements WsClient {
     static final String SUPPORTED_VERSION = "13";
     static final Header HEADER_UPGRADE_WS = HeaderValues.createCached(HeaderNames.UPGRADE, "websocket");
     static final HeaderName HEADER_WS_PROTOCOL = HeaderNames.create("Sec-WebSocket-Protocol");
+    static final HeaderName HEADER_WS_EXTENSIONS = HeaderNames.create("Sec-WebSocket-Extensions");
     private static final Header HEADER_WS_VERSION = HeaderValues.createCached(HeaderNames.create(
             "Sec-WebSocket-Version"), SUPPORTED_VERSION);
 
@@ -67,11 +70,13 @@ class WsClientImpl implements WsClient {
     private final WebClient webClient;
     private final Http1Client http1Client;
     private final WsClientConfig clientConfig;
+    private final WsClientCompressionConfig compression;
 
     WsClientImpl(WebClient webClient, Http1Client http1Client, WsClientConfig clientConfig) {
         this.webClient = webClient;
         this.http1Client = http1Client;
         this.clientConfig = clientConfig;
+        this.compression = clientConfig.protocolConfig().compression();
 
         ClientRequestHeaders headers = http1Client.prototype().defaultRequestHeaders();
         headers.set(HEADER_UPGRADE_WS);
@@ -83,6 +88,11 @@ class WsClientImpl implements WsClient {
         } else {
             headers.set(HEADER_WS_PROTOCOL, clientConfig.protocolConfig().subProtocols());
         }
+        if (compression.enabled()) {
+            headers.set(HEADER_WS_EXTENSIONS, WsPerMessageDeflate.offer(compression.clientNoContextTakeover(),
+                                                                        compression.serverNoContextTakeover(),
+                                                                        compression.serverMaxWindowBits()));
+        }
         this.headers = headers;
     }
 
@@ -147,11 +157,16 @@ class WsClientImpl implements WsClient {
                 throw new WsClientException("Failed to upgrade to WebSocket, expected valid secWsKey. Headers: "
                                                     + responseHeaders);
             }
+            WsPerMessageDeflate deflate = deflate(responseHeaders);
             // we are upgraded, let's switch to web socket
             if (headers.contains(HEADER_WS_PROTOCOL)) {
-                session = new ClientWsConnection(connection, listener, headers.get(HEADER_WS_PROTOCOL).get());
+                session = new ClientWsConnection(connection,
+                                                 listener,
+                                                 headers.get(HEADER_WS_PROTOCOL).get(),
+                                                 deflate,
+                                                 compression.maxDecompressedSize());
             } else {
-                session = new ClientWsConnection(connection, listener);
+                session = new ClientWsConnection(connection, listener, null, deflate, compression.maxDecompressedSize());
             }
         }
 
@@ -168,6 +183,22 @@ class WsClientImpl implements WsClient {
         return clientConfig;
     }
 
+    private WsPerMessageDeflate deflate(ClientResponseHeaders responseHeaders) {
+        if (!compression.enabled() || !responseHeaders.contains(HEADER_WS_EXTENSIONS)) {
+            return null;
+        }
+        Optional<WsPerMessageDeflate.Parameters> parameters;
+        try {
+            parameters = WsPerMessageDeflate.accepted(responseHeaders.get(HEADER_WS_EXTENSIONS).allValues(),
+                                                      compression.serverNoContextTakeover());
+        } catch (IllegalArgumentException e) {
+            throw new WsClientException("Failed to upgrade to WebSocket, invalid Sec-WebSocket-Extensions header. Headers: "
+                                                + responseHeaders, e);
+        }
+        return parameters.map(it -> WsPerMessageDeflate.client(it, compression.minMessageSize(), compression.compressionLevel()))
+                .orElse(null);
+    }
+
     protected String hash(SocketContext ctx, String wsKey) {
         byte[] wsKeyBytes = wsKey.getBytes(StandardCharsets.US_ASCII);
         int wsKeyBytesLength = wsKeyBytes.length;
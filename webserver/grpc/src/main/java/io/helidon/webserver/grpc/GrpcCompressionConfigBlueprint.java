@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.grpc;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Compression policy of gRPC messages sent by the server.
+ * <p>
+ * A policy with neither {@link #service()} nor {@link #method()} applies to all methods, a policy with only a
+ * service applies to all methods of that service, and a policy with both applies to a single method.
+ * Received messages are decompressed whenever the encoding is supported, regardless of the policy.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface GrpcCompressionConfigBlueprint {
+
+    /**
+     * Fully qualified name of the service this policy applies to, such as {@code helidon.StringService}.
+     *
+     * @return service name, if not present, the policy applies to all services
+     */
+    @Option.Configured
+    Optional<String> service();
+
+    /**
+     * Name of the method (without the service name) this policy applies to.
+     *
+     * @return method name, if not present, the policy applies to all methods of the service
+     */
+    @Option.Configured
+    Optional<String> method();
+
+    /**
+     * Whether responses may be compressed.
+     *
+     * @return whether compression is enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(true)
+    boolean enabled();
+
+    /**
+     * Messages smaller than this number of bytes are sent uncompressed, as compressing them rarely pays off.
+     * Only applies to messages with a known serialized size.
+     *
+     * @return minimal size of a compressed message
+     */
+    @Option.Configured
+    @Option.DefaultInt(1024)
+    int minMessageSize();
+
+    /**
+     * Encodings that may be used to compress responses, the client's preference is honored
+     * unless {@link #preferredEncoding()} is configured and accepted by the client.
+     *
+     * @return allowed encodings
+     */
+    @Option.Configured
+    @Option.Singular
+    @Option.Default({"gzip", "deflate"})
+    List<String> encodings();
+
+    /**
+     * Encoding to use whenever the client accepts it.
+     *
+     * @return preferred encoding
+     */
+    @Option.Configured
+    Optional<String> preferredEncoding();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.webserver.grpc;
 
+import java.util.List;
+
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 import io.helidon.webserver.spi.ProtocolConfig;
@@ -50,4 +52,23 @@ interface GrpcConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultBoolean(false)
     boolean enableMetrics();
+
+    /**
+     * Default compression policy of responses.
+     *
+     * @return compression policy
+     */
+    @Option.Configured
+    @Option.Default("create()")
+    GrpcCompressionConfig compression();
+
+    /**
+     * Compression policies of specific services or methods, overriding {@link #compression()}.
+     * A policy of a method takes precedence over a policy of its service.
+     *
+     * @return compression policies
+     */
+    @Option.Configured
+    @Option.Singular("compressionPolicy")
+    List<GrpcCompressionConfig> compressionPolicies();
 }
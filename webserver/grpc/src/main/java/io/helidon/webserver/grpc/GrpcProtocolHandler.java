@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,20 +16,24 @@
 
 package io.helidon.webserver.grpc;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.helidon.common.LazyValue;
 import io.helidon.common.buffers.BufferData;
+import io.helidon.grpc.core.GrpcCompression;
+import io.helidon.grpc.core.GrpcMessageDeframer;
+import io.helidon.grpc.core.GrpcMessageFramer;
 import io.helidon.http.Header;
 import io.helidon.http.HeaderName;
 import io.helidon.http.HeaderNames;
@@ -42,6 +46,7 @@ import io.helidon.http.http2.Http2FrameHeader;
 import io.helidon.http.http2.Http2FrameTypes;
 import io.helidon.http.http2.Http2Headers;
 import io.helidon.http.http2.Http2RstStream;
+import io.helidon.http.http2.Http2Setting;
 import io.helidon.http.http2.Http2Settings;
 import io.helidon.http.http2.Http2StreamState;
 import io.helidon.http.http2.Http2StreamWriter;
@@ -57,9 +62,8 @@ import io.helidon.webserver.http2.spi.Http2SubProtocolSelector;
 
 import io.grpc.Codec;
 import io.grpc.Compressor;
-import io.grpc.CompressorRegistry;
 import io.grpc.Decompressor;
-import io.grpc.DecompressorRegistry;
+import io.grpc.KnownLength;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.ServerCall;
@@ -84,14 +88,13 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
 
     private static final DataFlags DATA_FLAGS_ZERO = DataFlags.create(0);
 
-    private static final DecompressorRegistry DECOMPRESSOR_REGISTRY = DecompressorRegistry.getDefaultInstance();
-    private static final CompressorRegistry COMPRESSOR_REGISTRY = CompressorRegistry.getDefaultInstance();
-
     private static final Tag OK_TAG = Tag.create("grpc.status", "OK");
     private record MethodMetrics(Counter callStarted,
                                  Timer callDuration,
                                  DistributionSummary sentMessageSize,
-                                 DistributionSummary recvMessageSize) { }
+                                 DistributionSummary recvMessageSize,
+                                 DistributionSummary compressionRatio,
+                                 Timer compressionDuration) { }
     private static final LazyValue<Map<String, MethodMetrics>> METHOD_METRICS = LazyValue.create(ConcurrentHashMap::new);
 
     private final HttpPrologue prologue;
@@ -102,17 +105,32 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
     private final Http2Settings clientSettings;
     private final GrpcRouteHandler<REQ, RES> route;
     private final AtomicInteger numMessages = new AtomicInteger();
-    private final LinkedBlockingQueue<REQ> listenerQueue = new LinkedBlockingQueue<>();
     private final StreamFlowControl flowControl;
     private final GrpcConfig grpcConfig;
-
-    private Http2StreamState currentStreamState;
-    private ServerCall.Listener<REQ> listener;
-    private BufferData entityBytes;
+    private final ExecutorService executor;
+    // frames received by the stream thread, moved to the deframer by the delivering thread
+    private final ConcurrentLinkedQueue<BufferData> received = new ConcurrentLinkedQueue<>();
+    private final GrpcMessageDeframer deframer = new GrpcMessageDeframer();
+    // number of requested deliveries, only the thread that moves it from zero delivers to the listener
+    private final AtomicInteger deliveries = new AtomicInteger();
+    // the application saw the call as not ready, and expects onReady
+    private final AtomicBoolean notifyReady = new AtomicBoolean();
+    private final long maxReadyWindow;
+
+    private volatile Http2StreamState currentStreamState;
+    private volatile ServerCall.Listener<REQ> listener;
+    private volatile boolean endOfStream;
+    private boolean halfClosed;
+    private boolean failed;
+    // bytes of data frames moved to the deframer, and those of them the peer got flow control credit for
+    private long dataReceived;
+    private long dataCredited;
     private Compressor compressor;
     private Decompressor decompressor;
     private boolean isIdentityCompressor;
+    private int minCompressedSize;
     private long bytesReceived;
+    private volatile int lastMessageSize;
     private MethodMetrics methodMetrics;
     private long startMillis;
 
@@ -125,7 +143,8 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
                         StreamFlowControl flowControl,
                         Http2StreamState currentStreamState,
                         GrpcRouteHandler<REQ, RES> route,
-                        GrpcConfig grpcConfig) {
+                        GrpcConfig grpcConfig,
+                        ExecutorService executor) {
         this.prologue = prologue;
         this.headers = headers;
         this.streamWriter = streamWriter;
@@ -136,6 +155,9 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
         this.currentStreamState = currentStreamState;
         this.route = route;
         this.grpcConfig = grpcConfig;
+        this.executor = executor;
+        // a message larger than the window of the client must not make the call unready forever
+        this.maxReadyWindow = clientSettings.value(Http2Setting.INITIAL_WINDOW_SIZE) / 2;
     }
 
     @Override
@@ -145,7 +167,7 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
             Headers httpHeaders = headers.httpHeaders();
 
             // setup compression
-            initCompression(serverCall, httpHeaders);
+            initCompression(serverCall, httpHeaders, compressionPolicy(route.method().getFullMethodName()));
 
             // init metrics
             if (grpcConfig.enableMetrics()) {
@@ -159,6 +181,9 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
             listener = callHandler.startCall(serverCall, GrpcHeadersUtil.toMetadata(headers));
             listener.onReady();
             bytesReceived = 0L;
+
+            // messages may have been requested when the call was started
+            deliver();
         } catch (Throwable e) {
             LOGGER.log(ERROR, "Failed to initialize grpc protocol handler", e);
             throw e;
@@ -177,92 +202,72 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
 
     @Override
     public void windowUpdate(Http2WindowUpdate update) {
+        // called from the connection thread, the listener must be notified from another thread
+        if (notifyReady.get() && flowControl.outbound().getRemainingWindowSize() > 0) {
+            executor.execute(this::deliver);
+        }
     }
 
     @Override
     public void data(Http2FrameHeader header, BufferData data) {
-        try {
-            boolean isCompressed = false;
-
-            while (data.available() > 0) {
-                // start of new chunk?
-                if (entityBytes == null) {
-                    isCompressed = (data.read() == 1);
-                    long length = data.readUnsignedInt32();
-                    entityBytes = BufferData.create((int) length);
-                }
-
-                // append data to current chunk
-                entityBytes.write(data);
-
-                // is chunk complete?
-                if (entityBytes.capacity() == 0) {
-                    // fail if compressed and no decompressor
-                    if (isCompressed && decompressor == null) {
-                        throw new IllegalStateException("Unable to codec for compressed data");
-                    }
-
-                    // read and possibly decompress data
-                    int readLength = entityBytes.available();
-                    bytesReceived += readLength;
-                    byte[] bytes = new byte[readLength];
-                    entityBytes.read(bytes);
-                    ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-                    REQ request = route.method().parseRequest(isCompressed ? decompressor.decompress(bais) : bais);
-                    listenerQueue.add(request);
-                    flushQueue();
-                    entityBytes = null;
-                }
-            }
-
-            // if EOS then half close
-            if (header.flags(Http2FrameTypes.DATA).endOfStream()) {
-                listener.onHalfClose();
-                currentStreamState = Http2StreamState.HALF_CLOSED_LOCAL;
+        // padding is never delivered, so credit for it is returned right away
+        int padding = header.length() - data.available();
+        if (padding > 0) {
+            flowControl.inbound().incrementWindowSize(padding);
+        }
+        if (data.available() > 0) {
+            received.add(data);
+        }
 
-                // update metrics
-                if (grpcConfig.enableMetrics()) {
-                    methodMetrics.recvMessageSize.record(bytesReceived);
-                }
-            }
-        } catch (Exception e) {
-            listener.onCancel();
-            LOGGER.log(ERROR, "Failed to process grpc request: " + data.debugDataHex(true), e);
+        // if EOS then half close, the listener is notified once all messages are delivered
+        if (header.flags(Http2FrameTypes.DATA).endOfStream()) {
+            endOfStream = true;
+            currentStreamState = Http2StreamState.HALF_CLOSED_LOCAL;
         }
+        deliver();
+    }
+
+    @Override
+    public boolean returnsInboundCredit() {
+        return true;
     }
 
-    void initCompression(ServerCall<REQ, RES> serverCall, Headers httpHeaders) {
-        // check for encoding and respond using same algorithm
+    void initCompression(ServerCall<REQ, RES> serverCall, Headers httpHeaders, GrpcCompressionConfig policy) {
+        // check for encoding of the request
+        String requestEncoding = null;
         if (httpHeaders.contains(GRPC_ENCODING)) {
             Header grpcEncoding = httpHeaders.get(GRPC_ENCODING);
-            String encoding = grpcEncoding.asString().get();
-            decompressor = DECOMPRESSOR_REGISTRY.lookupDecompressor(encoding);
-            compressor = COMPRESSOR_REGISTRY.lookupCompressor(encoding);
+            requestEncoding = grpcEncoding.asString().get();
+            decompressor = GrpcCompression.decompressor(requestEncoding);
 
             // report encoding not supported
-            if (decompressor == null || compressor == null) {
+            if (decompressor == null) {
                 Metadata metadata = new Metadata();
-                Set<String> encodings = DECOMPRESSOR_REGISTRY.getAdvertisedMessageEncodings();
+                Set<String> encodings = GrpcCompression.decompressorEncodings();
                 metadata.put(Metadata.Key.of(GRPC_ACCEPT_ENCODING.defaultCase(), Metadata.ASCII_STRING_MARSHALLER),
                              String.join(",", encodings));
                 serverCall.close(Status.UNIMPLEMENTED, metadata);
                 currentStreamState = Http2StreamState.CLOSED;       // stops processing
                 return;
             }
-        } else if (httpHeaders.contains(GRPC_ACCEPT_ENCODING)) {
-            Header acceptEncoding = httpHeaders.get(GRPC_ACCEPT_ENCODING);
+        }
 
-            // check for matching encoding
-            for (String encoding : acceptEncoding.allValues()) {
-                compressor = COMPRESSOR_REGISTRY.lookupCompressor(encoding);
-                if (compressor != null) {
-                    decompressor = DECOMPRESSOR_REGISTRY.lookupDecompressor(encoding);
-                    if (decompressor != null) {
-                        break;      // found match
-                    }
-                    compressor = null;
-                }
-            }
+        // respond using an encoding accepted by the client, the request encoding if none is advertised
+        List<String> accepted;
+        if (httpHeaders.contains(GRPC_ACCEPT_ENCODING)) {
+            accepted = httpHeaders.get(GRPC_ACCEPT_ENCODING)
+                    .allValues(true)
+                    .stream()
+                    .map(String::trim)
+                    .toList();
+        } else if (requestEncoding != null) {
+            accepted = List.of(requestEncoding);
+        } else {
+            accepted = List.of();
+        }
+        if (policy.enabled()) {
+            compressor = responseCompressor(policy, accepted);
+            minCompressedSize = policy.minMessageSize();
         }
 
         // special handling for identity compressor
@@ -273,16 +278,157 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
         return isIdentityCompressor;
     }
 
+    /**
+     * Compression policy of a method, the most specific configured policy is used.
+     *
+     * @param fullMethodName full name of the method, such as {@code helidon.StringService/Upper}
+     * @return compression policy
+     */
+    private GrpcCompressionConfig compressionPolicy(String fullMethodName) {
+        int index = fullMethodName.lastIndexOf('/');
+        String service = index < 0 ? fullMethodName : fullMethodName.substring(0, index);
+        String method = index < 0 ? "" : fullMethodName.substring(index + 1);
+
+        GrpcCompressionConfig result = grpcConfig.compression();
+        for (GrpcCompressionConfig policy : grpcConfig.compressionPolicies()) {
+            if (!policy.service().map(service::equals).orElse(true)) {
+                continue;
+            }
+            if (policy.method().isPresent()) {
+                if (policy.method().get().equals(method)) {
+                    return policy;
+                }
+            } else {
+                result = policy;
+            }
+        }
+        return result;
+    }
+
+    private static Compressor responseCompressor(GrpcCompressionConfig policy, List<String> accepted) {
+        // server preferred encoding if the client accepts it, otherwise in order of the client preference
+        if (policy.preferredEncoding().isPresent()) {
+            String preferred = policy.preferredEncoding().get();
+            if (accepted.contains(preferred)) {
+                Compressor compressor = GrpcCompression.compressor(preferred);
+                if (compressor != null) {
+                    return compressor;
+                }
+            }
+        }
+        for (String encoding : accepted) {
+            if (encoding.equals(GrpcCompression.IDENTITY) || policy.encodings().contains(encoding)) {
+                Compressor compressor = GrpcCompression.compressor(encoding);
+                if (compressor != null) {
+                    return compressor;
+                }
+            }
+        }
+        return null;
+    }
+
     private void addNumMessages(int n) {
         numMessages.getAndAdd(n);
     }
 
-    private void flushQueue() {
-        if (listener != null) {
-            while (!listenerQueue.isEmpty() && numMessages.getAndDecrement() > 0) {
-                listener.onMessage(listenerQueue.poll());
+    /**
+     * Deliver requested messages, half close and readiness to the listener. Listener methods are never invoked
+     * concurrently; if another thread (or the listener itself) is delivering, the work is left to it.
+     */
+    private void deliver() {
+        if (deliveries.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            try {
+                deliverToListener();
+            } catch (Exception e) {
+                failed = true;
+                listener.onCancel();
+                LOGGER.log(ERROR, "Failed to process grpc request: " + route.method(), e);
+            }
+            missed = deliveries.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliverToListener() {
+        ServerCall.Listener<REQ> listener = this.listener;
+        if (listener == null || failed) {
+            return;
+        }
+
+        // all data is received before the end of stream is flagged
+        boolean lastData = endOfStream;
+        BufferData data;
+        while ((data = received.poll()) != null) {
+            dataReceived += data.available();
+            deframer.add(data);
+        }
+
+        // messages are parsed directly from the received frames, only once requested
+        while (numMessages.get() > 0) {
+            GrpcMessageDeframer.MessageInputStream message = deframer.next();
+            if (message == null) {
+                break;
+            }
+            numMessages.decrementAndGet();
+            boolean isCompressed = deframer.compressed();
+            // fail if compressed and no decompressor
+            if (isCompressed && decompressor == null) {
+                throw new IllegalStateException("Unable to codec for compressed data");
+            }
+
+            // possibly decompress and parse data
+            REQ request;
+            try (message) {
+                bytesReceived += message.available();
+                request = route.method().parseRequest(isCompressed ? decompressor.decompress(message) : message);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to decompress gRPC message", e);
+            }
+
+            // the message is consumed, the peer may send more data
+            returnCredit(dataReceived - deframer.buffered());
+            listener.onMessage(request);
+        }
+        if (numMessages.get() > 0) {
+            // a requested message is incomplete, it may be larger than the stream window
+            returnCredit(dataReceived);
+        }
+
+        if (lastData && !halfClosed && deframer.buffered() == 0) {
+            halfClosed = true;
+            listener.onHalfClose();
+
+            // update metrics
+            if (grpcConfig.enableMetrics()) {
+                methodMetrics.recvMessageSize.record(bytesReceived);
             }
         }
+
+        if (notifyReady.get() && windowAvailable() && notifyReady.compareAndSet(true, false)) {
+            listener.onReady();
+        }
+    }
+
+    private void returnCredit(long upTo) {
+        if (upTo > dataCredited) {
+            flowControl.inbound().incrementWindowSize((int) (upTo - dataCredited));
+            dataCredited = upTo;
+        }
+    }
+
+    /**
+     * Whether a message can be sent without waiting for a window update from the peer, expecting the message
+     * to be of the same size as the last one sent.
+     *
+     * @return whether the call is ready
+     */
+    private boolean windowAvailable() {
+        long required = Math.max(1, Math.min(lastMessageSize, maxReadyWindow));
+        return currentStreamState != Http2StreamState.CLOSED
+                && flowControl.outbound().getRemainingWindowSize() >= required;
     }
 
     private ServerCall<REQ, RES> createServerCall() {
@@ -293,7 +439,17 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
             @Override
             public void request(int numMessages) {
                 addNumMessages(numMessages);
-                flushQueue();
+                deliver();
+            }
+
+            @Override
+            public boolean isReady() {
+                boolean ready = windowAvailable();
+                if (!ready) {
+                    // onReady is called once the peer updates the stream window
+                    notifyReady.set(true);
+                }
+                return ready;
             }
 
             @Override
@@ -322,24 +478,21 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
             @Override
             public void sendMessage(RES message) {
                 try (InputStream inputStream = route.method().streamResponse(message)) {
-                    // prepare buffer for writing
-                    BufferData bufferData;
-                    if (compressor == null || isIdentityCompressor) {
-                        byte[] bytes = inputStream.readAllBytes();
-                        bufferData = BufferData.create(5 + bytes.length);
-                        bufferData.write(0);        // off for identity compressor
-                        bufferData.writeUnsignedInt32(bytes.length);
-                        bufferData.write(bytes);
-                    } else {
-                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                        try (OutputStream os = compressor.compress(baos)) {
-                            inputStream.transferTo(os);
+                    // small messages are not worth compressing, the size is only known for some streams
+                    int messageSize = inputStream instanceof KnownLength ? inputStream.available() : -1;
+                    boolean compress = compressor != null
+                            && !isIdentityCompressor
+                            && (messageSize < 0 || messageSize >= minCompressedSize);
+
+                    // serialize directly into the frame buffer
+                    long startNanos = System.nanoTime();
+                    BufferData bufferData = GrpcMessageFramer.frame(inputStream, compress ? compressor : null);
+                    if (compress && grpcConfig.enableMetrics()) {
+                        methodMetrics.compressionDuration.record(Duration.ofNanos(System.nanoTime() - startNanos));
+                        int compressedSize = bufferData.available() - GrpcMessageFramer.PREFIX_LENGTH;
+                        if (messageSize > 0 && compressedSize > 0) {
+                            methodMetrics.compressionRatio.record((double) messageSize / compressedSize);
                         }
-                        byte[] bytes = baos.toByteArray();
-                        bufferData = BufferData.create(5 + bytes.length);
-                        bufferData.write(1);
-                        bufferData.writeUnsignedInt32(bytes.length);
-                        bufferData.write(bytes);
                     }
 
                     // create data frame, EOS sent in close with trailers
@@ -352,6 +505,7 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
                     // write data frame
                     streamWriter.writeData(new Http2FrameData(header, bufferData), flowControl.outbound());
                     bytesSent += writeLength;
+                    lastMessageSize = writeLength;
                 } catch (Exception e) {
                     listener.onCancel();
                     LOGGER.log(ERROR, "Failed to respond to grpc request: " + route.method(), e);
@@ -432,7 +586,24 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
                     .tags(List.of(grpcMethod, OK_TAG));
             DistributionSummary recvMessageSize = meterRegistry.getOrCreate(recvMessageSizeBuilder);
 
-            return new MethodMetrics(callStarted, callDuration, sentMessageSize, recvMessageSize);
+            DistributionSummary.Builder compressionRatioBuilder = DistributionSummary.builder(
+                            "grpc.server.call.sent_message_compression_ratio")
+                    .scope(VENDOR)
+                    .tags(List.of(grpcMethod));
+            DistributionSummary compressionRatio = meterRegistry.getOrCreate(compressionRatioBuilder);
+
+            Timer.Builder compressionDurationBuilder = Timer.builder("grpc.server.call.sent_message_compression_duration")
+                    .scope(VENDOR)
+                    .baseUnit(Timer.BaseUnits.MICROSECONDS)
+                    .tags(List.of(grpcMethod));
+            Timer compressionDuration = meterRegistry.getOrCreate(compressionDurationBuilder);
+
+            return new MethodMetrics(callStarted,
+                                     callDuration,
+                                     sentMessageSize,
+                                     recvMessageSize,
+                                     compressionRatio,
+                                     compressionDuration);
         });
     }
 }
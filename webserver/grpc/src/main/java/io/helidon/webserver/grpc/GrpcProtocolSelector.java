@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -91,7 +91,8 @@ public class GrpcProtocolSelector implements Http2SubProtocolSelector {
                                                                        flowControl,
                                                                        currentStreamState,
                                                                        route,
-                                                                       grpcConfig));
+                                                                       grpcConfig,
+                                                                       ctx.executor()));
             }
         }
         return NOT_SUPPORTED;
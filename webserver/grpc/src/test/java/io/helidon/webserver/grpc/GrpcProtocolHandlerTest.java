@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,8 +46,9 @@ class GrpcProtocolHandlerTest {
                                                               null,
                                                               Http2StreamState.OPEN,
                                                               null,
-                                                              GrpcConfig.create());
-        handler.initCompression(null, headers);
+                                                              GrpcConfig.create(),
+                                                              null);
+        handler.initCompression(null, headers, GrpcCompressionConfig.create());
         assertThat(handler.isIdentityCompressor(), is(true));
     }
 
@@ -65,8 +66,9 @@ class GrpcProtocolHandlerTest {
                                                               null,
                                                               Http2StreamState.OPEN,
                                                               null,
-                                                              GrpcConfig.create());
-        handler.initCompression(null, headers);
+                                                              GrpcConfig.create(),
+                                                              null);
+        handler.initCompression(null, headers, GrpcCompressionConfig.create());
         assertThat(handler.isIdentityCompressor(), is(false));
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -79,6 +79,30 @@ interface Http2ConfigBlueprint extends ProtocolConfig {
     @Option.DefaultInt(1048576)
     int initialWindowSize();
 
+    /**
+     * Whether to tune the inbound flow control window to the bandwidth-delay product of each connection.
+     * The bandwidth-delay product is estimated from the data received during a round trip of a {@code PING} frame.
+     * The window starts at {@link #initialWindowSize()}, grows up to {@link #maxWindowSize()} when it limits
+     * the throughput, and shrinks back when the client consumes data slowly.
+     * <p>
+     * Window sizes of streams are changed by sending {@code SETTINGS} with a new {@code SETTINGS_INITIAL_WINDOW_SIZE}.
+     *
+     * @return whether window auto-tuning is enabled, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean windowAutoTuning();
+
+    /**
+     * Maximal size of the inbound flow control window in bytes when {@link #windowAutoTuning()} is enabled.
+     * Defaults to 16 MiB.
+     *
+     * @return maximal window size in bytes
+     */
+    @Option.Configured
+    @Option.DefaultInt(16777216)
+    int maxWindowSize();
+
     /**
      * Outbound flow control blocking timeout configured as {@link java.time.Duration}
      * or text in ISO-8601 format.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,6 +60,11 @@ import io.helidon.http.http2.Http2StreamState;
 import io.helidon.http.http2.Http2Util;
 import io.helidon.http.http2.Http2WindowUpdate;
 import io.helidon.http.http2.WindowSize;
+import io.helidon.metrics.api.DistributionSummary;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
 import io.helidon.webserver.CloseConnectionException;
 import io.helidon.webserver.ConnectionContext;
 import io.helidon.webserver.http.HttpRouting;
@@ -70,6 +75,7 @@ import static io.helidon.http.HeaderNames.X_FORWARDED_FOR;
 import static io.helidon.http.HeaderNames.X_FORWARDED_PORT;
 import static io.helidon.http.HeaderNames.X_HELIDON_CN;
 import static io.helidon.http.http2.Http2Util.PREFACE_LENGTH;
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
 import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.TRACE;
 
@@ -101,6 +107,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
     private final Http2Settings serverSettings;
     private final boolean sendErrorDetails;
     private final ConnectionFlowControl flowControl;
+    private final DistributionSummary windowSizes;
     private final WritableHeaders<?> connectionHeaders;
     private final long rapidResetCheckPeriod;
     private final int maxRapidResets;
@@ -138,7 +145,8 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                 .build();
         this.connectionWriter = new Http2ConnectionWriter(ctx,
                                                           ctx.dataWriter(),
-                                                          List.of(new Http2LoggingFrameListener("send")));
+                                                          List.of(new Http2LoggingFrameListener("send")),
+                                                          ctx.listenerContext().bufferPool());
         this.subProviders = subProviders;
         this.requestDynamicTable = Http2Headers.DynamicTable.create(
                 serverSettings.value(Http2Setting.HEADER_TABLE_SIZE));
@@ -149,11 +157,19 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
         this.maxClientConcurrentStreams = http2Config.maxConcurrentStreams();
 
         // Flow control is initialized by RFC 9113 default values
-        this.flowControl = ConnectionFlowControl.serverBuilder(this::writeWindowUpdateFrame)
-                .initialWindowSize(http2Config.initialWindowSize())
-                .blockTimeout(http2Config.flowControlTimeout())
-                .maxFrameSize(http2Config.maxFrameSize())
-                .build();
+        ConnectionFlowControl.ConnectionFlowControlBuilder flowControlBuilder =
+                ConnectionFlowControl.serverBuilder(this::writeWindowUpdateFrame)
+                        .initialWindowSize(http2Config.initialWindowSize())
+                        .blockTimeout(http2Config.flowControlTimeout())
+                        .maxFrameSize(http2Config.maxFrameSize());
+        if (http2Config.windowAutoTuning()) {
+            flowControlBuilder.windowAutoTuning(connectionWriter::write)
+                    .maxWindowSize(http2Config.maxWindowSize());
+            this.windowSizes = windowSizeMetric(ctx.listenerContext().config().name());
+        } else {
+            this.windowSizes = null;
+        }
+        this.flowControl = flowControlBuilder.build();
         this.lastRequestTimestamp = DateTime.timestamp();
         this.connectionHeaders = WritableHeaders.create();
         this.initConnectionHeaders = true;
@@ -166,6 +182,18 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
         applySetting(builder, config.initialWindowSize(), Http2Setting.INITIAL_WINDOW_SIZE);
     }
 
+    private static DistributionSummary windowSizeMetric(String socketName) {
+        MetricsFactory metricsFactory = MetricsFactory.getInstance();
+        DistributionSummary.Builder builder = metricsFactory.distributionSummaryBuilder(
+                        "http2_flow_control_window",
+                        metricsFactory.distributionStatisticsConfigBuilder())
+                .scope(VENDOR)
+                .baseUnit(Meter.BaseUnits.BYTES)
+                .description("Inbound flow control window of HTTP/2 connections tuned to bandwidth-delay product")
+                .tags(List.of(Tag.create("socket", socketName)));
+        return Metrics.globalRegistry().getOrCreate(builder);
+    }
+
     // Add value to the builder only when differs from default
     private static void applySetting(Http2Settings.Builder builder, long value, Http2Setting<Long> settings) {
         if (value != settings.defaultValue()) {
@@ -192,6 +220,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                                                 e.code(),
                                                 sendErrorDetails ? e.getMessage() : "");
             connectionWriter.write(frame.toFrameData(clientSettings, 0, Http2Flag.NoFlags.create()));
+            connectionWriter.streamsClosed();
             state = State.FINISHED;
         } catch (CloseConnectionException
                  | InterruptedException
@@ -206,6 +235,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                                                 Http2ErrorCode.INTERNAL,
                                                 sendErrorDetails ? e.getClass().getName() + ": " + e.getMessage() : "");
             connectionWriter.write(frame.toFrameData(clientSettings, 0, Http2Flag.NoFlags.create()));
+            connectionWriter.streamsClosed();
             state = State.FINISHED;
             throw e;
         }
@@ -572,6 +602,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                         .flowControl()
                         .inbound()
                         .decrementWindowSize(length);
+                flowControl.inboundData(length);
             }
         } else {
             if (emptyFrames++ > maxEmptyFrames && !endOfStream) {
@@ -708,7 +739,12 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                                      "Received ping with wrong size. Should be 8 bytes, is " + frameHeader.length());
         }
         if (frameHeader.flags(Http2FrameTypes.PING).ack()) {
-            // ignore - ACK for an unsent ping (we do not send pings for now)
+            // we only send pings to estimate bandwidth-delay product, ignore other acknowledgements
+            Http2Ping ack = Http2Ping.create(inProgressFrame());
+            receiveFrameListener.frame(ctx, 0, ack);
+            if (flowControl.pingAcknowledged(ack) && windowSizes != null) {
+                windowSizes.record(flowControl.inboundWindowSize());
+            }
             state = State.READ_FRAME;
         } else {
             ping = Http2Ping.create(inProgressFrame());
@@ -800,6 +836,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
             throw e;
         } finally {
             streams.remove(streamId);
+            connectionWriter.streamClosed(streamId);
         }
     }
 
@@ -835,6 +872,8 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
             }
 
             // 5.1.2 MAX_CONCURRENT_STREAMS limit check - stream error of type PROTOCOL_ERROR or REFUSED_STREAM
+            // closed streams do not count against the limit
+            streams.doMaintenance(maxClientConcurrentStreams);
             if (streams.size() + 1 > maxClientConcurrentStreams) {
                 throw new Http2Exception(Http2ErrorCode.REFUSED_STREAM,
                                          "Maximum concurrent streams limit " + maxClientConcurrentStreams + " exceeded");
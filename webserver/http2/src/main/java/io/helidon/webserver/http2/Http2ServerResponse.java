@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,9 +28,11 @@ import io.helidon.http.DateTime;
 import io.helidon.http.Header;
 import io.helidon.http.HeaderNames;
 import io.helidon.http.HeaderValues;
+import io.helidon.http.Headers;
 import io.helidon.http.ServerResponseHeaders;
 import io.helidon.http.ServerResponseTrailers;
 import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
 import io.helidon.http.http2.Http2Exception;
 import io.helidon.http.http2.Http2Headers;
 import io.helidon.webserver.CloseConnectionException;
@@ -51,6 +53,8 @@ class Http2ServerResponse extends ServerResponseBase<Http2ServerResponse> {
     private boolean streamingEntity;
     private long bytesWritten;
     private BlockingOutputStream outputStream;
+    // output stream created when headers were flushed, returned to the first caller of outputStream()
+    private OutputStream flushedOutputStream;
     private UnaryOperator<OutputStream> outputStreamFilter;
     private String streamResult = null;
 
@@ -76,6 +80,38 @@ class Http2ServerResponse extends ServerResponseBase<Http2ServerResponse> {
         return this;
     }
 
+    @Override
+    public Http2ServerResponse earlyHints(Headers hints) {
+        if (isSent || streamingEntity) {
+            throw new IllegalStateException("Cannot send early hints after response headers were sent.");
+        }
+        Http2Headers http2Headers = Http2Headers.create(WritableHeaders.create(hints));
+        http2Headers.status(Status.EARLY_HINTS_103);
+        try {
+            bytesWritten += stream.writeEarlyHints(http2Headers);
+        } catch (Http2Exception e) {
+            throw new CloseConnectionException("Failed writing early hints", e);
+        }
+        return this;
+    }
+
+    @Override
+    public Http2ServerResponse flushHeaders() {
+        if (isSent) {
+            throw new IllegalStateException("Response already sent");
+        }
+        if (streamingEntity) {
+            throw new IllegalStateException("Cannot flush headers after requesting output stream.");
+        }
+        flushedOutputStream = outputStream();
+        try {
+            outputStream.sendHeaders();
+        } catch (Http2Exception e) {
+            throw new CloseConnectionException("Failed writing headers", e);
+        }
+        return this;
+    }
+
     @Override
     public void send(byte[] entityBytes) {
         send(entityBytes, 0, entityBytes.length);
@@ -85,8 +121,8 @@ class Http2ServerResponse extends ServerResponseBase<Http2ServerResponse> {
     @Override
     public void send(byte[] entityBytes, int position, int length) {
         try {
-            if (outputStreamFilter != null) {
-                // in this case we must honor user's request to filter the stream
+            if (outputStreamFilter != null || flushedOutputStream != null) {
+                // in this case we must honor user's request to filter the stream, or use the stream with headers sent
                 try (OutputStream os = outputStream()) {
                     os.write(entityBytes, position, length);
                 } catch (IOException e) {
@@ -161,6 +197,11 @@ class Http2ServerResponse extends ServerResponseBase<Http2ServerResponse> {
         if (isSent) {
             throw new IllegalStateException("Response already sent");
         }
+        if (flushedOutputStream != null) {
+            OutputStream result = flushedOutputStream;
+            flushedOutputStream = null;
+            return result;
+        }
         if (streamingEntity) {
             throw new IllegalStateException("OutputStream already obtained");
         }
@@ -303,6 +344,18 @@ class Http2ServerResponse extends ServerResponseBase<Http2ServerResponse> {
             // does nothing, we expect commit(), so we can reset response when no bytes were written to response
         }
 
+        void sendHeaders() {
+            if (!firstByte) {
+                return;
+            }
+            firstByte = false;
+            sendHeadersAndPrepare();
+            if (firstBuffer != null) {
+                bytesWritten += stream.writeData(firstBuffer, false);
+                firstBuffer = null;
+            }
+        }
+
         void commit() {
             if (closed) {
                 return;
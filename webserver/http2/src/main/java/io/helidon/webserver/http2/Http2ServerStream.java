@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,7 @@ import io.helidon.http.http2.Http2Priority;
 import io.helidon.http.http2.Http2RstStream;
 import io.helidon.http.http2.Http2Settings;
 import io.helidon.http.http2.Http2Stream;
+import io.helidon.http.http2.Http2StreamPriority;
 import io.helidon.http.http2.Http2StreamState;
 import io.helidon.http.http2.Http2StreamWriter;
 import io.helidon.http.http2.Http2WindowUpdate;
@@ -102,7 +103,8 @@ class Http2ServerStream implements Runnable, Http2Stream {
     private volatile Http2Priority priority;
     // used from this instance and from connection
     private volatile Http2StreamState state = Http2StreamState.IDLE;
-    private Http2SubProtocolSelector.SubProtocolHandler subProtocolHandler;
+    // used from this instance and from connection (window updates)
+    private volatile Http2SubProtocolSelector.SubProtocolHandler subProtocolHandler;
     private long expectedLength = -1;
     private HttpPrologue prologue;
     // create a limit if accessed before we get the one from connection
@@ -145,7 +147,7 @@ class Http2ServerStream implements Runnable, Http2Stream {
         this.router = ctx.router();
         this.flowControl = connectionFlowControl.createStreamFlowControl(
                 streamId,
-                http2Config.initialWindowSize(),
+                connectionFlowControl.inboundWindowSize(),
                 http2Config.maxFrameSize()
         );
     }
@@ -223,6 +225,10 @@ class Http2ServerStream implements Runnable, Http2Stream {
                 Http2RstStream frame = new Http2RstStream(Http2ErrorCode.FLOW_CONTROL);
                 writer.write(frame.toFrameData(clientSettings, streamId, Http2Flag.NoFlags.create()));
             }
+            Http2SubProtocolSelector.SubProtocolHandler handler = subProtocolHandler;
+            if (handler != null) {
+                handler.windowUpdate(windowUpdate);
+            }
         } catch (UncheckedIOException e) {
             throw new ServerConnectionException("Failed to write window update", e);
         }
@@ -242,6 +248,9 @@ class Http2ServerStream implements Runnable, Http2Stream {
         if (httpHeaders.contains(HeaderNames.CONTENT_LENGTH)) {
             this.expectedLength = httpHeaders.get(HeaderNames.CONTENT_LENGTH).get(long.class);
         }
+        if (httpHeaders.contains(Http2StreamPriority.HEADER_NAME)) {
+            writer.priority(streamId, Http2StreamPriority.parse(httpHeaders.get(Http2StreamPriority.HEADER_NAME).get()));
+        }
     }
 
     @Override
@@ -357,8 +366,8 @@ class Http2ServerStream implements Runnable, Http2Stream {
                                     flowControl.outbound());
             }
         } finally {
+            // sub-protocol handler is kept, it may still send data (and needs window updates) once this thread ends
             headers = null;
-            subProtocolHandler = null;
         }
     }
 
@@ -465,6 +474,21 @@ class Http2ServerStream implements Runnable, Http2Stream {
         }
     }
 
+    int writeEarlyHints(Http2Headers http2Headers) {
+        WriteState current = writeState.get();
+        if (current != WriteState.INIT && current != WriteState.EXPECTED_100 && current != WriteState.CONTINUE_100_SENT) {
+            throw new IllegalStateException("Cannot send early hints after response headers were sent.");
+        }
+        try {
+            return writer.writeHeaders(http2Headers,
+                                       streamId,
+                                       Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS),
+                                       flowControl.outbound());
+        } catch (UncheckedIOException e) {
+            throw new ServerConnectionException("Failed to write early hints", e);
+        }
+    }
+
     void write100Continue() {
         if (WriteState.EXPECTED_100 == writeState.getAndUpdate(s -> {
             if (WriteState.EXPECTED_100 == s) {
@@ -621,7 +645,9 @@ class Http2ServerStream implements Runnable, Http2Stream {
                 DataFrame frame;
                 try {
                     frame = inboundData.take();
-                    flowControl.inbound().incrementWindowSize(frame.header().length());
+                    if (!subProtocolHandler.returnsInboundCredit()) {
+                        flowControl.inbound().incrementWindowSize(frame.header().length());
+                    }
                 } catch (InterruptedException e) {
                     // this stream was interrupted, does not make sense to do anything else
                     String handlerName = subProtocolHandler.getClass().getSimpleName();
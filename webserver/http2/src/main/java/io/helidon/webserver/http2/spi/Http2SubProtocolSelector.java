@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -106,5 +106,20 @@ public interface Http2SubProtocolSelector {
          * @param data   frame data
          */
         void data(Http2FrameHeader header, BufferData data);
+
+        /**
+         * Whether this handler returns flow control credit for received data itself, using
+         * {@link io.helidon.http.http2.FlowControl.Inbound#incrementWindowSize(int)} of the stream flow control,
+         * once the data is consumed. Otherwise the credit is returned as soon as a frame is passed to
+         * {@link #data(io.helidon.http.http2.Http2FrameHeader, io.helidon.common.buffers.BufferData)}.
+         * <p>
+         * A handler that keeps received data until the application asks for it should return credit itself, so
+         * the peer cannot send more than the stream window allows.
+         *
+         * @return whether this handler updates the inbound window
+         */
+        default boolean returnsInboundCredit() {
+            return false;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -134,4 +134,29 @@ interface BaseHandlerConfigBlueprint {
      */
     @Option.Configured
     Optional<Integer> recordCacheCapacity();
+
+    /**
+     * Whether to send precompressed variants of files.
+     * When the client accepts {@code br} or {@code gzip} content encoding, and a file with the same name and {@code .br}
+     * or {@code .gz} suffix exists next to the requested file, it is sent as is with the matching {@code Content-Encoding},
+     * instead of encoding the file on each request.
+     * <p>
+     * Only supported for files on the file system (including class path directories), not for files in jars.
+     *
+     * @return whether to send precompressed files, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean precompressed();
+
+    /**
+     * Whether to cache content encoded using the content encoding negotiated with the client.
+     * Content is encoded on first request, and the encoded bytes are stored in the {@link #memoryCache() memory cache},
+     * if it admits them, so the same content is not encoded again for each request.
+     *
+     * @return whether to cache encoded content, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean cacheEncoded();
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.helidon.webserver.staticcontent;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 import io.helidon.common.configurable.LruCache;
@@ -36,12 +37,15 @@ import io.helidon.webserver.http.ServerResponse;
 import static io.helidon.webserver.staticcontent.StaticContentHandler.processEtag;
 import static io.helidon.webserver.staticcontent.StaticContentHandler.processModifyHeaders;
 
+// content encoding is null for not encoded content
 record CachedHandlerInMemory(MediaType mediaType,
                              Instant lastModified,
                              BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
                              byte[] bytes,
                              int contentLength,
-                             Header contentLengthHeader) implements CachedHandler {
+                             Header contentLengthHeader,
+                             String contentEncoding,
+                             EncodedContent encodedContent) implements CachedHandler {
 
     @Override
     public boolean handle(LruCache<String, CachedHandler> cache,
@@ -49,13 +53,29 @@ record CachedHandlerInMemory(MediaType mediaType,
                           ServerRequest request,
                           ServerResponse response,
                           String requestedResource) {
+        encodedContent.varyHeader(response.headers());
+        Optional<CachedHandlerInMemory> encoded = encodedContent.encoded(request,
+                                                                         method,
+                                                                         requestedResource,
+                                                                         lastModified,
+                                                                         contentLength,
+                                                                         () -> this);
+        if (encoded.isPresent()) {
+            return encoded.get().handle(cache, method, request, response, requestedResource);
+        }
+
         // etag etc.
         if (lastModified != null) {
-            processEtag(String.valueOf(lastModified.toEpochMilli()), request.headers(), response.headers());
+            String etag = String.valueOf(lastModified.toEpochMilli());
+            // each encoding is a different representation of the resource
+            processEtag(contentEncoding == null ? etag : etag + "-" + contentEncoding, request.headers(), response.headers());
             processModifyHeaders(lastModified, request.headers(), response.headers(), setLastModifiedHeader);
         }
 
         response.headers().contentType(mediaType);
+        if (contentEncoding != null) {
+            response.headers().set(HeaderNames.CONTENT_ENCODING, contentEncoding);
+        }
 
         if (method == Method.GET) {
             send(request, response);
@@ -90,7 +110,8 @@ record CachedHandlerInMemory(MediaType mediaType,
                 range.setContentRange(response);
 
                 // only send a part of the file
-                response.send(Arrays.copyOfRange(bytes(), (int) range.offset(), (int) range.length()));
+                int offset = (int) range.offset();
+                response.send(Arrays.copyOfRange(bytes(), offset, offset + (int) range.length()));
             } else {
                 // not supported, send full
                 send(response);
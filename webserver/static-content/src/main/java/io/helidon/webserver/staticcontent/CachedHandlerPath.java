@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,8 @@ import java.util.function.BiConsumer;
 import io.helidon.common.configurable.LruCache;
 import io.helidon.common.media.type.MediaType;
 import io.helidon.http.ForbiddenException;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
 import io.helidon.http.Method;
 import io.helidon.http.ServerResponseHeaders;
 import io.helidon.webserver.http.ServerRequest;
@@ -37,7 +39,8 @@ import static io.helidon.webserver.staticcontent.StaticContentHandler.processMod
 record CachedHandlerPath(Path path,
                          MediaType mediaType,
                          IoFunction<Path, Optional<Instant>> lastModified,
-                         BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader) implements CachedHandler {
+                         BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
+                         EncodedContent encodedContent) implements CachedHandler {
     private static final System.Logger LOGGER = System.getLogger(CachedHandlerPath.class.getName());
 
     @Override
@@ -61,21 +64,59 @@ record CachedHandlerPath(Path path,
 
         Instant lastModified = lastModified().apply(path).orElse(null);
 
+        encodedContent.varyHeader(response.headers());
+        Optional<EncodedContent.Precompressed> precompressed = encodedContent.precompressed(request.headers(), path);
+        if (precompressed.isEmpty()) {
+            Optional<CachedHandlerInMemory> encoded = encodedContent.encoded(request,
+                                                                             method,
+                                                                             requestedResource,
+                                                                             lastModified,
+                                                                             Files.size(path),
+                                                                             this::inMemory);
+            if (encoded.isPresent()) {
+                return encoded.get().handle(cache, method, request, response, requestedResource);
+            }
+        }
+
         // etag etc.
         if (lastModified != null) {
-            processEtag(String.valueOf(lastModified.toEpochMilli()), request.headers(), response.headers());
+            String etag = String.valueOf(lastModified.toEpochMilli());
+            // each encoding is a different representation of the resource
+            processEtag(precompressed.map(it -> etag + "-" + it.encoding()).orElse(etag),
+                        request.headers(),
+                        response.headers());
             processModifyHeaders(lastModified, request.headers(), response.headers(), setLastModifiedHeader());
         }
 
         response.headers().contentType(mediaType);
 
+        Path contentPath = path;
+        if (precompressed.isPresent()) {
+            // ranges apply to the precompressed content, as that is the representation we send
+            contentPath = precompressed.get().path();
+            response.headers().set(HeaderNames.CONTENT_ENCODING, precompressed.get().encoding());
+        }
+
         if (method == Method.GET) {
-            FileBasedContentHandler.send(request, response, path);
+            FileBasedContentHandler.send(request, response, contentPath);
         } else {
-            FileBasedContentHandler.processContentLength(path, response.headers());
+            FileBasedContentHandler.processContentLength(contentPath, response.headers());
             response.send();
         }
 
         return true;
     }
+
+    private CachedHandlerInMemory inMemory() throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        Instant lastModified = lastModified().apply(path).orElse(null);
+        return new CachedHandlerInMemory(mediaType,
+                                         lastModified,
+                                         setLastModifiedHeader,
+                                         bytes,
+                                         bytes.length,
+                                         HeaderValues.create(HeaderNames.CONTENT_LENGTH, bytes.length),
+                                         null,
+                                         EncodedContent.NONE);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,6 +35,7 @@ import java.util.function.Supplier;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
+import io.helidon.common.configurable.LruCache;
 import io.helidon.common.media.type.MediaType;
 import io.helidon.http.Header;
 import io.helidon.http.HeaderNames;
@@ -110,7 +111,18 @@ class ClassPathContentHandler extends FileBasedContentHandler {
 
         if (cached.isPresent()) {
             // this requested resource is cached and can be safely returned
-            return cached.get().handle(handlerCache(), method, request, response, requestedResource);
+            CachedHandler cachedHandler = cached.get();
+            if (cachedHandler instanceof AdmissionRefused refused) {
+                // the memory cache may admit the resource once it is requested more often
+                Optional<CachedHandlerInMemory> inMemory = cacheInMemory(requestedResource,
+                                                                         refused.contentLength(),
+                                                                         refused.inMemorySupplier());
+                if (inMemory.isPresent()) {
+                    handlerCache().remove(requestedResource);
+                    cachedHandler = inMemory.get();
+                }
+            }
+            return cachedHandler.handle(handlerCache(), method, request, response, requestedResource);
         }
 
         // if it is not cached, find the resource and cache it (or return 404 and do not cache)
@@ -178,7 +190,10 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
 
         CachedHandler cachedHandler = handler.get();
-        cacheHandler(requestedResource, cachedHandler);
+        if (!(cachedHandler instanceof CachedHandlerInMemory)) {
+            // in memory handlers are found through the memory cache, which may evict them to free the memory
+            cacheHandler(requestedResource, cachedHandler);
+        }
 
         return cachedHandler.handle(handlerCache(), method, request, response, requestedResource);
     }
@@ -241,15 +256,15 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         1. The file will be cached in memory
         2. The file will be handled through CachedHandlerJar (and possibly extracted to a temporary directory)
          */
+        Supplier<CachedHandlerInMemory> inMemorySupplier = null;
         if (contentLength <= Integer.MAX_VALUE && canCacheInMemory((int) contentLength)) {
             // we may be able to cache this entry
-            var cached = cacheInMemory(requestedResource,
-                                       (int) contentLength,
-                                       inMemorySupplier(url,
-                                                        lastModified.orElse(null),
-                                                        lastModifiedHandler,
-                                                        contentType,
-                                                        contentLength));
+            inMemorySupplier = inMemorySupplier(url,
+                                                lastModified.orElse(null),
+                                                lastModifiedHandler,
+                                                contentType,
+                                                contentLength);
+            var cached = cacheInMemory(requestedResource, (int) contentLength, inMemorySupplier);
             if (cached.isPresent()) {
                 // we have successfully cached the entry in memory
                 return Optional.of(cached.get());
@@ -262,7 +277,10 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                                                               lastModified.orElse(null),
                                                               contentType,
                                                               contentLength);
-
+        if (inMemorySupplier != null) {
+            // refused by the memory cache, admission is attempted again on each request
+            return Optional.of(new AdmissionRefused(jarHandler, (int) contentLength, inMemorySupplier));
+        }
         return Optional.of(jarHandler);
     }
 
@@ -300,7 +318,9 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                                              lastModifiedHandler,
                                              bytes,
                                              bytes.length,
-                                             contentLengthHeader);
+                                             contentLengthHeader,
+                                             null,
+                                             encodedContent());
         };
     }
 
@@ -391,4 +411,20 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
         return cleanRoot;
     }
+
+    /*
+     * A jar entry small enough to be cached in memory, that was not admitted by the memory cache.
+     */
+    private record AdmissionRefused(CachedHandlerJar delegate,
+                                    int contentLength,
+                                    Supplier<CachedHandlerInMemory> inMemorySupplier) implements CachedHandler {
+        @Override
+        public boolean handle(LruCache<String, CachedHandler> cache,
+                              Method method,
+                              ServerRequest request,
+                              ServerResponse response,
+                              String requestedResource) throws IOException {
+            return delegate.handle(cache, method, request, response, requestedResource);
+        }
+    }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import io.helidon.http.Header;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Method;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.http.ServerResponseHeaders;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.encoding.ContentEncoder;
+import io.helidon.http.encoding.ContentEncodingContext;
+import io.helidon.webserver.http.ServerRequest;
+
+/**
+ * Content encoded variants of static resources.
+ * <p>
+ * Precompressed variants are files next to the requested file with {@code .br} or {@code .gz} suffix, that are sent
+ * as is when the client accepts the encoding.
+ * Other resources can be encoded once using the content encoding negotiated by the server, with the encoded bytes
+ * cached in the memory cache of the handler, keyed by resource, encoding and last modification timestamp.
+ */
+final class EncodedContent {
+    static final EncodedContent NONE = new EncodedContent(null, false, false);
+
+    private static final Header VARY_ACCEPT_ENCODING = HeaderValues.createCached(HeaderNames.VARY,
+                                                                                 HeaderNames.ACCEPT_ENCODING.defaultCase());
+    // in order of preference, if the client accepts more of them with the same quality
+    private static final List<PrecompressedType> PRECOMPRESSED_TYPES = List.of(new PrecompressedType("br", ".br"),
+                                                                               new PrecompressedType("gzip", ".gz"));
+
+    private final StaticContentHandler handler;
+    private final boolean precompressed;
+    private final boolean cacheEncoded;
+
+    private EncodedContent(StaticContentHandler handler, boolean precompressed, boolean cacheEncoded) {
+        this.handler = handler;
+        this.precompressed = precompressed;
+        this.cacheEncoded = cacheEncoded;
+    }
+
+    static EncodedContent create(StaticContentHandler handler, BaseHandlerConfig config) {
+        if (!config.precompressed() && !config.cacheEncoded()) {
+            return NONE;
+        }
+        return new EncodedContent(handler, config.precompressed(), config.cacheEncoded());
+    }
+
+    /**
+     * Add {@code Vary} header, as the content depends on {@code Accept-Encoding} request header.
+     *
+     * @param headers response headers
+     */
+    void varyHeader(ServerResponseHeaders headers) {
+        if (precompressed || cacheEncoded) {
+            headers.add(VARY_ACCEPT_ENCODING);
+        }
+    }
+
+    /**
+     * Find a precompressed variant of a file, that is accepted by the client.
+     *
+     * @param headers request headers
+     * @param path    requested file
+     * @return precompressed variant, if enabled, accepted and exists
+     */
+    Optional<Precompressed> precompressed(ServerRequestHeaders headers, Path path) {
+        if (!precompressed || !headers.contains(HeaderNames.ACCEPT_ENCODING)) {
+            return Optional.empty();
+        }
+        List<String> acceptEncoding = headers.get(HeaderNames.ACCEPT_ENCODING).allValues(true);
+        String fileName = FileBasedContentHandler.fileName(path);
+
+        PrecompressedType best = null;
+        double bestQuality = 0;
+        Path bestPath = null;
+        for (PrecompressedType type : PRECOMPRESSED_TYPES) {
+            double quality = quality(acceptEncoding, type.encoding());
+            if (quality <= bestQuality) {
+                continue;
+            }
+            Path candidate = path.resolveSibling(fileName + type.suffix());
+            if (Files.isRegularFile(candidate) && Files.isReadable(candidate)) {
+                best = type;
+                bestQuality = quality;
+                bestPath = candidate;
+            }
+        }
+        if (best == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Precompressed(best.encoding(), bestPath));
+    }
+
+    /**
+     * Find (or create on {@code GET} request) an in-memory handler with the content encoded using the encoding
+     * negotiated with the client.
+     *
+     * @param request       request
+     * @param method        method of the request, encoded content is only created for {@code GET}
+     * @param resource      resource the content belongs to
+     * @param lastModified  last modification timestamp of the resource, changed resources are encoded again
+     * @param contentLength length of the not encoded content
+     * @param content       supplier of an in-memory handler with the not encoded content
+     * @return handler of the encoded content, empty if not enabled, not negotiated, or not cached
+     */
+    Optional<CachedHandlerInMemory> encoded(ServerRequest request,
+                                            Method method,
+                                            String resource,
+                                            Instant lastModified,
+                                            long contentLength,
+                                            IoSupplier<CachedHandlerInMemory> content) {
+        if (!cacheEncoded) {
+            return Optional.empty();
+        }
+        ContentEncodingContext encodingContext = request.listenerContext().contentEncodingContext();
+        if (!encodingContext.contentEncodingEnabled()) {
+            return Optional.empty();
+        }
+        ContentEncoder encoder = encodingContext.encoder(request.headers());
+        if (encoder == ContentEncoder.NO_OP) {
+            return Optional.empty();
+        }
+        Optional<String> encoding = encodingId(encoder);
+        if (encoding.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // null character cannot be part of a resource name, so the key cannot clash with a resource
+        String key = resource + '\0' + encoding.get() + '\0' + (lastModified == null ? "" : lastModified.toEpochMilli());
+        Optional<CachedHandlerInMemory> cached = handler.cacheInMemory(key);
+        if (cached.isPresent() || method != Method.GET) {
+            return cached;
+        }
+        if (contentLength > Integer.MAX_VALUE || !handler.canCacheInMemory((int) contentLength)) {
+            return Optional.empty();
+        }
+        // encoded content is usually smaller, and the cache accounts for the actual size
+        return handler.cacheInMemory(key, (int) contentLength, () -> encode(encoder, encoding.get(), content));
+    }
+
+    private static CachedHandlerInMemory encode(ContentEncoder encoder,
+                                                String encoding,
+                                                IoSupplier<CachedHandlerInMemory> contentSupplier) {
+        try {
+            CachedHandlerInMemory content = contentSupplier.get();
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(content.contentLength());
+            try (OutputStream out = encoder.apply(baos)) {
+                out.write(content.bytes(), 0, content.contentLength());
+            }
+            byte[] encoded = baos.toByteArray();
+            return new CachedHandlerInMemory(content.mediaType(),
+                                             content.lastModified(),
+                                             content.setLastModifiedHeader(),
+                                             encoded,
+                                             encoded.length,
+                                             HeaderValues.create(HeaderNames.CONTENT_LENGTH, encoded.length),
+                                             encoding,
+                                             NONE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode static content", e);
+        }
+    }
+
+    // encoders only expose the encoding through the header they set
+    private static Optional<String> encodingId(ContentEncoder encoder) {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        encoder.headers(headers);
+        return headers.first(HeaderNames.CONTENT_ENCODING);
+    }
+
+    // quality of an encoding in Accept-Encoding values, 0 if not acceptable
+    private static double quality(List<String> acceptEncoding, String encoding) {
+        double wildcard = 0;
+        for (String value : acceptEncoding) {
+            int paramIndex = value.indexOf(';');
+            String name = (paramIndex == -1 ? value : value.substring(0, paramIndex)).trim().toLowerCase(Locale.ROOT);
+            if (name.equals(encoding)) {
+                return parseQuality(value, paramIndex);
+            }
+            if (name.equals("*")) {
+                wildcard = parseQuality(value, paramIndex);
+            }
+        }
+        return wildcard;
+    }
+
+    private static double parseQuality(String value, int paramIndex) {
+        if (paramIndex == -1) {
+            return 1;
+        }
+        String param = value.substring(paramIndex + 1).trim();
+        if (!param.startsWith("q=")) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(param.substring(2).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Precompressed variant of a file.
+     *
+     * @param encoding content encoding of the variant
+     * @param path     path of the variant
+     */
+    record Precompressed(String encoding, Path path) {
+    }
+
+    private record PrecompressedType(String encoding, String suffix) {
+    }
+}
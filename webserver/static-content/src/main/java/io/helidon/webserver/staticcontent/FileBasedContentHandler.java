@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,8 @@
 package io.helidon.webserver.staticcontent;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.UncheckedIOException;
-import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.SeekableByteChannel;
-import java.nio.channels.WritableByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -74,47 +69,27 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
 
     static void send(ServerRequest request, ServerResponse response, Path path) throws IOException {
         ServerRequestHeaders headers = request.headers();
-        if (headers.contains(HeaderNames.RANGE)) {
-            long contentLength = contentLength(path);
-            List<ByteRangeRequest> ranges = ByteRangeRequest.parse(request,
-                                                                   response,
-                                                                   headers.get(HeaderNames.RANGE).values(),
-                                                                   contentLength);
-            if (ranges.size() == 1) {
-                // single response
-                ByteRangeRequest range = ranges.getFirst();
-                range.setContentRange(response);
-
-                // only send a part of the file
-                try (OutputStream out = response.outputStream(); SeekableByteChannel channel = Files.newByteChannel(path)) {
-                    WritableByteChannel outChannel = Channels.newChannel(out);
-                    channel.position(range.offset());
-                    long toRead = range.length();
-                    ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(toRead, 1000));
-                    while (toRead != 0) {
-                        int read = channel.read(buffer);
-                        int toWrite = (int) Math.min(toRead, read);
-                        buffer.flip();
-                        buffer.limit(toWrite);
-                        outChannel.write(buffer);
-                        buffer.flip();
-                        toRead -= toWrite;
-                    }
+        try (FileChannel channel = FileChannel.open(path)) {
+            long contentLength = channel.size();
+            if (headers.contains(HeaderNames.RANGE)) {
+                List<ByteRangeRequest> ranges = ByteRangeRequest.parse(request,
+                                                                       response,
+                                                                       headers.get(HeaderNames.RANGE).values(),
+                                                                       contentLength);
+                if (ranges.size() == 1) {
+                    // single response
+                    ByteRangeRequest range = ranges.getFirst();
+                    range.setContentRange(response);
+
+                    // only send a part of the file
+                    response.send(channel, range.offset(), range.length());
+                    return;
                 }
-            } else {
                 // multipart response not yet supported, send all
-                processContentLength(path, response.headers());
-                // send the full file
-                try (InputStream in = Files.newInputStream(path); OutputStream out = response.outputStream()) {
-                    in.transferTo(out);
-                }
-            }
-        } else {
-            processContentLength(path, response.headers());
-            // send the full file
-            try (InputStream in = Files.newInputStream(path); OutputStream out = response.outputStream()) {
-                in.transferTo(out);
             }
+            response.headers().set(HeaderValues.create(HeaderNames.CONTENT_LENGTH, contentLength));
+            // send the full file, directly from the file system to the connection where supported
+            response.send(channel, 0, contentLength);
         }
     }
 
@@ -135,7 +110,8 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         return Optional.of(new CachedHandlerPath(path,
                                                  detectType(fileName(path)),
                                                  FileBasedContentHandler::lastModified,
-                                                 ServerResponseHeaders::lastModified));
+                                                 ServerResponseHeaders::lastModified,
+                                                 encodedContent()));
     }
 
     MediaType detectType(String fileName) {
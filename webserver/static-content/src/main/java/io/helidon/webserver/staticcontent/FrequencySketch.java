@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate access frequency of cached resources (a count-min sketch with 4-bit counters, as used by TinyLFU).
+ * <p>
+ * Each key is counted in four counters, and its frequency is the minimum of them, so the estimate may only be higher
+ * than the real frequency. Once the number of recorded accesses reaches the sample size, all counters are halved,
+ * so resources that used to be popular age out.
+ * <p>
+ * Updates are lock-free; when two threads update the same counters concurrently, one of the increments may be dropped,
+ * which only makes the estimate less precise.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final AtomicLongArray table;
+    private final AtomicInteger size = new AtomicInteger();
+    private final int tableMask;
+    private final int sampleSize;
+
+    private FrequencySketch(int tableLength) {
+        this.table = new AtomicLongArray(tableLength);
+        this.tableMask = tableLength - 1;
+        this.sampleSize = tableLength * 10;
+    }
+
+    /**
+     * Create a sketch for the expected number of distinct resources.
+     *
+     * @param expectedEntries expected number of entries, the sketch is sized to the next power of two
+     * @return a new frequency sketch
+     */
+    static FrequencySketch create(int expectedEntries) {
+        int tableLength = expectedEntries <= 16 ? 16 : Integer.highestOneBit(expectedEntries - 1) << 1;
+        return new FrequencySketch(tableLength);
+    }
+
+    /**
+     * Record an access of a resource.
+     *
+     * @param hash hash of the resource
+     */
+    void increment(int hash) {
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int offset = (start + i) << 2;
+            long value = table.get(index);
+            if (((value >>> offset) & 0xfL) != MAX_COUNT) {
+                added |= table.weakCompareAndSetVolatile(index, value, value + (1L << offset));
+            }
+        }
+        if (added && size.incrementAndGet() == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Estimated number of accesses of a resource since the counters were last aged.
+     *
+     * @param hash hash of the resource
+     * @return estimated frequency, {@code 0} to {@code 15}
+     */
+    int frequency(int hash) {
+        int start = (hash & 3) << 2;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < 4; i++) {
+            int offset = (start + i) << 2;
+            int count = (int) ((table.get(indexOf(hash, i)) >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    // halve all counters
+    private void reset() {
+        for (int i = 0; i < table.length(); i++) {
+            table.getAndUpdate(i, value -> (value >>> 1) & RESET_MASK);
+        }
+        size.set(sampleSize / 2);
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+}
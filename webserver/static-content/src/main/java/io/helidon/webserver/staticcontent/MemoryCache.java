@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,32 +16,60 @@
 
 package io.helidon.webserver.staticcontent;
 
-import java.util.HashMap;
-import java.util.IdentityHashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.helidon.builder.api.RuntimeType;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
 
 /**
  * Memory cache to allow in-memory storage of static content, rather than reading it from file system each time the
  * resource is requested.
+ * <p>
+ * The cache is bounded by the configured {@link MemoryCacheConfig#capacity()} in bytes. When a new resource does not fit,
+ * least recently used resources are evicted to make space for it, but only if the new resource is requested more
+ * often than each of them (TinyLFU admission policy), so a burst of requests to rarely used resources does not
+ * replace the content that is requested most. Resources explicitly configured to be cached in memory are never evicted.
+ * <p>
+ * Lookups do not wait for a lock, only adding and removing resources is serialized. Recency of a resource is only
+ * updated by a lookup if no other thread holds the lock, so under contention the order of eviction is approximate.
  */
 @RuntimeType.PrototypedBy(MemoryCacheConfig.class)
 public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
+    // expected average size of a cached resource, used to size the frequency sketch
+    private static final int AVERAGE_RESOURCE_SIZE = 8 * 1024;
+    private static final int MAX_SKETCH_ENTRIES = 1 << 16;
+
     private final MemoryCacheConfig config;
     private final long maxSize;
-    // cache is Map<instance of handler -> Map<resource path -> CachedHandlerInMemory>>
-    private final Map<StaticContentHandler, Map<String, CachedHandlerInMemory>> cache = new IdentityHashMap<>();
-    private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
+    // cache is Map<instance of handler -> Map<resource path -> CacheRecord>>
+    private final Map<StaticContentHandler, Map<String, CacheRecord>> cache = new ConcurrentHashMap<>();
+    // resources that may be evicted, least recently used first, only accessed when holding the write lock
+    private final LinkedHashMap<Key, CacheRecord> evictionOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final ReentrantLock writeLock = new ReentrantLock();
 
-    private final ReentrantLock sizeLock = new ReentrantLock();
-    private long currentSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // only modified when holding the write lock
+    private volatile long currentSize;
 
     private MemoryCache(MemoryCacheConfig config) {
         this.config = config;
@@ -51,6 +79,12 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
         } else {
             this.maxSize = 0;
         }
+        long expectedEntries = Math.min(maxSize / AVERAGE_RESOURCE_SIZE, MAX_SKETCH_ENTRIES);
+        this.sketch = FrequencySketch.create((int) expectedEntries);
+
+        if (maxSize != 0 && config.enableMetrics()) {
+            initMetrics();
+        }
     }
 
     /**
@@ -100,81 +134,244 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
     }
 
     void clear(StaticContentHandler staticContentHandler) {
+        writeLock.lock();
         try {
-            cacheLock.writeLock().lock();
-            cache.remove(staticContentHandler);
+            Map<String, CacheRecord> removed = cache.remove(staticContentHandler);
+            if (removed != null) {
+                for (CacheRecord record : removed.values()) {
+                    currentSize -= record.size();
+                    evictionOrder.remove(record.key());
+                }
+            }
         } finally {
-            cacheLock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
     /**
      * Is there a possibility to cache the bytes.
-     * There may be a race, so {@link #cache(StaticContentHandler, String, int, java.util.function.Supplier)} may still return
-     * empty.
+     * The resource may still be rejected by {@link #cache(StaticContentHandler, String, int, java.util.function.Supplier)},
+     * if there is not enough space and it is not requested more often than the resources it would replace.
      *
-     * @return if there is space in the cache for the number of bytes requested
+     * @return if the number of bytes requested can fit into the cache
      */
     boolean available(int bytes) {
-        return maxSize != 0 && (currentSize + bytes) <= maxSize;
+        return maxSize != 0 && bytes <= maxSize;
     }
 
     Optional<CachedHandlerInMemory> cache(StaticContentHandler handler,
                                           String resource,
                                           int size,
                                           Supplier<CachedHandlerInMemory> handlerSupplier) {
+        if (maxSize == 0 || size > maxSize) {
+            // either we are not enabled, or the size would be bigger than maximal size
+            return Optional.empty();
+        }
+        writeLock.lock();
         try {
-            sizeLock.lock();
-            if (maxSize == 0 || currentSize + size > maxSize) {
-                // either we are not enabled, or the size would be bigger than maximal size
+            CacheRecord existing = find(handler, resource);
+            if (existing != null) {
+                // cached by another request in the meantime
+                return Optional.of(existing.handler());
+            }
+            if (currentSize + size > maxSize && !evictFor(hash(handler, resource), size)) {
+                // cache is full of resources that are requested at least as often
                 return Optional.empty();
             }
-            // increase current size
-            currentSize += size;
-        } finally {
-            sizeLock.unlock();
-        }
-        try {
-            cacheLock.writeLock().lock();
             CachedHandlerInMemory cachedHandlerInMemory = handlerSupplier.get();
-            cache.computeIfAbsent(handler, k -> new HashMap<>())
-                    .put(resource, cachedHandlerInMemory);
+            // the actual size may differ from the expected one (such as for encoded content)
+            add(new CacheRecord(new Key(handler, resource),
+                                cachedHandlerInMemory,
+                                cachedHandlerInMemory.contentLength(),
+                                false));
             return Optional.of(cachedHandlerInMemory);
         } finally {
-            cacheLock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
     // hard add to cache, even if disabled (for explicitly configured resources to cache in memory)
     void cache(StaticContentHandler handler, String resource, CachedHandlerInMemory inMemoryHandler) {
+        writeLock.lock();
         try {
-            sizeLock.lock();
-            if (maxSize != 0) {
-                // only increase current size if enabled, otherwise it does not matter
-                currentSize += inMemoryHandler.contentLength();
+            // only account for size if enabled, otherwise it does not matter
+            int size = maxSize == 0 ? 0 : inMemoryHandler.contentLength();
+            add(new CacheRecord(new Key(handler, resource), inMemoryHandler, size, true));
+            // required resources take precedence over the ones cached on request
+            boolean evicted = true;
+            while (currentSize > maxSize && evicted) {
+                evicted = evictLeastRecentlyUsed();
             }
         } finally {
-            sizeLock.unlock();
-        }
-        try {
-            cacheLock.writeLock().lock();
-            cache.computeIfAbsent(handler, k -> new HashMap<>())
-                    .put(resource, inMemoryHandler);
-        } finally {
-            cacheLock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
     Optional<CachedHandlerInMemory> get(StaticContentHandler handler, String resource) {
-        try {
-            cacheLock.readLock().lock();
-            Map<String, CachedHandlerInMemory> resourceCache = cache.get(handler);
-            if (resourceCache == null) {
-                return Optional.empty();
+        Map<String, CacheRecord> resourceCache = cache.get(handler);
+        CacheRecord record = resourceCache == null ? null : resourceCache.get(resource);
+        if (maxSize != 0) {
+            // record frequency also for misses, so a resource requested often enough can replace a cached one
+            sketch.increment(hash(handler, resource));
+        }
+        if (record == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        if (!record.required() && writeLock.tryLock()) {
+            try {
+                // moves the record to the end of eviction order, if it was not evicted in the meantime
+                evictionOrder.get(record.key());
+            } finally {
+                writeLock.unlock();
             }
-            return Optional.ofNullable(resourceCache.get(resource));
-        } finally {
-            cacheLock.readLock().unlock();
+        }
+        return Optional.of(record.handler());
+    }
+
+    private static int hash(StaticContentHandler handler, String resource) {
+        return 31 * System.identityHashCode(handler) + resource.hashCode();
+    }
+
+    private CacheRecord find(StaticContentHandler handler, String resource) {
+        Map<String, CacheRecord> resourceCache = cache.get(handler);
+        return resourceCache == null ? null : resourceCache.get(resource);
+    }
+
+    private void add(CacheRecord record) {
+        Key key = record.key();
+        CacheRecord previous = cache.computeIfAbsent(key.handler(), k -> new ConcurrentHashMap<>())
+                .put(key.resource(), record);
+        currentSize += record.size();
+        if (previous != null) {
+            currentSize -= previous.size();
+        }
+        if (record.required()) {
+            evictionOrder.remove(key);
+        } else {
+            evictionOrder.put(key, record);
+        }
+    }
+
+    /*
+     * Evict least recently used resources to make space for a new one. Resources are only evicted if all of them
+     * are requested less often than the new resource, otherwise nothing is evicted.
+     */
+    private boolean evictFor(int candidateHash, int size) {
+        long required = currentSize + size - maxSize;
+        int candidateFrequency = sketch.frequency(candidateHash);
+
+        List<CacheRecord> victims = new ArrayList<>();
+        long freed = 0;
+        // iterating does not change the access order
+        Iterator<CacheRecord> leastRecentlyUsed = evictionOrder.values().iterator();
+        while (freed < required && leastRecentlyUsed.hasNext()) {
+            CacheRecord victim = leastRecentlyUsed.next();
+            if (sketch.frequency(hash(victim.key().handler(), victim.key().resource())) >= candidateFrequency) {
+                return false;
+            }
+            victims.add(victim);
+            freed += victim.size();
+        }
+        if (freed < required) {
+            // only required resources are left
+            return false;
+        }
+        for (CacheRecord victim : victims) {
+            remove(victim);
+        }
+        return true;
+    }
+
+    private boolean evictLeastRecentlyUsed() {
+        if (evictionOrder.isEmpty()) {
+            return false;
+        }
+        remove(evictionOrder.firstEntry().getValue());
+        return true;
+    }
+
+    private void remove(CacheRecord victim) {
+        Key key = victim.key();
+        evictionOrder.remove(key);
+        Map<String, CacheRecord> resourceCache = cache.get(key.handler());
+        if (resourceCache != null && resourceCache.remove(key.resource(), victim)) {
+            currentSize -= victim.size();
+            evictions.increment();
+        }
+    }
+
+    private void initMetrics() {
+        MetricsFactory metricsFactory = MetricsFactory.getInstance();
+        MeterRegistry meterRegistry = Metrics.globalRegistry();
+
+        // define tag if cache is not the default
+        List<Tag> tags = config.name().equals("@default")
+                ? List.of()
+                : List.of(Tag.create("cache", config.name()));
+
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("static_content_cache_hits",
+                                                                          hits,
+                                                                          LongAdder::sum)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("static_content_cache_misses",
+                                                                          misses,
+                                                                          LongAdder::sum)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("static_content_cache_evictions",
+                                                                          evictions,
+                                                                          LongAdder::sum)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.gaugeBuilder("static_content_cache_hit_ratio", this::hitRatio)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        Gauge.Builder<Long> sizeBuilder = metricsFactory.gaugeBuilder("static_content_cache_size", () -> currentSize)
+                .scope(VENDOR)
+                .baseUnit(Meter.BaseUnits.BYTES)
+                .tags(tags);
+        meterRegistry.getOrCreate(sizeBuilder);
+    }
+
+    private double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private record Key(StaticContentHandler handler, String resource) {
+    }
+
+    private static final class CacheRecord {
+        private final Key key;
+        private final CachedHandlerInMemory handler;
+        private final int size;
+        private final boolean required;
+
+        private CacheRecord(Key key, CachedHandlerInMemory handler, int size, boolean required) {
+            this.key = key;
+            this.handler = handler;
+            this.size = size;
+            this.required = required;
+        }
+
+        Key key() {
+            return key;
+        }
+
+        CachedHandlerInMemory handler() {
+            return handler;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean required() {
+            return required;
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,8 @@ import io.helidon.common.Size;
 
 /**
  * Configuration of memory cache for static content.
- * The memory cache will cache the first {@link #capacity() bytes} that fit into the configured memory size for the
- * duration of the service uptime.
+ * The memory cache will cache resources up to the configured {@link #capacity() memory size}. When full, resources
+ * that are used least recently are replaced with resources that are requested more often.
  */
 @Prototype.Blueprint
 @Prototype.Configured
@@ -50,4 +50,23 @@ interface MemoryCacheConfigBlueprint extends Prototype.Factory<MemoryCache> {
     @Option.Default("50 mB")
     @Option.Configured
     Size capacity();
+
+    /**
+     * Name of this cache, used to tag its metrics.
+     * Metrics of the default cache (named {@code @default}) are not tagged.
+     *
+     * @return name of the cache
+     */
+    @Option.Default("@default")
+    @Option.Configured
+    String name();
+
+    /**
+     * Whether to collect metrics of the cache (hits, misses, hit ratio, evictions and size of cached content).
+     *
+     * @return metrics flag
+     */
+    @Option.DefaultBoolean(false)
+    @Option.Configured
+    boolean enableMetrics();
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,6 +60,7 @@ abstract class StaticContentHandler implements StaticContentService {
     private final Function<String, String> resolvePathFunction;
     private final AtomicInteger webServerCounter = new AtomicInteger();
     private final MemoryCache memoryCache;
+    private final EncodedContent encodedContent;
 
     StaticContentHandler(BaseHandlerConfig config) {
         this.welcomeFilename = config.welcome().orElse(null);
@@ -68,6 +69,7 @@ abstract class StaticContentHandler implements StaticContentService {
                 .update(it -> config.recordCacheCapacity().ifPresent(it::capacity))
                 .build();
         this.memoryCache = config.memoryCache().orElseGet(MemoryCache::create);
+        this.encodedContent = EncodedContent.create(this, config);
     }
 
     /**
@@ -322,6 +324,10 @@ abstract class StaticContentHandler implements StaticContentService {
         return handlerCache;
     }
 
+    EncodedContent encodedContent() {
+        return encodedContent;
+    }
+
     void cacheInMemory(String resource, MediaType contentType, byte[] bytes, Optional<Instant> lastModified) {
         int contentLength = bytes.length;
         Header contentLengthHeader = HeaderValues.create(HeaderNames.CONTENT_LENGTH, contentLength);
@@ -333,7 +339,9 @@ abstract class StaticContentHandler implements StaticContentService {
                                                          null,
                                                          bytes,
                                                          contentLength,
-                                                         contentLengthHeader);
+                                                         contentLengthHeader,
+                                                         null,
+                                                         encodedContent);
         } else {
             // we can cache this, as this is a jar record
             Header lastModifiedHeader = HeaderValues.create(HeaderNames.LAST_MODIFIED,
@@ -346,7 +354,9 @@ abstract class StaticContentHandler implements StaticContentService {
                                                          (headers, instant) -> headers.set(lastModifiedHeader),
                                                          bytes,
                                                          contentLength,
-                                                         contentLengthHeader);
+                                                         contentLengthHeader,
+                                                         null,
+                                                         encodedContent);
         }
 
         cacheInMemory(resource, inMemoryResource);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,7 @@ module io.helidon.webserver.staticcontent {
     requires transitive io.helidon.webserver;
     requires transitive io.helidon.builder.api;
     requires io.helidon;
+    requires io.helidon.metrics.api;
 
     exports io.helidon.webserver.staticcontent;
 
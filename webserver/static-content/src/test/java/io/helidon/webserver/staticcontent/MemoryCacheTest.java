@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.Optional;
+
+import io.helidon.common.Size;
+import io.helidon.common.media.type.MediaTypes;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalEmpty;
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalPresent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MemoryCacheTest {
+    private StaticContentHandler handler;
+    private MemoryCache cache;
+
+    @BeforeEach
+    void init() {
+        handler = mock(StaticContentHandler.class);
+        cache = MemoryCache.create(builder -> builder.capacity(Size.create(10)));
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsed() {
+        cache(handler, "/a", 4);
+        cache(handler, "/b", 4);
+        // makes "/b" the least recently used
+        cache.get(handler, "/a");
+        cache.get(handler, "/c");
+
+        assertThat(cache(handler, "/c", 4), optionalPresent());
+        assertThat(cache.get(handler, "/a"), optionalPresent());
+        assertThat(cache.get(handler, "/b"), optionalEmpty());
+        assertThat(cache.get(handler, "/c"), optionalPresent());
+    }
+
+    @Test
+    void testRejectLessFrequent() {
+        cache(handler, "/a", 4);
+        cache(handler, "/b", 4);
+        for (int i = 0; i < 3; i++) {
+            cache.get(handler, "/b");
+        }
+        for (int i = 0; i < 3; i++) {
+            cache.get(handler, "/a");
+        }
+        cache.get(handler, "/c");
+
+        // both cached resources are requested more often than the new one
+        assertThat(cache(handler, "/c", 4), optionalEmpty());
+        assertThat(cache.get(handler, "/b"), optionalPresent());
+        assertThat(cache.get(handler, "/a"), optionalPresent());
+
+        for (int i = 0; i < 5; i++) {
+            cache.get(handler, "/c");
+        }
+        assertThat(cache(handler, "/c", 4), optionalPresent());
+        assertThat(cache.get(handler, "/b"), optionalEmpty());
+    }
+
+    @Test
+    void testRequiredNotEvicted() {
+        cache.cache(handler, "/required", inMemory(8));
+        cache.get(handler, "/other");
+        cache.get(handler, "/other");
+
+        assertThat(cache(handler, "/other", 4), optionalEmpty());
+        assertThat(cache.get(handler, "/required"), optionalPresent());
+    }
+
+    @Test
+    void testClear() {
+        StaticContentHandler other = mock(StaticContentHandler.class);
+        cache(handler, "/a", 8);
+        cache.clear(handler);
+
+        assertThat(cache.get(handler, "/a"), optionalEmpty());
+        assertThat(cache(other, "/a", 8), optionalPresent());
+    }
+
+    private Optional<CachedHandlerInMemory> cache(StaticContentHandler handler, String resource, int size) {
+        return cache.cache(handler, resource, size, () -> inMemory(size));
+    }
+
+    private static CachedHandlerInMemory inMemory(int size) {
+        return new CachedHandlerInMemory(MediaTypes.TEXT_PLAIN,
+                                         null,
+                                         null,
+                                         new byte[size],
+                                         size,
+                                         HeaderValues.create(HeaderNames.CONTENT_LENGTH, size),
+                                         null,
+                                         EncodedContent.NONE);
+    }
+}
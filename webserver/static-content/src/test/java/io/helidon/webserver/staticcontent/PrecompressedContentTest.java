@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.DirectClient;
+import io.helidon.webserver.testing.junit5.RoutingTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.hasHeader;
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.noHeader;
+import static io.helidon.webserver.staticcontent.StaticContentFeature.createService;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RoutingTest
+class PrecompressedContentTest {
+    @TempDir
+    static Path tempDir;
+
+    private final DirectClient testClient;
+
+    PrecompressedContentTest(DirectClient testClient) {
+        this.testClient = testClient;
+    }
+
+    @SetUpRoute
+    static void setupRouting(HttpRouting.Builder builder) throws Exception {
+        Files.writeString(tempDir.resolve("resource.txt"), "Content");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempDir.resolve("resource.txt.gz")))) {
+            out.write("Content".getBytes(StandardCharsets.UTF_8));
+        }
+        Files.writeString(tempDir.resolve("other.txt"), "Other content");
+
+        builder.register("/path", createService(FileSystemHandlerConfig.builder()
+                                                        .location(tempDir)
+                                                        .precompressed(true)
+                                                        .build()));
+    }
+
+    @Test
+    void testPrecompressed() {
+        try (Http1ClientResponse response = testClient.get("/path/resource.txt")
+                .header(HeaderNames.ACCEPT_ENCODING, "br, gzip;q=0.8")
+                .request()) {
+
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_ENCODING, "gzip"));
+            assertThat(response.headers(), hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_TYPE, "text/plain"));
+            assertThat(response.headers().get(HeaderNames.ETAG).get(), endsWith("-gzip\""));
+        }
+    }
+
+    @Test
+    void testNotAccepted() {
+        try (Http1ClientResponse response = testClient.get("/path/resource.txt")
+                .request()) {
+
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), noHeader(HeaderNames.CONTENT_ENCODING));
+            assertThat(response.headers(), hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+            assertThat(response.as(String.class), is("Content"));
+        }
+    }
+
+    @Test
+    void testNoPrecompressedFile() {
+        try (Http1ClientResponse response = testClient.get("/path/other.txt")
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip")
+                .request()) {
+
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+            assertThat(response.headers().get(HeaderNames.ETAG).get(), not(endsWith("-gzip\"")));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.tests.grpc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.webserver.Router;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.grpc.GrpcRouting;
+import io.helidon.webserver.grpc.strings.StringServiceGrpc;
+import io.helidon.webserver.grpc.strings.Strings;
+import io.helidon.webserver.grpc.strings.Strings.StringMessage;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Streams more data than fits into the HTTP/2 stream window (1 MiB by default) to a deliberately slow consumer.
+ */
+@ServerTest
+class FlowControlTest extends BaseServiceTest {
+    private static final int MESSAGES = 64;
+    private static final String TEXT = "a".repeat(64 * 1024);
+    private static final long CONSUMER_DELAY_MILLIS = 5;
+    private static final AtomicBoolean SERVER_NOT_READY = new AtomicBoolean();
+
+    private StringServiceGrpc.StringServiceStub stub;
+
+    FlowControlTest(WebServer server) {
+        super(server);
+    }
+
+    @SetUpRoute
+    static void routing(Router.RouterBuilder<?> router) {
+        router.addRouting(GrpcRouting.builder().service(Strings.getDescriptor(), new SlowStringService()));
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        super.beforeEach();
+        stub = StringServiceGrpc.newStub(channel);
+        SERVER_NOT_READY.set(false);
+    }
+
+    @Test
+    void testSlowClientConsumer() throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+
+        stub.split(message("ignored"), new ClientResponseObserver<StringMessage, StringMessage>() {
+            private ClientCallStreamObserver<StringMessage> requestStream;
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<StringMessage> requestStream) {
+                this.requestStream = requestStream;
+                requestStream.disableAutoRequestWithInitial(1);
+            }
+
+            @Override
+            public void onNext(StringMessage value) {
+                received.incrementAndGet();
+                sleep();
+                requestStream.request(1);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                future.complete(received.get());
+            }
+        });
+
+        assertThat(future.get(30, TimeUnit.SECONDS), is(MESSAGES));
+        // the server had to wait for the client to consume data
+        assertThat(SERVER_NOT_READY.get(), is(true));
+    }
+
+    @Test
+    void testSlowServerConsumer() throws Exception {
+        AtomicBoolean clientNotReady = new AtomicBoolean();
+        CompletableFuture<StringMessage> future = new CompletableFuture<>();
+
+        stub.join(new ClientResponseObserver<StringMessage, StringMessage>() {
+            private final AtomicInteger sent = new AtomicInteger();
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<StringMessage> requestStream) {
+                requestStream.setOnReadyHandler(() -> {
+                    while (sent.get() < MESSAGES) {
+                        if (!requestStream.isReady()) {
+                            clientNotReady.set(true);
+                            return;
+                        }
+                        requestStream.onNext(message(TEXT));
+                        sent.incrementAndGet();
+                    }
+                    if (sent.getAndIncrement() == MESSAGES) {
+                        requestStream.onCompleted();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(StringMessage value) {
+                future.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+
+        assertThat(future.get(30, TimeUnit.SECONDS).getText(), is(String.valueOf(MESSAGES)));
+        // the server did not accept more data than it requested
+        assertThat(clientNotReady.get(), is(true));
+    }
+
+    private static StringMessage message(String text) {
+        return StringMessage.newBuilder().setText(text).build();
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(CONSUMER_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class SlowStringService extends StringServiceGrpc.StringServiceImplBase {
+        @Override
+        public void split(StringMessage request, StreamObserver<StringMessage> observer) {
+            ServerCallStreamObserver<StringMessage> serverObserver = (ServerCallStreamObserver<StringMessage>) observer;
+            AtomicInteger sent = new AtomicInteger();
+            serverObserver.setOnReadyHandler(() -> {
+                while (sent.get() < MESSAGES) {
+                    if (!serverObserver.isReady()) {
+                        SERVER_NOT_READY.set(true);
+                        return;
+                    }
+                    serverObserver.onNext(message(TEXT));
+                    sent.incrementAndGet();
+                }
+                if (sent.getAndIncrement() == MESSAGES) {
+                    serverObserver.onCompleted();
+                }
+            });
+        }
+
+        @Override
+        public StreamObserver<StringMessage> join(StreamObserver<StringMessage> observer) {
+            ServerCallStreamObserver<StringMessage> serverObserver = (ServerCallStreamObserver<StringMessage>) observer;
+            serverObserver.disableAutoRequest();
+            serverObserver.request(1);
+            return new StreamObserver<>() {
+                private int count;
+
+                @Override
+                public void onNext(StringMessage value) {
+                    count++;
+                    sleep();
+                    serverObserver.request(1);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onCompleted() {
+                    observer.onNext(message(String.valueOf(count)));
+                    observer.onCompleted();
+                }
+            };
+        }
+    }
+}
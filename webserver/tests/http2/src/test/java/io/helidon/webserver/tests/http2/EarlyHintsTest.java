@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.tests.http2;
+
+import java.net.URI;
+
+import io.helidon.http.Status;
+import io.helidon.webclient.http2.Http2Client;
+import io.helidon.webclient.http2.Http2ClientProtocolConfig;
+import io.helidon.webclient.http2.Http2ClientResponse;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.http2.Http2Route;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.http.Method.GET;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ServerTest
+class EarlyHintsTest {
+    private final Http2Client webClient;
+
+    EarlyHintsTest(WebServer server) {
+        webClient = Http2Client.builder()
+                .baseUri(URI.create("http://localhost:" + server.port()))
+                .protocolConfig(Http2ClientProtocolConfig.builder().priorKnowledge(true).build())
+                .build();
+    }
+
+    @SetUpRoute
+    static void router(HttpRouting.Builder router) {
+        router.route(Http2Route.route(GET, "/hints", (req, res) -> {
+            res.preload("/style.css", "style")
+                    .preload("/script.js", "script");
+            res.send("It works!");
+        }));
+        router.route(Http2Route.route(GET, "/flush", (req, res) -> {
+            res.flushHeaders();
+            res.send("It works!");
+        }));
+    }
+
+    @Test
+    void testEarlyHints() {
+        try (Http2ClientResponse res = webClient.get("/hints").request()) {
+            assertThat(res.status(), is(Status.OK_200));
+            assertThat(res.entity().as(String.class), is("It works!"));
+        }
+    }
+
+    @Test
+    void testFlushHeaders() {
+        try (Http2ClientResponse res = webClient.get("/flush").request()) {
+            assertThat(res.status(), is(Status.OK_200));
+            assertThat(res.entity().as(String.class), is("It works!"));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.tests;
+
+import io.helidon.common.testing.http.junit5.SocketHttpClient;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@code 103 Early Hints} and flushing of response headers.
+ */
+@ServerTest
+class EarlyHintsTest {
+    private final SocketHttpClient socketHttpClient;
+
+    EarlyHintsTest(SocketHttpClient socketHttpClient) {
+        this.socketHttpClient = socketHttpClient;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRules rules) {
+        rules.get("/hints", (req, res) -> {
+                    res.preload("/style.css", "style")
+                            .earlyHints(WritableHeaders.create()
+                                                .add(HeaderNames.LINK, "</script.js>; rel=preload; as=script"));
+                    res.send("It works!");
+                })
+                .get("/flush", (req, res) -> {
+                    res.flushHeaders();
+                    res.send("It works!");
+                })
+                .get("/flush-stream", (req, res) -> {
+                    res.flushHeaders();
+                    try (var out = res.outputStream()) {
+                        out.write("It works!".getBytes());
+                    }
+                });
+    }
+
+    @Test
+    void testEarlyHints() {
+        String response = socketHttpClient.sendAndReceive(Method.GET, "/hints", null);
+
+        assertThat(response, startsWith("HTTP/1.1 103 Early Hints\n"));
+        assertThat(response, containsString("</style.css>; rel=preload; as=style\n"));
+        assertThat(response, containsString("</script.js>; rel=preload; as=script\n\nHTTP/1.1 200 OK\n"));
+        assertThat(response, endsWith("It works!"));
+    }
+
+    @Test
+    void testFlushHeaders() {
+        String response = socketHttpClient.sendAndReceive(Method.GET, "/flush", null);
+
+        assertThat(response, startsWith("HTTP/1.1 200 OK\n"));
+        assertThat(SocketHttpClient.entityFromResponse(response, true), containsString("9\nIt works!\n0\n"));
+    }
+
+    @Test
+    void testFlushHeadersOutputStream() {
+        String response = socketHttpClient.sendAndReceive(Method.GET, "/flush-stream", null);
+
+        assertThat(response, startsWith("HTTP/1.1 200 OK\n"));
+        assertThat(SocketHttpClient.entityFromResponse(response, true), containsString("9\nIt works!\n0\n"));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,19 @@ package io.helidon.webserver.tests;
 
 import io.helidon.common.media.type.MediaTypes;
 import io.helidon.http.Method;
+import io.helidon.http.Status;
 import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientResponse;
 import io.helidon.webserver.WebServerConfig;
 import io.helidon.webserver.http.HttpRoute;
 import io.helidon.webserver.testing.junit5.ServerTest;
 import io.helidon.webserver.testing.junit5.SetUpServer;
 
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 @ServerTest
 class RoutingTest extends RoutingTestBase {
 
@@ -36,6 +43,9 @@ class RoutingTest extends RoutingTestBase {
         builder.routing(routing -> routing
                 .get("/my path", (req, res) -> res.send("done"))
                 .get("/českáCesta", (req, res) -> res.send("done"))
+                // segments that are not used to index routes
+                .get("/a//b", (req, res) -> res.send("empty_segment"))
+                .get("/c/./d", (req, res) -> res.send("dot_segment"))
                 // shortcut methods with path matchers
                 .get("/wildcard_*", (req, res) -> res.send("wildcard_test1"))
                 .post("/wildcard/*", (req, res) -> res.send("wildcard_test2"))
@@ -82,4 +92,20 @@ class RoutingTest extends RoutingTestBase {
                 .trace((req, res) -> res.send("trace_catchall"))
                 .patch((req, res) -> res.send("patch_catchall")));
     }
+
+    @Test
+    void testRouteWithEmptySegment() {
+        try (Http1ClientResponse response = client.get("/a//b").request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.as(String.class), is("empty_segment"));
+        }
+    }
+
+    @Test
+    void testRouteWithDotSegment() {
+        try (Http1ClientResponse response = client.get("/c/./d").request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.as(String.class), is("dot_segment"));
+        }
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests files written directly to a socket channel by
+ * {@link io.helidon.webserver.http.ServerResponse#send(java.nio.channels.FileChannel, long, long)}.
+ */
+@ServerTest
+class SendFileTest {
+    // larger than the write buffer and the socket send buffer, so the file is written in multiple transfers
+    private static final byte[] CONTENT = new byte[1024 * 1024];
+    private static final Path FILE;
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+        try {
+            FILE = Files.createTempFile("send-file-test", ".bin");
+            Files.write(FILE, CONTENT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final int port;
+
+    SendFileTest(WebServer server) {
+        this.port = server.port();
+    }
+
+    @SetUpServer
+    static void server(WebServerConfig.Builder server) {
+        // async writes, so a pipelined response may still be queued when the file is sent
+        server.socketChannels(true)
+                .writeQueueLength(32);
+    }
+
+    @SetUpRoute
+    static void routing(HttpRules rules) {
+        rules.get("/file", (req, res) -> {
+                    try (FileChannel channel = FileChannel.open(FILE)) {
+                        res.send(channel, 0, CONTENT.length);
+                    }
+                })
+                .get("/range", (req, res) -> {
+                    try (FileChannel channel = FileChannel.open(FILE)) {
+                        res.send(channel, 1000, 100_000);
+                    }
+                })
+                .get("/text", (req, res) -> res.send("Hello"));
+    }
+
+    @AfterAll
+    static void deleteFile() throws IOException {
+        Files.deleteIfExists(FILE);
+    }
+
+    @Test
+    void testFileOnKeptAliveConnection() throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+
+            out.write(request("/file"));
+            out.flush();
+            assertThat(Arrays.equals(readEntity(in), CONTENT), is(true));
+
+            // the connection is kept alive and usable after the file
+            out.write(request("/range"));
+            out.flush();
+            assertThat(Arrays.equals(readEntity(in), Arrays.copyOfRange(CONTENT, 1000, 101_000)), is(true));
+
+            out.write(request("/text"));
+            out.flush();
+            assertThat(new String(readEntity(in), StandardCharsets.US_ASCII), is("Hello"));
+        }
+    }
+
+    @Test
+    void testPipelinedResponseBeforeFile() throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+
+            // responses to the preceding requests, possibly still queued by the writer, must be on the wire before the file
+            ByteArrayOutputStream requests = new ByteArrayOutputStream();
+            for (int i = 0; i < 100; i++) {
+                requests.writeBytes(request("/text"));
+            }
+            requests.writeBytes(request("/file"));
+            requests.writeBytes(request("/text"));
+            out.write(requests.toByteArray());
+            out.flush();
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(new String(readEntity(in), StandardCharsets.US_ASCII), is("Hello"));
+            }
+            assertThat(Arrays.equals(readEntity(in), CONTENT), is(true));
+            assertThat(new String(readEntity(in), StandardCharsets.US_ASCII), is("Hello"));
+        }
+    }
+
+    private static byte[] request(String path) {
+        return ("GET " + path + " HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // reads a response with a 200 status and Content-Length, returns its entity
+    private static byte[] readEntity(InputStream in) throws IOException {
+        String statusLine = readLine(in);
+        assertThat(statusLine, startsWith("HTTP/1.1 200 "));
+        int contentLength = -1;
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            String lowerCase = line.toLowerCase(Locale.ROOT);
+            if (lowerCase.startsWith("content-length:")) {
+                contentLength = Integer.parseInt(line.substring("content-length:".length()).trim());
+            }
+        }
+        assertThat("Response must have Content-Length", contentLength >= 0, is(true));
+        return in.readNBytes(contentLength);
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b == -1) {
+                throw new IOException("Connection closed before end of line: " + line);
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+}
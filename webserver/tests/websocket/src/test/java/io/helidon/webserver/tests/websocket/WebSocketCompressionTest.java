@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.tests.websocket;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.webclient.websocket.WsClient;
+import io.helidon.webclient.websocket.WsClientCompressionConfig;
+import io.helidon.webclient.websocket.WsClientProtocolConfig;
+import io.helidon.webserver.Router;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+import io.helidon.webserver.websocket.WsCompressionConfig;
+import io.helidon.webserver.websocket.WsConfig;
+import io.helidon.webserver.websocket.WsRouting;
+import io.helidon.websocket.WsCloseCodes;
+import io.helidon.websocket.WsListener;
+import io.helidon.websocket.WsPerMessageDeflate;
+import io.helidon.websocket.WsSession;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.webserver.tests.websocket.WebSocketTest.randomString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+@ServerTest
+class WebSocketCompressionTest {
+    private static final String[] TEXT = {
+            "short",
+            randomString(1000),
+            randomString(100000)
+    };
+
+    private static volatile CompletableFuture<Integer> clientCloseStatus = new CompletableFuture<>();
+
+    private final URI uri;
+    private final WsClient wsClient;
+
+    WebSocketCompressionTest(WebServer server) {
+        this.uri = URI.create("ws://localhost:" + server.port());
+        this.wsClient = WsClient.builder()
+                .baseUri(uri)
+                .protocolConfig(WsClientProtocolConfig.builder()
+                                        .compression(WsClientCompressionConfig.builder()
+                                                             .enabled(true)
+                                                             .minMessageSize(100)
+                                                             .build())
+                                        .build())
+                .build();
+    }
+
+    @SetUpServer
+    static void setup(WebServerConfig.Builder builder) {
+        builder.addProtocol(WsConfig.builder()
+                                    .maxFrameLength(100000)
+                                    .compression(WsCompressionConfig.builder()
+                                                         .enabled(true)
+                                                         .clientNoContextTakeover(true)
+                                                         .build())
+                                    .build());
+    }
+
+    @SetUpRoute
+    static void router(Router.RouterBuilder<?> router) {
+        router.addRouting(WsRouting.builder().endpoint("/echo", new CompressedEchoListener()));
+    }
+
+    @Test
+    void testCompressedEcho() throws InterruptedException {
+        List<String> messages = new ArrayList<>();
+        AtomicLong memory = new AtomicLong();
+        CountDownLatch messageLatch = new CountDownLatch(TEXT.length);
+
+        wsClient.connect("/echo", new WsListener() {
+            @Override
+            public void onMessage(WsSession session, String text, boolean last) {
+                messages.add(text);
+                memory.set(Math.max(memory.get(), WsPerMessageDeflate.totalMemory()));
+                messageLatch.countDown();
+                if (messageLatch.getCount() == 0) {
+                    session.close(WsCloseCodes.NORMAL_CLOSE, "Bye!");
+                }
+            }
+
+            @Override
+            public void onOpen(WsSession session) {
+                for (String s : TEXT) {
+                    session.send(s, true);
+                }
+            }
+        });
+
+        assertThat(messageLatch.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(messages, is(List.of(TEXT)));
+        // compression state was in use, so the extension was negotiated
+        assertThat(memory.get(), greaterThan(0L));
+    }
+
+    @Test
+    void testMaxDecompressedSize() throws Exception {
+        WsClient client = WsClient.builder()
+                .baseUri(uri)
+                .protocolConfig(WsClientProtocolConfig.builder()
+                                        .compression(WsClientCompressionConfig.builder()
+                                                             .enabled(true)
+                                                             .maxDecompressedSize(500)
+                                                             .build())
+                                        .build())
+                .build();
+        List<String> messages = new ArrayList<>();
+        clientCloseStatus = new CompletableFuture<>();
+
+        client.connect("/echo", new WsListener() {
+            @Override
+            public void onMessage(WsSession session, String text, boolean last) {
+                messages.add(text);
+            }
+
+            @Override
+            public void onOpen(WsSession session) {
+                session.send(TEXT[1], true);
+            }
+        });
+
+        // the echoed message decompresses to more than the limit, so the client closes the connection
+        assertThat(clientCloseStatus.get(10, TimeUnit.SECONDS), is(WsCloseCodes.TOO_BIG));
+        assertThat(messages, is(List.of()));
+    }
+
+    // EchoService rejects any extensions it does not know, this listener leaves negotiation to the server
+    private static final class CompressedEchoListener implements WsListener {
+        @Override
+        public void onMessage(WsSession session, String text, boolean last) {
+            session.send(text, last);
+        }
+
+        @Override
+        public void onClose(WsSession session, int status, String reason) {
+            clientCloseStatus.complete(status);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -189,6 +189,45 @@ interface ListenerConfigBlueprint {
     @Option.DefaultInt(4096)
     int writeBufferSize();
 
+    /**
+     * Whether to open plaintext server sockets through {@link java.nio.channels.ServerSocketChannel}.
+     * Connections accepted from such a socket can transfer file content (such as static content) directly
+     * from the file system to the socket using
+     * {@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+     * without copying it through the Java heap. This option is ignored when TLS is enabled.
+     *
+     * @return whether to use socket channels, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean socketChannels();
+
+    /**
+     * Maximal number of released buffers of each size kept in a pool shared by connections of this listener.
+     * When pooling is enabled, buffers used to write response data of HTTP/1 and HTTP/2 connections are taken
+     * from the pool and returned to it once written to the socket, instead of allocating new arrays for each response.
+     * Pool statistics are available as metrics (such as {@code buffer_pool_acquired}).
+     *
+     * @return number of pooled buffers per size, defaults to {@code 0}, which disables pooling
+     */
+    @Option.Configured
+    @Option.DefaultInt(0)
+    int bufferPoolSize();
+
+    /**
+     * Whether to use direct buffers, allocated outside the Java heap, to write response data.
+     * Connections that use {@link #socketChannels() socket channels} write direct buffers to the socket
+     * without the JDK copying them to a temporary direct buffer first, which saves a copy of each response entity.
+     * Direct buffers are expensive to allocate, so they are always pooled; when {@link #bufferPoolSize()} is not
+     * configured, {@code 16} buffers of each size are kept.
+     * This option is ignored when TLS is enabled, or when socket channels are not used.
+     *
+     * @return whether to use direct buffers, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean directBuffers();
+
     /**
      * Grace period in ISO 8601 duration format to allow running tasks to complete before listener's shutdown.
      * Default is {@code 500} milliseconds.
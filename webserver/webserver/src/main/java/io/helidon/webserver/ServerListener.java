@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.channels.ServerSocketChannel;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,10 +40,10 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLParameters;
-import javax.net.ssl.SSLServerSocket;
 
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.LazyValue;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.concurrency.limits.FixedLimit;
 import io.helidon.common.concurrency.limits.Limit;
 import io.helidon.common.concurrency.limits.NoopSemaphore;
@@ -52,12 +53,19 @@ import io.helidon.common.task.HelidonTaskExecutor;
 import io.helidon.common.tls.Tls;
 import io.helidon.http.encoding.ContentEncodingContext;
 import io.helidon.http.media.MediaContext;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
 import io.helidon.webserver.http.DirectHandlers;
 import io.helidon.webserver.spi.ProtocolConfig;
 import io.helidon.webserver.spi.ServerConnection;
 import io.helidon.webserver.spi.ServerConnectionSelector;
 import io.helidon.webserver.spi.ServerConnectionSelectorProvider;
 
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
 import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.ERROR;
 import static java.lang.System.Logger.Level.INFO;
@@ -65,6 +73,8 @@ import static java.lang.System.Logger.Level.TRACE;
 
 class ServerListener implements ListenerContext {
     private static final System.Logger LOGGER = System.getLogger(ServerListener.class.getName());
+    // direct buffers are always pooled, as they are expensive to allocate
+    private static final int DEFAULT_DIRECT_BUFFER_POOL_SIZE = 16;
 
     @SuppressWarnings("rawtypes")
     private static final LazyValue<List<ServerConnectionSelectorProvider>> SELECTOR_PROVIDERS = LazyValue.create(() ->
@@ -87,6 +97,7 @@ class ServerListener implements ListenerContext {
     private final Context context;
     private final Semaphore connectionSemaphore;
     private final Limit requestLimit;
+    private final BufferPool bufferPool;
     private final Map<String, ServerConnection> activeConnections = new ConcurrentHashMap<>();
 
     private volatile boolean running;
@@ -146,6 +157,17 @@ class ServerListener implements ListenerContext {
                 .parent(serverContext)
                 .build());
         this.gracePeriod = listenerConfig.shutdownGracePeriod();
+        if (listenerConfig.directBuffers() && listenerConfig.socketChannels() && !tls.enabled()) {
+            this.bufferPool = BufferPool.createDirect(listenerConfig.bufferPoolSize() > 0
+                                                              ? listenerConfig.bufferPoolSize()
+                                                              : DEFAULT_DIRECT_BUFFER_POOL_SIZE);
+            initBufferPoolMetrics();
+        } else if (listenerConfig.bufferPoolSize() > 0) {
+            this.bufferPool = BufferPool.create(listenerConfig.bufferPoolSize());
+            initBufferPoolMetrics();
+        } else {
+            this.bufferPool = BufferPool.unpooled();
+        }
 
         initServerThread();
 
@@ -169,6 +191,36 @@ class ServerListener implements ListenerContext {
         ith.start();
     }
 
+    private void initBufferPoolMetrics() {
+        MetricsFactory metricsFactory = MetricsFactory.getInstance();
+        MeterRegistry meterRegistry = Metrics.globalRegistry();
+        List<Tag> tags = List.of(Tag.create("socket", socketName));
+
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("buffer_pool_acquired",
+                                                                          bufferPool,
+                                                                          BufferPool::acquired)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("buffer_pool_allocated",
+                                                                          bufferPool,
+                                                                          BufferPool::allocated)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("buffer_pool_leaked",
+                                                                          bufferPool,
+                                                                          BufferPool::leaked)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.gaugeBuilder("buffer_pool_pooled_buffers", bufferPool::pooledBuffers)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        Gauge.Builder<Long> bytesBuilder = metricsFactory.gaugeBuilder("buffer_pool_pooled_bytes", bufferPool::pooledBytes)
+                .scope(VENDOR)
+                .baseUnit(Meter.BaseUnits.BYTES)
+                .tags(tags);
+        meterRegistry.getOrCreate(bytesBuilder);
+    }
+
     private void initServerThread() {
         this.closeFuture = new CompletableFuture<>();
         this.serverThread = Thread.ofPlatform()
@@ -208,6 +260,11 @@ class ServerListener implements ListenerContext {
         return sharedExecutor;
     }
 
+    @Override
+    public BufferPool bufferPool() {
+        return bufferPool;
+    }
+
     @Override
     public String toString() {
         return socketName + " (" + configuredAddress + ")";
@@ -278,8 +335,14 @@ class ServerListener implements ListenerContext {
 
     private void startIt() {
         try {
-            SSLServerSocket sslServerSocket = tls.enabled() ? tls.createServerSocket() : null;
-            serverSocket = tls.enabled() ? sslServerSocket : new ServerSocket();
+            if (tls.enabled()) {
+                serverSocket = tls.createServerSocket();
+            } else if (listenerConfig.socketChannels()) {
+                // accepted sockets are backed by a channel, that can be used to transfer files
+                serverSocket = ServerSocketChannel.open().socket();
+            } else {
+                serverSocket = new ServerSocket();
+            }
             listenerConfig.configureSocket(serverSocket);
 
             serverSocket.bind(configuredAddress, listenerConfig.backlog());
@@ -402,7 +465,8 @@ class ServerListener implements ListenerContext {
                     connectionSemaphore.release();
                 }
             } catch (SocketException e) {
-                if (!e.getMessage().contains("Socket closed")) {
+                // socket channel based server sockets report "Socket is closed"
+                if (!e.getMessage().contains("Socket closed") && !serverSocket.isClosed()) {
                     LOGGER.log(ERROR, "Got a socket exception while listening, this server socket is terminating now", e);
                 }
                 if (inCheckpoint) {
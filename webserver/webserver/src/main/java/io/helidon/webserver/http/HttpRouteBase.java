@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,10 @@
 package io.helidon.webserver.http;
 
 import java.util.List;
+import java.util.Set;
 
 import io.helidon.http.HttpPrologue;
+import io.helidon.http.Method;
 import io.helidon.http.PathMatchers;
 
 abstract class HttpRouteBase implements HttpRoute {
@@ -26,10 +28,28 @@ abstract class HttpRouteBase implements HttpRoute {
         throw new IllegalStateException("This is not a list route");
     }
 
-    List<HttpRouteBase> routes() {
+    RouteIndex routeIndex() {
         throw new IllegalStateException("This is not a list route");
     }
 
+    /**
+     * Leading path segments of every path this route may accept, used to index routes.
+     *
+     * @return leading path segments, empty if unknown
+     */
+    List<String> prefixSegments() {
+        return List.of();
+    }
+
+    /**
+     * Methods this route may accept, used to index routes.
+     *
+     * @return accepted methods, empty if the route may accept any method
+     */
+    Set<Method> acceptedMethods() {
+        return Set.of();
+    }
+
     boolean isList() {
         return false;
     }
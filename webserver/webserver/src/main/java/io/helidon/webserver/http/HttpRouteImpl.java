@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,14 @@
 
 package io.helidon.webserver.http;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.helidon.http.HttpPrologue;
 import io.helidon.http.Method;
+import io.helidon.http.MethodPredicate;
 import io.helidon.http.PathMatcher;
 import io.helidon.http.PathMatchers;
 import io.helidon.http.ServerRequestHeaders;
@@ -70,6 +73,19 @@ class HttpRouteImpl extends HttpRouteBase implements HttpRoute {
         return Optional.of(pathMatcher);
     }
 
+    @Override
+    List<String> prefixSegments() {
+        return pathMatcher.prefixSegments();
+    }
+
+    @Override
+    Set<Method> acceptedMethods() {
+        if (methodPredicate instanceof MethodPredicate predicate) {
+            return predicate.acceptedMethods();
+        }
+        return Set.of();
+    }
+
     @Override
     public void beforeStart() {
         handler.beforeStart();
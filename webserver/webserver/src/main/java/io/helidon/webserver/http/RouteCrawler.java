@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,6 @@
 package io.helidon.webserver.http;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -32,30 +31,31 @@ import io.helidon.webserver.ConnectionContext;
 class RouteCrawler {
     private final ConnectionContext ctx;
     private final RoutingRequest request;
-    private final Iterator<HttpRouteBase> routeIterator;
+    private final HttpRouteBase[] routes;
     private final UriPath matchingPath;
     private final RoutedPath parent;
     private final HttpPrologue prologue;
 
+    private int routeIndex;
     private CrawlerItem next;
     private RouteCrawler subCrawler;
 
-    RouteCrawler(ConnectionContext ctx, RoutingRequest request, List<HttpRouteBase> rootRoute) {
+    RouteCrawler(ConnectionContext ctx, RoutingRequest request, RouteIndex rootRoute) {
         this.ctx = ctx;
-        this.routeIterator = rootRoute.iterator();
         this.matchingPath = request.prologue().uriPath();
         this.prologue = request.prologue();
+        this.routes = rootRoute.candidates(prologue.method(), matchingPath.path());
         this.request = request;
         this.parent = null;
     }
 
     RouteCrawler(ConnectionContext ctx,
                  RoutingRequest request,
-                 List<HttpRouteBase> rootRoute,
+                 RouteIndex rootRoute,
                  RoutedPath parent,
                  UriPath child) {
         this.ctx = ctx;
-        this.routeIterator = rootRoute.iterator();
+        this.routes = rootRoute.candidates(request.prologue().method(), child.path());
         this.matchingPath = child;
         this.request = request;
         this.parent = parent;
@@ -88,14 +88,14 @@ class RouteCrawler {
         }
 
         // otherwise, try to find the next valid route
-        while (routeIterator.hasNext()) {
-            HttpRouteBase nextRoute = routeIterator.next();
+        while (routeIndex < routes.length) {
+            HttpRouteBase nextRoute = routes[routeIndex++];
             if (nextRoute.isList()) {
                 PathMatchers.PrefixMatchResult accepts = nextRoute.acceptsPrefix(prologue);
                 if (accepts.accepted()) {
                     subCrawler = new RouteCrawler(ctx,
                                                   request,
-                                                  nextRoute.routes(),
+                                                  nextRoute.routeIndex(),
                                                   accepts.matchedPath(),
                                                   accepts.unmatchedPath());
                     if (subCrawler.hasNext()) {
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.helidon.http.Method;
+
+/**
+ * Routes of a single routing level compiled into a trie keyed by path segments and HTTP methods.
+ * <p>
+ * Each route is placed in the trie under the literal path segments its path matcher guarantees
+ * (see {@link io.helidon.http.PathMatcher#prefixSegments()}), routes with no such segments (such as regular expression
+ * patterns) are placed in the root. A lookup walks the trie along the requested path and returns all candidate routes
+ * in registration order, which are then matched as before. As the order is kept, {@code next()} and first match
+ * semantics are not affected.
+ */
+final class RouteIndex {
+    private static final HttpRouteBase[] NO_ROUTES = new HttpRouteBase[0];
+    // with less children, we use linear search without allocating a substring of the path
+    private static final int LINEAR_SEARCH_LIMIT = 8;
+
+    private final HttpRouteBase[] allRoutes;
+    private final Node root;
+
+    private RouteIndex(HttpRouteBase[] allRoutes, Node root) {
+        this.allRoutes = allRoutes;
+        this.root = root;
+    }
+
+    /**
+     * Compile the routes.
+     *
+     * @param routes routes in registration order
+     * @return a new route index
+     */
+    static RouteIndex create(List<HttpRouteBase> routes) {
+        BuildNode root = new BuildNode();
+        int index = 0;
+        for (HttpRouteBase route : routes) {
+            BuildNode node = root;
+            for (String segment : route.prefixSegments()) {
+                node = node.children.computeIfAbsent(segment, it -> new BuildNode());
+            }
+            node.entries.add(new Entry(index, route, route.acceptedMethods()));
+            index++;
+        }
+
+        return new RouteIndex(routes.toArray(NO_ROUTES), root.compile(List.of()));
+    }
+
+    /**
+     * Routes that may accept the provided method and path, in registration order.
+     *
+     * @param method HTTP method of the request
+     * @param path   decoded path to route
+     * @return candidate routes, the returned array must not be modified
+     */
+    HttpRouteBase[] candidates(Method method, String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            // not something we can index, keep the full list
+            return allRoutes;
+        }
+        Node node = root;
+        int length = path.length();
+        int start = 1;
+        while (start <= length && node.hasChildren()) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = length;
+            }
+            Node child = node.child(path, start, end);
+            if (child == null) {
+                break;
+            }
+            node = child;
+            start = end + 1;
+        }
+        return node.routes(method);
+    }
+
+    private record Entry(int index, HttpRouteBase route, Set<Method> methods) {
+        boolean accepts(Method method) {
+            return methods.isEmpty() || methods.contains(method);
+        }
+    }
+
+    private static final class BuildNode {
+        private final Map<String, BuildNode> children = new LinkedHashMap<>();
+        private final List<Entry> entries = new ArrayList<>();
+
+        // each node contains all routes of its ancestors, so a lookup is just a walk to the deepest node
+        private Node compile(List<Entry> parentEntries) {
+            List<Entry> all = new ArrayList<>(parentEntries);
+            all.addAll(entries);
+            all.sort(Comparator.comparingInt(Entry::index));
+
+            Set<Method> methods = new LinkedHashSet<>();
+            for (Entry entry : all) {
+                methods.addAll(entry.methods());
+            }
+
+            Method[] methodKeys = methods.toArray(new Method[0]);
+            HttpRouteBase[][] methodRoutes = new HttpRouteBase[methodKeys.length][];
+            for (int i = 0; i < methodKeys.length; i++) {
+                methodRoutes[i] = routes(all, methodKeys[i]);
+            }
+            HttpRouteBase[] anyMethod = routes(all, null);
+
+            String[] childKeys = new String[children.size()];
+            Node[] childNodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<String, BuildNode> child : children.entrySet()) {
+                childKeys[i] = child.getKey();
+                childNodes[i] = child.getValue().compile(all);
+                i++;
+            }
+
+            return new Node(childKeys, childNodes, methodKeys, methodRoutes, anyMethod);
+        }
+
+        private static HttpRouteBase[] routes(List<Entry> entries, Method method) {
+            List<HttpRouteBase> result = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                if (method == null ? entry.methods().isEmpty() : entry.accepts(method)) {
+                    result.add(entry.route());
+                }
+            }
+            return result.toArray(NO_ROUTES);
+        }
+    }
+
+    private static final class Node {
+        private final String[] childKeys;
+        private final Node[] childNodes;
+        private final Map<String, Node> childMap;
+        private final Method[] methodKeys;
+        private final HttpRouteBase[][] methodRoutes;
+        private final HttpRouteBase[] anyMethod;
+
+        private Node(String[] childKeys,
+                     Node[] childNodes,
+                     Method[] methodKeys,
+                     HttpRouteBase[][] methodRoutes,
+                     HttpRouteBase[] anyMethod) {
+            this.childKeys = childKeys;
+            this.childNodes = childNodes;
+            this.methodKeys = methodKeys;
+            this.methodRoutes = methodRoutes;
+            this.anyMethod = anyMethod;
+
+            if (childKeys.length > LINEAR_SEARCH_LIMIT) {
+                this.childMap = new HashMap<>();
+                for (int i = 0; i < childKeys.length; i++) {
+                    childMap.put(childKeys[i], childNodes[i]);
+                }
+            } else {
+                this.childMap = null;
+            }
+        }
+
+        boolean hasChildren() {
+            return childKeys.length != 0;
+        }
+
+        Node child(String path, int start, int end) {
+            if (childMap != null) {
+                return childMap.get(path.substring(start, end));
+            }
+            int length = end - start;
+            for (int i = 0; i < childKeys.length; i++) {
+                String key = childKeys[i];
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return childNodes[i];
+                }
+            }
+            return null;
+        }
+
+        HttpRouteBase[] routes(Method method) {
+            // well known methods are singletons, so identity is the common case
+            for (int i = 0; i < methodKeys.length; i++) {
+                if (methodKeys[i] == method) {
+                    return methodRoutes[i];
+                }
+            }
+            for (int i = 0; i < methodKeys.length; i++) {
+                if (methodKeys[i].equals(method)) {
+                    return methodRoutes[i];
+                }
+            }
+            return anyMethod;
+        }
+    }
+}
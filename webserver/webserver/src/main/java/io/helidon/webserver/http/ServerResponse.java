@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,13 @@
 
 package io.helidon.webserver.http;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -28,10 +34,12 @@ import io.helidon.http.Header;
 import io.helidon.http.HeaderName;
 import io.helidon.http.HeaderNames;
 import io.helidon.http.HeaderValues;
+import io.helidon.http.Headers;
 import io.helidon.http.NotFoundException;
 import io.helidon.http.ServerResponseHeaders;
 import io.helidon.http.ServerResponseTrailers;
 import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
 import io.helidon.webserver.http.spi.Sink;
 
 /**
@@ -102,6 +110,51 @@ public interface ServerResponse {
      */
     ServerResponse header(Header header);
 
+    /**
+     * Send an informational {@code 103 Early Hints} response with the provided headers, so the client can start
+     * loading resources (typically {@code Link} headers with {@code rel=preload}) while this response is being prepared.
+     * Can be called more than once, but only before the response headers are sent.
+     * <p>
+     * Hints are ignored by implementations that do not support them.
+     *
+     * @param hints headers to send in the informational response
+     * @return this instance
+     * @throws java.lang.IllegalStateException in case the response headers were already sent
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc8297">RFC 8297</a>
+     */
+    default ServerResponse earlyHints(Headers hints) {
+        return this;
+    }
+
+    /**
+     * Send an informational {@code 103 Early Hints} response with a {@code Link} header to preload a resource.
+     *
+     * @param uri URI of the resource, such as {@code /css/style.css}
+     * @param as  type of the resource, such as {@code style}, {@code script}, {@code font}, or {@code image}
+     * @return this instance
+     * @throws java.lang.IllegalStateException in case the response headers were already sent
+     * @see #earlyHints(io.helidon.http.Headers)
+     */
+    default ServerResponse preload(String uri, String as) {
+        return earlyHints(WritableHeaders.create()
+                                  .add(HeaderNames.LINK, "<" + uri + ">; rel=preload; as=" + as));
+    }
+
+    /**
+     * Send the status and headers of this response now, before the entity is available.
+     * The headers cannot be modified afterward, and the entity must be sent either using one of the
+     * {@code send} methods, or using {@link #outputStream()}.
+     * <p>
+     * Unless {@code Content-Length} is configured, the entity is sent using chunked transfer encoding (HTTP/1.1).
+     *
+     * @return this instance
+     * @throws java.lang.IllegalStateException in case the response was already sent, or output stream
+     *                                         was already requested
+     */
+    default ServerResponse flushHeaders() {
+        return this;
+    }
+
     /**
      * Send a response with no entity.
      */
@@ -141,6 +194,37 @@ public interface ServerResponse {
         send(entity.orElseThrow(() -> new NotFoundException("")));
     }
 
+    /**
+     * Send a region of a file as the response entity. Content length is set to the length of the region.
+     * <p>
+     * Where supported (plaintext HTTP/1.1 with no content encoding and no stream filter), the file is written
+     * directly to the connection, possibly without copying it through the Java heap (see
+     * {@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}). Otherwise
+     * the content is written through {@link #outputStream()}.
+     *
+     * @param file     file to send, the channel is not closed by this method
+     * @param position position in the file to start from
+     * @param length   number of bytes to send
+     */
+    default void send(FileChannel file, long position, long length) {
+        contentLength(length);
+        try (OutputStream out = outputStream()) {
+            WritableByteChannel channel = Channels.newChannel(out);
+            long remaining = length;
+            long filePosition = position;
+            while (remaining > 0) {
+                long written = file.transferTo(filePosition, remaining, channel);
+                if (written == 0 && filePosition >= file.size()) {
+                    throw new EOFException("File ended before all requested bytes were sent, missing: " + remaining);
+                }
+                filePosition += written;
+                remaining -= written;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Whether this response has been sent.
      *
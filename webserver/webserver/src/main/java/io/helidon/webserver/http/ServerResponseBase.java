@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -216,7 +216,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
 
     /**
      * Entity bytes encoded using content encoding. Does not attempt encoding
-     * if entity is empty.
+     * if entity is empty, or if the {@code Content-Encoding} header is already configured.
      *
      * @param configuredEntity plain bytes
      * @return encoded bytes or same entity array if encoding is disabled
@@ -227,7 +227,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
 
     /**
      * Entity bytes encoded using content encoding. Does not attempt encoding
-     * if entity is empty.
+     * if entity is empty, or if the {@code Content-Encoding} header is already configured.
      *
      * @param configuredEntity plain bytes
      * @param position starting position
@@ -236,7 +236,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
      */
     protected byte[] entityBytes(byte[] configuredEntity, int position, int length) {
         byte[] entity = configuredEntity;
-        if (contentEncodingContext.contentEncodingEnabled() && length > 0) {
+        if (contentEncodingContext.contentEncodingEnabled() && length > 0 && !alreadyEncoded()) {
             ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders);
             // we want to preserve optimization here, let's create a new byte array
             ByteArrayOutputStream baos = new ByteArrayOutputStream(length);
@@ -255,12 +255,13 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
 
     /**
      * Encode content using requested/default content encoder.
+     * Content is not encoded if the {@code Content-Encoding} header is already configured.
      *
      * @param outputStream output stream to write encoded data to
      * @return output stream to write plain data to
      */
     protected OutputStream contentEncode(OutputStream outputStream) {
-        if (contentEncodingContext.contentEncodingEnabled()) {
+        if (contentEncodingContext.contentEncodingEnabled() && !alreadyEncoded()) {
             ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders);
             encoder.headers(headers());
 
@@ -269,6 +270,17 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
         return outputStream;
     }
 
+    /**
+     * Whether the entity of this response would be encoded using a content encoding negotiated with the client.
+     *
+     * @return {@code true} if an entity written to {@link #contentEncode(java.io.OutputStream)} would be encoded
+     */
+    protected boolean isContentEncoded() {
+        return contentEncodingContext.contentEncodingEnabled()
+                && !alreadyEncoded()
+                && contentEncodingContext.encoder(requestHeaders) != ContentEncoder.NO_OP;
+    }
+
     /**
      * Execute after send runnables.
      */
@@ -316,4 +328,9 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
         writer.write(type, entity, baos, requestHeaders, headers());
         send(baos.toByteArray());
     }
+
+    // entity provided already encoded (such as a precompressed file), must not be encoded again
+    private boolean alreadyEncoded() {
+        return headers().contains(HeaderNames.CONTENT_ENCODING);
+    }
 }
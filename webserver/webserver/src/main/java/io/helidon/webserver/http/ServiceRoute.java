@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     private final Predicate<Method> methodPredicate;
     private final PathMatcher pathMatcher;
     private final List<HttpRouteBase> routes;
+    private final RouteIndex routeIndex;
 
     ServiceRoute(HttpService theService,
                  Predicate<Method> methodPredicate,
@@ -41,6 +42,7 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
         this.methodPredicate = methodPredicate;
         this.pathMatcher = pathMatcher;
         this.routes = routes;
+        this.routeIndex = RouteIndex.create(routes);
     }
 
     @Override
@@ -86,8 +88,13 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     }
 
     @Override
-    List<HttpRouteBase> routes() {
-        return routes;
+    RouteIndex routeIndex() {
+        return routeIndex;
+    }
+
+    @Override
+    List<String> prefixSegments() {
+        return pathMatcher.prefixSegments();
     }
 
     @Override
@@ -101,6 +108,6 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     }
 
     RouteCrawler crawler(ConnectionContext ctx, RoutingRequest request) {
-        return new RouteCrawler(ctx, request, routes);
+        return new RouteCrawler(ctx, request, routeIndex);
     }
 }
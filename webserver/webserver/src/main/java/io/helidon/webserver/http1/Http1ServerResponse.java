@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
@@ -31,9 +32,11 @@ import java.util.function.UnaryOperator;
 import io.helidon.common.GenericType;
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.media.type.MediaType;
 import io.helidon.common.media.type.MediaTypes;
+import io.helidon.common.socket.HelidonSocket;
 import io.helidon.http.DateTime;
 import io.helidon.http.Header;
 import io.helidon.http.HeaderNames;
@@ -60,6 +63,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
     private static final System.Logger LOGGER = System.getLogger(Http1ServerResponse.class.getName());
     private static final byte[] HTTP_BYTES = "HTTP/1.1 ".getBytes(StandardCharsets.UTF_8);
     private static final byte[] OK_200 = "HTTP/1.1 200 OK\r\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EARLY_HINTS_103 = "HTTP/1.1 103 Early Hints\r\n".getBytes(StandardCharsets.UTF_8);
     private static final byte[] DATE = "Date: ".getBytes(StandardCharsets.UTF_8);
     private static final byte[] TERMINATING_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.UTF_8);
     private static final byte[] TERMINATING_CHUNK_TRAILERS = "0\r\n".getBytes(StandardCharsets.UTF_8);
@@ -72,6 +76,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
     private final ConnectionContext ctx;
     private final Http1ConnectionListener sendListener;
     private final DataWriter dataWriter;
+    private final BufferPool bufferPool;
     private final Http1ServerRequest request;
     private final ServerResponseHeaders headers;
     private final ServerResponseTrailers trailers;
@@ -80,6 +85,8 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
     private boolean streamingEntity;
     private boolean isSent;
     private ClosingBufferedOutputStream outputStream;
+    // output stream created when headers were flushed, returned to the first caller of outputStream()
+    private OutputStream flushedOutputStream;
     private long bytesWritten;
     private String streamResult = "";
     private boolean isNoEntityStatus;
@@ -98,6 +105,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         this.ctx = ctx;
         this.sendListener = sendListener;
         this.dataWriter = dataWriter;
+        this.bufferPool = ctx.listenerContext().bufferPool();
         this.request = request;
         this.headers = ServerResponseHeaders.create();
         this.trailers = ServerResponseTrailers.create();
@@ -187,6 +195,41 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         return this;
     }
 
+    @Override
+    public Http1ServerResponse earlyHints(io.helidon.http.Headers hints) {
+        if (isSent || streamingEntity) {
+            throw new IllegalStateException("Cannot send early hints after response headers were sent.");
+        }
+        if (!"1.1".equals(request.prologue().protocolVersion())) {
+            // a server must not send informational responses to an HTTP/1.0 client (RFC 9110, section 15.2)
+            return this;
+        }
+        BufferData buffer = bufferPool.acquire(256);
+        buffer.write(EARLY_HINTS_103);
+        writeHeaders(hints, buffer, validateHeaders);
+        buffer.write('\r');
+        buffer.write('\n');
+        sendListener.status(ctx, Status.EARLY_HINTS_103);
+        sendListener.headers(ctx, hints);
+        sendListener.data(ctx, buffer);
+        dataWriter.write(buffer);
+        dataWriter.flush();
+        return this;
+    }
+
+    @Override
+    public Http1ServerResponse flushHeaders() {
+        if (isSent) {
+            throw new IllegalStateException("Response already sent");
+        }
+        if (streamingEntity) {
+            throw new IllegalStateException("Cannot flush headers after requesting output stream.");
+        }
+        flushedOutputStream = outputStream(false);
+        outputStream.sendHeaders();
+        return this;
+    }
+
     /**
      * Actually send the response over the wire, if allowed by status code.
      */
@@ -204,7 +247,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         }
 
         // send bytes to writer
-        if (outputStreamFilter == null && !headers.contains(HeaderNames.TRAILER)) {
+        if (outputStreamFilter == null && flushedOutputStream == null && !headers.contains(HeaderNames.TRAILER)) {
             byte[] entity = entityBytes(bytes, position, length);
             BufferData bufferData = (bytes != entity) ? responseBuffer(entity)
                     : responseBuffer(entity, position, length);         // no encoding, same length
@@ -224,6 +267,33 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         }
     }
 
+    @Override
+    public void send(FileChannel file, long position, long length) {
+        if (!canTransferFile()) {
+            super.send(file, position, length);
+            return;
+        }
+
+        headers.contentLength(length);
+        Status usedStatus = status();
+        sendListener.status(ctx, usedStatus);
+        sendListener.headers(ctx, headers);
+
+        BufferData responseBuffer = bufferPool.acquire(256);
+        nonEntityBytes(headers, usedStatus, responseBuffer, keepAlive, validateHeaders);
+        sendListener.data(ctx, responseBuffer);
+
+        bytesWritten = responseBuffer.available() + length;
+        isSent = true;
+        request.reset();
+        // previous (pipelined) responses and headers must be on the wire before the file content,
+        // which is written directly to the socket
+        dataWriter.flush();
+        dataWriter.writeNow(responseBuffer);
+        ctx.serverSocket().write(file, position, length);
+        afterSend();
+    }
+
     @Override
     public boolean isSent() {
         return isSent;
@@ -406,7 +476,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         sendListener.headers(ctx, headers);
 
         // give some space for code and headers + entity
-        BufferData responseBuffer = BufferData.growing(256 + length);
+        BufferData responseBuffer = bufferPool.acquire(256 + length);
 
         nonEntityBytes(headers, usedStatus, responseBuffer, keepAlive, validateHeaders);
         if (forcedChunkedEncoding) {
@@ -431,6 +501,11 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         if (isSent) {
             throw new IllegalStateException("Response already sent");
         }
+        if (flushedOutputStream != null) {
+            OutputStream result = flushedOutputStream;
+            flushedOutputStream = null;
+            return result;
+        }
         if (streamingEntity) {
             throw new IllegalStateException("OutputStream already obtained");
         }
@@ -465,6 +540,28 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         return outputStreamFilter == null ? encodedOutputStream : outputStreamFilter.apply(encodedOutputStream);
     }
 
+    /*
+     * File content can be written directly to the socket only if nothing else would modify it
+     */
+    private boolean canTransferFile() {
+        if (isSent || streamingEntity || isNoEntityStatus || outputStreamFilter != null) {
+            return false;
+        }
+        if (headers.contains(HeaderNames.TRAILER) || headers.contains(HeaderValues.TRANSFER_ENCODING_CHUNKED)) {
+            return false;
+        }
+        if (isContentEncoded()) {
+            return false;
+        }
+        HelidonSocket socket;
+        try {
+            socket = ctx.serverSocket();
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+        return !socket.isSecure();
+    }
+
     private static Status noEntityInternalError(Status status) {
         LOGGER.log(System.Logger.Level.ERROR, "Attempt to send status " + status.text() + " with entity."
                 + " Server responded with Internal Server Error. Please fix your routing, this is not allowed "
@@ -484,6 +581,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         private final WritableHeaders<?> trailers;
         private final Supplier<Status> status;
         private final DataWriter dataWriter;
+        private final BufferPool bufferPool;
         private final Runnable responseCloseRunnable;
         private final ConnectionContext ctx;
         private final Http1ConnectionListener sendListener;
@@ -523,6 +621,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             this.status = status;
             this.streamResult = streamResult;
             this.dataWriter = dataWriter;
+            this.bufferPool = ctx.listenerContext().bufferPool();
             this.responseCloseRunnable = responseCloseRunnable;
             this.ctx = ctx;
             this.sendListener = sendListener;
@@ -575,6 +674,36 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             }
         }
 
+        /**
+         * Send status and headers now, entity is sent once written (or an empty entity on commit).
+         */
+        void sendHeaders() {
+            if (!firstByte) {
+                return;
+            }
+            firstByte = false;
+            if (isChunked) {
+                if (request.headers().contains(HeaderValues.TE_TRAILERS)) {
+                    headers.add(STREAM_TRAILERS);
+                }
+                sendHeadersAndPrepare();
+                if (firstBuffer != null) {
+                    writeChunked(firstBuffer);
+                    firstBuffer = null;
+                }
+            } else {
+                Status usedStatus = status.get();
+                sendListener.status(ctx, usedStatus);
+                sendListener.headers(ctx, headers);
+                BufferData bufferData = bufferPool.acquire(256);
+                nonEntityBytes(headers, usedStatus, bufferData, keepAlive, validateHeaders);
+                sendListener.data(ctx, bufferData);
+                responseBytesTotal += bufferData.available();
+                dataWriter.write(bufferData);
+            }
+            dataWriter.flush();
+        }
+
         /**
          * This is a noop, even when user closes the output stream, we wait for the
          * call to {@link this#commit()}.
@@ -621,7 +750,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                 if (beforeTrailers != null) {
                     beforeTrailers.accept(ServerResponseTrailers.wrap(trailers));
                 }
-                BufferData buffer = BufferData.growing(128);
+                BufferData buffer = bufferPool.acquire(128);
                 writeHeaders(trailers, buffer, this.validateHeaders);
                 buffer.write('\r');        // "\r\n" - empty line after headers
                 buffer.write('\n');
@@ -679,7 +808,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                     sendListener.status(ctx, usedStatus);
                     sendListener.headers(ctx, headers);
                     // write headers and payload part in one buffer to avoid TCP/ACK delay problems
-                    BufferData growing = BufferData.growing(256 + buffer.available());
+                    BufferData growing = bufferPool.acquire(256 + buffer.available());
                     nonEntityBytes(headers, usedStatus, growing, keepAlive, validateHeaders);
                     // check not exceeding content-length
                     bytesWritten += buffer.available();
@@ -741,7 +870,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             Status usedStatus = status.get();
             sendListener.status(ctx, usedStatus);
             sendListener.headers(ctx, headers);
-            BufferData bufferData = BufferData.growing(contentLength + 256);
+            BufferData bufferData = bufferPool.acquire(contentLength + 256);
             nonEntityBytes(headers, usedStatus, bufferData, keepAlive, validateHeaders);
 
             if (firstBuffer != null) {
@@ -774,7 +903,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             Status usedStatus = status.get();
             sendListener.status(ctx, usedStatus);
             sendListener.headers(ctx, headers);
-            BufferData bufferData = BufferData.growing(256);
+            BufferData bufferData = bufferPool.acquire(256);
             nonEntityBytes(headers, usedStatus, bufferData, keepAlive, validateHeaders);
             sendListener.data(ctx, bufferData);
             responseBytesTotal += bufferData.available();
@@ -785,7 +914,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             int available = buffer.available();
             byte[] hex = Integer.toHexString(available).getBytes(StandardCharsets.US_ASCII);
 
-            BufferData toWrite = BufferData.create(available + hex.length + 4); // \r\n after size, another after chunk
+            BufferData toWrite = bufferPool.acquire(available + hex.length + 4); // \r\n after size, another after chunk
             toWrite.write(hex);
             toWrite.write('\r');
             toWrite.write('\n');
@@ -868,6 +997,10 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             return closingDelegate.totalBytesWritten();
         }
 
+        void sendHeaders() {
+            closingDelegate.sendHeaders();
+        }
+
         void commit() {
             try {
                 flush();
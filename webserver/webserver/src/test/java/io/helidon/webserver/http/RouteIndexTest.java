@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.http.Method;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+
+class RouteIndexTest {
+    private static final Handler HANDLER = (req, res) -> res.send("done");
+
+    private static HttpRouteBase regexp;
+    private static HttpRouteBase getGreet;
+    private static HttpRouteBase postGreet;
+    private static HttpRouteBase greetName;
+    private static HttpRouteBase anyMethod;
+    private static HttpRouteBase customRoute;
+    private static RouteIndex index;
+
+    @BeforeAll
+    static void init() {
+        List<HttpRouteBase> routes = new ArrayList<>();
+        regexp = route(Method.GET, "/{name:gr.*}");
+        getGreet = route(Method.GET, "/greet");
+        postGreet = route(Method.POST, "/greet");
+        greetName = route(Method.GET, "/greet/{name}");
+        anyMethod = (HttpRouteBase) HttpRoute.builder().path("/greet/*").handler(HANDLER).build();
+        customRoute = new HttpRouteWrap(HttpRoute.builder().methods(Method.GET).path("/other").handler(HANDLER).build());
+
+        routes.add(regexp);
+        routes.add(getGreet);
+        routes.add(postGreet);
+        routes.add(greetName);
+        routes.add(anyMethod);
+        routes.add(customRoute);
+        for (int i = 0; i < 20; i++) {
+            routes.add(route(Method.GET, "/path" + i));
+        }
+
+        index = RouteIndex.create(routes);
+    }
+
+    @Test
+    void testExactPath() {
+        assertThat(index.candidates(Method.GET, "/greet"),
+                   arrayContaining(regexp, getGreet, greetName, anyMethod, customRoute));
+        assertThat(index.candidates(Method.POST, "/greet"), arrayContaining(postGreet, anyMethod, customRoute));
+    }
+
+    @Test
+    void testNestedPath() {
+        assertThat(index.candidates(Method.GET, "/greet/jack"),
+                   arrayContaining(regexp, getGreet, greetName, anyMethod, customRoute));
+        assertThat(index.candidates(Method.PUT, "/greet/jack"), arrayContaining(anyMethod, customRoute));
+    }
+
+    @Test
+    void testUnknownPath() {
+        assertThat(index.candidates(Method.GET, "/unknown"), arrayContaining(regexp, customRoute));
+        assertThat(index.candidates(Method.DELETE, "/unknown"), arrayContaining(customRoute));
+        assertThat(index.candidates(Method.GET, "/path19").length, is(3));
+    }
+
+    @Test
+    void testCustomMethod() {
+        RouteIndex custom = RouteIndex.create(List.of(route(Method.create("CUSTOM"), "/greet")));
+
+        assertThat(custom.candidates(Method.create("CUSTOM"), "/greet").length, is(1));
+        assertThat(custom.candidates(Method.GET, "/greet"), is(emptyArray()));
+    }
+
+    private static HttpRouteBase route(Method method, String path) {
+        return (HttpRouteBase) HttpRoute.builder()
+                .methods(method)
+                .path(path)
+                .handler(HANDLER)
+                .build();
+    }
+}
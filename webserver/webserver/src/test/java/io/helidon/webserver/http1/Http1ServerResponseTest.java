@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.http1;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
+import io.helidon.common.buffers.DataWriter;
+import io.helidon.common.socket.HelidonSocket;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.http.encoding.ContentEncodingContext;
+import io.helidon.http.media.MediaContext;
+import io.helidon.webserver.ConnectionContext;
+import io.helidon.webserver.ListenerConfig;
+import io.helidon.webserver.ListenerContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class Http1ServerResponseTest {
+    private static final byte[] CONTENT = content(20_000);
+
+    private final ConnectionContext ctx = mock(ConnectionContext.class);
+    private final Http1ServerRequest request = mock(Http1ServerRequest.class);
+    private Path file;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        ListenerContext listenerContext = mock(ListenerContext.class);
+        when(listenerContext.bufferPool()).thenReturn(BufferPool.unpooled());
+        when(listenerContext.config()).thenReturn(ListenerConfig.create());
+        when(listenerContext.contentEncodingContext()).thenReturn(ContentEncodingContext.create());
+        when(listenerContext.mediaContext()).thenReturn(MediaContext.create());
+        when(ctx.listenerContext()).thenReturn(listenerContext);
+        when(request.headers()).thenReturn(ServerRequestHeaders.create());
+
+        file = Files.createTempFile("http1-response", ".bin");
+        Files.write(file, CONTENT);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testSendFileToSocket() throws IOException {
+        HelidonSocket socket = mock(HelidonSocket.class);
+        when(ctx.serverSocket()).thenReturn(socket);
+        DataWriter dataWriter = mock(DataWriter.class);
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            response(dataWriter).send(channel, 100, 1000);
+
+            // buffered (pipelined) responses must be written before the response headers, followed by the file
+            ArgumentCaptor<BufferData> headers = ArgumentCaptor.forClass(BufferData.class);
+            InOrder inOrder = inOrder(dataWriter, socket);
+            inOrder.verify(dataWriter).flush();
+            inOrder.verify(dataWriter).writeNow(headers.capture());
+            inOrder.verify(socket).write(channel, 100, 1000);
+
+            String head = headers.getValue().readString(headers.getValue().available(), StandardCharsets.US_ASCII);
+            assertThat(head, startsWith("HTTP/1.1 200 OK\r\n"));
+            assertThat(head, containsString("Content-Length: 1000\r\n"));
+        }
+    }
+
+    @Test
+    void testSendFileWithoutServerSocket() throws IOException {
+        // connection contexts are not required to provide the socket, the file is written through the output stream
+        when(ctx.serverSocket()).thenThrow(new UnsupportedOperationException());
+        RecordingDataWriter dataWriter = new RecordingDataWriter();
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            response(dataWriter).send(channel, 0, CONTENT.length);
+        }
+
+        byte[] written = dataWriter.bytes();
+        String response = new String(written, StandardCharsets.US_ASCII);
+        assertThat(response, startsWith("HTTP/1.1 200 OK\r\n"));
+        assertThat(response, containsString("Content-Length: " + CONTENT.length + "\r\n"));
+        byte[] entity = Arrays.copyOfRange(written, written.length - CONTENT.length, written.length);
+        assertThat(Arrays.equals(entity, CONTENT), is(true));
+    }
+
+    @Test
+    void testSendFileSecureSocket() throws IOException {
+        HelidonSocket socket = mock(HelidonSocket.class);
+        when(socket.isSecure()).thenReturn(true);
+        when(ctx.serverSocket()).thenReturn(socket);
+        RecordingDataWriter dataWriter = new RecordingDataWriter();
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            response(dataWriter).send(channel, 0, CONTENT.length);
+            verify(socket, never()).write(any(FileChannel.class), anyLong(), anyLong());
+        }
+
+        byte[] written = dataWriter.bytes();
+        byte[] entity = Arrays.copyOfRange(written, written.length - CONTENT.length, written.length);
+        assertThat(Arrays.equals(entity, CONTENT), is(true));
+    }
+
+    private Http1ServerResponse response(DataWriter dataWriter) {
+        return new Http1ServerResponse(ctx, mock(Http1ConnectionListener.class), dataWriter, request, true, true);
+    }
+
+    private static byte[] content(int length) {
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = (byte) ('a' + i % 26);
+        }
+        return result;
+    }
+
+    private static final class RecordingDataWriter implements DataWriter {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        @Override
+        public void write(BufferData... buffers) {
+            for (BufferData buffer : buffers) {
+                write(buffer);
+            }
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            byte[] data = new byte[buffer.available()];
+            buffer.read(data);
+            bytes.writeBytes(data);
+        }
+
+        @Override
+        public void writeNow(BufferData... buffers) {
+            write(buffers);
+        }
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            write(buffer);
+        }
+
+        byte[] bytes() {
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.websocket;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of WebSocket per-message compression ({@code permessage-deflate}).
+ *
+ * @see io.helidon.websocket.WsPerMessageDeflate
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface WsCompressionConfigBlueprint {
+    /**
+     * Whether to accept per-message compression offered by clients.
+     *
+     * @return whether compression is enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enabled();
+
+    /**
+     * Messages smaller than this number of bytes are sent uncompressed, as compressing them rarely pays off.
+     * Messages sent in more than one frame are always compressed.
+     *
+     * @return minimal size of a compressed message
+     */
+    @Option.Configured
+    @Option.DefaultInt(256)
+    int minMessageSize();
+
+    /**
+     * Compression level, from {@code 0} (no compression) to {@code 9} (best compression),
+     * {@code -1} for the default level.
+     *
+     * @return compression level
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int compressionLevel();
+
+    /**
+     * Whether the server resets its compression state after each message. This lowers memory held by each connection,
+     * at the cost of worse compression of similar messages.
+     *
+     * @return whether the server does not use context takeover
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean serverNoContextTakeover();
+
+    /**
+     * Whether to require clients to reset their compression state after each message. This lowers memory
+     * held by each connection to decompress messages, at the cost of worse compression of similar messages.
+     *
+     * @return whether clients must not use context takeover
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean clientNoContextTakeover();
+
+    /**
+     * Maximal LZ77 window size (base-2 logarithm, from {@code 8} to {@code 15}) clients should use,
+     * only requested from clients that support it. Smaller windows need less memory, but compress worse.
+     *
+     * @return maximal client window bits
+     */
+    @Option.Configured
+    @Option.DefaultInt(15)
+    int clientMaxWindowBits();
+}
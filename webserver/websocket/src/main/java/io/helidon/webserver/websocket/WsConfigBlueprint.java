@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,4 +67,13 @@ interface WsConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultInt(WsConnection.MAX_FRAME_LENGTH)
     int maxFrameLength();
+
+    /**
+     * Per-message compression ({@code permessage-deflate}) of messages, disabled by default.
+     *
+     * @return compression configuration
+     */
+    @Option.Configured
+    @Option.Default("create()")
+    WsCompressionConfig compression();
 }
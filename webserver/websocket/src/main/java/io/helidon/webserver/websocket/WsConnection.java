@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,7 @@ import io.helidon.websocket.WsCloseCodes;
 import io.helidon.websocket.WsCloseException;
 import io.helidon.websocket.WsListener;
 import io.helidon.websocket.WsOpCode;
+import io.helidon.websocket.WsPerMessageDeflate;
 import io.helidon.websocket.WsSession;
 
 /**
@@ -57,12 +58,16 @@ public class WsConnection implements ServerConnection, WsSession {
     private final String wsKey;
     private final WsListener listener;
     private final WsConfig wsConfig;
+    // null if per-message compression was not negotiated
+    private final WsPerMessageDeflate deflate;
 
     private final BufferData sendBuffer = BufferData.growing(1024);
     private final DataReader dataReader;
 
     private ContinuationType recvContinuation = ContinuationType.NONE;
     private boolean sendContinuation;
+    private boolean recvCompressed;
+    private boolean sendCompressed;
     private boolean closeSent;
 
     private volatile Thread myThread;
@@ -74,12 +79,14 @@ public class WsConnection implements ServerConnection, WsSession {
                          HttpPrologue prologue,
                          Headers upgradeHeaders,
                          String wsKey,
-                         WsListener wsListener) {
+                         WsListener wsListener,
+                         WsPerMessageDeflate deflate) {
         this.ctx = ctx;
         this.prologue = prologue;
         this.upgradeHeaders = upgradeHeaders;
         this.wsKey = wsKey;
         this.listener = wsListener;
+        this.deflate = deflate;
         this.dataReader = ctx.dataReader();
         this.lastRequestTimestamp = DateTime.timestamp();
         this.wsConfig = (WsConfig) ctx.listenerContext()
@@ -106,7 +113,27 @@ public class WsConnection implements ServerConnection, WsSession {
                                       Headers upgradeHeaders,
                                       String wsKey,
                                       WsListener wsListener) {
-        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsListener);
+        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsListener, null);
+    }
+
+    /**
+     * Create a new connection using a listener, with negotiated per-message compression.
+     *
+     * @param ctx            server connection context
+     * @param prologue       prologue of this request
+     * @param upgradeHeaders headers for
+     * @param wsKey          ws key
+     * @param wsListener     a ws listener
+     * @param deflate        per-message compression, or {@code null} if not negotiated
+     * @return a new connection
+     */
+    static WsConnection create(ConnectionContext ctx,
+                               HttpPrologue prologue,
+                               Headers upgradeHeaders,
+                               String wsKey,
+                               WsListener wsListener,
+                               WsPerMessageDeflate deflate) {
+        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsListener, deflate);
     }
 
     /**
@@ -124,7 +151,7 @@ public class WsConnection implements ServerConnection, WsSession {
                                       Headers upgradeHeaders,
                                       String wsKey,
                                       WsRoute wsRoute) {
-        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsRoute.listener());
+        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsRoute.listener(), null);
     }
 
     @SuppressWarnings("removal")
@@ -135,6 +162,16 @@ public class WsConnection implements ServerConnection, WsSession {
 
     @Override
     public void handle(Limit limit) {
+        try {
+            doHandle(limit);
+        } finally {
+            if (deflate != null) {
+                deflate.close();
+            }
+        }
+    }
+
+    private void doHandle(Limit limit) {
         myThread = Thread.currentThread();
 
         try {
@@ -165,6 +202,9 @@ public class WsConnection implements ServerConnection, WsSession {
                 return;
             } catch (CloseConnectionException e) {
                 throw e;
+            } catch (WsCloseException e) {
+                close(e.closeCode(), e.getMessage());
+                throw new CloseConnectionException("WebSocket failed to decompress client frame", e);
             } catch (Exception e) {
                 listener.onError(this, e);
                 this.close(WsCloseCodes.UNEXPECTED_CONDITION, e.getMessage());
@@ -245,6 +285,12 @@ public class WsConnection implements ServerConnection, WsSession {
 
     private boolean processFrame(ClientWsFrame frame) {
         BufferData payload = frame.payloadData();
+        if (frame.isPayload()) {
+            recvCompressed = frame.compressed();
+        }
+        if (recvCompressed && (frame.isPayload() || frame.opCode() == WsOpCode.CONTINUATION)) {
+            payload = deflate.decompress(payload, frame.fin(), wsConfig.maxFrameLength());
+        }
         switch (frame.opCode()) {
         case CONTINUATION -> {
             boolean finalFrame = frame.fin();
@@ -293,7 +339,7 @@ public class WsConnection implements ServerConnection, WsSession {
 
     private ClientWsFrame readFrame() {
         try {
-            return ClientWsFrame.read(ctx, dataReader, wsConfig.maxFrameLength());
+            return ClientWsFrame.read(ctx, dataReader, wsConfig.maxFrameLength(), deflate != null);
         } catch (DataReader.InsufficientDataAvailableException e) {
             throw new CloseConnectionException("Socket closed by the other side", e);
         } catch (WsCloseException e) {
@@ -304,10 +350,21 @@ public class WsConnection implements ServerConnection, WsSession {
 
     private WsSession send(ServerWsFrame frame) {
         WsOpCode usedCode = frame.opCode();
+        BufferData payload = frame.payloadData();
+        long length = frame.payloadLength();
+        boolean firstCompressed = false;
         if (frame.isPayload()) {
             // check if continuation or set continuation
             if (sendContinuation) {
                 usedCode = WsOpCode.CONTINUATION;
+            } else {
+                // compression is decided for the whole message when its first frame is sent
+                sendCompressed = deflate != null && deflate.compressMessage(frame.payloadLength(), frame.fin());
+                firstCompressed = sendCompressed;
+            }
+            if (sendCompressed) {
+                payload = deflate.compress(payload, frame.fin());
+                length = payload.available();
             }
 
             // do not change type for the first frame
@@ -322,10 +379,13 @@ public class WsConnection implements ServerConnection, WsSession {
 
         sendBuffer.clear();
         int opCodeFull = frame.fin() ? 0b10000000 : 0;
+        if (firstCompressed) {
+            // RSV1
+            opCodeFull |= 0b01000000;
+        }
         opCodeFull |= usedCode.code();
         sendBuffer.write(opCodeFull);
 
-        long length = frame.payloadLength();
         if (length < 126) {
             sendBuffer.write((int) length);
         } else if (length < 1 << 16) {
@@ -338,7 +398,7 @@ public class WsConnection implements ServerConnection, WsSession {
                 sendBuffer.write((int) (length >>> i) & 0xFF);
             }
         }
-        sendBuffer.write(frame.payloadData());
+        sendBuffer.write(payload);
         ctx.dataWriter().writeNow(sendBuffer);
         return this;
     }
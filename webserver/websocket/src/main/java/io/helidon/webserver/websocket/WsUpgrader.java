@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,7 @@ import io.helidon.webserver.ConnectionContext;
 import io.helidon.webserver.http1.spi.Http1Upgrader;
 import io.helidon.webserver.spi.ServerConnection;
 import io.helidon.websocket.WsListener;
+import io.helidon.websocket.WsPerMessageDeflate;
 import io.helidon.websocket.WsUpgradeException;
 
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -99,10 +100,12 @@ public class WsUpgrader implements Http1Upgrader {
     private static final byte[] HEADERS_SEPARATOR = "\r\n".getBytes(US_ASCII);
     private final Set<String> origins;
     private final boolean anyOrigin;
+    private final WsCompressionConfig compression;
 
     protected WsUpgrader(WsConfig wsConfig) {
         this.origins = wsConfig.origins();
         this.anyOrigin = this.origins.isEmpty();
+        this.compression = wsConfig.compression();
     }
 
     /**
@@ -176,6 +179,17 @@ public class WsUpgrader implements Http1Upgrader {
             return null;
         }
 
+        // negotiate per-message compression, unless the listener chose the extensions itself
+        Optional<WsPerMessageDeflate.Parameters> deflateParameters = Optional.empty();
+        if (compression.enabled()
+                && headers.contains(EXTENSIONS)
+                && upgradeHeaders.map(hs -> !hs.contains(EXTENSIONS)).orElse(true)) {
+            deflateParameters = WsPerMessageDeflate.accept(headers.get(EXTENSIONS).allValues(),
+                                                           compression.serverNoContextTakeover(),
+                                                           compression.clientNoContextTakeover(),
+                                                           compression.clientMaxWindowBits());
+        }
+
         // write switch protocol response including headers from listener
         DataWriter dataWriter = ctx.dataWriter();
         String switchingProtocols = SWITCHING_PROTOCOL_PREFIX + hash(ctx, wsKey);
@@ -187,6 +201,11 @@ public class WsUpgrader implements Http1Upgrader {
             hs.forEach(h -> h.writeHttp1Header(headerData));
             dataWriter.write(headerData);
         });
+        deflateParameters.ifPresent(it -> {
+            BufferData headerData = BufferData.growing(128);
+            HeaderValues.create(EXTENSIONS, it.headerValue()).writeHttp1Header(headerData);
+            dataWriter.write(headerData);
+        });
         dataWriter.write(separator.rewind());
         dataWriter.flush();
 
@@ -194,7 +213,10 @@ public class WsUpgrader implements Http1Upgrader {
             LOGGER.log(Level.TRACE, "Upgraded to websocket version " + version);
         }
 
-        return WsConnection.create(ctx, prologue, upgradeHeaders.orElse(EMPTY_HEADERS), wsKey, wsListener);
+        WsPerMessageDeflate deflate = deflateParameters
+                .map(it -> WsPerMessageDeflate.server(it, compression.minMessageSize(), compression.compressionLevel()))
+                .orElse(null);
+        return WsConnection.create(ctx, prologue, upgradeHeaders.orElse(EMPTY_HEADERS), wsKey, wsListener, deflate);
     }
 
     protected boolean anyOrigin() {
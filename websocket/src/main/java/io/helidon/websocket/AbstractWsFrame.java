@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
     private final boolean isPayload;
 
     private volatile WsOpCode opCode;
+    private volatile boolean compressed;
 
     protected AbstractWsFrame(LazyValue<BufferData> unmaskedData,
                               long payloadLength,
@@ -65,6 +66,11 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
         return isPayload;
     }
 
+    @Override
+    public boolean compressed() {
+        return compressed;
+    }
+
     /**
      * Configure the operation code of this frame.
      *
@@ -74,19 +80,38 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
         this.opCode = opCode;
     }
 
+    /**
+     * Configure whether this is the first frame of a compressed message.
+     *
+     * @param compressed whether the {@code RSV1} bit is set
+     */
+    public void compressed(boolean compressed) {
+        this.compressed = compressed;
+    }
+
     @Override
     public String toString() {
         return opCode + (fin ? " (last): \n" : ": \n") + unmaskedData.get().debugDataHex();
     }
 
     protected static FrameHeader readFrameHeader(DataReader reader, int maxFrameLength) {
+        return readFrameHeader(reader, maxFrameLength, false);
+    }
+
+    protected static FrameHeader readFrameHeader(DataReader reader, int maxFrameLength, boolean compressionEnabled) {
         int opCodeByte = reader.read();
         boolean fin = (opCodeByte & 0b10000000) != 0;
-        int extensionFlags = opCodeByte & 0b01110000;
-        if (extensionFlags != 0) {
+        // RSV1 marks the first frame of a compressed message, RSV2 and RSV3 are not used
+        boolean compressed = (opCodeByte & 0b01000000) != 0;
+        int extensionFlags = opCodeByte & 0b00110000;
+        if (extensionFlags != 0 || (compressed && !compressionEnabled)) {
             throw new WsCloseException("Extension flags defined where none should be", WsCloseCodes.PROTOCOL_ERROR);
         }
         WsOpCode opCode = WsOpCode.get(opCodeByte & 0b00001111);
+        if (compressed && opCode != WsOpCode.TEXT && opCode != WsOpCode.BINARY) {
+            throw new WsCloseException("Compressed flag on a frame that does not start a message",
+                                       WsCloseCodes.PROTOCOL_ERROR);
+        }
 
         // byte 1 (possible to byte 9 if maximal number of bytes used for length)
         int lenByte = reader.read();
@@ -109,7 +134,7 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
             throw new WsCloseException("Payload too large", WsCloseCodes.TOO_BIG);
         }
 
-        return new FrameHeader(opCode, fin, masked, (int) frameLength);
+        return new FrameHeader(opCode, fin, masked, compressed, (int) frameLength);
     }
 
     protected static BufferData readPayload(DataReader reader, FrameHeader header) {
@@ -125,6 +150,7 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
     protected record FrameHeader(WsOpCode opCode,
                                  boolean fin,
                                  boolean masked,
+                                 boolean compressed,
                                  int length) {
     }
 }
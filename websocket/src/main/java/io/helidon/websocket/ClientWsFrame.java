@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -121,8 +121,26 @@ public final class ClientWsFrame extends AbstractWsFrame {
     public static ClientWsFrame read(SocketContext ctx,
                                      DataReader dataReader,
                                      int maxFrameLength) {
+        return read(ctx, dataReader, maxFrameLength, false);
+    }
+
+    /**
+     * Read client frame from request data, allowing compressed frames if per-message compression was negotiated.
+     *
+     * @param ctx                socket context
+     * @param dataReader         data reader to get frame bytes from
+     * @param maxFrameLength     maximal length of a frame, to protect memory from too big frames
+     * @param compressionEnabled whether {@link io.helidon.websocket.WsPerMessageDeflate} was negotiated
+     * @return a new client frame, its payload is not decompressed
+     * @throws WsCloseException in case of invalid frame
+     * @throws java.lang.RuntimeException                 depending on implementation of dataReader
+     */
+    public static ClientWsFrame read(SocketContext ctx,
+                                     DataReader dataReader,
+                                     int maxFrameLength,
+                                     boolean compressionEnabled) {
 
-        FrameHeader header = readFrameHeader(dataReader, maxFrameLength);
+        FrameHeader header = readFrameHeader(dataReader, maxFrameLength, compressionEnabled);
 
         if (!header.masked()) {
             throw new WsCloseException("Unmasked client frame", WsCloseCodes.PROTOCOL_ERROR);
@@ -145,6 +163,7 @@ public final class ClientWsFrame extends AbstractWsFrame {
                                                 maskingKey,
                                                 true,
                                                 isPayload(header));
+        frame.compressed(header.compressed());
 
         if (LOGGER.isLoggable(System.Logger.Level.TRACE)) {
             ctx.log(LOGGER, System.Logger.Level.TRACE, "ws client frame recv %s", frame);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -91,8 +91,26 @@ public final class ServerWsFrame extends AbstractWsFrame {
      * @throws java.lang.RuntimeException                 depending on implementation of dataReader
      */
     public static ServerWsFrame read(SocketContext ctx, DataReader dataReader, int maxFrameLength) {
+        return read(ctx, dataReader, maxFrameLength, false);
+    }
+
+    /**
+     * Read server frame from request data, allowing compressed frames if per-message compression was negotiated.
+     *
+     * @param ctx                socket context
+     * @param dataReader         data reader to get frame bytes from
+     * @param maxFrameLength     maximal length of a frame, to protect memory from too big frames
+     * @param compressionEnabled whether {@link io.helidon.websocket.WsPerMessageDeflate} was negotiated
+     * @return a new server frame, its payload is not decompressed
+     * @throws WsCloseException in case of invalid frame
+     * @throws java.lang.RuntimeException                 depending on implementation of dataReader
+     */
+    public static ServerWsFrame read(SocketContext ctx,
+                                     DataReader dataReader,
+                                     int maxFrameLength,
+                                     boolean compressionEnabled) {
 
-        FrameHeader header = readFrameHeader(dataReader, maxFrameLength);
+        FrameHeader header = readFrameHeader(dataReader, maxFrameLength, compressionEnabled);
 
         if (header.masked()) {
             throw new WsCloseException("Masked server frame", WsCloseCodes.PROTOCOL_ERROR);
@@ -106,6 +124,7 @@ public final class ServerWsFrame extends AbstractWsFrame {
                                                 payload,
                                                 header.fin(),
                                                 isPayload(header));
+        frame.compressed(header.compressed());
 
         if (LOGGER.isLoggable(System.Logger.Level.TRACE)) {
             ctx.log(LOGGER, System.Logger.Level.TRACE, "ws server frame recv %s", frame);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -75,4 +75,14 @@ public interface WsFrame {
     default boolean isPayload() {
         return opCode() == WsOpCode.TEXT || opCode() == WsOpCode.BINARY;
     }
+
+    /**
+     * Whether this is the first frame of a compressed message ({@code RSV1} bit set),
+     * see {@link io.helidon.websocket.WsPerMessageDeflate}.
+     *
+     * @return {@code true} for the first frame of a compressed message
+     */
+    default boolean compressed() {
+        return false;
+    }
 }
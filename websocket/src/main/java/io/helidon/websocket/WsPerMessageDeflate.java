@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import io.helidon.common.buffers.BufferData;
+
+/**
+ * Per-message compression of a single WebSocket connection, the {@code permessage-deflate} extension
+ * (<a href="https://www.rfc-editor.org/rfc/rfc7692">RFC 7692</a>).
+ * <p>
+ * With context takeover, the compression state is kept for the whole connection, which gives better compression
+ * of similar messages at the cost of memory held by each connection. Without context takeover, the state
+ * is only used for a single message, and pooled instances are shared by all connections.
+ * <p>
+ * Instances are not thread safe, messages must be sent from a single thread at a time (as is required
+ * by {@link io.helidon.websocket.WsSession}), and received by the connection thread.
+ */
+public final class WsPerMessageDeflate {
+    /**
+     * Name of the extension in {@code Sec-WebSocket-Extensions} header.
+     */
+    public static final String EXTENSION_NAME = "permessage-deflate";
+    /**
+     * Maximal (and default) LZ77 window size, as base-2 logarithm.
+     */
+    public static final int MAX_WINDOW_BITS = 15;
+    /**
+     * Minimal LZ77 window size, as base-2 logarithm.
+     */
+    public static final int MIN_WINDOW_BITS = 8;
+
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    private static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    private static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+    // removed from the end of each compressed message, and added back before decompressing it
+    private static final byte[] TAIL = new byte[] {0x00, 0x00, (byte) 0xFF, (byte) 0xFF};
+    // estimates of native memory used by zlib with default settings and 15 window bits
+    private static final long DEFLATER_MEMORY = (1L << (MAX_WINDOW_BITS + 2)) + (1L << (8 + 9));
+    private static final long INFLATER_MEMORY = (1L << MAX_WINDOW_BITS) + 7 * 1024;
+    private static final int POOL_SIZE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final LongAdder TOTAL_MEMORY = new LongAdder();
+
+    private final Parameters parameters;
+    private final boolean ownNoContextTakeover;
+    private final boolean peerNoContextTakeover;
+    private final int minMessageSize;
+    private final int compressionLevel;
+    private final byte[] buffer = new byte[8192];
+
+    private Deflater deflater;
+    private Inflater inflater;
+    private long memory;
+
+    private WsPerMessageDeflate(Parameters parameters, boolean server, int minMessageSize, int compressionLevel) {
+        this.parameters = parameters;
+        this.ownNoContextTakeover = server ? parameters.serverNoContextTakeover() : parameters.clientNoContextTakeover();
+        this.peerNoContextTakeover = server ? parameters.clientNoContextTakeover() : parameters.serverNoContextTakeover();
+        this.minMessageSize = minMessageSize;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Create compression of a server connection.
+     *
+     * @param parameters     negotiated parameters
+     * @param minMessageSize messages smaller than this number of bytes are not compressed
+     * @param compressionLevel compression level, see {@link java.util.zip.Deflater#setLevel(int)}
+     * @return a new per-message compression
+     */
+    public static WsPerMessageDeflate server(Parameters parameters, int minMessageSize, int compressionLevel) {
+        return new WsPerMessageDeflate(parameters, true, minMessageSize, compressionLevel);
+    }
+
+    /**
+     * Create compression of a client connection.
+     *
+     * @param parameters     negotiated parameters
+     * @param minMessageSize messages smaller than this number of bytes are not compressed
+     * @param compressionLevel compression level, see {@link java.util.zip.Deflater#setLevel(int)}
+     * @return a new per-message compression
+     */
+    public static WsPerMessageDeflate client(Parameters parameters, int minMessageSize, int compressionLevel) {
+        return new WsPerMessageDeflate(parameters, false, minMessageSize, compressionLevel);
+    }
+
+    /**
+     * Choose the parameters to accept from extension offers of a client, to be used by a server.
+     * Offers the server cannot comply with are declined. The server always uses the maximal window size,
+     * so offers that limit {@code server_max_window_bits} are declined.
+     *
+     * @param extensions              values of {@code Sec-WebSocket-Extensions} request headers
+     * @param serverNoContextTakeover whether the server resets its compression state after each message
+     * @param clientNoContextTakeover whether to ask the client to reset its compression state after each message
+     * @param clientMaxWindowBits     maximal window bits to ask the client to use, if the client supports it
+     * @return accepted parameters, empty if no offer is acceptable
+     */
+    public static Optional<Parameters> accept(List<String> extensions,
+                                              boolean serverNoContextTakeover,
+                                              boolean clientNoContextTakeover,
+                                              int clientMaxWindowBits) {
+        for (String extension : split(extensions, ',')) {
+            Optional<Offer> maybeOffer = Offer.parse(extension);
+            if (maybeOffer.isEmpty()) {
+                continue;
+            }
+            Offer offer = maybeOffer.get();
+            if (offer.serverMaxWindowBits < MAX_WINDOW_BITS) {
+                continue;
+            }
+            int clientWindowBits = MAX_WINDOW_BITS;
+            if (offer.clientMaxWindowBits >= 0) {
+                // the client supports limiting its window, 0 means no value was offered
+                clientWindowBits = offer.clientMaxWindowBits == 0
+                        ? clientMaxWindowBits
+                        : Math.min(offer.clientMaxWindowBits, clientMaxWindowBits);
+            }
+            return Optional.of(new Parameters(offer.serverNoContextTakeover || serverNoContextTakeover,
+                                              offer.clientNoContextTakeover || clientNoContextTakeover,
+                                              MAX_WINDOW_BITS,
+                                              clientWindowBits));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Create an extension offer of a client. The client always uses the maximal window size, so it does not
+     * offer {@code client_max_window_bits}.
+     *
+     * @param clientNoContextTakeover whether the client resets its compression state after each message
+     * @param serverNoContextTakeover whether to ask the server to reset its compression state after each message
+     * @param serverMaxWindowBits     maximal window bits the server should use
+     * @return value of {@code Sec-WebSocket-Extensions} header
+     */
+    public static String offer(boolean clientNoContextTakeover, boolean serverNoContextTakeover, int serverMaxWindowBits) {
+        return new Parameters(serverNoContextTakeover,
+                              clientNoContextTakeover,
+                              checkWindowBits(serverMaxWindowBits),
+                              MAX_WINDOW_BITS)
+                .headerValue();
+    }
+
+    /**
+     * Validate the extension response of a server against the offer of {@link #offer(boolean, boolean, int)}.
+     *
+     * @param extensions              values of {@code Sec-WebSocket-Extensions} response headers
+     * @param serverNoContextTakeover whether {@code server_no_context_takeover} was offered
+     * @return accepted parameters, empty if the server did not accept the extension
+     * @throws java.lang.IllegalArgumentException in case the response is not valid for the offer
+     */
+    public static Optional<Parameters> accepted(List<String> extensions, boolean serverNoContextTakeover) {
+        List<String> values = split(extensions, ',');
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+        if (values.size() > 1) {
+            throw new IllegalArgumentException("Server accepted more extensions than offered: " + values);
+        }
+        Offer response = Offer.parse(values.getFirst())
+                .orElseThrow(() -> new IllegalArgumentException("Invalid extension response: " + values.getFirst()));
+        if (response.clientMaxWindowBits >= 0) {
+            throw new IllegalArgumentException("Server requested " + CLIENT_MAX_WINDOW_BITS + ", which was not offered");
+        }
+        if (serverNoContextTakeover && !response.serverNoContextTakeover) {
+            throw new IllegalArgumentException("Server did not accept " + SERVER_NO_CONTEXT_TAKEOVER);
+        }
+        return Optional.of(new Parameters(response.serverNoContextTakeover,
+                                          response.clientNoContextTakeover,
+                                          response.serverMaxWindowBits,
+                                          MAX_WINDOW_BITS));
+    }
+
+    /**
+     * Estimated native memory used by compression state of all connections.
+     *
+     * @return number of bytes
+     */
+    public static long totalMemory() {
+        return TOTAL_MEMORY.sum();
+    }
+
+    /**
+     * Negotiated parameters.
+     *
+     * @return parameters
+     */
+    public Parameters parameters() {
+        return parameters;
+    }
+
+    /**
+     * Estimated native memory used by compression state held by this connection. Pooled state is only accounted
+     * for while it is used.
+     *
+     * @return number of bytes
+     */
+    public long memory() {
+        return memory;
+    }
+
+    /**
+     * Whether to compress a message, decided on its first frame.
+     *
+     * @param firstFrameLength length of the first frame of the message
+     * @param fin              whether the first frame is also the last frame of the message
+     * @return whether to compress the message
+     */
+    public boolean compressMessage(long firstFrameLength, boolean fin) {
+        return !fin || firstFrameLength >= minMessageSize;
+    }
+
+    /**
+     * Compress a frame of a message.
+     *
+     * @param payload payload of the frame
+     * @param fin     whether this is the last frame of the message
+     * @return compressed payload
+     */
+    public BufferData compress(BufferData payload, boolean fin) {
+        if (deflater == null) {
+            deflater = acquireDeflater();
+        }
+        deflater.setInput(payload.readBytes());
+        BufferData result = BufferData.growing(Math.max(64, payload.capacity() / 2));
+        int count;
+        do {
+            count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+            result.write(buffer, 0, count);
+        } while (count == buffer.length);
+
+        if (fin) {
+            if (ownNoContextTakeover) {
+                release(deflater);
+                deflater = null;
+            }
+            // the flush always ends with an empty stored block, the peer adds it back
+            byte[] bytes = result.readBytes();
+            return BufferData.create(bytes, 0, bytes.length - TAIL.length);
+        }
+        return result;
+    }
+
+    /**
+     * Decompress a frame of a compressed message.
+     *
+     * @param payload   payload of the frame
+     * @param fin       whether this is the last frame of the message
+     * @param maxLength maximal length of decompressed data
+     * @return decompressed payload
+     * @throws io.helidon.websocket.WsCloseException in case the data is not valid, or is too big
+     */
+    public BufferData decompress(BufferData payload, boolean fin, int maxLength) {
+        if (inflater == null) {
+            inflater = acquireInflater();
+        }
+        byte[] input = payload.readBytes();
+        if (fin) {
+            byte[] withTail = new byte[input.length + TAIL.length];
+            System.arraycopy(input, 0, withTail, 0, input.length);
+            System.arraycopy(TAIL, 0, withTail, input.length, TAIL.length);
+            input = withTail;
+        }
+        inflater.setInput(input);
+        BufferData result = BufferData.growing(Math.max(64, input.length * 4));
+        try {
+            while (true) {
+                int count = inflater.inflate(buffer);
+                if (count == 0) {
+                    if (inflater.needsInput() || inflater.finished() || inflater.needsDictionary()) {
+                        break;
+                    }
+                    continue;
+                }
+                if ((long) result.available() + count > maxLength) {
+                    throw new WsCloseException("Decompressed payload too large", WsCloseCodes.TOO_BIG);
+                }
+                result.write(buffer, 0, count);
+            }
+        } catch (DataFormatException e) {
+            throw new WsCloseException("Invalid compressed payload", WsCloseCodes.PROTOCOL_ERROR);
+        }
+        if (fin && peerNoContextTakeover) {
+            release(inflater);
+            inflater = null;
+        }
+        return result;
+    }
+
+    /**
+     * Release compression state of this connection, must be called once the connection is closed.
+     */
+    public void close() {
+        if (deflater != null) {
+            release(deflater);
+            deflater = null;
+        }
+        if (inflater != null) {
+            release(inflater);
+            inflater = null;
+        }
+    }
+
+    private static int checkWindowBits(int windowBits) {
+        if (windowBits < MIN_WINDOW_BITS || windowBits > MAX_WINDOW_BITS) {
+            throw new IllegalArgumentException("Window bits must be between " + MIN_WINDOW_BITS + " and "
+                                                       + MAX_WINDOW_BITS + ", but is: " + windowBits);
+        }
+        return windowBits;
+    }
+
+    private static List<String> split(List<String> values, char separator) {
+        List<String> result = new ArrayList<>();
+        for (String value : values) {
+            for (String part : value.split(String.valueOf(separator))) {
+                String trimmed = part.trim();
+                if (!trimmed.isEmpty()) {
+                    result.add(trimmed);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Deflater acquireDeflater() {
+        Deflater result = DEFLATERS.poll();
+        if (result == null) {
+            result = new Deflater(compressionLevel, true);
+        } else {
+            result.setLevel(compressionLevel);
+        }
+        account(DEFLATER_MEMORY);
+        return result;
+    }
+
+    private Inflater acquireInflater() {
+        Inflater result = INFLATERS.poll();
+        if (result == null) {
+            result = new Inflater(true);
+        }
+        account(INFLATER_MEMORY);
+        return result;
+    }
+
+    private void release(Deflater released) {
+        account(-DEFLATER_MEMORY);
+        released.reset();
+        if (!DEFLATERS.offer(released)) {
+            released.end();
+        }
+    }
+
+    private void release(Inflater released) {
+        account(-INFLATER_MEMORY);
+        released.reset();
+        if (!INFLATERS.offer(released)) {
+            released.end();
+        }
+    }
+
+    private void account(long bytes) {
+        memory += bytes;
+        TOTAL_MEMORY.add(bytes);
+    }
+
+    /**
+     * Negotiated parameters of the extension.
+     *
+     * @param serverNoContextTakeover whether the server resets its compression state after each message
+     * @param clientNoContextTakeover whether the client resets its compression state after each message
+     * @param serverMaxWindowBits     maximal window bits used by the server
+     * @param clientMaxWindowBits     maximal window bits used by the client
+     */
+    public record Parameters(boolean serverNoContextTakeover,
+                             boolean clientNoContextTakeover,
+                             int serverMaxWindowBits,
+                             int clientMaxWindowBits) {
+        /**
+         * Value of {@code Sec-WebSocket-Extensions} header representing these parameters.
+         *
+         * @return header value
+         */
+        public String headerValue() {
+            StringBuilder result = new StringBuilder(EXTENSION_NAME);
+            if (serverNoContextTakeover) {
+                result.append("; ").append(SERVER_NO_CONTEXT_TAKEOVER);
+            }
+            if (clientNoContextTakeover) {
+                result.append("; ").append(CLIENT_NO_CONTEXT_TAKEOVER);
+            }
+            if (serverMaxWindowBits < MAX_WINDOW_BITS) {
+                result.append("; ").append(SERVER_MAX_WINDOW_BITS).append('=').append(serverMaxWindowBits);
+            }
+            if (clientMaxWindowBits < MAX_WINDOW_BITS) {
+                result.append("; ").append(CLIENT_MAX_WINDOW_BITS).append('=').append(clientMaxWindowBits);
+            }
+            return result.toString();
+        }
+    }
+
+    // server window bits default to the maximum, client window bits: -1 if not present, 0 if present without a value
+    private record Offer(boolean serverNoContextTakeover,
+                         boolean clientNoContextTakeover,
+                         int serverMaxWindowBits,
+                         int clientMaxWindowBits) {
+
+        // empty for other extensions, and for invalid offers, which are declined
+        private static Optional<Offer> parse(String extension) {
+            List<String> parts = split(List.of(extension), ';');
+            if (parts.isEmpty() || !EXTENSION_NAME.equalsIgnoreCase(parts.getFirst())) {
+                return Optional.empty();
+            }
+            boolean serverNoContextTakeover = false;
+            boolean clientNoContextTakeover = false;
+            int serverMaxWindowBits = -1;
+            int clientMaxWindowBits = -1;
+            for (int i = 1; i < parts.size(); i++) {
+                String part = parts.get(i);
+                int eq = part.indexOf('=');
+                String name = (eq < 0 ? part : part.substring(0, eq)).trim().toLowerCase(Locale.ROOT);
+                String value = eq < 0 ? null : unquote(part.substring(eq + 1).trim());
+                switch (name) {
+                case SERVER_NO_CONTEXT_TAKEOVER -> {
+                    if (serverNoContextTakeover || value != null) {
+                        return Optional.empty();
+                    }
+                    serverNoContextTakeover = true;
+                }
+                case CLIENT_NO_CONTEXT_TAKEOVER -> {
+                    if (clientNoContextTakeover || value != null) {
+                        return Optional.empty();
+                    }
+                    clientNoContextTakeover = true;
+                }
+                case SERVER_MAX_WINDOW_BITS -> {
+                    if (serverMaxWindowBits >= 0 || value == null) {
+                        return Optional.empty();
+                    }
+                    serverMaxWindowBits = windowBits(value);
+                    if (serverMaxWindowBits < 0) {
+                        return Optional.empty();
+                    }
+                }
+                case CLIENT_MAX_WINDOW_BITS -> {
+                    if (clientMaxWindowBits >= 0) {
+                        return Optional.empty();
+                    }
+                    clientMaxWindowBits = value == null ? 0 : windowBits(value);
+                    if (clientMaxWindowBits < 0) {
+                        return Optional.empty();
+                    }
+                }
+                default -> {
+                    return Optional.empty();
+                }
+                }
+            }
+            return Optional.of(new Offer(serverNoContextTakeover,
+                                         clientNoContextTakeover,
+                                         serverMaxWindowBits < 0 ? MAX_WINDOW_BITS : serverMaxWindowBits,
+                                         clientMaxWindowBits));
+        }
+
+        private static String unquote(String value) {
+            if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+                return value.substring(1, value.length() - 1);
+            }
+            return value;
+        }
+
+        private static int windowBits(String value) {
+            try {
+                int bits = Integer.parseInt(value);
+                return bits < MIN_WINDOW_BITS || bits > MAX_WINDOW_BITS ? -1 : bits;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.common.buffers.BufferData;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WsPerMessageDeflateTest {
+    private static final String MESSAGE = "{\"symbol\":\"ORCL\",\"price\":123.45,\"volume\":1000,\"exchange\":\"NYSE\"}";
+
+    @Test
+    void testAcceptOffer() {
+        Optional<WsPerMessageDeflate.Parameters> accepted = WsPerMessageDeflate.accept(
+                List.of("permessage-deflate; client_max_window_bits"), false, true, 10);
+
+        assertThat(accepted.isPresent(), is(true));
+        WsPerMessageDeflate.Parameters parameters = accepted.get();
+        assertThat(parameters.serverNoContextTakeover(), is(false));
+        assertThat(parameters.clientNoContextTakeover(), is(true));
+        assertThat(parameters.clientMaxWindowBits(), is(10));
+        assertThat(parameters.headerValue(), is("permessage-deflate; client_no_context_takeover; client_max_window_bits=10"));
+    }
+
+    @Test
+    void testAcceptSecondOffer() {
+        Optional<WsPerMessageDeflate.Parameters> accepted = WsPerMessageDeflate.accept(
+                List.of("x-webkit-deflate-frame, permessage-deflate; server_max_window_bits=10",
+                        "permessage-deflate; server_no_context_takeover"),
+                false,
+                false,
+                15);
+
+        assertThat(accepted.isPresent(), is(true));
+        assertThat(accepted.get().headerValue(), is("permessage-deflate; server_no_context_takeover"));
+    }
+
+    @Test
+    void testDeclineInvalidOffer() {
+        assertThat(WsPerMessageDeflate.accept(List.of("permessage-deflate; unknown"), false, false, 15).isPresent(),
+                   is(false));
+        assertThat(WsPerMessageDeflate.accept(List.of("permessage-deflate; client_max_window_bits=16"), false, false, 15)
+                           .isPresent(),
+                   is(false));
+    }
+
+    @Test
+    void testOfferAndAccepted() {
+        String offer = WsPerMessageDeflate.offer(true, true, 12);
+        assertThat(offer, is("permessage-deflate; server_no_context_takeover; client_no_context_takeover; "
+                                     + "server_max_window_bits=12"));
+
+        Optional<WsPerMessageDeflate.Parameters> accepted = WsPerMessageDeflate.accepted(
+                List.of("permessage-deflate; server_no_context_takeover; server_max_window_bits=12"), true);
+        assertThat(accepted.isPresent(), is(true));
+        assertThat(accepted.get().serverMaxWindowBits(), is(12));
+
+        assertThat(WsPerMessageDeflate.accepted(List.of(), true).isPresent(), is(false));
+        assertThrows(IllegalArgumentException.class,
+                     () -> WsPerMessageDeflate.accepted(List.of("permessage-deflate"), true));
+        assertThrows(IllegalArgumentException.class,
+                     () -> WsPerMessageDeflate.accepted(List.of("permessage-deflate; client_max_window_bits=10"), false));
+    }
+
+    @Test
+    void testRoundTripContextTakeover() {
+        WsPerMessageDeflate.Parameters parameters = new WsPerMessageDeflate.Parameters(false, false, 15, 15);
+        WsPerMessageDeflate server = WsPerMessageDeflate.server(parameters, 0, -1);
+        WsPerMessageDeflate client = WsPerMessageDeflate.client(parameters, 0, -1);
+        try {
+            int first = roundTrip(server, client, MESSAGE);
+            int second = roundTrip(server, client, MESSAGE);
+            // the second message refers to the first one in the shared window
+            assertThat(second, lessThan(first));
+            assertThat(server.memory(), greaterThan(0L));
+            assertThat(client.memory(), greaterThan(0L));
+        } finally {
+            server.close();
+            client.close();
+        }
+        assertThat(server.memory(), is(0L));
+        assertThat(client.memory(), is(0L));
+    }
+
+    @Test
+    void testRoundTripNoContextTakeover() {
+        WsPerMessageDeflate.Parameters parameters = new WsPerMessageDeflate.Parameters(true, true, 15, 15);
+        WsPerMessageDeflate server = WsPerMessageDeflate.server(parameters, 0, -1);
+        WsPerMessageDeflate client = WsPerMessageDeflate.client(parameters, 0, -1);
+        try {
+            int first = roundTrip(server, client, MESSAGE);
+            int second = roundTrip(server, client, MESSAGE);
+            assertThat(second, is(first));
+            // state is returned to the pool after each message
+            assertThat(server.memory(), is(0L));
+            assertThat(client.memory(), is(0L));
+        } finally {
+            server.close();
+            client.close();
+        }
+    }
+
+    @Test
+    void testFragmentedMessage() {
+        WsPerMessageDeflate.Parameters parameters = new WsPerMessageDeflate.Parameters(false, false, 15, 15);
+        WsPerMessageDeflate server = WsPerMessageDeflate.server(parameters, 1024, -1);
+        WsPerMessageDeflate client = WsPerMessageDeflate.client(parameters, 1024, -1);
+        try {
+            assertThat(server.compressMessage(MESSAGE.length(), true), is(false));
+            assertThat(server.compressMessage(MESSAGE.length(), false), is(true));
+
+            BufferData first = server.compress(BufferData.create(MESSAGE), false);
+            BufferData last = server.compress(BufferData.create(MESSAGE), true);
+            String received = client.decompress(first, false, 1024).readString(MESSAGE.length(), StandardCharsets.UTF_8)
+                    + client.decompress(last, true, 1024).readString(MESSAGE.length(), StandardCharsets.UTF_8);
+            assertThat(received, is(MESSAGE + MESSAGE));
+        } finally {
+            server.close();
+            client.close();
+        }
+    }
+
+    @Test
+    void testTooBig() {
+        WsPerMessageDeflate.Parameters parameters = new WsPerMessageDeflate.Parameters(false, false, 15, 15);
+        WsPerMessageDeflate server = WsPerMessageDeflate.server(parameters, 0, -1);
+        WsPerMessageDeflate client = WsPerMessageDeflate.client(parameters, 0, -1);
+        try {
+            BufferData compressed = client.compress(BufferData.create(new byte[10_000]), true);
+            WsCloseException e = assertThrows(WsCloseException.class, () -> server.decompress(compressed, true, 1000));
+            assertThat(e.closeCode(), is(WsCloseCodes.TOO_BIG));
+        } finally {
+            server.close();
+            client.close();
+        }
+    }
+
+    @Test
+    void testInvalidData() {
+        WsPerMessageDeflate.Parameters parameters = new WsPerMessageDeflate.Parameters(false, false, 15, 15);
+        WsPerMessageDeflate server = WsPerMessageDeflate.server(parameters, 0, -1);
+        try {
+            BufferData invalid = BufferData.create(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+            WsCloseException e = assertThrows(WsCloseException.class, () -> server.decompress(invalid, true, 1000));
+            assertThat(e.closeCode(), is(WsCloseCodes.PROTOCOL_ERROR));
+        } finally {
+            server.close();
+        }
+    }
+
+    private static int roundTrip(WsPerMessageDeflate sender, WsPerMessageDeflate receiver, String message) {
+        BufferData compressed = sender.compress(BufferData.create(message), true);
+        int length = compressed.available();
+        BufferData decompressed = receiver.decompress(compressed, true, 1024);
+        assertThat(decompressed.readString(decompressed.available(), StandardCharsets.UTF_8), is(message));
+        return length;
+    }
+}